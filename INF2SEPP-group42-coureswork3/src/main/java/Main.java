@@ -1,27 +1,30 @@
-import model.SharedContext;
-import controller.MenuController;
-import external.AuthenticationService;
-import external.EmailService;
-import external.MockAuthenticationService;
-import external.MockEmailService;
-import org.json.simple.parser.ParseException;
-import view.TextUserInterface;
-import view.View;
-
-import java.io.IOException;
-import java.net.URISyntaxException;
-
-public class Main {
-    public static void main(String[] args) {
-        View view = new TextUserInterface();
-        try {
-            AuthenticationService auth = new MockAuthenticationService();
-            EmailService email = new MockEmailService();
-            SharedContext sharedContext = new SharedContext(view);
-            MenuController menus = new MenuController(sharedContext, view, auth, email);
-            menus.mainMenu();
-        } catch (URISyntaxException | IOException | ParseException | NullPointerException e) {
-            view.displayException(e);
-        }
-    }
-}
+import model.SharedContext;
+import controller.MenuController;
+import external.AuthenticationService;
+import external.EmailService;
+import external.MockAuthenticationService;
+import external.MockEmailService;
+import org.json.simple.parser.ParseException;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+
+public class Main {
+    public static void main(String[] args) {
+        View view = new TextUserInterface();
+        try {
+            AuthenticationService auth = new MockAuthenticationService();
+            EmailService email = new MockEmailService();
+            // Courses, timetables, the FAQ and inquiries are kept in the data directory between runs
+            try (SharedContext sharedContext = new SharedContext(view, Paths.get("data"))) {
+                MenuController menus = new MenuController(sharedContext, view, auth, email);
+                menus.mainMenu();
+            }
+        } catch (URISyntaxException | IOException | ParseException | NullPointerException e) {
+            view.displayException(e);
+        }
+    }
+}
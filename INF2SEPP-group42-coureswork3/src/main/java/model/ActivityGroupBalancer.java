@@ -0,0 +1,316 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads the students enrolled on a course across its tutorial and lab groups. Groups are filled greedily, most
+ * constrained students first, and then evened out by moving students from the fullest to the emptiest group.
+ */
+public class ActivityGroupBalancer {
+    private final CourseManager courseManager;
+
+    /**
+     * @param courseManager the course manager holding the courses and timetables
+     */
+    public ActivityGroupBalancer(CourseManager courseManager) {
+        this.courseManager = courseManager;
+    }
+
+    /**
+     * Balances the groups of the given courses. Every course is planned in parallel against the timetables as they
+     * are now, the plans are then applied one after another so that clashes between courses are still caught.
+     *
+     * @param courseCodes   the codes of the courses to balance
+     * @return a summary for every existing course in {@code courseCodes}
+     */
+    public List<Summary> balance(Collection<String> courseCodes) {
+        List<CoursePlan> plans = courseCodes.parallelStream()
+                .distinct()
+                .filter(courseManager::hasCourse)
+                .map(this::planCourse)
+                .collect(Collectors.toList());
+
+        List<Summary> summaries = new ArrayList<>();
+        for (CoursePlan plan : plans) {
+            summaries.add(apply(plan));
+        }
+        return summaries;
+    }
+
+    /**
+     * Works out which tutorials and labs every enrolled student should be given, without changing any timetable.
+     *
+     * @param courseCode    the code of the course to plan
+     * @return the plan for the course
+     */
+    private CoursePlan planCourse(String courseCode) {
+        Course course = courseManager.getCourseByCode(courseCode);
+        List<Timetable> enrolled = courseManager.getTimetablesForCourse(courseCode);
+        CoursePlan plan = new CoursePlan(courseCode);
+
+        planGroups(plan, course, enrolled, ActivityKind.TUTORIAL, course.getRequiredTutorials());
+        planGroups(plan, course, enrolled, ActivityKind.LAB, course.getRequiredLabs());
+        return plan;
+    }
+
+    /**
+     * Plans one kind of group (tutorials or labs) for a course.
+     *
+     * @param plan          the plan to add the assignments to
+     * @param course        the course being planned
+     * @param enrolled      the timetables of the students on the course
+     * @param kind          the kind of the groups
+     * @param required      the number of groups of this kind each student needs
+     */
+    private void planGroups(CoursePlan plan, Course course, List<Timetable> enrolled,
+                            ActivityKind kind, int required) {
+        List<Activity> groups = course.getActivities().stream()
+                .filter(activity -> activity.getKind() == kind)
+                .collect(Collectors.toList());
+        if (groups.isEmpty() || required <= 0) {
+            return;
+        }
+
+        String courseCode = course.getCourseCode();
+        Map<Activity, Integer> load = new LinkedHashMap<>();
+        for (Activity group : groups) {
+            load.put(group, 0);
+        }
+
+        // Count the students that already picked a group by hand and work out how many more each one needs
+        Map<Timetable, Integer> needed = new HashMap<>();
+        for (Timetable timetable : enrolled) {
+            for (Activity group : groups) {
+                if (timetable.isActivityChosen(courseCode, group.getId())) {
+                    load.merge(group, 1, Integer::sum);
+                }
+            }
+            int missing = required - timetable.countChosenActivitiesOfKind(courseCode, kind);
+            if (missing > 0) {
+                needed.put(timetable, missing);
+            }
+        }
+
+        // Students with the fewest usable groups go first so they are not squeezed out
+        List<Timetable> students = new ArrayList<>(needed.keySet());
+        students.sort(Comparator.comparingLong(timetable -> groups.stream()
+                .filter(group -> plan.isFeasible(timetable, courseCode, group))
+                .count()));
+
+        for (Timetable timetable : students) {
+            for (int i = 0; i < needed.get(timetable); i++) {
+                Activity best = null;
+                for (Activity group : groups) {
+                    if (load.get(group) >= capacityOf(group) || !plan.isFeasible(timetable, courseCode, group)) {
+                        continue;
+                    }
+                    if (best == null || fillRatio(load, group) < fillRatio(load, best)) {
+                        best = group;
+                    }
+                }
+                if (best == null) {
+                    plan.unplaced += needed.get(timetable) - i;
+                    break;
+                }
+                plan.assign(timetable, best);
+                load.merge(best, 1, Integer::sum);
+            }
+        }
+
+        rebalance(plan, courseCode, groups, load);
+        plan.groupSizes.putAll(load);
+    }
+
+    /**
+     * Local search over the greedy plan, moves planned students from the fullest group into the emptiest one while
+     * that narrows the gap between them.
+     *
+     * @param plan          the plan to improve
+     * @param courseCode    the code of the course
+     * @param groups        the groups of one kind
+     * @param load          the number of students in each group
+     */
+    private void rebalance(CoursePlan plan, String courseCode, List<Activity> groups, Map<Activity, Integer> load) {
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            Activity fullest = groups.stream().max(Comparator.comparingDouble(group -> fillRatio(load, group))).get();
+            Activity emptiest = groups.stream().min(Comparator.comparingDouble(group -> fillRatio(load, group))).get();
+            if (load.get(fullest) - load.get(emptiest) <= 1 || load.get(emptiest) >= capacityOf(emptiest)) {
+                return;
+            }
+
+            for (Timetable timetable : plan.studentsAssignedTo(fullest)) {
+                plan.unassign(timetable, fullest);
+                if (plan.isFeasible(timetable, courseCode, emptiest)) {
+                    plan.assign(timetable, emptiest);
+                    load.merge(fullest, -1, Integer::sum);
+                    load.merge(emptiest, 1, Integer::sum);
+                    moved = true;
+                    break;
+                }
+                plan.assign(timetable, fullest);
+            }
+        }
+    }
+
+    /**
+     * Chooses the planned activities in the students' timetables.
+     *
+     * @param plan  the plan to apply
+     * @return summary of the applied plan
+     */
+    private Summary apply(CoursePlan plan) {
+        Summary summary = new Summary(plan.courseCode);
+        summary.unplaced = plan.unplaced;
+
+        for (Map.Entry<Timetable, List<Activity>> entry : plan.assignments.entrySet()) {
+            for (Activity activity : entry.getValue()) {
+                if (courseManager.chooseActivity(entry.getKey(), plan.courseCode, activity.getId())) {
+                    summary.assigned++;
+                } else {
+                    // Another course's plan took this time first
+                    summary.unplaced++;
+                    summary.groupSizes.merge(activity.getId(), -1, Integer::sum);
+                }
+            }
+        }
+        for (Map.Entry<Activity, Integer> entry : plan.groupSizes.entrySet()) {
+            summary.groupSizes.merge(entry.getKey().getId(), entry.getValue(), Integer::sum);
+        }
+        return summary;
+    }
+
+    /**
+     * @param group the tutorial or lab
+     * @return the capacity of the group
+     */
+    private static int capacityOf(Activity group) {
+        if (group instanceof Tutorial) {
+            return ((Tutorial) group).getCapacity();
+        }
+        return ((Lab) group).getCapacity();
+    }
+
+    /**
+     * @param load  the number of students in each group
+     * @param group the group to look at
+     * @return how full the group is relative to its capacity
+     */
+    private static double fillRatio(Map<Activity, Integer> load, Activity group) {
+        return load.get(group) / (double) Math.max(1, capacityOf(group));
+    }
+
+    /**
+     * The planned assignments for a single course.
+     */
+    private static class CoursePlan {
+        private final String courseCode;
+        private final Map<Timetable, List<Activity>> assignments = new LinkedHashMap<>();
+        private final Map<Activity, Integer> groupSizes = new LinkedHashMap<>();
+        private int unplaced;
+
+        private CoursePlan(String courseCode) {
+            this.courseCode = courseCode;
+        }
+
+        private void assign(Timetable timetable, Activity activity) {
+            assignments.computeIfAbsent(timetable, key -> new ArrayList<>()).add(activity);
+        }
+
+        private void unassign(Timetable timetable, Activity activity) {
+            assignments.get(timetable).remove(activity);
+        }
+
+        private List<Timetable> studentsAssignedTo(Activity activity) {
+            return assignments.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(activity))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Checks that a student could take the group, given what they already chose and what is planned for them.
+         */
+        private boolean isFeasible(Timetable timetable, String courseCode, Activity group) {
+            if (timetable.isActivityChosen(courseCode, group.getId())
+                    || !timetable.canChoose(group.getDay(), group.getStartDate(), group.getStartTime(),
+                    group.getEndDate(), group.getEndTime())) {
+                return false;
+            }
+            for (Activity planned : assignments.getOrDefault(timetable, List.of())) {
+                if (planned == group || (planned.getDay() == group.getDay()
+                        && planned.getStartTime().isBefore(group.getEndTime())
+                        && group.getStartTime().isBefore(planned.getEndTime())
+                        && TimeSlot.sharesDate(group.getDay(), planned.getStartDate(), planned.getEndDate(),
+                        group.getStartDate(), group.getEndDate()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The outcome of balancing a single course.
+     */
+    public static class Summary {
+        private final String courseCode;
+        private final Map<Integer, Integer> groupSizes = new LinkedHashMap<>();
+        private int assigned;
+        private int unplaced;
+
+        private Summary(String courseCode) {
+            this.courseCode = courseCode;
+        }
+
+        /**
+         * @return the code of the balanced course
+         */
+        public String getCourseCode() {
+            return courseCode;
+        }
+
+        /**
+         * @return the number of tutorials and labs that were chosen for students
+         */
+        public int getAssigned() {
+            return assigned;
+        }
+
+        /**
+         * @return the number of required groups that could not be given to a student without a clash
+         */
+        public int getUnplaced() {
+            return unplaced;
+        }
+
+        /**
+         * @return the number of students in each tutorial and lab, keyed by activity id
+         */
+        public Map<Integer, Integer> getGroupSizes() {
+            return groupSizes;
+        }
+
+        /**
+         * @return a string representation of the summary
+         */
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(courseCode).append(": ").append(assigned).append(" assigned, ")
+                    .append(unplaced).append(" could not be placed");
+            for (Map.Entry<Integer, Integer> entry : groupSizes.entrySet()) {
+                sb.append("\n  Activity ").append(entry.getKey()).append(": ").append(entry.getValue()).append(" students");
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package model;
+
+/**
+ * Enum representing the kinds of activity a course can have.
+ */
+public enum ActivityKind {
+    LECTURE,
+    TUTORIAL,
+    LAB,
+    OTHER;
+
+    /**
+     * @param recorded  whether the activity is a recorded lecture
+     * @return the activity type label shown in timetables
+     */
+    public String getLabel(boolean recorded) {
+        switch (this) {
+            case LECTURE:
+                return recorded ? "Recorded Lecture" : "Unrecorded Lecture";
+            case TUTORIAL:
+                return "Tutorial";
+            case LAB:
+                return "Lab";
+            default:
+                return "Unknown";
+        }
+    }
+
+    /**
+     * @param label the activity type label of a time slot
+     * @return the kind of activity the label stands for
+     */
+    public static ActivityKind fromLabel(String label) {
+        switch (label) {
+            case "Lecture":
+            case "Recorded Lecture":
+            case "Unrecorded Lecture":
+                return LECTURE;
+            case "Tutorial":
+                return TUTORIAL;
+            case "Lab":
+                return LAB;
+            default:
+                return OTHER;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * Live counts of how many students have each activity chosen, and of how many chosen activities take place in every
+ * hour of the week. The counts are first built with a parallel pass over every timetable, after which the timetables
+ * report each choice and removal so reading a count never has to look at a timetable.
+ */
+public class AttendanceStats {
+    private static final int HOURS_PER_DAY = 24;
+
+    private final Map<Integer, LongAdder> chosenByActivity = new ConcurrentHashMap<>();
+    private final AtomicIntegerArray hourCounts = new AtomicIntegerArray(7 * HOURS_PER_DAY);
+
+    /**
+     * Starts tracking a group of timetables. The chosen slots they already have are counted in parallel and every
+     * change after that is reported by the timetable itself. Timetables that are already tracked are skipped.
+     *
+     * @param timetables    the timetables to track
+     */
+    void track(Collection<Timetable> timetables) {
+        Tally tally = timetables.parallelStream()
+                .map(timetable -> timetable.attachAttendance(this))
+                .collect(Tally::new, Tally::addAll, Tally::merge);
+        tally.addTo(this);
+    }
+
+    /**
+     * Reconnects a timetable whose chosen slots are already counted, such as a copy paged back in by a
+     * {@link MappedTimetableRepository} after the copy that was counted was reclaimed. Nothing is counted, only the
+     * changes made from now on are reported.
+     *
+     * @param timetable the timetable to reconnect
+     */
+    void reattach(Timetable timetable) {
+        timetable.attachAttendance(this);
+    }
+
+    /**
+     * Counts a slot that has just been chosen.
+     *
+     * @param slot  the chosen slot
+     */
+    void slotChosen(TimeSlot slot) {
+        chosenByActivity.computeIfAbsent(slot.activityId, id -> new LongAdder()).increment();
+        forEachHour(slot, index -> hourCounts.incrementAndGet(index));
+    }
+
+    /**
+     * Stops counting a chosen slot that has been removed from a timetable.
+     *
+     * @param slot  the removed slot
+     */
+    void slotRemoved(TimeSlot slot) {
+        chosenByActivity.computeIfAbsent(slot.activityId, id -> new LongAdder()).decrement();
+        forEachHour(slot, index -> hourCounts.decrementAndGet(index));
+    }
+
+    /**
+     * @param activityId    the id of the activity
+     * @return the number of students that have the activity chosen
+     */
+    public int getChosenCount(int activityId) {
+        LongAdder count = chosenByActivity.get(activityId);
+        return count == null ? 0 : count.intValue();
+    }
+
+    /**
+     * @param day   the day of the week
+     * @param hour  the hour of the day, from 0 to 23
+     * @return the number of chosen activities that take place during the hour, over all students
+     */
+    public int getHourCount(DayOfWeek day, int hour) {
+        return hourCounts.get(index(day, hour));
+    }
+
+    /**
+     * @return a copy of the hour counts, indexed by day of the week from Monday and then by hour of the day
+     */
+    public int[][] getHeatmap() {
+        int[][] heatmap = new int[7][HOURS_PER_DAY];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                heatmap[day.getValue() - 1][hour] = getHourCount(day, hour);
+            }
+        }
+        return heatmap;
+    }
+
+    /**
+     * Calls an action with the index of every hour a slot takes up at least part of.
+     *
+     * @param slot      the slot
+     * @param action    the action to call
+     */
+    private static void forEachHour(TimeSlot slot, IntConsumer action) {
+        int start = slot.getStartTime().getHour();
+        int endMinutes = slot.getEndTime().getHour() * 60 + slot.getEndTime().getMinute();
+        // A slot ending exactly on the hour does not take up the following hour
+        int end = (endMinutes - 1) / 60;
+        for (int hour = start; hour <= end; hour++) {
+            action.accept(index(slot.getDay(), hour));
+        }
+    }
+
+    private static int index(DayOfWeek day, int hour) {
+        return (day.getValue() - 1) * HOURS_PER_DAY + hour;
+    }
+
+    /**
+     * Counts of a part of the timetables, built by a single thread and then merged.
+     */
+    private static class Tally {
+        private final Map<Integer, Integer> chosenByActivity = new HashMap<>();
+        private final int[] hourCounts = new int[7 * HOURS_PER_DAY];
+
+        private void addAll(List<TimeSlot> chosenSlots) {
+            for (TimeSlot slot : chosenSlots) {
+                chosenByActivity.merge(slot.activityId, 1, Integer::sum);
+                forEachHour(slot, index -> hourCounts[index]++);
+            }
+        }
+
+        private void merge(Tally other) {
+            other.chosenByActivity.forEach((activityId, count) -> chosenByActivity.merge(activityId, count, Integer::sum));
+            for (int i = 0; i < hourCounts.length; i++) {
+                hourCounts[i] += other.hourCounts[i];
+            }
+        }
+
+        private void addTo(AttendanceStats stats) {
+            chosenByActivity.forEach((activityId, count) ->
+                    stats.chosenByActivity.computeIfAbsent(activityId, id -> new LongAdder()).add(count));
+            for (int i = 0; i < hourCounts.length; i++) {
+                stats.hourCounts.addAndGet(i, hourCounts[i]);
+            }
+        }
+    }
+}
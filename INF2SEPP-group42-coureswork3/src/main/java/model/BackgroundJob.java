@@ -0,0 +1,177 @@
+package model;
+
+import external.EmailService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Base of the jobs that run in chunks on the {@link WorkerPool}, such as notifying everyone involved in a removed
+ * course or validating timetables after courses changed. Keeps the status of the job so it can be followed from the admin menu,
+ * lets the caller wait for it, and sends and counts the notification emails a job ends with.
+ */
+public abstract class BackgroundJob {
+    /**
+     * The number of items, such as timetables or emails, handled by a single worker task.
+     */
+    public static final int CHUNK_SIZE = 250;
+
+    /**
+     * The possible states of a background job.
+     */
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final int id;
+    private final AtomicInteger notificationsSent = new AtomicInteger();
+    private final AtomicInteger notificationsFailed = new AtomicInteger();
+    private volatile int notificationsTotal = -1;
+    private volatile Status status = Status.RUNNING;
+    private volatile CompletableFuture<Void> completion;
+
+    /**
+     * @param id    the id of the job, counted separately for each kind of job
+     */
+    BackgroundJob(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Runs a task on the workers for every chunk of {@link #CHUNK_SIZE} items.
+     *
+     * @param items     the items to split into chunks
+     * @param task      the task to run on each chunk
+     * @param workers   the executor to run the chunks on
+     * @return the result of each chunk, in the order of the items
+     */
+    static <T, R> List<CompletableFuture<R>> runInChunks(List<T> items, Function<List<T>, R> task,
+                                                         ExecutorService workers) {
+        List<CompletableFuture<R>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            List<T> chunk = items.subList(from, Math.min(from + CHUNK_SIZE, items.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> task.apply(chunk), workers));
+        }
+        return chunks;
+    }
+
+    /**
+     * @param futures   the futures to wait for
+     * @return a future completed once every one of the futures is
+     */
+    static CompletableFuture<Void> allOf(List<? extends CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Sends an email from the admin staff to every recipient, in chunks on the workers, counting the emails sent and
+     * the ones the email service rejected.
+     *
+     * @param email         the email service to send with
+     * @param recipients    the emails of the recipients
+     * @param subject       the subject of every email
+     * @param body          gives the body of the email for a recipient
+     * @param workers       the executor to run the chunks on
+     * @return a future completed once every email has been sent
+     */
+    CompletableFuture<Void> sendNotifications(EmailService email, List<String> recipients, String subject,
+                                              Function<String, String> body, ExecutorService workers) {
+        notificationsTotal = recipients.size();
+        return allOf(runInChunks(recipients, chunk -> {
+            for (String recipientEmail : chunk) {
+                int status = email.sendEmail(SharedContext.ADMIN_STAFF_EMAIL, recipientEmail, subject,
+                        body.apply(recipientEmail));
+                if (status == EmailService.STATUS_SUCCESS) {
+                    notificationsSent.incrementAndGet();
+                } else {
+                    notificationsFailed.incrementAndGet();
+                }
+            }
+            return null;
+        }, workers));
+    }
+
+    /**
+     * Follows the work of the job, which is finished once the given future completes.
+     *
+     * @param work          completed once the job has done everything
+     * @param onFinished    called with the error the job failed with, or {@code null}, once the status is updated
+     */
+    void track(CompletableFuture<Void> work, Consumer<Throwable> onFinished) {
+        completion = work.whenComplete((ignored, error) -> {
+            status = error == null ? Status.COMPLETED : Status.FAILED;
+            onFinished.accept(error);
+        });
+    }
+
+    /**
+     * Waits for the job to finish.
+     *
+     * @param timeout   the maximum time to wait
+     * @param unit      the unit of {@code timeout}
+     * @return {@code true} if the job finished in time, otherwise {@code false}
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            completion.get(timeout, unit);
+        } catch (ExecutionException e) {
+            // The failure is reflected in the status
+        } catch (TimeoutException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the id of the job
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return the current status of the job
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the number of notifications sent successfully so far
+     */
+    public int getNotificationsSent() {
+        return notificationsSent.get();
+    }
+
+    /**
+     * @return the number of notifications the email service rejected so far
+     */
+    public int getNotificationsFailed() {
+        return notificationsFailed.get();
+    }
+
+    /**
+     * @return the progress of the notifications, for the string representation of a job
+     */
+    String describeNotifications() {
+        if (notificationsTotal < 0) {
+            return "notifications pending";
+        }
+        String description = notificationsSent.get() + "/" + notificationsTotal + " notifications sent";
+        if (notificationsFailed.get() > 0) {
+            description += ", " + notificationsFailed.get() + " failed";
+        }
+        return description;
+    }
+}
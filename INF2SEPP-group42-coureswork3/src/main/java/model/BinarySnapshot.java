@@ -0,0 +1,577 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * A copy of the whole portal state in a compact binary format: courses with their activities, timetables, the FAQ
+ * tree, inquiries and soft-deleted courses with their enrolments, together with the sequence number of the last log
+ * record it includes.
+ *
+ * <p>The file starts with a header (magic number, format version, a CRC32 of the rest of the file, sequence number and
+ * next activity id) followed by
+ * a string table holding every course code, email and other text once. The sections that follow refer to strings by
+ * their index in the table, and store dates as epoch days and times as seconds of the day. Every record in a section
+ * is prefixed by its length, so a reader can skip fields added by a later version of the same format.</p>
+ *
+ * <p>Snapshots are read through a memory-mapped buffer, which avoids copying the file before decoding it.</p>
+ */
+class BinarySnapshot {
+    /**
+     * The version written by this class. Snapshots with a higher version are refused. Version 2 added a checksum
+     * after the version.
+     */
+    static final int VERSION = 2;
+
+    // "SSPS", for Self Service Portal Snapshot
+    private static final int MAGIC = 0x53535053;
+    private static final int NO_STRING = -1;
+    // Everything after the magic number, version and checksum is covered by the checksum
+    private static final int CHECKSUMMED_FROM = 12;
+
+    private static final byte SECTION_COURSES = 1;
+    private static final byte SECTION_TIMETABLES = 2;
+    private static final byte SECTION_FAQ = 3;
+    private static final byte SECTION_INQUIRIES = 4;
+    private static final byte SECTION_DELETED_COURSES = 5;
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final ActivityKind[] KINDS = ActivityKind.values();
+
+    private final int nextActivityId;
+    private final List<String> strings;
+    private final Output body;
+
+    private BinarySnapshot(int nextActivityId, List<String> strings, Output body) {
+        this.nextActivityId = nextActivityId;
+        this.strings = strings;
+        this.body = body;
+    }
+
+    /**
+     * Encodes the current state. Slots of courses that are no longer in the catalogue are left out, as their removal
+     * from timetables may still be running in the background.
+     *
+     * @param context   the context to copy
+     * @return the encoded state
+     */
+    static BinarySnapshot capture(SharedContext context) {
+        CourseManager courseManager = context.getCourseManager();
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Output out = new Output(64 * 1024, stringIndex, strings);
+
+        out.putByte(SECTION_COURSES);
+        out.putInt(courseManager.getCourses().size());
+        for (Course course : courseManager.getCourses()) {
+            int record = out.startRecord();
+            putCourse(out, course);
+            out.endRecord(record);
+        }
+
+        out.putByte(SECTION_TIMETABLES);
+        int countPosition = out.position();
+        out.putInt(0);
+        int timetableCount = 0;
+        for (Timetable timetable : courseManager.getTimetables()) {
+            int record = out.startRecord();
+            out.putString(timetable.getStudentEmail());
+            int slotCountPosition = out.position();
+            out.putInt(0);
+            int slotCount = 0;
+            synchronized (timetable) {
+                for (TimeSlot slot : timetable.timeSlots) {
+                    if (!courseManager.hasCourse(slot.courseCode)) {
+                        continue;
+                    }
+                    putSlot(out, slot);
+                    slotCount++;
+                }
+            }
+            if (slotCount == 0) {
+                // Empty timetables are created on lookup, so there is no need to keep them
+                out.rewind(record);
+                continue;
+            }
+            out.patchInt(slotCountPosition, slotCount);
+            out.endRecord(record);
+            timetableCount++;
+        }
+        out.patchInt(countPosition, timetableCount);
+
+        out.putByte(SECTION_FAQ);
+        out.putInt(context.getFAQ().getSections().size());
+        for (FAQSection section : context.getFAQ().getSections()) {
+            int record = out.startRecord();
+            putSection(out, section);
+            out.endRecord(record);
+        }
+
+        out.putByte(SECTION_INQUIRIES);
+        out.putInt(context.inquiries.size());
+        for (Inquiry inquiry : context.inquiries) {
+            int record = out.startRecord();
+            out.putInt((int) inquiry.getCreatedAt().toLocalDate().toEpochDay());
+            out.putLong(inquiry.getCreatedAt().toLocalTime().toNanoOfDay());
+            out.putString(inquiry.getInquirerEmail());
+            out.putString(inquiry.getSubject());
+            out.putString(inquiry.getContent());
+            out.putString(inquiry.getCourseCode());
+            out.putString(inquiry.getAssignedTo());
+            out.endRecord(record);
+        }
+
+        // Older readers skip this section like any other they do not know
+        out.putByte(SECTION_DELETED_COURSES);
+        countPosition = out.position();
+        out.putInt(0);
+        int deletedCount = 0;
+        for (CourseTombstone tombstone : courseManager.getTombstones()) {
+            int record = out.startRecord();
+            putCourse(out, tombstone.getCourse());
+            out.putLong(tombstone.getDeletedAt());
+            out.putInt(tombstone.getSlotsByStudent().size());
+            for (Map.Entry<String, List<TimeSlot>> enrolment : tombstone.getSlotsByStudent().entrySet()) {
+                out.putString(enrolment.getKey());
+                out.putInt(enrolment.getValue().size());
+                for (TimeSlot slot : enrolment.getValue()) {
+                    putSlot(out, slot);
+                }
+            }
+            out.endRecord(record);
+            deletedCount++;
+        }
+        out.patchInt(countPosition, deletedCount);
+
+        return new BinarySnapshot(courseManager.peekNextActivityId(), strings, out);
+    }
+
+    private static void putCourse(Output out, Course course) {
+        out.putString(course.getCourseCode());
+        out.putString(course.getName());
+        out.putString(course.getDescription());
+        out.putByte(course.isRequiresComputers() ? 1 : 0);
+        out.putString(course.getCourseOrganiserName());
+        out.putString(course.getCourseOrganiserEmail());
+        out.putString(course.getCourseSecretaryName());
+        out.putString(course.getCourseSecretaryEmail());
+        out.putInt(course.getRequiredTutorials());
+        out.putInt(course.getRequiredLabs());
+        out.putInt(course.getActivities().size());
+        for (Activity activity : course.getActivities()) {
+            out.putInt(activity.getId());
+            out.putString(activity.getClass().getSimpleName());
+            out.putByte(activity.getDay().ordinal());
+            out.putInt((int) activity.getStartDate().toEpochDay());
+            out.putInt(activity.getStartTime().toSecondOfDay());
+            out.putInt((int) activity.getEndDate().toEpochDay());
+            out.putInt(activity.getEndTime().toSecondOfDay());
+            out.putString(activity.getLocation());
+            Object info = activity.getAdditionalInfo();
+            out.putInt(info instanceof Boolean ? ((Boolean) info ? 1 : 0) : (Integer) info);
+        }
+    }
+
+    private static void putSlot(Output out, TimeSlot slot) {
+        out.putByte(slot.getDay().ordinal());
+        out.putInt((int) slot.getStartDate().toEpochDay());
+        out.putInt(slot.getStartTime().toSecondOfDay());
+        out.putInt((int) slot.getEndDate().toEpochDay());
+        out.putInt(slot.getEndTime().toSecondOfDay());
+        out.putString(slot.courseCode);
+        out.putInt(slot.activityId);
+        out.putByte((slot.isChosen() ? 1 : 0) | (slot.isRecordedLecture() ? 2 : 0));
+        out.putByte(slot.getKind().ordinal());
+    }
+
+    /**
+     * Writes the snapshot to a temporary file and moves it into place once it is on disk, so a crash never leaves a
+     * half written snapshot behind. The directory is synced after the move, so the snapshot is not lost with it.
+     *
+     * @param path      the file to write the snapshot to
+     * @param sequence  the sequence number of the last log record included in the snapshot
+     * @throws IOException if the snapshot could not be written
+     */
+    void write(Path path, long sequence) throws IOException {
+        List<byte[]> encoded = new ArrayList<>(strings.size());
+        int tableSize = 4;
+        for (String string : strings) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            encoded.add(utf8);
+            tableSize += 4 + utf8.length;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(4 + 4 + 4 + 8 + 4 + tableSize);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(0);
+        header.putLong(sequence);
+        header.putInt(nextActivityId);
+        header.putInt(encoded.size());
+        for (byte[] utf8 : encoded) {
+            header.putInt(utf8.length);
+            header.put(utf8);
+        }
+        header.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(header.array(), CHECKSUMMED_FROM, header.limit() - CHECKSUMMED_FROM);
+        crc.update(body.bytes, 0, body.position());
+        header.putInt(CHECKSUMMED_FROM - 4, (int) crc.getValue());
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] buffers = {header, ByteBuffer.wrap(body.bytes, 0, body.position())};
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        WriteAheadLog.syncDirectory(path.getParent());
+    }
+
+    /**
+     * Loads a snapshot into an empty context.
+     *
+     * @param path      the snapshot file
+     * @param context   the empty context to load into
+     * @return the sequence number of the last log record included in the snapshot, or {@code 0} if there is no
+     *         snapshot
+     * @throws IOException if the snapshot could not be read
+     */
+    static long read(Path path, SharedContext context) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        MappedByteBuffer in;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException(path + " is not a snapshot");
+            }
+            int version = in.getInt();
+            if (version > VERSION) {
+                throw new IOException("Snapshot " + path + " has version " + version + ", only up to " + VERSION
+                        + " can be read");
+            }
+            if (version >= 2) {
+                // Checked before anything is loaded, so a damaged snapshot leaves the context empty
+                int checksum = in.getInt();
+                CRC32 crc = new CRC32();
+                crc.update(in.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    throw new IOException("Snapshot " + path + " is damaged");
+                }
+            }
+            long sequence = in.getLong();
+            int nextActivityId = in.getInt();
+            Values values = new Values(in.getInt());
+            for (int i = 0; i < values.strings.length; i++) {
+                byte[] utf8 = new byte[in.getInt()];
+                in.get(utf8);
+                values.strings[i] = new String(utf8, StandardCharsets.UTF_8);
+            }
+
+            CourseManager courseManager = context.getCourseManager();
+            while (in.hasRemaining()) {
+                byte section = in.get();
+                int count = in.getInt();
+                if (section == SECTION_TIMETABLES) {
+                    readTimetables(in, count, values, courseManager);
+                    continue;
+                }
+                for (int i = 0; i < count; i++) {
+                    int length = in.getInt();
+                    int end = in.position() + length;
+                    switch (section) {
+                        case SECTION_COURSES:
+                            readCourse(in, values, courseManager);
+                            break;
+                        case SECTION_FAQ:
+                            context.getFAQ().addSection(readSection(in, values));
+                            break;
+                        case SECTION_INQUIRIES:
+                            readInquiry(in, values, context);
+                            break;
+                        case SECTION_DELETED_COURSES:
+                            readDeletedCourse(in, values, courseManager);
+                            break;
+                        default:
+                            // Left by a later version, skipped along with the rest of its records
+                            break;
+                    }
+                    in.position(end);
+                }
+            }
+            courseManager.restoreNextActivityId(nextActivityId);
+            return sequence;
+        } catch (RuntimeException e) {
+            throw new IOException("Snapshot " + path + " is not valid", e);
+        }
+    }
+
+    private static String readCourse(ByteBuffer in, Values values, CourseManager courseManager) {
+        String code = values.string(in);
+        courseManager.applyAddCourse(new Course(code, values.string(in), values.string(in),
+                in.get() != 0, values.string(in), values.string(in), values.string(in),
+                values.string(in), in.getInt(), in.getInt()));
+        int activities = in.getInt();
+        for (int i = 0; i < activities; i++) {
+            int id = in.getInt();
+            String type = values.string(in);
+            DayOfWeek day = DAYS[in.get()];
+            LocalDate startDate = values.date(in);
+            LocalTime startTime = values.time(in);
+            LocalDate endDate = values.date(in);
+            LocalTime endTime = values.time(in);
+            String location = values.string(in);
+            int info = in.getInt();
+            courseManager.applyAddActivity(code, startDate, startTime, endDate, endTime, location, day, type,
+                    type.equals("Lecture") ? (Object) (info != 0) : (Object) info, id);
+        }
+        return code;
+    }
+
+    /**
+     * Loads a deleted course into the catalogue like any other course, then turns it into a tombstone, so its rooms
+     * are booked again.
+     */
+    private static void readDeletedCourse(ByteBuffer in, Values values, CourseManager courseManager) {
+        String code = readCourse(in, values, courseManager);
+        long deletedAt = in.getLong();
+        int students = in.getInt();
+        Map<String, List<TimeSlot>> slotsByStudent = new LinkedHashMap<>();
+        for (int i = 0; i < students; i++) {
+            String studentEmail = values.string(in);
+            int slots = in.getInt();
+            List<TimeSlot> studentSlots = new ArrayList<>(slots);
+            for (int j = 0; j < slots; j++) {
+                studentSlots.add(readSlot(in, values));
+            }
+            slotsByStudent.put(studentEmail, studentSlots);
+        }
+        courseManager.applyTombstone(code, deletedAt, slotsByStudent);
+    }
+
+    /**
+     * Reads the timetable records in parallel. Each timetable belongs to a different student, so the records only
+     * need to be located one after the other by their lengths before they can be decoded independently.
+     */
+    private static void readTimetables(ByteBuffer in, int count, Values values, CourseManager courseManager) {
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            int length = in.getInt();
+            positions[i] = in.position();
+            in.position(in.position() + length);
+        }
+        IntStream.range(0, count).parallel().forEach(i -> {
+            ByteBuffer record = in.duplicate();
+            record.position(positions[i]);
+            readTimetable(record, values, courseManager);
+        });
+    }
+
+    private static void readTimetable(ByteBuffer in, Values values, CourseManager courseManager) {
+        Timetable timetable = courseManager.getTimetable(values.string(in));
+        int slots = in.getInt();
+        for (int i = 0; i < slots; i++) {
+            timetable.appendTimeSlot(readSlot(in, values));
+        }
+    }
+
+    private static TimeSlot readSlot(ByteBuffer in, Values values) {
+        DayOfWeek day = DAYS[in.get()];
+        LocalDate startDate = values.date(in);
+        LocalTime startTime = values.time(in);
+        LocalDate endDate = values.date(in);
+        LocalTime endTime = values.time(in);
+        String courseCode = values.string(in);
+        int activityId = in.getInt();
+        byte flags = in.get();
+        ActivityKind kind = KINDS[in.get()];
+        return new TimeSlot(day, startDate, startTime, endDate, endTime, courseCode, activityId,
+                (flags & 1) != 0 ? TimeSlotStatus.CHOSEN : TimeSlotStatus.UNCHOSEN, kind, (flags & 2) != 0);
+    }
+
+    private static void readInquiry(ByteBuffer in, Values values, SharedContext context) {
+        LocalDateTime createdAt = LocalDateTime.of(values.date(in),
+                LocalTime.ofNanoOfDay(in.getLong()));
+        Inquiry inquiry = new Inquiry(createdAt, values.string(in), values.string(in),
+                values.string(in), values.string(in));
+        inquiry.setAssignedTo(values.string(in));
+        context.getRepositories().getInquiries().add(inquiry);
+    }
+
+    /**
+     * Writes a section with its items and subsections.
+     */
+    private static void putSection(Output out, FAQSection section) {
+        out.putString(section.getTopic());
+        out.putInt(section.getItems().size());
+        for (FAQItem item : section.getItems()) {
+            out.putInt(item.getId());
+            out.putString(item.getQuestion());
+            out.putString(item.getAnswer());
+            out.putString(item.getCourseTag());
+        }
+        out.putInt(section.getSubsections().size());
+        for (FAQSection subsection : section.getSubsections()) {
+            putSection(out, subsection);
+        }
+    }
+
+    /**
+     * Reads a section written by {@link #putSection}.
+     */
+    private static FAQSection readSection(ByteBuffer in, Values values) {
+        FAQSection section = new FAQSection(values.string(in));
+        int items = in.getInt();
+        for (int i = 0; i < items; i++) {
+            section.getItems().add(new FAQItem(in.getInt(), values.string(in), values.string(in),
+                    values.string(in)));
+        }
+        int subsections = in.getInt();
+        for (int i = 0; i < subsections; i++) {
+            section.addSubsection(readSection(in, values));
+        }
+        return section;
+    }
+
+    /**
+     * The string table of a snapshot being read, and the dates and times decoded so far. Slots of the same activity
+     * share their dates and times, so each value is only created once.
+     */
+    private static class Values {
+        private final String[] strings;
+        private final Map<Integer, LocalDate> dates = new ConcurrentHashMap<>();
+        private final Map<Integer, LocalTime> times = new ConcurrentHashMap<>();
+
+        private Values(int stringCount) {
+            this.strings = new String[stringCount];
+        }
+
+        private String string(ByteBuffer in) {
+            int index = in.getInt();
+            return index == NO_STRING ? null : strings[index];
+        }
+
+        private LocalDate date(ByteBuffer in) {
+            return dates.computeIfAbsent(in.getInt(), LocalDate::ofEpochDay);
+        }
+
+        private LocalTime time(ByteBuffer in) {
+            return times.computeIfAbsent(in.getInt(), LocalTime::ofSecondOfDay);
+        }
+    }
+
+    /**
+     * A growable big-endian buffer that replaces strings by their index in the string table.
+     */
+    private static class Output {
+        private final Map<String, Integer> stringIndex;
+        private final List<String> strings;
+        private byte[] bytes;
+        private int position;
+
+        private Output(int capacity, Map<String, Integer> stringIndex, List<String> strings) {
+            this.bytes = new byte[capacity];
+            this.stringIndex = stringIndex;
+            this.strings = strings;
+        }
+
+        private int position() {
+            return position;
+        }
+
+        private void rewind(int position) {
+            this.position = position;
+        }
+
+        private void putByte(int value) {
+            ensure(1);
+            bytes[position++] = (byte) value;
+        }
+
+        private void putInt(int value) {
+            ensure(4);
+            patchInt(position, value);
+            position += 4;
+        }
+
+        private void putLong(long value) {
+            putInt((int) (value >>> 32));
+            putInt((int) value);
+        }
+
+        private void putString(String value) {
+            if (value == null) {
+                putInt(NO_STRING);
+                return;
+            }
+            Integer index = stringIndex.get(value);
+            if (index == null) {
+                index = strings.size();
+                stringIndex.put(value, index);
+                strings.add(value);
+            }
+            putInt(index);
+        }
+
+        private void patchInt(int at, int value) {
+            bytes[at] = (byte) (value >>> 24);
+            bytes[at + 1] = (byte) (value >>> 16);
+            bytes[at + 2] = (byte) (value >>> 8);
+            bytes[at + 3] = (byte) value;
+        }
+
+        /**
+         * Reserves room for the length of a record.
+         *
+         * @return the position of the record, to pass to {@link #endRecord} or {@link #rewind}
+         */
+        private int startRecord() {
+            int start = position;
+            putInt(0);
+            return start;
+        }
+
+        /**
+         * Fills in the length of a record once all of it has been written.
+         */
+        private void endRecord(int start) {
+            patchInt(start, position - start - 4);
+        }
+
+        private void ensure(int extra) {
+            if (position + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + extra));
+            }
+        }
+    }
+}
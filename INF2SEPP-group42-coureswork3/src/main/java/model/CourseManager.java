@@ -1,739 +1,1922 @@
-package model;
-
-import view.View;
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-/**
- * Handles creation, deletion and updating of courses and student timetables.
- */
-public class CourseManager {
-    private final Map<String, Course> courses;
-    private final Map<String, Timetable> timetables;
-    private final View view;
-    private int nextActivityId = 1;
-
-    /**
-     * @param view  the user interface view
-     */
-    public CourseManager(View view) {
-        this.view = view;
-        this.courses = new HashMap<>();
-        this.timetables = new HashMap<>();
-    }
-
-    /**
-     * Attempts to add a new course with given parameters.
-     *
-     * @param userEmail         the email of the {@link AuthenticatedUser}
-     * @param code              the course code to add
-     * @param name              the name of the course
-     * @param description       the description of the course
-     * @param requiresComputers whether the course requires a computer
-     * @param COName            name of the course organiser
-     * @param COEmail           email of the course organiser
-     * @param CSName            name of the course secretary
-     * @param CSEmail           email of the course secretary
-     * @param reqTutorials      number of required tutorials
-     * @param reqLabs           number of required labs
-     * @return {@code true} if the course was added succesffuly, otherwise {@code false}
-     */
-    public boolean addCourse(String userEmail, String code, String name, String description,
-                             boolean requiresComputers, String COName, String COEmail,
-                             String CSName, String CSEmail, int reqTutorials, int reqLabs) {
-        // Log the attempt to add a course
-        String courseInfo = String.format(
-                "Code: %s, Name: %s, Requires Computers: %b, CO: %s (%s), CS: %s (%s), Tutorials: %d, Labs: %d",
-                code, name, requiresComputers,
-                COName, COEmail,
-                CSName, CSEmail,
-                reqTutorials, reqLabs
-        );
-
-        // Validate required course info
-        if (code == null || name == null || description == null || COName == null ||
-                COEmail == null || CSName == null || CSEmail == null) {
-            TinyLogLogger.log(
-                    System.currentTimeMillis(),
-                    "", // No email available at this point
-                    "addCourse",
-                    courseInfo,
-                    "FAILURE (Error: Required course info not provided)"
-            );
-            view.displayError("Required course info not provided");
-            return false;
-        }
-
-        // Validate course code
-        if (!checkCourseCode(code)) {
-            TinyLogLogger.log(
-                    System.currentTimeMillis(),
-                    "", // No email available at this point
-                    "addCourse",
-                    courseInfo,
-                    "FAILURE (Error: Provided courseCode is invalid)"
-            );
-            view.displayError("Provided courseCode is invalid");
-            return false;
-        }
-
-        // Check if course with this code already exists
-        if (hasCourse(code)) {
-            TinyLogLogger.log(
-                    System.currentTimeMillis(),
-                    "", // No email available at this point
-                    "addCourse",
-                    courseInfo,
-                    "FAILURE (Error: Course with that code already exists)"
-            );
-            view.displayError("Course with that code already exists");
-            return false;
-        }
-
-        // Create and add the course
-        Course newCourse = new Course(code, name, description, requiresComputers,
-                COName, COEmail, CSName, CSEmail,
-                reqTutorials, reqLabs);
-        courses.put(code, newCourse);
-
-        // Log success
-        TinyLogLogger.log(
-                System.currentTimeMillis(),
-                userEmail,
-                "addCourse",
-                courseInfo,
-                "SUCCESS (New course added)"
-        );
-
-        return true;
-    }
-
-    /**
-     * checks whether a course code follows a valid format.
-     *
-     * @param courseCode    the code to check
-     * @return {@code true} if the given code follows the correct format, otherwise {@code false}
-     */
-    public boolean checkCourseCode(String courseCode) {
-        if (courseCode == null || courseCode.isEmpty()) {
-            return false;
-        }
-        // Format validation: e.g., "CS101" - alphanumeric format
-        return courseCode.matches("[A-Z]{2,}\\d{3,}");
-    }
-
-    /**
-     * checks whether a course with the given code already exists.
-     *
-     * @param courseCode    the code to check
-     * @return {@code true} if the code already exists, otherwise {@code false}
-     */
-    public boolean hasCourse(String courseCode) {
-        return courses.containsKey(courseCode);
-    }
-
-    /**
-     * removes a course with the given course code.
-     *
-     * @param courseCode    the code of the course to remove
-     * @return array of emails of everyone involved in course, every student that has the course on the timetable aswell
-     * as course organiser and secretary, if the course doesn't exist than returns {@code null}
-     */
-    public String[] removeCourse(String courseCode) {
-        if (!hasCourse(courseCode)) {
-            return null;
-        }
-
-        Course course = courses.get(courseCode);
-        List<String> emailsToNotify = new ArrayList<>();
-
-        course.removeActivities();
-
-        // Find all students who have this course in their timetable
-        for (Timetable timetable : timetables.values()) {
-            if (timetable.hasSlotsForCourse(courseCode)) {
-                emailsToNotify.add(timetable.getStudentEmail());
-                timetable.removeSlotsForCourse(courseCode);
-            }
-        }
-
-        // Add course staff emails to notify
-        emailsToNotify.add(course.getCourseOrganiserEmail());
-        emailsToNotify.add(course.getCourseSecretaryEmail());
-
-        // Remove the course
-        courses.remove(courseCode);
-
-        return emailsToNotify.toArray(new String[0]);
-    }
-
-    /**
-     * Adds the course with the given code to the timetable of the student with the given email.
-     *
-     * @param studentEmail  the email of the student to add the course to
-     * @param courseCode    the course to add to the timetable
-     * @return {@code true} if the course was successfully added to the timetable, otherwise {@code false}
-     */
-    public boolean addCourseToStudentTimetable(String studentEmail, String courseCode) {
-        // Log the start of the action
-        long timestamp = System.currentTimeMillis();
-
-        // Validate course code
-        if (!hasCourse(courseCode)) {
-            view.displayError("Incorrect course code");
-            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                    studentEmail + courseCode, "FAILURE (Error: Incorrect course code)");
-            return false;
-        }
-
-        Course course = courses.get(courseCode);
-        Timetable timetable = getTimetable(studentEmail);
-
-        // Check if course already in timetable
-        if (timetable.hasSlotsForCourse(courseCode)) {
-            view.displayWarning("Course is already in your timetable");
-            return false;
-        }
-
-        // Process activities and check for conflicts
-        List<String> conflictingActivities = new ArrayList<>();
-        boolean hasUnrecordedLectureConflict = false;
-
-        // First check for unrecorded lecture conflicts with existing activities
-        for (Activity activity : course.getActivities()) {
-            if (activity instanceof Lecture && !((Lecture) activity).isRecorded()) {
-                String[] conflicts = timetable.checkConflicts(
-                        activity.getStartDate(),
-                        activity.getStartTime(),
-                        activity.getEndDate(),
-                        activity.getEndTime(),
-                        activity.getDay()
-                );
-
-                if (conflicts.length > 0) {
-                    hasUnrecordedLectureConflict = true;
-                    for (String conflict : conflicts) {
-                        conflictingActivities.add("Unrecorded lecture conflict: " + activity.toString() + " with " + conflict);
-                    }
-                }
-            }
-        }
-
-        // If there's an unrecorded lecture conflict, abort adding the course
-        if (hasUnrecordedLectureConflict) {
-            view.displayError("You have at least one clash with an unrecorded lecture. The course cannot be added to your timetable.");
-            for (String conflict : conflictingActivities) {
-                view.displayError(conflict);
-            }
-            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                    studentEmail + courseCode, "FAILURE (Error: Unrecorded lecture conflict)");
-            return false;
-        }
-
-        // Reset conflict list
-        conflictingActivities.clear();
-
-        // Now check if any existing unrecorded lectures conflict with the new course's activities
-        List<TimeSlot> existingUnrecordedLectures = timetable.getUnrecordedLectureSlots(this);
-
-        for (Activity newActivity : course.getActivities()) {
-            for (TimeSlot unrecordedSlot : existingUnrecordedLectures) {
-                // Skip if not on the same day
-                if (unrecordedSlot.getDay() != newActivity.getDay()) {
-                    continue;
-                }
-
-                // Check for time conflicts
-                if (newActivity.getStartTime().isBefore(unrecordedSlot.getEndTime()) &&
-                        unrecordedSlot.getStartTime().isBefore(newActivity.getEndTime())) {
-
-                    hasUnrecordedLectureConflict = true;
-                    conflictingActivities.add(
-                            "New activity conflicts with existing unrecorded lecture: " +
-                                    newActivity.toString() + " with " + unrecordedSlot.toString()
-                    );
-                }
-            }
-        }
-
-        // If there's a conflict with existing unrecorded lectures, abort
-        if (hasUnrecordedLectureConflict) {
-            view.displayError("You have at least one clash with an existing unrecorded lecture. The course cannot be added to your timetable.");
-            for (String conflict : conflictingActivities) {
-                view.displayError(conflict);
-            }
-            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                    studentEmail + courseCode, "FAILURE (Error: Conflict with existing unrecorded lecture)");
-            return false;
-        }
-
-        // Reset conflict list again
-        conflictingActivities.clear();
-
-        // Now add all activities
-        for (Activity activity : course.getActivities()) {
-            // Set initial status - Lectures are automatically CHOSEN, other activities are UNCHOSEN
-            TimeSlotStatus status = TimeSlotStatus.UNCHOSEN;
-            String activityType;
-
-            if (activity instanceof Lecture) {
-                // Automatically set lectures to CHOSEN
-                status = TimeSlotStatus.CHOSEN;
-                activityType = "Lecture";
-
-                // Add additional info if the lecture is recorded
-                if (((Lecture) activity).isRecorded()) {
-                    activityType = "Recorded Lecture";
-                } else {
-                    activityType = "Unrecorded Lecture";
-                }
-            } else if (activity instanceof Tutorial) {
-                activityType = "Tutorial";
-            } else if (activity instanceof Lab) {
-                activityType = "Lab";
-            } else {
-                activityType = "Unknown";
-            }
-
-            try {
-                timetable.addTimeSlot(
-                        activity.getDay(),
-                        activity.getStartDate(),
-                        activity.getStartTime(),
-                        activity.getEndDate(),
-                        activity.getEndTime(),
-                        courseCode,
-                        activity.getId(),
-                        status,
-                        activityType
-                );
-            } catch (IllegalStateException e) {
-                // This can only happen for non-lecture activities or unrecorded lectures
-                // since recorded lectures are allowed to have conflicts
-                conflictingActivities.add(e.getMessage());
-            }
-        }
-
-        // Check for recorded lecture conflicts - just warnings
-        List<String> recordedLectureConflicts = new ArrayList<>();
-        for (Activity activity : course.getActivities()) {
-            if (activity instanceof Lecture && ((Lecture) activity).isRecorded()) {
-                String[] conflicts = timetable.checkConflicts(
-                        activity.getStartDate(),
-                        activity.getStartTime(),
-                        activity.getEndDate(),
-                        activity.getEndTime(),
-                        activity.getDay()
-                );
-
-                if (conflicts.length > 0) {
-                    for (String conflict : conflicts) {
-                        recordedLectureConflicts.add("Time slot conflicts with existing slots: " + conflict);
-                    }
-                }
-            }
-        }
-
-        // Display warnings for recorded lecture conflicts
-        if (!recordedLectureConflicts.isEmpty()) {
-            for (String conflict : recordedLectureConflicts) {
-                view.displayWarning("Warning: Recorded lecture has potential conflict: " + conflict);
-            }
-            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                    studentEmail + courseCode, "WARNING (Recorded lecture conflicts)");
-        }
-
-        // Handle other activity conflicts - just warnings
-        if (!conflictingActivities.isEmpty()) {
-            view.displayWarning("You have at least one clash with another activity");
-            for (String conflict : conflictingActivities) {
-                view.displayWarning(conflict);
-            }
-            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                    studentEmail + courseCode, "WARNING (Activity conflicts)");
-            // We still add the course with warnings
-        }
-
-        // Check required tutorials
-        int requiredTutorials = course.getRequiredTutorials();
-        if (requiredTutorials > 0) {
-            view.displayWarning("You have to choose " + requiredTutorials + " tutorials for this course");
-            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                    studentEmail + courseCode, "WARNING (Required tutorials not chosen)");
-        }
-
-        // Check required labs
-        int requiredLabs = course.getRequiredLabs();
-        if (requiredLabs > 0) {
-            view.displayWarning("You have to choose " + requiredLabs + " labs for this course");
-            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                    studentEmail + courseCode, "WARNING (Required labs not chosen)");
-        }
-
-        // Success scenario
-        view.displaySuccess("The course was successfully added to your timetable. Lectures are automatically selected. Please select your required tutorials and labs.");
-        TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
-                studentEmail + courseCode, "SUCCESS");
-        return true;
-    }
-
-    /**
-     * Allows student to choose an activity to add to the timetable
-     *
-     * @param studentEmail  the student's email
-     * @param courseCode    the course code
-     * @param activityId    the id of the activity to choose
-     */
-    public void chooseActivityForCourse(String studentEmail, String courseCode, int activityId) {
-        long timestamp = System.currentTimeMillis();
-
-        // Check if course exists
-        if (!hasCourse(courseCode)) {
-            view.displayError("Course does not exist: " + courseCode);
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "FAILURE (Course does not exist)");
-            return;
-        }
-
-        Course course = courses.get(courseCode);
-
-        // Check if activity exists in course
-        if (!course.hasActivityWithId(activityId)) {
-            view.displayError("Invalid activity ID for this course");
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "FAILURE (Invalid activity ID)");
-            return;
-        }
-
-        Timetable timetable = getTimetable(studentEmail);
-
-        // Check if course is in student's timetable
-        if (!timetable.hasSlotsForCourse(courseCode)) {
-            view.displayError("Course is not in your timetable. Add it first before choosing activities.");
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "FAILURE (Course not in timetable)");
-            return;
-        }
-
-        // Get the activity and check if it's a lecture
-        Activity activity = course.getActivityById(activityId);
-        if (activity == null) {
-            view.displayError("Activity not found.");
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "FAILURE (Activity not found)");
-            return;
-        }
-
-        // Prevent choosing lectures - they should already be chosen automatically
-        if (activity instanceof Lecture) {
-            view.displayError("Lectures are automatically selected. You can only choose tutorials and labs.");
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "FAILURE (Cannot manually choose lectures)");
-            return;
-        }
-
-        // Check for conflicts with unrecorded lectures specifically
-        List<TimeSlot> unrecordedLectures = timetable.getUnrecordedLectureSlots(this);
-        boolean hasUnrecordedLectureConflict = false;
-        List<String> conflictingUnrecordedLectures = new ArrayList<>();
-
-        for (TimeSlot unrecordedSlot : unrecordedLectures) {
-            if (unrecordedSlot.getDay() == activity.getDay() &&
-                    activity.getStartTime().isBefore(unrecordedSlot.getEndTime()) &&
-                    unrecordedSlot.getStartTime().isBefore(activity.getEndTime())) {
-
-                hasUnrecordedLectureConflict = true;
-                conflictingUnrecordedLectures.add(unrecordedSlot.toString());
-            }
-        }
-
-        // If there's a conflict with unrecorded lectures, prevent choosing the activity
-        if (hasUnrecordedLectureConflict) {
-            view.displayError("This activity conflicts with unrecorded lectures that require attendance:");
-            for (String conflict : conflictingUnrecordedLectures) {
-                view.displayError("- " + conflict);
-            }
-            view.displayError("You cannot choose activities that conflict with unrecorded lectures.");
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "FAILURE (Conflicts with unrecorded lectures)");
-            return;
-        }
-
-        // Check for other conflicts - these are just warnings
-        String[] conflicts = timetable.checkConflicts(
-                activity.getStartDate(),
-                activity.getStartTime(),
-                activity.getEndDate(),
-                activity.getEndTime(),
-                activity.getDay()
-        );
-
-        if (conflicts.length > 0) {
-            view.displayWarning("This activity conflicts with existing activities in your timetable:");
-            for (String conflict : conflicts) {
-                view.displayWarning("- " + conflict);
-            }
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "WARNING (Activity conflicts)");
-            // Still proceed with choosing the activity since these conflicts are acceptable
-        }
-
-        // Choose the activity
-        boolean success = timetable.chooseActivity(courseCode, activityId);
-        if (success) {
-            view.displaySuccess("Activity successfully chosen for course: " + courseCode);
-
-            // Check requirements for tutorials and labs
-            if (!checkChosenTutorials(courseCode, timetable)) {
-                view.displayWarning("You still need to choose " + course.getRequiredTutorials() +
-                        " tutorials for " + courseCode);
-            }
-
-            if (!checkChosenLabs(courseCode, timetable)) {
-                view.displayWarning("You still need to choose " + course.getRequiredLabs() +
-                        " labs for " + courseCode);
-            }
-
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "SUCCESS");
-        } else {
-            view.displayError("Could not choose activity. Please try again.");
-            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
-                    courseCode + ":" + activityId, "FAILURE (Could not choose activity)");
-        }
-    }
-
-    /**
-     * checks whether the number of chosen tutorials is sufficient for the course
-     *
-     * @param courseCode    the code of the course to check
-     * @param timetable     the timetable of the student
-     * @return {@code true} if the number of chosen tutorials is more than or equal to number of required tutorials,
-     * otherwise {@code false}
-     */
-    private boolean checkChosenTutorials(String courseCode, Timetable timetable) {
-        if (!hasCourse(courseCode)) {
-            return false;
-        }
-        Course course = courses.get(courseCode);
-        int requiredTutorials = course.getRequiredTutorials();
-        int chosenTutorials = timetable.countChosenActivitiesOfType(courseCode, "Tutorial", this); // Pass 'this'
-        return chosenTutorials >= requiredTutorials;
-    }
-
-    /**
-     * checks whether the number of chosen labs is sufficient for the course
-     *
-     * @param courseCode    the coe of the course to check
-     * @param timetable     the timetable of the student
-     * @return {@code true} if the number of chosen labs is more than or equal to number of required labs, otherwise
-     * {@code false}
-     */
-    private boolean checkChosenLabs(String courseCode, Timetable timetable) {
-        if (!hasCourse(courseCode)) {
-            return false;
-        }
-        Course course = courses.get(courseCode);
-        int requiredLabs = course.getRequiredLabs();
-        int chosenLabs = timetable.countChosenActivitiesOfType(courseCode, "Lab", this); // Pass 'this'
-        return chosenLabs >= requiredLabs;
-    }
-
-    /**
-     * removes a specified course the timetable of the student
-     *
-     * @param studentEmail  the email of the student
-     * @param courseCode    the code of the course
-     */
-    public void removeCourseFromStudentTimetable(String studentEmail, String courseCode) {
-        long timestamp = System.currentTimeMillis();
-
-        // Check if course exists
-        if (!hasCourse(courseCode)) {
-            view.displayError("Course does not exist: " + courseCode);
-            TinyLogLogger.log(timestamp, studentEmail, "removeCourseFromTimetable",
-                    courseCode, "FAILURE (Course does not exist)");
-            return;
-        }
-
-        Timetable timetable = getTimetable(studentEmail);
-
-        // Check if course is in student's timetable
-        if (!timetable.hasSlotsForCourse(courseCode)) {
-            view.displayError("Course is not in your timetable.");
-            TinyLogLogger.log(timestamp, studentEmail, "removeCourseFromTimetable",
-                    courseCode, "FAILURE (Course not in timetable)");
-            return;
-        }
-
-        // Remove the course from timetable
-        timetable.removeSlotsForCourse(courseCode);
-        view.displaySuccess("Course " + courseCode + " has been removed from your timetable.");
-        TinyLogLogger.log(timestamp, studentEmail, "removeCourseFromTimetable",
-                courseCode, "SUCCESS");
-    }
-
-    /**
-     * gets the timetable of the student, if no timetable currently exists creates a new timetable, assigngs it the
-     * student and returns that
-     *
-     * @param studentEmail  the email of the student
-     * @return  the timetable of the student
-     */
-    public Timetable getTimetable(String studentEmail) {
-        for (Timetable timetable : timetables.values()) {
-            if (timetable.hasStudentEmail(studentEmail)) {
-                return timetable;
-            }
-        }
-
-        Timetable newTimetable = new Timetable(studentEmail);
-        timetables.put(studentEmail, newTimetable);
-        return newTimetable;
-    }
-
-    /**
-     * @return a string representation all courses
-     */
-    public String viewCourses() {
-        StringBuilder result = new StringBuilder();
-        if (courses.isEmpty()) {
-            result.append("No courses available.");
-        } else {
-            for (Course course : courses.values()) {
-                String courseString = course.toString();
-                result.append(courseString).append("\n");
-                for (Activity activity : course.getActivities()) {
-                    String activityDetailsAsString = activity.toString();
-                    result.append(activityDetailsAsString).append("\n");
-                }
-            }
-        }
-        return result.toString();
-    }
-
-    /**
-     * @param courseCode    code of the course
-     * @return a detailed string representation of a single course
-     */
-    public String viewCourse(String courseCode) {
-        // Check if the course exists first
-        if (!hasCourse(courseCode)) {
-            return "Course not found.";
-        }
-
-        // Retrieve the course (now we know it exists)
-        Course course = getCourseByCode(courseCode);
-
-        // Create a detailed course description
-        StringBuilder result = new StringBuilder();
-        result.append("Course Details:\n");
-        result.append("-------------------------\n");
-        result.append("Code: ").append(course.getCourseCode()).append("\n");
-        result.append("Name: ").append(course.getName()).append("\n");
-        result.append("Description: ").append(course.getDescription()).append("\n");
-        result.append("Requires Computers: ").append(course.isRequiresComputers() ? "Yes" : "No").append("\n");
-        result.append("Course Organiser: ").append(course.getCourseOrganiserName())
-                .append(" (").append(course.getCourseOrganiserEmail()).append(")\n");
-        result.append("Course Secretary: ").append(course.getCourseSecretaryName())
-                .append(" (").append(course.getCourseSecretaryEmail()).append(")\n");
-        result.append("Required Tutorials: ").append(course.getRequiredTutorials()).append("\n");
-        result.append("Required Labs: ").append(course.getRequiredLabs()).append("\n");
-
-        // Add activities
-        result.append("\nActivities:\n");
-        for (Activity activity : course.getActivities()) {
-            result.append(activity.toString()).append("\n");
-        }
-
-        return result.toString();
-    }
-
-    /**
-     * creates a new activity id
-     * @return activity of the next id
-     */
-    public int getNextActivityId() {
-        return nextActivityId++;
-    }
-
-    /**
-     * Adds new activity to the specified course.
-     *
-     * @param courseCode        the code of the course
-     * @param startDate         the start date of the activity
-     * @param startTime         the start time of the activity
-     * @param endDate           the end date of the activity
-     * @param endTime           the end time of the activity
-     * @param location          the location of the activity
-     * @param day               the day of the week the activity is held
-     * @param activityType      the type of the activity
-     * @param additionalInfo    additional information about the activity specific information
-     */
-    public void addActivityToCourse(String courseCode, LocalDate startDate, LocalTime startTime,
-                                    LocalDate endDate, LocalTime endTime, String location,
-                                    DayOfWeek day, String activityType, Object additionalInfo) {
-        if (!hasCourse(courseCode)) {
-            return;
-        }
-
-        Course course = courses.get(courseCode);
-        course.addActivity(startDate, startTime, endDate, endTime, location, day,
-                activityType, additionalInfo, getNextActivityId());
-    }
-
-    public void viewTimetable(String studentEmail) {
-        Timetable timetable = getTimetable(studentEmail);
-
-        view.displayInfo("=== Viewing Complete Timetable ===");
-        if (timetable.timeSlots.isEmpty()) {
-            view.displayInfo("No courses in your timetable. Please add courses first.");
-            return;
-        }
-
-        String timetableString = timetable.toStringWithAllActivities();
-        view.displayInfo(timetableString);
-
-        view.displayInfo("\n=== Available Activities to Choose ===");
-        for (TimeSlot slot : timetable.timeSlots) {
-            if (slot.status == TimeSlotStatus.UNCHOSEN &&
-                    (slot.getActivityType().equals("Tutorial") || slot.getActivityType().equals("Lab"))) {
-                view.displayInfo(slot.courseCode + " - " + slot.getActivityType() +
-                        " (ID: " + slot.activityId + ") - " +
-                        slot.getStartTime() + "-" + slot.getEndTime());
-            }
-        }
-
-        view.displayInfo("\n=== Timetable Legend ===");
-        view.displayInfo("UNCHOSEN - Activities available but not selected yet");
-        view.displayInfo("CHOSEN - Activities you have selected for your timetable");
-
-        view.displayInfo("\nTo choose an activity, select 'Choose Activity for Course' from the menu");
-        view.displayInfo("and use the Activity ID shown above (only tutorials and labs can be chosen)");
-
-        List<String> issues = timetable.checkTimetableIssues(this);
-        if (!issues.isEmpty()) {
-            view.displayInfo("\n=== Timetable Issues ===");
-            for (String issue : issues) {
-                view.displayWarning(issue);
-            }
-        }
-    }
-
-    /**
-     * retrieves course by course code.
-     *
-     * @param courseCode    the code of the course
-     * @return the course of the corresponding code
-     */
-    public Course getCourseByCode(String courseCode) {
-        return courses.get(courseCode);
-    }
-}
-
-
+package model;
+
+import external.EmailService;
+import view.View;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Handles creation, deletion and updating of courses and student timetables.
+ */
+public class CourseManager {
+    // The number of times closing a term archives it again when courses or timetables changed while it was written
+    private static final int CLOSE_TERM_ATTEMPTS = 3;
+
+    private final CourseRepository courses;
+    private final TimetableRepository timetables;
+    private final LocationIndex locationIndex;
+    private final CourseStaffIndex staffIndex;
+    private final List<CourseRemovalJob> removalJobs;
+    // Courses whose activities changed since the last validation sweep
+    private final Set<String> changedCourses;
+    private final List<ValidationSweep> validationSweeps;
+    private final View view;
+    private int nextActivityId = 1;
+    // Only built the first time it is asked for, then kept up to date by the timetables
+    private volatile AttendanceStats attendance;
+    // Set once every timetable stored when the statistics were built has been counted
+    private volatile boolean attendanceCounted;
+    private Journal journal = Journal.disabled();
+    // Soft-deleted courses that can still be restored, by course code
+    private final Map<String, CourseTombstone> tombstones = new ConcurrentHashMap<>();
+    // Archives of closed terms, null until a directory for them is set
+    private volatile TermArchives archives;
+
+    /**
+     * @param view  the user interface view
+     */
+    public CourseManager(View view) {
+        this(view, new InMemoryCourseRepository(), new InMemoryTimetableRepository());
+    }
+
+    /**
+     * Creates a course manager that keeps its courses and timetables in the given repositories. The indexes are built
+     * from the courses already stored.
+     *
+     * @param view          the user interface view
+     * @param courses       the repository for the course catalogue
+     * @param timetables    the repository for student timetables
+     */
+    public CourseManager(View view, CourseRepository courses, TimetableRepository timetables) {
+        this.view = view;
+        this.courses = courses;
+        this.timetables = timetables;
+        this.locationIndex = new LocationIndex();
+        this.staffIndex = new CourseStaffIndex();
+        this.removalJobs = new CopyOnWriteArrayList<>();
+        this.changedCourses = ConcurrentHashMap.newKeySet();
+        this.validationSweeps = new CopyOnWriteArrayList<>();
+        for (Course course : courses.findAll()) {
+            staffIndex.add(course);
+            for (Activity activity : course.getActivities()) {
+                locationIndex.add(course.getCourseCode(), activity);
+                nextActivityId = Math.max(nextActivityId, activity.getId() + 1);
+            }
+        }
+    }
+
+    /**
+     * Attempts to add a new course with given parameters.
+     *
+     * @param userEmail         the email of the {@link AuthenticatedUser}
+     * @param code              the course code to add
+     * @param name              the name of the course
+     * @param description       the description of the course
+     * @param requiresComputers whether the course requires a computer
+     * @param COName            name of the course organiser
+     * @param COEmail           email of the course organiser
+     * @param CSName            name of the course secretary
+     * @param CSEmail           email of the course secretary
+     * @param reqTutorials      number of required tutorials
+     * @param reqLabs           number of required labs
+     * @return {@code true} if the course was added succesffuly, otherwise {@code false}
+     */
+    public boolean addCourse(String userEmail, String code, String name, String description,
+                             boolean requiresComputers, String COName, String COEmail,
+                             String CSName, String CSEmail, int reqTutorials, int reqLabs) {
+        // Log the attempt to add a course
+        String courseInfo = String.format(
+                "Code: %s, Name: %s, Requires Computers: %b, CO: %s (%s), CS: %s (%s), Tutorials: %d, Labs: %d",
+                code, name, requiresComputers,
+                COName, COEmail,
+                CSName, CSEmail,
+                reqTutorials, reqLabs
+        );
+
+        // Validate required course info
+        if (code == null || name == null || description == null || COName == null ||
+                COEmail == null || CSName == null || CSEmail == null) {
+            TinyLogLogger.log(
+                    System.currentTimeMillis(),
+                    "", // No email available at this point
+                    "addCourse",
+                    courseInfo,
+                    "FAILURE (Error: Required course info not provided)"
+            );
+            view.displayError("Required course info not provided");
+            return false;
+        }
+
+        // Validate course code
+        if (!checkCourseCode(code)) {
+            TinyLogLogger.log(
+                    System.currentTimeMillis(),
+                    "", // No email available at this point
+                    "addCourse",
+                    courseInfo,
+                    "FAILURE (Error: Provided courseCode is invalid)"
+            );
+            view.displayError("Provided courseCode is invalid");
+            return false;
+        }
+
+        // Check if course with this code already exists
+        if (hasCourse(code)) {
+            TinyLogLogger.log(
+                    System.currentTimeMillis(),
+                    "", // No email available at this point
+                    "addCourse",
+                    courseInfo,
+                    "FAILURE (Error: Course with that code already exists)"
+            );
+            view.displayError("Course with that code already exists");
+            return false;
+        }
+
+        // A deleted course keeps its code until it is purged, so it can still be restored
+        if (tombstones.containsKey(code)) {
+            TinyLogLogger.log(
+                    System.currentTimeMillis(),
+                    "", // No email available at this point
+                    "addCourse",
+                    courseInfo,
+                    "FAILURE (Error: Course with that code was deleted and can still be restored)"
+            );
+            view.displayError("Course with that code was deleted and can still be restored");
+            return false;
+        }
+
+        // Create and add the course
+        Course newCourse = new Course(code, name, description, requiresComputers,
+                COName, COEmail, CSName, CSEmail,
+                reqTutorials, reqLabs);
+        journal.write(new JournalRecord(JournalRecord.Type.ADD_COURSE).add(code).add(name).add(description)
+                .add(requiresComputers).add(COName).add(COEmail).add(CSName).add(CSEmail)
+                .add(reqTutorials).add(reqLabs), () -> {
+            applyAddCourse(newCourse);
+            return true;
+        });
+
+        // Log success
+        TinyLogLogger.log(
+                System.currentTimeMillis(),
+                userEmail,
+                "addCourse",
+                courseInfo,
+                "SUCCESS (New course added)"
+        );
+
+        return true;
+    }
+
+    /**
+     * checks whether a course code follows a valid format.
+     *
+     * @param courseCode    the code to check
+     * @return {@code true} if the given code follows the correct format, otherwise {@code false}
+     */
+    public boolean checkCourseCode(String courseCode) {
+        if (courseCode == null || courseCode.isEmpty()) {
+            return false;
+        }
+        // Format validation: e.g., "CS101" - alphanumeric format
+        return courseCode.matches("[A-Z]{2,}\\d{3,}");
+    }
+
+    /**
+     * checks whether a course with the given code already exists.
+     *
+     * @param courseCode    the code to check
+     * @return {@code true} if the code already exists, otherwise {@code false}
+     */
+    public boolean hasCourse(String courseCode) {
+        return courses.exists(courseCode);
+    }
+
+    /**
+     * removes a course with the given course code.
+     *
+     * @param courseCode    the code of the course to remove
+     * @return array of emails of everyone involved in course, every student that has the course on the timetable aswell
+     * as course organiser and secretary, if the course doesn't exist than returns {@code null}
+     */
+    public String[] removeCourse(String courseCode) {
+        if (!hasCourse(courseCode)) {
+            return null;
+        }
+
+        Course course = journalRemoveCourse(courseCode);
+        List<String> emailsToNotify = new ArrayList<>();
+
+        // Find all students who have this course in their timetable
+        for (Timetable timetable : getAllTimetables()) {
+            if (timetable.hasSlotsForCourse(courseCode)) {
+                emailsToNotify.add(timetable.getStudentEmail());
+                timetable.removeSlotsForCourse(courseCode);
+                timetables.save(timetable);
+            }
+        }
+
+        // Add course staff emails to notify
+        emailsToNotify.add(course.getCourseOrganiserEmail());
+        emailsToNotify.add(course.getCourseSecretaryEmail());
+
+        return emailsToNotify.toArray(new String[0]);
+    }
+
+    /**
+     * Soft-deletes a course and starts a background job that notifies the students who were enrolled on it and the
+     * course staff. The course is out of the catalogue and every timetable before this returns, and can still be
+     * restored with its enrolments until it is purged.
+     *
+     * @param userEmail     the email of the admin removing the course
+     * @param courseCode    the code of the course to remove
+     * @param email         the email service used to send the notifications
+     * @return the started job, or {@code null} if the course doesn't exist
+     */
+    public CourseRemovalJob startCourseRemoval(String userEmail, String courseCode, EmailService email) {
+        CourseTombstone tombstone = journalSoftDeleteCourse(userEmail, courseCode);
+        if (tombstone == null) {
+            return null;
+        }
+
+        Course course = tombstone.getCourse();
+        CourseRemovalJob job = new CourseRemovalJob(userEmail, courseCode,
+                new ArrayList<>(tombstone.getSlotsByStudent().keySet()),
+                Arrays.asList(course.getCourseOrganiserEmail(), course.getCourseSecretaryEmail()), email);
+        removalJobs.add(job);
+        job.start(WorkerPool.get());
+        return job;
+    }
+
+    /**
+     * @return every course removal job started so far, oldest first
+     */
+    public List<CourseRemovalJob> getCourseRemovalJobs() {
+        return Collections.unmodifiableList(removalJobs);
+    }
+
+    /**
+     * @return the codes of the courses whose activities changed since the last validation sweep, in order
+     */
+    public List<String> getChangedCourses() {
+        List<String> codes = new ArrayList<>(changedCourses);
+        Collections.sort(codes);
+        return codes;
+    }
+
+    /**
+     * Starts a background sweep that re-checks every timetable with a course that changed since the last sweep.
+     *
+     * @param userEmail the email of the admin starting the sweep
+     * @param email     the email service used to notify students with issues, or {@code null} to only build the
+     *                  report
+     * @return the started sweep, or {@code null} if no course changed since the last sweep
+     */
+    public ValidationSweep startValidationSweep(String userEmail, EmailService email) {
+        Set<String> courseCodes = new TreeSet<>();
+        for (String courseCode : changedCourses) {
+            // Removed one at a time, so changes made while draining are kept for the next sweep
+            if (changedCourses.remove(courseCode)) {
+                courseCodes.add(courseCode);
+            }
+        }
+        if (courseCodes.isEmpty()) {
+            return null;
+        }
+
+        // Workers check against copies, the courses themselves are only safe to read on this thread
+        Map<String, CourseSnapshot> snapshots = new HashMap<>();
+        for (String courseCode : courseCodes) {
+            Course course = courses.find(courseCode);
+            if (course != null) {
+                snapshots.put(courseCode, new CourseSnapshot(course));
+            }
+        }
+        ValidationSweep sweep = new ValidationSweep(userEmail, courseCodes, snapshots,
+                new ArrayList<>(timetables.findAll()), email);
+        validationSweeps.add(sweep);
+        sweep.start(WorkerPool.get());
+        return sweep;
+    }
+
+    /**
+     * @return every validation sweep started so far, oldest first
+     */
+    public List<ValidationSweep> getValidationSweeps() {
+        return Collections.unmodifiableList(validationSweeps);
+    }
+
+    /**
+     * Deletes a course so that it can still be restored. The course disappears from the catalogue and the slots of the
+     * enrolled students are taken out of their timetables, but both are kept in a tombstone, together with which
+     * activities each student had chosen. The rooms of the course stay booked, so a restored course never clashes.
+     * The deletion is final once a {@link CoursePurger} purges the course.
+     *
+     * @param userEmail     the email of the admin deleting the course
+     * @param courseCode    the code of the course to delete
+     * @return {@code true} if the course was deleted, {@code false} if it doesn't exist
+     */
+    public boolean softDeleteCourse(String userEmail, String courseCode) {
+        return journalSoftDeleteCourse(userEmail, courseCode) != null;
+    }
+
+    /**
+     * Soft-deletes a course and logs the deletion.
+     *
+     * @param userEmail     the email of the admin deleting the course
+     * @param courseCode    the code of the course to delete
+     * @return the tombstone of the deleted course, or {@code null} if it doesn't exist
+     */
+    private CourseTombstone journalSoftDeleteCourse(String userEmail, String courseCode) {
+        long deletedAt = System.currentTimeMillis();
+        // Kept from the mutation itself, the purger may drop the tombstone as soon as the log is released
+        CourseTombstone[] deleted = new CourseTombstone[1];
+        if (!hasCourse(courseCode) || !journal.write(new JournalRecord(JournalRecord.Type.SOFT_DELETE_COURSE)
+                .add(courseCode).add(deletedAt), () -> {
+                    if (!applySoftDeleteCourse(courseCode, deletedAt)) {
+                        return false;
+                    }
+                    deleted[0] = tombstones.get(courseCode);
+                    return true;
+                })) {
+            TinyLogLogger.log(deletedAt, userEmail, "softDeleteCourse", String.valueOf(courseCode),
+                    "FAILURE (Error: Course does not exist)");
+            return null;
+        }
+        TinyLogLogger.log(deletedAt, userEmail, "softDeleteCourse", courseCode,
+                "SUCCESS (" + deleted[0].getSlotsByStudent().size() + " enrolments kept)");
+        return deleted[0];
+    }
+
+    /**
+     * Restores a soft-deleted course that has not been purged yet. The course is put back in the catalogue and every
+     * student enrolled when it was deleted gets back the slots and choices they had, without visiting any other
+     * timetable.
+     *
+     * @param userEmail     the email of the admin restoring the course
+     * @param courseCode    the code of the course to restore
+     * @return {@code true} if the course was restored, {@code false} if there is no deleted course with that code
+     */
+    public boolean restoreCourse(String userEmail, String courseCode) {
+        if (courseCode == null || !tombstones.containsKey(courseCode)
+                || !journal.write(new JournalRecord(JournalRecord.Type.RESTORE_COURSE).add(courseCode),
+                        () -> applyRestoreCourse(courseCode))) {
+            TinyLogLogger.log(System.currentTimeMillis(), userEmail, "restoreCourse", String.valueOf(courseCode),
+                    "FAILURE (Error: No deleted course with that code)");
+            return false;
+        }
+        TinyLogLogger.log(System.currentTimeMillis(), userEmail, "restoreCourse", courseCode, "SUCCESS");
+        return true;
+    }
+
+    /**
+     * @return the codes of the soft-deleted courses that can still be restored, in order
+     */
+    public List<String> getDeletedCourseCodes() {
+        List<String> codes = new ArrayList<>(tombstones.keySet());
+        Collections.sort(codes);
+        return codes;
+    }
+
+    /**
+     * Starts a background purger that finalises the deletion of soft-deleted courses once their grace period is over.
+     *
+     * @param gracePeriodMillis the time a deleted course can still be restored, in milliseconds
+     * @param periodMillis      the time between two runs of the purger, in milliseconds
+     * @return the started purger, to be closed when no longer needed
+     */
+    public CoursePurger startCoursePurger(long gracePeriodMillis, long periodMillis) {
+        return new CoursePurger(this, gracePeriodMillis, periodMillis);
+    }
+
+    /**
+     * Purges soft-deleted courses, oldest first. Purging drops the tombstone and releases the rooms of the course,
+     * after which it can no longer be restored.
+     *
+     * @param deletedBefore only courses deleted at or before this time are purged, in milliseconds since the epoch
+     * @param batchSize     stop once the purged courses had this many enrolments between them
+     * @return the number of courses purged
+     */
+    int purgeDeletedCourses(long deletedBefore, int batchSize) {
+        List<CourseTombstone> expired = new ArrayList<>();
+        for (CourseTombstone tombstone : tombstones.values()) {
+            if (tombstone.getDeletedAt() <= deletedBefore) {
+                expired.add(tombstone);
+            }
+        }
+        expired.sort(Comparator.comparingLong(CourseTombstone::getDeletedAt));
+
+        int purged = 0;
+        int enrolments = 0;
+        for (CourseTombstone tombstone : expired) {
+            if (enrolments >= batchSize) {
+                break;
+            }
+            String courseCode = tombstone.getCourse().getCourseCode();
+            if (journal.write(new JournalRecord(JournalRecord.Type.PURGE_COURSE).add(courseCode),
+                    () -> applyPurgeCourse(courseCode))) {
+                purged++;
+                enrolments += tombstone.getSlotsByStudent().size();
+                TinyLogLogger.log(System.currentTimeMillis(), "", "purgeDeletedCourses", courseCode, "SUCCESS");
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * @return the tombstones of every soft-deleted course that can still be restored
+     */
+    Collection<CourseTombstone> getTombstones() {
+        return tombstones.values();
+    }
+
+    /**
+     * Turns a course in the catalogue into a tombstone holding the given slots, leaving timetables untouched. Used to
+     * load a snapshot, where the slots were already taken out of the timetables.
+     *
+     * @param courseCode        the code of the deleted course
+     * @param deletedAt         when the course was deleted, in milliseconds since the epoch
+     * @param slotsByStudent    the slots taken out of each enrolled student's timetable
+     */
+    void applyTombstone(String courseCode, long deletedAt, Map<String, List<TimeSlot>> slotsByStudent) {
+        Course course = courses.delete(courseCode);
+        staffIndex.remove(courseCode);
+        tombstones.put(courseCode, new CourseTombstone(course, deletedAt, slotsByStudent));
+    }
+
+    private boolean applySoftDeleteCourse(String courseCode, long deletedAt) {
+        Course course = courses.delete(courseCode);
+        if (course == null) {
+            return false;
+        }
+        staffIndex.remove(courseCode);
+        Map<String, List<TimeSlot>> slotsByStudent = new LinkedHashMap<>();
+        for (Timetable timetable : getTimetablesForCourse(courseCode)) {
+            synchronized (timetable) {
+                slotsByStudent.put(timetable.getStudentEmail(), timetable.getTimeSlotsForCourse(courseCode));
+                timetable.removeSlotsForCourse(courseCode);
+            }
+            timetables.save(timetable);
+        }
+        tombstones.put(courseCode, new CourseTombstone(course, deletedAt, slotsByStudent));
+        return true;
+    }
+
+    private boolean applyRestoreCourse(String courseCode) {
+        CourseTombstone tombstone = tombstones.remove(courseCode);
+        if (tombstone == null) {
+            return false;
+        }
+        applyAddCourse(tombstone.getCourse());
+        // Restored choices may clash with changes made since, the next validation sweep reports them
+        changedCourses.add(courseCode);
+        for (Map.Entry<String, List<TimeSlot>> enrolment : tombstone.getSlotsByStudent().entrySet()) {
+            Timetable timetable = getTimetable(enrolment.getKey());
+            for (TimeSlot slot : enrolment.getValue()) {
+                timetable.appendTimeSlot(slot);
+            }
+            timetables.save(timetable);
+        }
+        return true;
+    }
+
+    private boolean applyPurgeCourse(String courseCode) {
+        CourseTombstone tombstone = tombstones.remove(courseCode);
+        if (tombstone == null) {
+            return false;
+        }
+        locationIndex.removeCourse(courseCode);
+        tombstone.getCourse().removeActivities();
+        return true;
+    }
+
+    /**
+     * Sets the directory the archives of closed terms are kept in, and where archived terms are looked up.
+     *
+     * @param directory the directory of the term archives, created when the first term is closed
+     */
+    public void setArchiveDirectory(Path directory) {
+        this.archives = new TermArchives(directory);
+    }
+
+    /**
+     * Closes the current term. Its courses and the timetables of the students on them are written to a compressed,
+     * read-only archive, then taken out of the catalogue and the timetables, so the next term starts with an empty
+     * catalogue. The archived term stays available through {@link #getTermArchive}.
+     *
+     * @param userEmail the email of the admin closing the term
+     * @param term      the name to archive the term under
+     * @return {@code true} if the term was archived and closed, otherwise {@code false}
+     */
+    public boolean closeTerm(String userEmail, String term) {
+        TermArchives termArchives = archives;
+        String error = null;
+        if (termArchives == null) {
+            error = "No directory set for term archives";
+        } else if (term == null || term.isBlank()) {
+            error = "Term name not provided";
+        } else if (termArchives.get(term) != null) {
+            error = "Term " + term + " is already archived";
+        } else if (courses.findAll().isEmpty()) {
+            error = "There are no courses in the current term";
+        }
+        if (error != null) {
+            TinyLogLogger.log(System.currentTimeMillis(), userEmail, "closeTerm", String.valueOf(term),
+                    "FAILURE (Error: " + error + ")");
+            view.displayError(error);
+            return false;
+        }
+
+        // The archive is written before the log is held, then the term is only closed if nothing changed meanwhile
+        List<String> courseCodes = null;
+        boolean[] closed = new boolean[1];
+        for (int attempt = 0; attempt < CLOSE_TERM_ATTEMPTS && !closed[0]; attempt++) {
+            long mutations = journal.getMutationCount();
+            courseCodes = getCourseCodes();
+            List<Course> archived = new ArrayList<>(courses.findAll());
+            archived.sort(Comparator.comparing(Course::getCourseCode));
+            List<Timetable> enrolled = new ArrayList<>();
+            for (Timetable timetable : getAllTimetables()) {
+                if (!timetable.timeSlots.isEmpty()) {
+                    enrolled.add(timetable);
+                }
+            }
+            // Sorted so students with similar emails, often from the same cohort, share a block
+            enrolled.sort(Comparator.comparing(Timetable::getStudentEmail));
+            try {
+                termArchives.write(term, archived, enrolled);
+            } catch (UncheckedIOException e) {
+                TinyLogLogger.log(System.currentTimeMillis(), userEmail, "closeTerm", term,
+                        "FAILURE (Error: " + e.getCause().getMessage() + ")");
+                view.displayError("Term " + term + " could not be archived");
+                return false;
+            }
+
+            try {
+                journal.write(() -> {
+                    if (journal.getMutationCount() != mutations) {
+                        return null;
+                    }
+                    applyCloseTerm();
+                    closed[0] = true;
+                    return new JournalRecord(JournalRecord.Type.CLOSE_TERM).add(term);
+                });
+            } catch (UncheckedIOException e) {
+                // The close may not be on disk, so the archive stays pending and is dropped on the next recovery
+                if (!closed[0]) {
+                    termArchives.delete(term);
+                }
+                TinyLogLogger.log(System.currentTimeMillis(), userEmail, "closeTerm", term,
+                        "FAILURE (Error: " + e.getMessage() + ")");
+                view.displayError(closed[0] ? "Term " + term + " has been closed but not archived. " + e.getMessage()
+                        : e.getMessage());
+                return false;
+            }
+            if (!closed[0]) {
+                // Written again from the changed state
+                termArchives.delete(term);
+            }
+        }
+        if (closed[0]) {
+            try {
+                termArchives.promote(term);
+            } catch (UncheckedIOException e) {
+                // The close is logged, so the pending archive is promoted when the log is next replayed
+                TinyLogLogger.log(System.currentTimeMillis(), userEmail, "closeTerm", term,
+                        "FAILURE (Error: " + e.getCause().getMessage() + ")");
+                view.displayError("Term " + term + " has been closed, its archive will be available after a restart");
+                return false;
+            }
+        }
+        if (!closed[0]) {
+            error = "The courses kept changing while the term was archived, please try again";
+            TinyLogLogger.log(System.currentTimeMillis(), userEmail, "closeTerm", term,
+                    "FAILURE (Error: " + error + ")");
+            view.displayError(error);
+            return false;
+        }
+
+        TinyLogLogger.log(System.currentTimeMillis(), userEmail, "closeTerm", term,
+                "SUCCESS (" + courseCodes.size() + " courses archived)");
+        view.displaySuccess("Term " + term + " has been closed and archived.");
+        return true;
+    }
+
+    /**
+     * Deletes the archives left pending by terms whose close was never logged. Called once the log has been replayed,
+     * when every logged close has promoted its archive.
+     *
+     * @throws UncheckedIOException if the archives could not be deleted
+     */
+    void deletePendingArchives() {
+        TermArchives termArchives = archives;
+        if (termArchives != null) {
+            termArchives.deletePending();
+        }
+    }
+
+    /**
+     * @return the names of the closed terms, in order, or an empty list if no archive directory is set
+     */
+    public List<String> getArchivedTerms() {
+        TermArchives termArchives = archives;
+        return termArchives == null ? new ArrayList<>() : termArchives.getTerms();
+    }
+
+    /**
+     * Looks up the archive of a closed term. The archive is not read until a course or timetable is looked up in it.
+     *
+     * @param term  the name of the closed term
+     * @return the archive of the term, or {@code null} if no such term was closed
+     */
+    public TermArchive getTermArchive(String term) {
+        TermArchives termArchives = archives;
+        return termArchives == null ? null : termArchives.get(term);
+    }
+
+    /**
+     * Takes every course of the current term out of the catalogue, the indexes and the student timetables.
+     */
+    private void applyCloseTerm() {
+        List<String> courseCodes = getCourseCodes();
+        for (Timetable timetable : getAllTimetables()) {
+            boolean changed = false;
+            for (String courseCode : courseCodes) {
+                if (timetable.hasSlotsForCourse(courseCode)) {
+                    timetable.removeSlotsForCourse(courseCode);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                timetables.save(timetable);
+            }
+        }
+        for (String courseCode : courseCodes) {
+            courses.delete(courseCode);
+            locationIndex.removeCourse(courseCode);
+            staffIndex.remove(courseCode);
+            changedCourses.remove(courseCode);
+        }
+        // Courses deleted during the term are not archived, and can no longer be restored into the next one
+        for (String courseCode : new ArrayList<>(tombstones.keySet())) {
+            applyPurgeCourse(courseCode);
+        }
+    }
+
+    /**
+     * Detaches a course and logs its removal. When the log is replayed the course is also taken out of every
+     * timetable, as the removal from timetables is not logged on its own.
+     *
+     * @param courseCode    the code of the course to remove
+     * @return the detached course
+     */
+    private Course journalRemoveCourse(String courseCode) {
+        Course[] removed = new Course[1];
+        journal.write(new JournalRecord(JournalRecord.Type.REMOVE_COURSE).add(courseCode), () -> {
+            removed[0] = detachCourse(courseCode);
+            return true;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Takes a course out of the catalogue and the indexes, leaving student timetables untouched.
+     *
+     * @param courseCode    the code of the course to detach
+     * @return the detached course
+     */
+    private Course detachCourse(String courseCode) {
+        Course course = courses.delete(courseCode);
+        course.removeActivities();
+        changedCourses.add(courseCode);
+        locationIndex.removeCourse(courseCode);
+        staffIndex.remove(courseCode);
+        return course;
+    }
+
+    /**
+     * Adds the course with the given code to the timetable of the student with the given email.
+     *
+     * @param studentEmail  the email of the student to add the course to
+     * @param courseCode    the course to add to the timetable
+     * @return {@code true} if the course was successfully added to the timetable, otherwise {@code false}
+     */
+    public boolean addCourseToStudentTimetable(String studentEmail, String courseCode) {
+        // Log the start of the action
+        long timestamp = System.currentTimeMillis();
+
+        // Validate course code
+        if (!hasCourse(courseCode)) {
+            view.displayError("Incorrect course code");
+            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                    studentEmail + courseCode, "FAILURE (Error: Incorrect course code)");
+            return false;
+        }
+
+        Course course = courses.find(courseCode);
+        Timetable timetable = getTimetable(studentEmail);
+
+        // Check if course already in timetable
+        if (timetable.hasSlotsForCourse(courseCode)) {
+            view.displayWarning("Course is already in your timetable");
+            return false;
+        }
+
+        // Process activities and check for conflicts
+        List<String> conflictingActivities = new ArrayList<>();
+        boolean hasUnrecordedLectureConflict = false;
+
+        // First check for unrecorded lecture conflicts with existing activities
+        for (Activity activity : course.getActivities()) {
+            if (activity instanceof Lecture && !((Lecture) activity).isRecorded()) {
+                String[] conflicts = timetable.checkConflicts(
+                        activity.getStartDate(),
+                        activity.getStartTime(),
+                        activity.getEndDate(),
+                        activity.getEndTime(),
+                        activity.getDay()
+                );
+
+                if (conflicts.length > 0) {
+                    hasUnrecordedLectureConflict = true;
+                    for (String conflict : conflicts) {
+                        conflictingActivities.add("Unrecorded lecture conflict: " + activity.toString() + " with " + conflict);
+                    }
+                }
+            }
+        }
+
+        // If there's an unrecorded lecture conflict, abort adding the course
+        if (hasUnrecordedLectureConflict) {
+            view.displayError("You have at least one clash with an unrecorded lecture. The course cannot be added to your timetable.");
+            for (String conflict : conflictingActivities) {
+                view.displayError(conflict);
+            }
+            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                    studentEmail + courseCode, "FAILURE (Error: Unrecorded lecture conflict)");
+            return false;
+        }
+
+        // Reset conflict list
+        conflictingActivities.clear();
+
+        // Now check if any existing unrecorded lectures conflict with the new course's activities
+        List<TimeSlot> existingUnrecordedLectures = timetable.getUnrecordedLectureSlots();
+
+        for (Activity newActivity : course.getActivities()) {
+            for (TimeSlot unrecordedSlot : existingUnrecordedLectures) {
+                // Check for conflicts on the same day, time and at least one common date
+                if (unrecordedSlot.overlaps(newActivity.getDay(), newActivity.getStartDate(),
+                        newActivity.getStartTime(), newActivity.getEndDate(), newActivity.getEndTime())) {
+
+                    hasUnrecordedLectureConflict = true;
+                    conflictingActivities.add(
+                            "New activity conflicts with existing unrecorded lecture: " +
+                                    newActivity.toString() + " with " + unrecordedSlot.toString()
+                    );
+                }
+            }
+        }
+
+        // If there's a conflict with existing unrecorded lectures, abort
+        if (hasUnrecordedLectureConflict) {
+            view.displayError("You have at least one clash with an existing unrecorded lecture. The course cannot be added to your timetable.");
+            for (String conflict : conflictingActivities) {
+                view.displayError(conflict);
+            }
+            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                    studentEmail + courseCode, "FAILURE (Error: Conflict with existing unrecorded lecture)");
+            return false;
+        }
+
+        // Reset conflict list again
+        conflictingActivities.clear();
+
+        // Now add all activities
+        journal.write(new JournalRecord(JournalRecord.Type.ADD_COURSE_TO_TIMETABLE).add(studentEmail).add(courseCode),
+                () -> {
+                    conflictingActivities.addAll(addActivitiesToTimetable(timetable, course));
+                    return true;
+                });
+
+        // Check for recorded lecture conflicts - just warnings
+        List<String> recordedLectureConflicts = new ArrayList<>();
+        for (Activity activity : course.getActivities()) {
+            if (activity instanceof Lecture && ((Lecture) activity).isRecorded()) {
+                String[] conflicts = timetable.checkConflicts(
+                        activity.getStartDate(),
+                        activity.getStartTime(),
+                        activity.getEndDate(),
+                        activity.getEndTime(),
+                        activity.getDay()
+                );
+
+                if (conflicts.length > 0) {
+                    for (String conflict : conflicts) {
+                        recordedLectureConflicts.add("Time slot conflicts with existing slots: " + conflict);
+                    }
+                }
+            }
+        }
+
+        // Display warnings for recorded lecture conflicts
+        if (!recordedLectureConflicts.isEmpty()) {
+            for (String conflict : recordedLectureConflicts) {
+                view.displayWarning("Warning: Recorded lecture has potential conflict: " + conflict);
+            }
+            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                    studentEmail + courseCode, "WARNING (Recorded lecture conflicts)");
+        }
+
+        // Handle other activity conflicts - just warnings
+        if (!conflictingActivities.isEmpty()) {
+            view.displayWarning("You have at least one clash with another activity");
+            for (String conflict : conflictingActivities) {
+                view.displayWarning(conflict);
+            }
+            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                    studentEmail + courseCode, "WARNING (Activity conflicts)");
+            // We still add the course with warnings
+        }
+
+        // Check required tutorials
+        int requiredTutorials = course.getRequiredTutorials();
+        if (requiredTutorials > 0) {
+            view.displayWarning("You have to choose " + requiredTutorials + " tutorials for this course");
+            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                    studentEmail + courseCode, "WARNING (Required tutorials not chosen)");
+        }
+
+        // Check required labs
+        int requiredLabs = course.getRequiredLabs();
+        if (requiredLabs > 0) {
+            view.displayWarning("You have to choose " + requiredLabs + " labs for this course");
+            TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                    studentEmail + courseCode, "WARNING (Required labs not chosen)");
+        }
+
+        // Success scenario
+        view.displaySuccess("The course was successfully added to your timetable. Lectures are automatically selected. Please select your required tutorials and labs.");
+        TinyLogLogger.log(timestamp, studentEmail, "addCourseToStudentTimetable",
+                studentEmail + courseCode, "SUCCESS");
+        return true;
+    }
+
+    /**
+     * Allows student to choose an activity to add to the timetable
+     *
+     * @param studentEmail  the student's email
+     * @param courseCode    the course code
+     * @param activityId    the id of the activity to choose
+     */
+    public void chooseActivityForCourse(String studentEmail, String courseCode, int activityId) {
+        long timestamp = System.currentTimeMillis();
+
+        // Check if course exists
+        if (!hasCourse(courseCode)) {
+            view.displayError("Course does not exist: " + courseCode);
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "FAILURE (Course does not exist)");
+            return;
+        }
+
+        Course course = courses.find(courseCode);
+
+        // Check if activity exists in course
+        if (!course.hasActivityWithId(activityId)) {
+            view.displayError("Invalid activity ID for this course");
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "FAILURE (Invalid activity ID)");
+            return;
+        }
+
+        Timetable timetable = getTimetable(studentEmail);
+
+        // Check if course is in student's timetable
+        if (!timetable.hasSlotsForCourse(courseCode)) {
+            view.displayError("Course is not in your timetable. Add it first before choosing activities.");
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "FAILURE (Course not in timetable)");
+            return;
+        }
+
+        // Get the activity and check if it's a lecture
+        Activity activity = course.getActivityById(activityId);
+        if (activity == null) {
+            view.displayError("Activity not found.");
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "FAILURE (Activity not found)");
+            return;
+        }
+
+        // Prevent choosing lectures - they should already be chosen automatically
+        if (activity instanceof Lecture) {
+            view.displayError("Lectures are automatically selected. You can only choose tutorials and labs.");
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "FAILURE (Cannot manually choose lectures)");
+            return;
+        }
+
+        // Check for conflicts with unrecorded lectures specifically
+        List<TimeSlot> unrecordedLectures = timetable.getUnrecordedLectureSlots();
+        boolean hasUnrecordedLectureConflict = false;
+        List<String> conflictingUnrecordedLectures = new ArrayList<>();
+
+        for (TimeSlot unrecordedSlot : unrecordedLectures) {
+            if (unrecordedSlot.overlaps(activity.getDay(), activity.getStartDate(), activity.getStartTime(),
+                    activity.getEndDate(), activity.getEndTime())) {
+
+                hasUnrecordedLectureConflict = true;
+                conflictingUnrecordedLectures.add(unrecordedSlot.toString());
+            }
+        }
+
+        // If there's a conflict with unrecorded lectures, prevent choosing the activity
+        if (hasUnrecordedLectureConflict) {
+            view.displayError("This activity conflicts with unrecorded lectures that require attendance:");
+            for (String conflict : conflictingUnrecordedLectures) {
+                view.displayError("- " + conflict);
+            }
+            view.displayError("You cannot choose activities that conflict with unrecorded lectures.");
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "FAILURE (Conflicts with unrecorded lectures)");
+            return;
+        }
+
+        // Check for other conflicts - these are just warnings
+        String[] conflicts = timetable.checkConflicts(
+                activity.getStartDate(),
+                activity.getStartTime(),
+                activity.getEndDate(),
+                activity.getEndTime(),
+                activity.getDay()
+        );
+
+        if (conflicts.length > 0) {
+            view.displayWarning("This activity conflicts with existing activities in your timetable:");
+            for (String conflict : conflicts) {
+                view.displayWarning("- " + conflict);
+            }
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "WARNING (Activity conflicts)");
+            // Still proceed with choosing the activity since these conflicts are acceptable
+        }
+
+        // Choose the activity
+        boolean success = chooseActivity(timetable, courseCode, activityId);
+        if (success) {
+            view.displaySuccess("Activity successfully chosen for course: " + courseCode);
+
+            // Check requirements for tutorials and labs
+            if (!checkChosenTutorials(courseCode, timetable)) {
+                view.displayWarning("You still need to choose " + course.getRequiredTutorials() +
+                        " tutorials for " + courseCode);
+            }
+
+            if (!checkChosenLabs(courseCode, timetable)) {
+                view.displayWarning("You still need to choose " + course.getRequiredLabs() +
+                        " labs for " + courseCode);
+            }
+
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "SUCCESS");
+        } else {
+            view.displayError("Could not choose activity. Please try again.");
+            TinyLogLogger.log(timestamp, studentEmail, "chooseActivityForCourse",
+                    courseCode + ":" + activityId, "FAILURE (Could not choose activity)");
+        }
+    }
+
+    /**
+     * Chooses an activity in a timetable and logs the choice.
+     *
+     * @param timetable     the timetable of the student
+     * @param courseCode    the code of the course
+     * @param activityId    the id of the activity to choose
+     * @return {@code true} if the activity was chosen, otherwise {@code false}
+     */
+    boolean chooseActivity(Timetable timetable, String courseCode, int activityId) {
+        return journal.write(new JournalRecord(JournalRecord.Type.CHOOSE_ACTIVITY).add(timetable.getStudentEmail())
+                .add(courseCode).add(activityId), () -> applyChooseActivity(timetable, courseCode, activityId));
+    }
+
+    private boolean applyChooseActivity(Timetable timetable, String courseCode, int activityId) {
+        if (!timetable.chooseActivity(courseCode, activityId)) {
+            return false;
+        }
+        timetables.save(timetable);
+        return true;
+    }
+
+    /**
+     * Enrols a student in a batch of imported rows at once: every course the rows name is added to the timetable and
+     * every tutorial or lab marked as chosen is chosen. The rows are checked against the timetable and each other in
+     * a single pass and applied as one logged mutation, instead of one add and one choice with their own checks per
+     * row. A course is rejected with all its rows under the same rules as adding it by hand, and a choice is rejected
+     * if it clashes with another chosen activity. Courses already in the timetable and activities already chosen are
+     * accepted as they are, so applying the same rows again changes nothing.
+     *
+     * @param studentEmail  the email of the student
+     * @param rows          the rows of the student, rows that are rejected are marked with the reason
+     * @return the number of rows accepted
+     */
+    int enrolStudent(String studentEmail, List<EnrolmentRow> rows) {
+        long timestamp = System.currentTimeMillis();
+        Map<String, List<EnrolmentRow>> rowsByCourse = new LinkedHashMap<>();
+        for (EnrolmentRow row : rows) {
+            if (!row.isRejected()) {
+                rowsByCourse.computeIfAbsent(row.getCourseCode(), code -> new ArrayList<>()).add(row);
+            }
+        }
+
+        Timetable timetable = getTimetable(studentEmail);
+        // Chosen slots and unrecorded lectures of the courses accepted so far, on top of those already in the timetable
+        List<TimeSlot> plannedChosen = new ArrayList<>();
+        List<TimeSlot> unrecordedLectures = new ArrayList<>(timetable.getUnrecordedLectureSlots());
+        JournalRecord record = new JournalRecord(JournalRecord.Type.ENROL_STUDENT).add(studentEmail);
+        List<Object> plan = new ArrayList<>();
+        int plannedCourses = 0;
+        int accepted = 0;
+
+        for (Map.Entry<String, List<EnrolmentRow>> entry : rowsByCourse.entrySet()) {
+            String courseCode = entry.getKey();
+            Course course = courses.find(courseCode);
+            if (course == null) {
+                rejectAll(entry.getValue(), "Incorrect course code");
+                continue;
+            }
+            for (EnrolmentRow row : entry.getValue()) {
+                Activity activity = course.getActivityById(row.getActivityId());
+                if (activity == null) {
+                    row.reject("Invalid activity ID for this course");
+                } else if (activity.getKind() != row.getKind()) {
+                    row.reject("Activity kind does not match the course");
+                }
+            }
+
+            boolean add = !timetable.hasSlotsForCourse(courseCode);
+            List<TimeSlot> courseSlots = new ArrayList<>();
+            if (add) {
+                String clash = null;
+                for (Activity activity : course.getActivities()) {
+                    TimeSlot slot = toTimeSlot(course, activity);
+                    courseSlots.add(slot);
+                    if (clash == null && slot.isUnrecordedLecture()) {
+                        String[] conflicts = timetable.checkConflicts(slot.getStartDate(), slot.getStartTime(),
+                                slot.getEndDate(), slot.getEndTime(), slot.getDay());
+                        TimeSlot planned = findOverlap(plannedChosen, slot, false);
+                        if (conflicts.length > 0 || planned != null) {
+                            clash = "Unrecorded lecture clashes with " + (conflicts.length > 0 ? conflicts[0] : planned);
+                        }
+                    }
+                    TimeSlot lecture = findOverlap(unrecordedLectures, slot, false);
+                    if (clash == null && lecture != null) {
+                        clash = "Activity clashes with unrecorded lecture " + lecture;
+                    }
+                }
+                if (clash != null) {
+                    rejectAll(entry.getValue(), clash);
+                    continue;
+                }
+                for (TimeSlot slot : courseSlots) {
+                    if (slot.isChosen()) {
+                        plannedChosen.add(slot);
+                    }
+                    if (slot.isUnrecordedLecture()) {
+                        unrecordedLectures.add(slot);
+                    }
+                }
+            }
+
+            List<Integer> choices = new ArrayList<>();
+            for (EnrolmentRow row : entry.getValue()) {
+                if (row.isRejected()) {
+                    continue;
+                }
+                int activityId = row.getActivityId();
+                if (row.isChosen() && row.getKind() != ActivityKind.LECTURE && !choices.contains(activityId)
+                        && (add || !timetable.isActivityChosen(courseCode, activityId))) {
+                    TimeSlot slot = toTimeSlot(course, course.getActivityById(activityId));
+                    TimeSlot planned = findOverlap(plannedChosen, slot, true);
+                    if (planned != null || !timetable.canChoose(slot.getDay(), slot.getStartDate(),
+                            slot.getStartTime(), slot.getEndDate(), slot.getEndTime())) {
+                        row.reject("Activity clashes with a chosen activity"
+                                + (planned != null ? " " + planned : ""));
+                        continue;
+                    }
+                    plannedChosen.add(slot);
+                    choices.add(activityId);
+                }
+                accepted++;
+            }
+
+            if (add || !choices.isEmpty()) {
+                plannedCourses++;
+                plan.add(courseCode);
+                plan.add(add);
+                plan.add(choices.size());
+                plan.addAll(choices);
+            }
+        }
+
+        if (plannedCourses > 0) {
+            record.add(plannedCourses);
+            for (Object value : plan) {
+                record.add(value);
+            }
+            journal.write(record, () -> {
+                applyEnrolStudent(record);
+                return true;
+            });
+        }
+
+        int rejected = rows.size() - accepted;
+        TinyLogLogger.log(timestamp, studentEmail, "enrolStudent", studentEmail + " (" + rows.size() + " rows)",
+                rejected == 0 ? "SUCCESS" : "WARNING (" + rejected + " rows rejected)");
+        return accepted;
+    }
+
+    private static void rejectAll(List<EnrolmentRow> rows, String reason) {
+        for (EnrolmentRow row : rows) {
+            row.reject(reason);
+        }
+    }
+
+    /**
+     * @param course    the course of the activity
+     * @param activity  the activity
+     * @return the slot the activity would get in a timetable, chosen if it is a lecture
+     */
+    private static TimeSlot toTimeSlot(Course course, Activity activity) {
+        ActivityKind kind = activity.getKind();
+        return new TimeSlot(activity.getDay(), activity.getStartDate(), activity.getStartTime(), activity.getEndDate(),
+                activity.getEndTime(), course.getCourseCode(), activity.getId(),
+                kind == ActivityKind.LECTURE ? TimeSlotStatus.CHOSEN : TimeSlotStatus.UNCHOSEN, kind,
+                activity instanceof Lecture && ((Lecture) activity).isRecorded());
+    }
+
+    /**
+     * @param slots                 the slots to search
+     * @param slot                  the slot to find an overlap with
+     * @param skipRecordedLectures  whether overlaps with recorded lectures are allowed
+     * @return the first of the slots that overlaps the slot, or {@code null} if none does
+     */
+    private static TimeSlot findOverlap(List<TimeSlot> slots, TimeSlot slot, boolean skipRecordedLectures) {
+        for (TimeSlot other : slots) {
+            if ((!skipRecordedLectures || !other.isRecordedLecture()) && other.overlaps(slot.getDay(),
+                    slot.getStartDate(), slot.getStartTime(), slot.getEndDate(), slot.getEndTime())) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Applies a batch enrolment: for each course, whether to add it, then the ids of the activities to choose.
+     *
+     * @param record    the logged batch enrolment
+     */
+    private void applyEnrolStudent(JournalRecord record) {
+        Timetable timetable = getTimetable(record.getString(0));
+        int index = 2;
+        for (int i = 0; i < record.getInt(1); i++) {
+            String courseCode = record.getString(index++);
+            if (record.getBoolean(index++)) {
+                addActivities(timetable, courses.find(courseCode));
+            }
+            int choices = record.getInt(index++);
+            for (int j = 0; j < choices; j++) {
+                timetable.chooseActivity(courseCode, record.getInt(index++));
+            }
+        }
+        timetables.save(timetable);
+    }
+
+    /**
+     * Adds a slot for every activity of a course to a timetable. Lectures are chosen straight away, other activities
+     * are left for the student to choose.
+     *
+     * @param timetable the timetable to add to
+     * @param course    the course whose activities to add
+     * @return the clashes that kept an activity out of the timetable
+     */
+    private List<String> addActivitiesToTimetable(Timetable timetable, Course course) {
+        List<String> conflictingActivities = addActivities(timetable, course);
+        timetables.save(timetable);
+        return conflictingActivities;
+    }
+
+    /**
+     * Adds a slot for every activity of a course to a timetable without saving it.
+     *
+     * @param timetable the timetable to add to
+     * @param course    the course whose activities to add
+     * @return the clashes that kept an activity out of the timetable
+     */
+    private List<String> addActivities(Timetable timetable, Course course) {
+        List<String> conflictingActivities = new ArrayList<>();
+        for (Activity activity : course.getActivities()) {
+            // Set initial status - Lectures are automatically CHOSEN, other activities are UNCHOSEN
+            ActivityKind kind = activity.getKind();
+            TimeSlotStatus status = kind == ActivityKind.LECTURE ? TimeSlotStatus.CHOSEN : TimeSlotStatus.UNCHOSEN;
+
+            // Keep whether the lecture is recorded on the slot so it never has to be looked up again
+            boolean recorded = activity instanceof Lecture && ((Lecture) activity).isRecorded();
+
+            try {
+                timetable.addTimeSlot(
+                        activity.getDay(),
+                        activity.getStartDate(),
+                        activity.getStartTime(),
+                        activity.getEndDate(),
+                        activity.getEndTime(),
+                        course.getCourseCode(),
+                        activity.getId(),
+                        status,
+                        kind,
+                        recorded
+                );
+            } catch (IllegalStateException e) {
+                // This can only happen for non-lecture activities or unrecorded lectures
+                // since recorded lectures are allowed to have conflicts
+                conflictingActivities.add(e.getMessage());
+            }
+        }
+        return conflictingActivities;
+    }
+
+    /**
+     * checks whether the number of chosen tutorials is sufficient for the course
+     *
+     * @param courseCode    the code of the course to check
+     * @param timetable     the timetable of the student
+     * @return {@code true} if the number of chosen tutorials is more than or equal to number of required tutorials,
+     * otherwise {@code false}
+     */
+    private boolean checkChosenTutorials(String courseCode, Timetable timetable) {
+        if (!hasCourse(courseCode)) {
+            return false;
+        }
+        Course course = courses.find(courseCode);
+        int requiredTutorials = course.getRequiredTutorials();
+        int chosenTutorials = timetable.countChosenActivitiesOfKind(courseCode, ActivityKind.TUTORIAL);
+        return chosenTutorials >= requiredTutorials;
+    }
+
+    /**
+     * checks whether the number of chosen labs is sufficient for the course
+     *
+     * @param courseCode    the coe of the course to check
+     * @param timetable     the timetable of the student
+     * @return {@code true} if the number of chosen labs is more than or equal to number of required labs, otherwise
+     * {@code false}
+     */
+    private boolean checkChosenLabs(String courseCode, Timetable timetable) {
+        if (!hasCourse(courseCode)) {
+            return false;
+        }
+        Course course = courses.find(courseCode);
+        int requiredLabs = course.getRequiredLabs();
+        int chosenLabs = timetable.countChosenActivitiesOfKind(courseCode, ActivityKind.LAB);
+        return chosenLabs >= requiredLabs;
+    }
+
+    /**
+     * removes a specified course the timetable of the student
+     *
+     * @param studentEmail  the email of the student
+     * @param courseCode    the code of the course
+     */
+    public void removeCourseFromStudentTimetable(String studentEmail, String courseCode) {
+        long timestamp = System.currentTimeMillis();
+
+        // Check if course exists
+        if (!hasCourse(courseCode)) {
+            view.displayError("Course does not exist: " + courseCode);
+            TinyLogLogger.log(timestamp, studentEmail, "removeCourseFromTimetable",
+                    courseCode, "FAILURE (Course does not exist)");
+            return;
+        }
+
+        Timetable timetable = getTimetable(studentEmail);
+
+        // Check if course is in student's timetable
+        if (!timetable.hasSlotsForCourse(courseCode)) {
+            view.displayError("Course is not in your timetable.");
+            TinyLogLogger.log(timestamp, studentEmail, "removeCourseFromTimetable",
+                    courseCode, "FAILURE (Course not in timetable)");
+            return;
+        }
+
+        // Remove the course from timetable
+        journal.write(new JournalRecord(JournalRecord.Type.REMOVE_COURSE_FROM_TIMETABLE).add(studentEmail)
+                .add(courseCode), () -> {
+            timetable.removeSlotsForCourse(courseCode);
+            timetables.save(timetable);
+            return true;
+        });
+        view.displaySuccess("Course " + courseCode + " has been removed from your timetable.");
+        TinyLogLogger.log(timestamp, studentEmail, "removeCourseFromTimetable",
+                courseCode, "SUCCESS");
+    }
+
+    /**
+     * gets the timetable of the student, if no timetable currently exists creates a new timetable, assigngs it the
+     * student and returns that
+     *
+     * @param studentEmail  the email of the student
+     * @return  the timetable of the student
+     */
+    public Timetable getTimetable(String studentEmail) {
+        Timetable timetable = timetables.find(studentEmail);
+        if (timetable != null) {
+            return reattach(timetable);
+        }
+
+        Timetable newTimetable = new Timetable(studentEmail);
+        timetables.save(newTimetable);
+        AttendanceStats stats = attendance;
+        if (stats != null) {
+            stats.track(List.of(newTimetable));
+        }
+        return newTimetable;
+    }
+
+    /**
+     * Gets the number of students that have each activity chosen and the busiest hours of the week. The first call
+     * counts every timetable in parallel, after that the counts are kept up to date as students make changes.
+     *
+     * @return the attendance statistics over all timetables
+     */
+    public synchronized AttendanceStats getAttendanceStats() {
+        if (attendance == null) {
+            AttendanceStats stats = new AttendanceStats();
+            // Published before counting so timetables created meanwhile are tracked as well, tracking is idempotent
+            attendance = stats;
+            stats.track(timetables.findAll());
+            attendanceCounted = true;
+        }
+        return attendance;
+    }
+
+    /**
+     * Reconnects a timetable to the attendance statistics. A repository that keeps timetables off the heap builds a
+     * new copy every time one is paged back in, and that copy has to report its changes like the one counted before.
+     *
+     * @param timetable the timetable to reconnect
+     * @return the timetable
+     */
+    private Timetable reattach(Timetable timetable) {
+        if (attendanceCounted) {
+            attendance.reattach(timetable);
+        }
+        return timetable;
+    }
+
+    /**
+     * @return a copy of the list of every student timetable, each reconnected to the attendance statistics
+     */
+    private List<Timetable> getAllTimetables() {
+        List<Timetable> all = new ArrayList<>();
+        for (Timetable timetable : timetables.findAll()) {
+            all.add(reattach(timetable));
+        }
+        return all;
+    }
+
+    /**
+     * @return a string representation all courses
+     */
+    public String viewCourses() {
+        StringBuilder result = new StringBuilder();
+        if (courses.findAll().isEmpty()) {
+            result.append("No courses available.");
+        } else {
+            for (Course course : courses.findAll()) {
+                String courseString = course.toString();
+                result.append(courseString).append("\n");
+                for (Activity activity : course.getActivities()) {
+                    String activityDetailsAsString = activity.toString();
+                    result.append(activityDetailsAsString).append("\n");
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param courseCode    code of the course
+     * @return a detailed string representation of a single course
+     */
+    public String viewCourse(String courseCode) {
+        // Check if the course exists first
+        if (!hasCourse(courseCode)) {
+            return "Course not found.";
+        }
+
+        // Retrieve the course (now we know it exists)
+        Course course = getCourseByCode(courseCode);
+
+        // Create a detailed course description
+        StringBuilder result = new StringBuilder();
+        result.append("Course Details:\n");
+        result.append("-------------------------\n");
+        result.append("Code: ").append(course.getCourseCode()).append("\n");
+        result.append("Name: ").append(course.getName()).append("\n");
+        result.append("Description: ").append(course.getDescription()).append("\n");
+        result.append("Requires Computers: ").append(course.isRequiresComputers() ? "Yes" : "No").append("\n");
+        result.append("Course Organiser: ").append(course.getCourseOrganiserName())
+                .append(" (").append(course.getCourseOrganiserEmail()).append(")\n");
+        result.append("Course Secretary: ").append(course.getCourseSecretaryName())
+                .append(" (").append(course.getCourseSecretaryEmail()).append(")\n");
+        result.append("Required Tutorials: ").append(course.getRequiredTutorials()).append("\n");
+        result.append("Required Labs: ").append(course.getRequiredLabs()).append("\n");
+
+        // Add activities
+        result.append("\nActivities:\n");
+        for (Activity activity : course.getActivities()) {
+            result.append(activity.toString()).append("\n");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * creates a new activity id
+     * @return activity of the next id
+     */
+    public synchronized int getNextActivityId() {
+        return nextActivityId++;
+    }
+
+    /**
+     * @return the id the next activity will get, without taking it
+     */
+    synchronized int peekNextActivityId() {
+        return nextActivityId;
+    }
+
+    /**
+     * Sets the id the next activity will get, as it was when the state was saved.
+     *
+     * @param nextActivityId    the id of the next activity
+     */
+    synchronized void restoreNextActivityId(int nextActivityId) {
+        this.nextActivityId = Math.max(this.nextActivityId, nextActivityId);
+    }
+
+    /**
+     * Adds new activity to the specified course.
+     *
+     * @param courseCode        the code of the course
+     * @param startDate         the start date of the activity
+     * @param startTime         the start time of the activity
+     * @param endDate           the end date of the activity
+     * @param endTime           the end time of the activity
+     * @param location          the location of the activity
+     * @param day               the day of the week the activity is held
+     * @param activityType      the type of the activity
+     * @param additionalInfo    additional information about the activity specific information
+     */
+    public void addActivityToCourse(String courseCode, LocalDate startDate, LocalTime startTime,
+                                    LocalDate endDate, LocalTime endTime, String location,
+                                    DayOfWeek day, String activityType, Object additionalInfo) {
+        if (!hasCourse(courseCode)) {
+            return;
+        }
+
+        // Warn about other activities already booked into the same location at the same time
+        for (String clash : locationIndex.findClashes(location, day, startDate, endDate, startTime, endTime)) {
+            view.displayWarning("Room clash: " + location + " is already booked for " + clash);
+        }
+
+        int id = getNextActivityId();
+        journal.write(new JournalRecord(JournalRecord.Type.ADD_ACTIVITY).add(courseCode).add(startDate)
+                .add(startTime).add(endDate).add(endTime).add(location).add(day).add(activityType)
+                .add(additionalInfo).add(id), () -> applyAddActivity(courseCode, startDate, startTime, endDate,
+                endTime, location, day, activityType, additionalInfo, id) != null);
+    }
+
+    /**
+     * Adds an activity with a known id to a course and the indexes, without any checks.
+     *
+     * @param courseCode        the code of the course
+     * @param startDate         the start date of the activity
+     * @param startTime         the start time of the activity
+     * @param endDate           the end date of the activity
+     * @param endTime           the end time of the activity
+     * @param location          the location of the activity
+     * @param day               the day of the week the activity is held
+     * @param activityType      the type of the activity
+     * @param additionalInfo    additional information about the activity specific information
+     * @param id                the id of the activity
+     * @return the added activity, or {@code null} if the activity type is unknown
+     */
+    Activity applyAddActivity(String courseCode, LocalDate startDate, LocalTime startTime, LocalDate endDate,
+                              LocalTime endTime, String location, DayOfWeek day, String activityType,
+                              Object additionalInfo, int id) {
+        Course course = courses.find(courseCode);
+        Activity activity = course.addActivity(startDate, startTime, endDate, endTime, location, day, activityType,
+                additionalInfo, id);
+        if (activity != null) {
+            courses.save(course);
+            locationIndex.add(courseCode, activity);
+            changedCourses.add(courseCode);
+            synchronized (this) {
+                // Ids replayed from the log must never be handed out again
+                nextActivityId = Math.max(nextActivityId, id + 1);
+            }
+        }
+        return activity;
+    }
+
+    /**
+     * Finds the activities of any course already booked into a location at the given time.
+     *
+     * @param location  the location to check
+     * @param day       the day of the week
+     * @param startDate the first date of the activity
+     * @param startTime the start time of the activity
+     * @param endDate   the last date of the activity
+     * @param endTime   the end time of the activity
+     * @return list of string representations of the clashing activities
+     */
+    public List<String> findRoomClashes(String location, DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                                        LocalDate endDate, LocalTime endTime) {
+        return locationIndex.findClashes(location, day, startDate, endDate, startTime, endTime);
+    }
+
+    /**
+     * Finds the times a location is not booked by any activity on a given date.
+     *
+     * @param location  the location to check
+     * @param date      the date to check
+     * @param dayStart  the earliest time to consider
+     * @param dayEnd    the latest time to consider
+     * @return list of free windows, in order
+     */
+    public List<TimeWindow> getFreeRoomSlots(String location, LocalDate date, LocalTime dayStart, LocalTime dayEnd) {
+        return locationIndex.getFreeSlots(location, date, dayStart, dayEnd);
+    }
+
+    /**
+     * Finds the times in a week when every student of a group is free. The occupancy of each student is built from
+     * the chosen activities of their timetable in parallel and then combined, students without a timetable are
+     * treated as free.
+     *
+     * @param studentEmails the emails of the students in the group
+     * @param date          any date in the week to check
+     * @param dayStart      the earliest time to consider on each day
+     * @param dayEnd        the latest time to consider on each day
+     * @return the free windows between {@code dayStart} and {@code dayEnd} for every day of the week, in order
+     */
+    public Map<DayOfWeek, List<TimeWindow>> findCommonFreeTime(Collection<String> studentEmails, LocalDate date,
+                                                               LocalTime dayStart, LocalTime dayEnd) {
+        LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        WeeklyOccupancy occupancy = studentEmails.parallelStream()
+                .distinct()
+                .map(timetables::find)
+                .filter(timetable -> timetable != null)
+                .collect(() -> new WeeklyOccupancy(weekStart), WeeklyOccupancy::add, WeeklyOccupancy::or);
+
+        Map<DayOfWeek, List<TimeWindow>> free = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            free.put(day, occupancy.getFreeWindows(day, dayStart, dayEnd));
+        }
+        return free;
+    }
+
+    public void viewTimetable(String studentEmail) {
+        Timetable timetable = getTimetable(studentEmail);
+
+        // Copied under the lock and printed after, so a slow view never holds up changes to the timetable
+        String timetableString = null;
+        List<String> availableActivities = new ArrayList<>();
+        synchronized (timetable) {
+            if (!timetable.timeSlots.isEmpty()) {
+                timetableString = timetable.toStringWithAllActivities();
+                for (TimeSlot slot : timetable.timeSlots) {
+                    if (slot.status == TimeSlotStatus.UNCHOSEN &&
+                            (slot.getKind() == ActivityKind.TUTORIAL || slot.getKind() == ActivityKind.LAB)) {
+                        availableActivities.add(slot.courseCode + " - " + slot.getActivityType() +
+                                " (ID: " + slot.activityId + ") - " +
+                                slot.getStartTime() + "-" + slot.getEndTime());
+                    }
+                }
+            }
+        }
+
+        view.displayInfo("=== Viewing Complete Timetable ===");
+        if (timetableString == null) {
+            view.displayInfo("No courses in your timetable. Please add courses first.");
+            return;
+        }
+        view.displayInfo(timetableString);
+
+        view.displayInfo("\n=== Available Activities to Choose ===");
+        for (String activity : availableActivities) {
+            view.displayInfo(activity);
+        }
+
+        view.displayInfo("\n=== Timetable Legend ===");
+        view.displayInfo("UNCHOSEN - Activities available but not selected yet");
+        view.displayInfo("CHOSEN - Activities you have selected for your timetable");
+
+        view.displayInfo("\nTo choose an activity, select 'Choose Activity for Course' from the menu");
+        view.displayInfo("and use the Activity ID shown above (only tutorials and labs can be chosen)");
+
+        List<String> issues = timetable.checkTimetableIssues(this);
+        if (!issues.isEmpty()) {
+            view.displayInfo("\n=== Timetable Issues ===");
+            for (String issue : issues) {
+                view.displayWarning(issue);
+            }
+        }
+    }
+
+    /**
+     * Displays the chosen activities of a student on every date within a range.
+     *
+     * @param studentEmail  the email of the student
+     * @param from          the first date to show
+     * @param to            the last date to show
+     */
+    public void viewTimetableBetween(String studentEmail, LocalDate from, LocalDate to) {
+        Timetable timetable = getTimetable(studentEmail);
+
+        view.displayInfo("=== Timetable from " + from + " to " + to + " ===");
+        Iterator<Occurrence> occurrences = timetable.getOccurrences(from, to)
+                .filter(Occurrence::isChosen)
+                .iterator();
+        if (!occurrences.hasNext()) {
+            view.displayInfo("No scheduled activities between " + from + " and " + to);
+            return;
+        }
+
+        LocalDate currentDate = null;
+        while (occurrences.hasNext()) {
+            Occurrence occurrence = occurrences.next();
+            // Occurrences come in date order, so a header is needed whenever the date changes
+            if (!occurrence.getDate().equals(currentDate)) {
+                currentDate = occurrence.getDate();
+                view.displayInfo(occurrence.getDay() + " (" + currentDate + "):");
+            }
+            view.displayInfo("  " + occurrence.getCourseCode() + " - " + occurrence.getActivityType() + " - " +
+                    occurrence.getStartTime() + "-" + occurrence.getEndTime() +
+                    " (Activity ID: " + occurrence.getActivityId() + ")");
+        }
+    }
+
+    /**
+     * Writes the chosen activities of a student to an iCalendar file.
+     *
+     * @param studentEmail  the email of the student
+     * @param directory     the directory to write the file to, created if missing
+     * @return the path of the written file
+     * @throws IOException if the file could not be written
+     */
+    public Path exportTimetableToICalendar(String studentEmail, Path directory) throws IOException {
+        Timetable timetable = getTimetable(studentEmail);
+        Files.createDirectories(directory);
+        Path file = directory.resolve(ICalendarExporter.getFileName(timetable));
+        new ICalendarExporter().export(timetable, file);
+        return file;
+    }
+
+    /**
+     * Writes the chosen activities of every student to their own iCalendar file, in parallel.
+     *
+     * @param directory     the directory to write the files to, created if missing
+     * @return the number of files written
+     * @throws IOException if any of the files could not be written
+     */
+    public int exportAllTimetablesToICalendar(Path directory) throws IOException {
+        return new ICalendarExporter().exportAll(timetables.findAll(), directory);
+    }
+
+    /**
+     * Exports one CSV row per slot of every student timetable, streamed from the timetable store into one part file
+     * per worker thread.
+     *
+     * @param directory the directory to write the part files to
+     * @return the number of rows written
+     * @throws IOException if the directory or any of the part files could not be written
+     */
+    public long exportEnrolmentsToCsv(Path directory) throws IOException {
+        return new EnrolmentCsvExporter().exportAll(timetables.findAll(), directory,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Uses a journal to log every mutation made from now on.
+     *
+     * @param journal   the journal to log to
+     */
+    void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Adds a course to the catalogue and the staff index, without any checks.
+     *
+     * @param course    the course to add
+     */
+    void applyAddCourse(Course course) {
+        courses.save(course);
+        staffIndex.add(course);
+    }
+
+    /**
+     * Applies a course or timetable mutation read back from the log, without any checks or user feedback.
+     *
+     * @param record    the logged mutation
+     */
+    void apply(JournalRecord record) {
+        switch (record.getType()) {
+            case ADD_COURSE:
+                applyAddCourse(new Course(record.getString(0), record.getString(1), record.getString(2),
+                        record.getBoolean(3), record.getString(4), record.getString(5), record.getString(6),
+                        record.getString(7), record.getInt(8), record.getInt(9)));
+                break;
+            case ADD_ACTIVITY:
+                applyAddActivity(record.getString(0), record.getDate(1), record.getTime(2), record.getDate(3),
+                        record.getTime(4), record.getString(5), record.getDay(6), record.getString(7),
+                        record.get(8), record.getInt(9));
+                break;
+            case ADD_COURSE_TO_TIMETABLE:
+                addActivitiesToTimetable(getTimetable(record.getString(0)), courses.find(record.getString(1)));
+                break;
+            case CHOOSE_ACTIVITY:
+                applyChooseActivity(getTimetable(record.getString(0)), record.getString(1), record.getInt(2));
+                break;
+            case REMOVE_COURSE_FROM_TIMETABLE:
+                Timetable timetable = getTimetable(record.getString(0));
+                timetable.removeSlotsForCourse(record.getString(1));
+                timetables.save(timetable);
+                break;
+            case REMOVE_COURSE:
+                detachCourse(record.getString(0));
+                for (Timetable enrolled : getTimetablesForCourse(record.getString(0))) {
+                    enrolled.removeSlotsForCourse(record.getString(0));
+                    timetables.save(enrolled);
+                }
+                break;
+            case CLOSE_TERM:
+                applyCloseTerm();
+                // The archive is still pending if the process stopped right after the close was logged
+                if (archives != null) {
+                    archives.promote(record.getString(0));
+                }
+                break;
+            case SOFT_DELETE_COURSE:
+                applySoftDeleteCourse(record.getString(0), (Long) record.get(1));
+                break;
+            case RESTORE_COURSE:
+                applyRestoreCourse(record.getString(0));
+                break;
+            case PURGE_COURSE:
+                applyPurgeCourse(record.getString(0));
+                break;
+            case ENROL_STUDENT:
+                applyEnrolStudent(record);
+                break;
+            default:
+                throw new IllegalArgumentException("Not a course record: " + record.getType());
+        }
+    }
+
+    /**
+     * @return every course in the catalogue
+     */
+    Collection<Course> getCourses() {
+        return courses.findAll();
+    }
+
+    /**
+     * @return every student timetable
+     */
+    Collection<Timetable> getTimetables() {
+        return timetables.findAll();
+    }
+
+    /**
+     * @return the codes of all courses currently in the catalogue
+     */
+    public List<String> getCourseCodes() {
+        List<String> codes = new ArrayList<>();
+        for (Course course : courses.findAll()) {
+            codes.add(course.getCourseCode());
+        }
+        return codes;
+    }
+
+    /**
+     * Collects the timetables of every student that has the given course in their timetable.
+     *
+     * @param courseCode    the code of the course
+     * @return list of the timetables that contain slots for the course
+     */
+    List<Timetable> getTimetablesForCourse(String courseCode) {
+        List<Timetable> enrolled = new ArrayList<>();
+        for (Timetable timetable : timetables.findAll()) {
+            if (timetable.hasSlotsForCourse(courseCode)) {
+                enrolled.add(reattach(timetable));
+            }
+        }
+        return enrolled;
+    }
+
+    /**
+     * Assigns tutorials and labs to every student enrolled on the given courses so that groups stay balanced and no
+     * student gets a clashing group. Courses are planned in parallel and the plans applied in one pass.
+     *
+     * @param userEmail     the email of the admin running the balancing
+     * @param courseCodes   the codes of the courses to balance
+     * @return a summary for every course that was balanced
+     */
+    public List<ActivityGroupBalancer.Summary> balanceActivityGroups(String userEmail, Collection<String> courseCodes) {
+        long timestamp = System.currentTimeMillis();
+        List<ActivityGroupBalancer.Summary> summaries = new ActivityGroupBalancer(this).balance(courseCodes);
+
+        for (ActivityGroupBalancer.Summary summary : summaries) {
+            TinyLogLogger.log(timestamp, userEmail, "balanceActivityGroups", summary.getCourseCode(),
+                    "SUCCESS (" + summary.getAssigned() + " assigned, " + summary.getUnplaced() + " unplaced)");
+        }
+        return summaries;
+    }
+
+    /**
+     * Simulates moving an activity to another day or time and reports how many enrolled students would newly get a
+     * clash. No course or timetable is changed.
+     *
+     * @param courseCode    the code of the course
+     * @param activityId    the id of the activity to move
+     * @param newDay        the proposed day of the week
+     * @param newStartTime  the proposed start time
+     * @param newEndTime    the proposed end time
+     * @return the simulation result, or {@code null} if the course or activity does not exist
+     */
+    public ScheduleSimulation simulateActivityChange(String courseCode, int activityId, DayOfWeek newDay,
+                                                     LocalTime newStartTime, LocalTime newEndTime) {
+        if (!hasCourse(courseCode)) {
+            return null;
+        }
+        Activity activity = courses.find(courseCode).getActivityById(activityId);
+        if (activity == null) {
+            return null;
+        }
+        return ScheduleSimulation.run(courseCode, activity, getTimetablesForCourse(courseCode),
+                newDay, newStartTime, newEndTime);
+    }
+
+    /**
+     * @param courseCode    the code of the course
+     * @return the emails of the course organiser and secretary, organiser first, or an empty list if the course
+     * does not exist
+     */
+    public List<String> getStaffEmailsForCourse(String courseCode) {
+        return staffIndex.getStaffEmails(courseCode);
+    }
+
+    /**
+     * @param staffEmail    the email of the staff member
+     * @return the codes of the courses the staff member organises or is secretary for, in order
+     */
+    public Set<String> getCoursesForStaff(String staffEmail) {
+        return staffIndex.getCourseCodes(staffEmail);
+    }
+
+    /**
+     * retrieves course by course code.
+     *
+     * @param courseCode    the code of the course
+     * @return the course of the corresponding code
+     */
+    public Course getCourseByCode(String courseCode) {
+        return courses.find(courseCode);
+    }
+}
+
+
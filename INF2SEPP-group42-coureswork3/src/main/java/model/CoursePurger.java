@@ -0,0 +1,90 @@
+package model;
+
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background job that finalises the deletion of soft-deleted courses once their grace period is over. Each run purges
+ * the expired courses oldest first, and stops after the first course that takes it past {@value #BATCH_SIZE}
+ * enrolments, leaving the rest for the next run, so a term's worth of deletions never holds the catalogue for long.
+ */
+public class CoursePurger implements Closeable {
+    /**
+     * The time a soft-deleted course can still be restored by default: one week.
+     */
+    public static final long DEFAULT_GRACE_PERIOD_MILLIS = 7 * 24 * 60 * 60 * 1000L;
+    /**
+     * The time between two runs by default: one hour.
+     */
+    public static final long DEFAULT_PERIOD_MILLIS = 60 * 60 * 1000L;
+    /**
+     * The number of enrolments after which a run stops purging.
+     */
+    public static final int BATCH_SIZE = 1000;
+
+    private final CourseManager courseManager;
+    private final long gracePeriodMillis;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong purged = new AtomicLong();
+
+    /**
+     * @param courseManager     the course manager to purge deleted courses of
+     * @param gracePeriodMillis the time a deleted course can still be restored, in milliseconds
+     * @param periodMillis      the time between two runs, in milliseconds
+     */
+    CoursePurger(CourseManager courseManager, long gracePeriodMillis, long periodMillis) {
+        this.courseManager = courseManager;
+        this.gracePeriodMillis = gracePeriodMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "course-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Purges one batch of the courses deleted longer than the grace period ago.
+     */
+    private void run() {
+        try {
+            purged.addAndGet(courseManager.purgeDeletedCourses(System.currentTimeMillis() - gracePeriodMillis,
+                    BATCH_SIZE));
+        } catch (RuntimeException e) {
+            TinyLogLogger.log(System.currentTimeMillis(), "", "purgeDeletedCourses", "",
+                    "FAILURE (Error: " + e.getMessage() + ")");
+        }
+        runs.incrementAndGet();
+    }
+
+    /**
+     * @return the number of runs so far
+     */
+    public long getRunCount() {
+        return runs.get();
+    }
+
+    /**
+     * @return the number of courses purged so far
+     */
+    public long getPurgedCount() {
+        return purged.get();
+    }
+
+    /**
+     * Stops the purger, waiting for a run in progress to finish.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import external.EmailService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background job that notifies everyone involved once a course has been removed from the catalogue. The course is
+ * soft-deleted before the job starts, so it is already out of every timetable and can still be restored; the emails to
+ * the students who were enrolled and to the course staff are sent in chunks on the worker pool, while progress can be
+ * followed from the admin menu.
+ */
+public class CourseRemovalJob extends BackgroundJob {
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+
+    private final String userEmail;
+    private final String courseCode;
+    private final List<String> studentEmails;
+    private final List<String> staffEmails;
+    private final EmailService email;
+
+    /**
+     * @param userEmail     the email of the admin removing the course
+     * @param courseCode    the code of the removed course
+     * @param studentEmails the emails of the students who were enrolled on the course
+     * @param staffEmails   the emails of the course staff to notify
+     * @param email         the email service used to send notifications
+     */
+    CourseRemovalJob(String userEmail, String courseCode, List<String> studentEmails, List<String> staffEmails,
+                     EmailService email) {
+        super(nextId.getAndIncrement());
+        this.userEmail = userEmail;
+        this.courseCode = courseCode;
+        this.studentEmails = studentEmails;
+        this.staffEmails = staffEmails;
+        this.email = email;
+    }
+
+    /**
+     * Submits the notification chunks to the given workers.
+     *
+     * @param workers   the executor to run the chunks on
+     */
+    void start(ExecutorService workers) {
+        List<String> recipients = new ArrayList<>(studentEmails);
+        for (String staffEmail : staffEmails) {
+            if (staffEmail != null) {
+                recipients.add(staffEmail);
+            }
+        }
+        track(sendNotifications(email, recipients, "Course Removed: " + courseCode,
+                recipientEmail -> "The course " + courseCode + " has been removed from the system. " +
+                        "All associated timetable entries have been cleared.", workers),
+                error -> TinyLogLogger.log(System.currentTimeMillis(), userEmail, "removeCourseJob", courseCode,
+                        error == null ? "SUCCESS (" + getNotificationsSent() + " notifications sent)"
+                                : "FAILURE (Error: " + error.getMessage() + ")"));
+    }
+
+    /**
+     * @return the code of the removed course
+     */
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    /**
+     * @return the number of students the course was removed from
+     */
+    public int getStudentsRemoved() {
+        return studentEmails.size();
+    }
+
+    /**
+     * @return a string representation of the progress of the job
+     */
+    @Override
+    public String toString() {
+        return "Job #" + getId() + " - removing " + courseCode + " [" + getStatus() + "]: " +
+                studentEmails.size() + " students affected, " + describeNotifications();
+    }
+}
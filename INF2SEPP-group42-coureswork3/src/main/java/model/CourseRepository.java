@@ -0,0 +1,38 @@
+package model;
+
+import java.util.Collection;
+
+/**
+ * Stores the course catalogue. A course is saved again after every change to it, such as a new activity.
+ */
+public interface CourseRepository {
+    /**
+     * @param courseCode    the code of the course
+     * @return the course with the given code, or {@code null} if there is none
+     */
+    Course find(String courseCode);
+
+    /**
+     * @param courseCode    the code of the course
+     * @return {@code true} if a course with the given code is stored, otherwise {@code false}
+     */
+    boolean exists(String courseCode);
+
+    /**
+     * Stores a new course, or the changes made to a stored one.
+     *
+     * @param course    the course to store
+     */
+    void save(Course course);
+
+    /**
+     * @param courseCode    the code of the course to remove
+     * @return the removed course, or {@code null} if there was none
+     */
+    Course delete(String courseCode);
+
+    /**
+     * @return every stored course
+     */
+    Collection<Course> findAll();
+}
@@ -0,0 +1,99 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable copy of the tutorial and lab requirements of a course and the schedule of each of its activities. Taken
+ * on the thread that changes courses, so background jobs can check timetables against it while the admin keeps
+ * changing the course.
+ */
+class CourseSnapshot {
+    private final String courseCode;
+    private final int requiredTutorials;
+    private final int requiredLabs;
+    private final Map<Integer, Schedule> schedules = new HashMap<>();
+
+    /**
+     * @param course    the course to copy
+     */
+    CourseSnapshot(Course course) {
+        this.courseCode = course.getCourseCode();
+        this.requiredTutorials = course.getRequiredTutorials();
+        this.requiredLabs = course.getRequiredLabs();
+        for (Activity activity : course.getActivities()) {
+            schedules.put(activity.getId(), new Schedule(activity));
+        }
+    }
+
+    /**
+     * @return the code of the course
+     */
+    String getCourseCode() {
+        return courseCode;
+    }
+
+    /**
+     * @return the number of tutorials a student has to choose
+     */
+    int getRequiredTutorials() {
+        return requiredTutorials;
+    }
+
+    /**
+     * @return the number of labs a student has to choose
+     */
+    int getRequiredLabs() {
+        return requiredLabs;
+    }
+
+    /**
+     * @param activityId    the id of the activity
+     * @return the schedule of the activity, or {@code null} if the course has no such activity
+     */
+    Schedule getSchedule(int activityId) {
+        return schedules.get(activityId);
+    }
+
+    /**
+     * When an activity takes place: a weekly time between two dates.
+     */
+    static class Schedule {
+        private final DayOfWeek day;
+        private final LocalDate startDate;
+        private final LocalTime startTime;
+        private final LocalDate endDate;
+        private final LocalTime endTime;
+
+        private Schedule(Activity activity) {
+            this.day = activity.getDay();
+            this.startDate = activity.getStartDate();
+            this.startTime = activity.getStartTime();
+            this.endDate = activity.getEndDate();
+            this.endTime = activity.getEndTime();
+        }
+
+        /**
+         * @param slot  a timetable slot of the activity
+         * @return {@code true} if the slot is at the time the activity takes place, otherwise {@code false}
+         */
+        boolean matches(TimeSlot slot) {
+            return day == slot.getDay()
+                    && startTime.equals(slot.getStartTime())
+                    && endTime.equals(slot.getEndTime())
+                    && startDate.equals(slot.getStartDate())
+                    && endDate.equals(slot.getEndDate());
+        }
+
+        /**
+         * @return the day and times of the activity
+         */
+        @Override
+        public String toString() {
+            return day + " " + startTime + "-" + endTime;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Two-way index between courses and the emails of their teaching staff, so the staff of a course and the courses of
+ * a staff member can both be looked up without going through every course. Lookups return copies, so they can be
+ * iterated while courses are added or removed.
+ */
+public class CourseStaffIndex {
+    private final Map<String, List<String>> staffByCourse = new HashMap<>();
+    private final Map<String, Set<String>> coursesByStaff = new HashMap<>();
+
+    /**
+     * Adds the organiser and secretary of a course to the index.
+     *
+     * @param course    the course to add
+     */
+    public synchronized void add(Course course) {
+        List<String> staffEmails = new ArrayList<>();
+        // The organiser comes first so inquiries are routed to them before the secretary
+        for (String email : new String[]{course.getCourseOrganiserEmail(), course.getCourseSecretaryEmail()}) {
+            if (email != null && !email.isEmpty() && !staffEmails.contains(email)) {
+                staffEmails.add(email);
+                coursesByStaff.computeIfAbsent(email, key -> new TreeSet<>()).add(course.getCourseCode());
+            }
+        }
+        staffByCourse.put(course.getCourseCode(), staffEmails);
+    }
+
+    /**
+     * Removes a course from the index.
+     *
+     * @param courseCode    the code of the course to remove
+     */
+    public synchronized void remove(String courseCode) {
+        List<String> staffEmails = staffByCourse.remove(courseCode);
+        if (staffEmails == null) {
+            return;
+        }
+        for (String email : staffEmails) {
+            Set<String> courseCodes = coursesByStaff.get(email);
+            courseCodes.remove(courseCode);
+            if (courseCodes.isEmpty()) {
+                coursesByStaff.remove(email);
+            }
+        }
+    }
+
+    /**
+     * @param courseCode    the code of the course
+     * @return the staff emails of the course, organiser first, or an empty list if the course is unknown
+     */
+    public synchronized List<String> getStaffEmails(String courseCode) {
+        return List.copyOf(staffByCourse.getOrDefault(courseCode, List.of()));
+    }
+
+    /**
+     * @param staffEmail    the email of the staff member
+     * @return the codes of the courses the staff member organises or is secretary for, in order
+     */
+    public synchronized Set<String> getCourseCodes(String staffEmail) {
+        return Collections.unmodifiableSet(new TreeSet<>(coursesByStaff.getOrDefault(staffEmail, Set.of())));
+    }
+}
@@ -0,0 +1,48 @@
+package model;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What is kept of a soft-deleted course until it is purged: the course with its activities, when it was deleted, and
+ * the slots each enrolled student had for it, with their choices. Restoring the course puts exactly these slots back,
+ * so only the enrolled students are visited.
+ */
+class CourseTombstone {
+    private final Course course;
+    private final long deletedAt;
+    private final Map<String, List<TimeSlot>> slotsByStudent;
+
+    /**
+     * @param course            the deleted course
+     * @param deletedAt         when the course was deleted, in milliseconds since the epoch
+     * @param slotsByStudent    the slots taken out of each enrolled student's timetable, by student email
+     */
+    CourseTombstone(Course course, long deletedAt, Map<String, List<TimeSlot>> slotsByStudent) {
+        this.course = course;
+        this.deletedAt = deletedAt;
+        this.slotsByStudent = new LinkedHashMap<>(slotsByStudent);
+    }
+
+    /**
+     * @return the deleted course
+     */
+    Course getCourse() {
+        return course;
+    }
+
+    /**
+     * @return when the course was deleted, in milliseconds since the epoch
+     */
+    long getDeletedAt() {
+        return deletedAt;
+    }
+
+    /**
+     * @return the slots taken out of each enrolled student's timetable, by student email
+     */
+    Map<String, List<TimeSlot>> getSlotsByStudent() {
+        return slotsByStudent;
+    }
+}
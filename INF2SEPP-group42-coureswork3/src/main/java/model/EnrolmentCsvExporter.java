@@ -0,0 +1,232 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Exports one CSV row per timetable slot, {@code student_email,course_code,activity_id,kind,status}, for the registry.
+ * The export is split into part files written in parallel on the worker pool. Workers take batches of timetables
+ * from a shared iterator as they go, so the timetables are streamed from the store rather than copied first, and a
+ * store that pages timetables in only builds the ones being written. A part file holds whatever batches its worker
+ * took, so parts only come out of similar size when the workers run side by side.
+ *
+ * <p>Rows are encoded straight into a direct buffer that is written to the part file whenever it fills up. Each
+ * student email is encoded once per timetable and each course code once per worker, so no text is built per row.</p>
+ */
+public class EnrolmentCsvExporter {
+    /**
+     * The number of timetables a worker takes from the shared iterator at a time.
+     */
+    public static final int BATCH_SIZE = 256;
+
+    private static final byte[] HEADER = "student_email,course_code,activity_id,kind,status\n"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CHOSEN = "CHOSEN".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UNCHOSEN = "UNCHOSEN".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] KINDS = new byte[ActivityKind.values().length][];
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    static {
+        for (ActivityKind kind : ActivityKind.values()) {
+            KINDS[kind.ordinal()] = kind.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Writes the rows of every timetable to part files in a directory, named {@code enrolments-000.csv} onwards. Each
+     * part file starts with the header row.
+     *
+     * @param timetables    the timetables to export
+     * @param directory     the directory to write the part files to, created if missing
+     * @param partitions    the number of part files, written in parallel
+     * @return the number of rows written, not counting the header rows
+     * @throws IOException if the directory or any of the part files could not be written
+     */
+    public long exportAll(Collection<Timetable> timetables, Path directory, int partitions) throws IOException {
+        Files.createDirectories(directory);
+        Iterator<Timetable> source = timetables.iterator();
+
+        List<CompletableFuture<Long>> parts = new ArrayList<>();
+        for (int part = 0; part < Math.max(1, partitions); part++) {
+            Path file = directory.resolve(getFileName(part));
+            parts.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return new PartWriter(file).write(source);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, WorkerPool.get()));
+        }
+
+        long rows = 0;
+        try {
+            for (CompletableFuture<Long> part : parts) {
+                rows += part.join();
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+        return rows;
+    }
+
+    /**
+     * @param part  the number of the part file
+     * @return the name of the part file
+     */
+    public static String getFileName(int part) {
+        return String.format("enrolments-%03d.csv", part);
+    }
+
+    /**
+     * Takes the next batch of timetables from the shared iterator.
+     *
+     * @param source    the iterator shared by every worker
+     * @param batch     the list to fill, cleared first
+     * @return {@code false} once the iterator is exhausted
+     */
+    private static boolean nextBatch(Iterator<Timetable> source, List<Timetable> batch) {
+        batch.clear();
+        synchronized (source) {
+            while (batch.size() < BATCH_SIZE && source.hasNext()) {
+                batch.add(source.next());
+            }
+        }
+        return !batch.isEmpty();
+    }
+
+    /**
+     * @param value the value of a field
+     * @return the UTF-8 bytes of the field, quoted if it holds a comma, quote or line break
+     */
+    private static byte[] encodeField(String value) {
+        return quoteField(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param value the value of a field
+     * @return the field, quoted if it holds a comma, quote or line break
+     */
+    static String quoteField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Writes one part file, reusing its buffer and the encoded course codes for every row.
+     */
+    private static class PartWriter {
+        private final Path file;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final Map<String, byte[]> courseCodes = new HashMap<>();
+        private final byte[] digits = new byte[10];
+        private FileChannel channel;
+
+        private PartWriter(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * @param source    the iterator shared by every worker
+         * @return the number of rows written
+         */
+        private long write(Iterator<Timetable> source) throws IOException {
+            long rows = 0;
+            List<Timetable> batch = new ArrayList<>(BATCH_SIZE);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                this.channel = channel;
+                put(HEADER);
+                while (nextBatch(source, batch)) {
+                    for (Timetable timetable : batch) {
+                        rows += writeRows(timetable);
+                    }
+                }
+                flush();
+            }
+            return rows;
+        }
+
+        private int writeRows(Timetable timetable) throws IOException {
+            byte[] studentEmail = encodeField(timetable.getStudentEmail());
+            // Locked so a consistent copy is written even if the student changes it at the same time
+            synchronized (timetable) {
+                for (TimeSlot slot : timetable.timeSlots) {
+                    put(studentEmail);
+                    put((byte) ',');
+                    put(courseCodes.computeIfAbsent(slot.courseCode, EnrolmentCsvExporter::encodeField));
+                    put((byte) ',');
+                    putInt(slot.activityId);
+                    put((byte) ',');
+                    put(KINDS[slot.getKind().ordinal()]);
+                    put((byte) ',');
+                    put(slot.isChosen() ? CHOSEN : UNCHOSEN);
+                    put((byte) '\n');
+                }
+                return timetable.timeSlots.size();
+            }
+        }
+
+        private void put(byte value) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put(value);
+        }
+
+        private void put(byte[] bytes) throws IOException {
+            put(bytes, 0, bytes.length);
+        }
+
+        private void put(byte[] bytes, int offset, int length) throws IOException {
+            int end = offset + length;
+            while (offset < end) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int chunk = Math.min(buffer.remaining(), end - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        /**
+         * Writes the decimal digits of a non-negative number without building a string.
+         */
+        private void putInt(int value) throws IOException {
+            int position = digits.length;
+            do {
+                digits[--position] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            put(digits, position, digits.length - position);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
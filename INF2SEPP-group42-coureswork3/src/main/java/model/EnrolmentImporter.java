@@ -0,0 +1,458 @@
+package model;
+
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Seeds the portal with the enrolments of another system, read from a file of rows in the format written by
+ * {@link EnrolmentCsvExporter}: a CSV file with a header row, or a JSON array of objects with the same keys. The file
+ * is streamed, and consecutive rows of the same student are applied together as one batch enrolment, so a student's
+ * courses and choices are checked and logged once rather than once per row. Files grouped by student, as the export
+ * is, get one batch per student.
+ *
+ * <p>Rows that cannot be applied are written to a rejects file next to the input, {@code <file>.rejects.csv}, with
+ * their row number and the reason. Every {@value #CHECKPOINT_INTERVAL} rows the number of rows done is saved to a
+ * progress file, {@code <file>.progress}, at the end of a student. Importing the same file again resumes after the
+ * last saved row, dropping the rejects written after it; the rows done since are applied again, which changes nothing.
+ * The progress file is kept once the import is complete, so importing the file again does nothing, and has to be
+ * removed to import a file again from the start.</p>
+ */
+public class EnrolmentImporter {
+    /**
+     * The number of rows after which the progress is saved, at the end of the student being imported.
+     */
+    public static final int CHECKPOINT_INTERVAL = 1000;
+
+    private static final String REJECTS_HEADER = "row," + String.join(",", EnrolmentRow.COLUMNS) + ",reason\n";
+
+    private final CourseManager courseManager;
+    private long importedCount;
+    private long rejectedCount;
+    private long skippedCount;
+
+    /**
+     * @param courseManager the course manager to enrol the students with
+     */
+    public EnrolmentImporter(CourseManager courseManager) {
+        this.courseManager = courseManager;
+    }
+
+    /**
+     * Imports the rows of a file, resuming after the rows done by an earlier import of the same file.
+     *
+     * @param file  the file to import, read as JSON if its name ends with {@code .json} and as CSV otherwise
+     * @return the number of rows imported
+     * @throws IOException if the file could not be read or is not in the expected format, or the rejects or progress
+     *                     file could not be written
+     */
+    public long importFile(Path file) throws IOException {
+        Path rejectsFile = getRejectsFile(file);
+        Path progressFile = getProgressFile(file);
+        long size = Files.size(file);
+        long resumeAfter = 0;
+        long rejectsLength = 0;
+        if (Files.exists(progressFile)) {
+            long[] progress = readProgress(progressFile);
+            if (progress[0] != size) {
+                throw new IOException("The file has changed since it was last imported, remove " + progressFile
+                        + " to import it from the start");
+            }
+            resumeAfter = progress[1];
+            rejectsLength = progress[2];
+        }
+
+        importedCount = 0;
+        rejectedCount = 0;
+        skippedCount = 0;
+        try (RowReader rows = isJson(file) ? new JsonRowReader(file) : new CsvRowReader(file);
+             FileChannel rejectsChannel = FileChannel.open(rejectsFile, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE);
+             Writer rejects = new BufferedWriter(Channels.newWriter(rejectsChannel, StandardCharsets.UTF_8))) {
+            // Anything written after the saved progress is written again for the rows done since
+            rejectsChannel.truncate(rejectsLength);
+            rejectsChannel.position(rejectsLength);
+            if (rejectsLength == 0) {
+                rejects.write(REJECTS_HEADER);
+            }
+
+            List<EnrolmentRow> group = new ArrayList<>();
+            String groupStudent = null;
+            long done = 0;
+            long saved = resumeAfter;
+            EnrolmentRow row;
+            while ((row = rows.next()) != null) {
+                if (row.getNumber() <= resumeAfter) {
+                    skippedCount++;
+                    continue;
+                }
+                // Rejected rows are kept in the group they are in, whoever they are for, so rejects stay in order
+                if (!row.isRejected()) {
+                    if (groupStudent != null && !groupStudent.equals(row.getStudentEmail())) {
+                        importGroup(groupStudent, group, rejects);
+                        if (done - saved >= CHECKPOINT_INTERVAL) {
+                            saveProgress(progressFile, size, done, rejects, rejectsChannel);
+                            saved = done;
+                        }
+                        group.clear();
+                    }
+                    groupStudent = row.getStudentEmail();
+                }
+                group.add(row);
+                done = row.getNumber();
+            }
+            importGroup(groupStudent, group, rejects);
+            saveProgress(progressFile, size, Math.max(done, resumeAfter), rejects, rejectsChannel);
+        }
+        return importedCount;
+    }
+
+    /**
+     * Enrols the student of a group of rows and writes the rows that were rejected.
+     *
+     * @param studentEmail  the email of the student, or {@code null} if every row of the group was rejected already
+     * @param group         the rows of the student, in file order
+     * @param rejects       the writer of the rejects file
+     */
+    private void importGroup(String studentEmail, List<EnrolmentRow> group, Writer rejects) throws IOException {
+        if (studentEmail != null) {
+            importedCount += courseManager.enrolStudent(studentEmail, group);
+        }
+        for (EnrolmentRow row : group) {
+            if (row.isRejected()) {
+                rejectedCount++;
+                rejects.write(Long.toString(row.getNumber()));
+                for (String field : row.getFields()) {
+                    rejects.write(',');
+                    rejects.write(field == null ? "" : EnrolmentCsvExporter.quoteField(field));
+                }
+                rejects.write(',');
+                rejects.write(EnrolmentCsvExporter.quoteField(row.getRejectReason()));
+                rejects.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Saves how far the import got, once the rejects so far are on disk. The progress file is replaced in one move so
+     * it is never seen half written.
+     *
+     * @param progressFile      the progress file
+     * @param size              the size of the file being imported
+     * @param rows              the number of rows done
+     * @param rejects           the writer of the rejects file
+     * @param rejectsChannel    the channel of the rejects file
+     */
+    private static void saveProgress(Path progressFile, long size, long rows, Writer rejects,
+                                     FileChannel rejectsChannel) throws IOException {
+        rejects.flush();
+        rejectsChannel.force(false);
+        Path temporary = progressFile.resolveSibling(progressFile.getFileName() + ".tmp");
+        Files.writeString(temporary, size + " " + rows + " " + rejectsChannel.size() + "\n");
+        Files.move(temporary, progressFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param progressFile  the progress file
+     * @return the size of the file being imported, the number of rows done and the length of the rejects file
+     */
+    private static long[] readProgress(Path progressFile) throws IOException {
+        String[] values = Files.readString(progressFile).trim().split(" ");
+        try {
+            return new long[]{Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2])};
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Invalid progress file " + progressFile, e);
+        }
+    }
+
+    /**
+     * @param file  the file being imported
+     * @return the file the rejected rows of the file are written to
+     */
+    public static Path getRejectsFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".rejects.csv");
+    }
+
+    /**
+     * @param file  the file being imported
+     * @return the file the progress of importing the file is saved to
+     */
+    public static Path getProgressFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".progress");
+    }
+
+    private static boolean isJson(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".json");
+    }
+
+    /**
+     * @return the number of rows imported by the last import
+     */
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    /**
+     * @return the number of rows written to the rejects file by the last import
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return the number of rows the last import skipped because an earlier import had done them
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Reads the rows of a file one at a time.
+     */
+    private interface RowReader extends Closeable {
+        /**
+         * @return the next row, or {@code null} at the end of the file
+         */
+        EnrolmentRow next() throws IOException;
+    }
+
+    /**
+     * Reads the rows of a CSV file, finding the columns by the names in its header row. Fields may be quoted, with
+     * quotes doubled, and then hold commas and line breaks.
+     */
+    private static class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final int[] positions = new int[EnrolmentRow.COLUMNS.length];
+        private final int columns;
+        private long number;
+
+        private CsvRowReader(Path file) throws IOException {
+            reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IOException("The file is empty");
+            }
+            columns = header.size();
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = header.indexOf(EnrolmentRow.COLUMNS[i]);
+                if (positions[i] < 0) {
+                    throw new IOException("The header has no " + EnrolmentRow.COLUMNS[i] + " column");
+                }
+            }
+        }
+
+        @Override
+        public EnrolmentRow next() throws IOException {
+            List<String> record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            number++;
+            String[] fields = new String[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                fields[i] = positions[i] < record.size() ? record.get(positions[i]) : null;
+            }
+            return record.size() == columns ? new EnrolmentRow(number, fields)
+                    : new EnrolmentRow(number, fields, "Expected " + columns + " fields but found " + record.size());
+        }
+
+        /**
+         * @return the fields of the next record, or {@code null} at the end of the file
+         */
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            while (line != null && line.isEmpty()) {
+                line = reader.readLine();
+            }
+            if (line == null) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    // A quoted field goes on over the line break
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new IOException("Quoted field is not closed at the end of the file");
+                    }
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the rows of a JSON array of objects. The parser stops at the end of every object and is resumed for the
+     * next one, so only one row is held at a time. Values are read as text and keys that are not columns are ignored.
+     */
+    private static class JsonRowReader implements RowReader, ContentHandler {
+        private final Reader reader;
+        private final JSONParser parser = new JSONParser();
+        private boolean started;
+        private boolean finished;
+        private int depth;
+        private int column = -1;
+        private String[] fields;
+        private EnrolmentRow row;
+        private long number;
+
+        private JsonRowReader(Path file) throws IOException {
+            reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public EnrolmentRow next() throws IOException {
+            row = null;
+            while (row == null && !finished) {
+                try {
+                    parser.parse(reader, this, started);
+                } catch (ParseException e) {
+                    throw new IOException("Invalid JSON at position " + e.getPosition(), e);
+                }
+                started = true;
+            }
+            return row;
+        }
+
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+            finished = true;
+        }
+
+        @Override
+        public boolean startObject() throws IOException {
+            return startValue(true);
+        }
+
+        @Override
+        public boolean endObject() {
+            return endValue();
+        }
+
+        @Override
+        public boolean startArray() throws IOException {
+            return startValue(false);
+        }
+
+        @Override
+        public boolean endArray() {
+            return endValue();
+        }
+
+        private boolean startValue(boolean object) throws IOException {
+            depth++;
+            if (depth == 1 && object) {
+                throw new IOException("Expected a JSON array of enrolment rows");
+            }
+            if (depth == 2) {
+                fields = new String[object ? EnrolmentRow.COLUMNS.length : 0];
+            }
+            return true;
+        }
+
+        /**
+         * @return {@code false} to stop the parser at the end of a row
+         */
+        private boolean endValue() {
+            depth--;
+            if (depth == 1) {
+                number++;
+                row = fields.length > 0 ? new EnrolmentRow(number, fields)
+                        : new EnrolmentRow(number, new String[EnrolmentRow.COLUMNS.length], "Not a JSON object");
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            if (depth == 2) {
+                column = Arrays.asList(EnrolmentRow.COLUMNS).indexOf(key);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            if (depth == 2) {
+                column = -1;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) throws IOException {
+            if (depth == 0) {
+                throw new IOException("Expected a JSON array of enrolment rows");
+            }
+            if (depth == 1) {
+                number++;
+                row = new EnrolmentRow(number, new String[EnrolmentRow.COLUMNS.length], "Not a JSON object");
+                return false;
+            }
+            if (depth == 2 && column >= 0 && value != null) {
+                fields[column] = value.toString();
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package model;
+
+/**
+ * One row of an enrolment file being imported, {@code student_email,course_code,activity_id,kind,status}, with the
+ * values it was read with so it can be written to the rejects file unchanged. The values are parsed when the row is
+ * created, a row whose values are invalid starts out rejected.
+ */
+class EnrolmentRow {
+    /**
+     * The columns of a row, in the order of its fields.
+     */
+    static final String[] COLUMNS = {"student_email", "course_code", "activity_id", "kind", "status"};
+
+    private final long number;
+    private final String[] fields;
+    private int parsedActivityId;
+    private ActivityKind parsedKind;
+    private boolean chosen;
+    private String rejectReason;
+
+    /**
+     * @param number    the number of the row in the file, counting from 1 after the header
+     * @param fields    the values of the row in the order of {@link #COLUMNS}, {@code null} where a value is missing
+     */
+    EnrolmentRow(long number, String[] fields) {
+        this(number, fields, null);
+    }
+
+    /**
+     * @param number        the number of the row in the file, counting from 1 after the header
+     * @param fields        the values of the row in the order of {@link #COLUMNS}, {@code null} where a value is
+     *                      missing
+     * @param rejectReason  why the row is rejected before it is read, or {@code null} to reject it only if its values
+     *                      are invalid
+     */
+    EnrolmentRow(long number, String[] fields, String rejectReason) {
+        this.number = number;
+        this.fields = fields.clone();
+        this.rejectReason = rejectReason != null ? rejectReason : parse();
+    }
+
+    /**
+     * @return the reason the values cannot be a row, or {@code null} if they can
+     */
+    private String parse() {
+        String studentEmail = getStudentEmail();
+        String courseCode = getCourseCode();
+        String activityId = fields[2];
+        String kind = fields[3];
+        String status = fields[4];
+        if (studentEmail == null || studentEmail.isBlank()) {
+            return "Missing student email";
+        }
+        if (courseCode == null || courseCode.isBlank()) {
+            return "Missing course code";
+        }
+        try {
+            parsedActivityId = Integer.parseInt(activityId == null ? "" : activityId.trim());
+        } catch (NumberFormatException e) {
+            return "Invalid activity ID";
+        }
+        try {
+            parsedKind = ActivityKind.valueOf(kind == null ? "" : kind.trim());
+        } catch (IllegalArgumentException e) {
+            return "Invalid activity kind";
+        }
+        if ("CHOSEN".equals(status)) {
+            chosen = true;
+        } else if (!"UNCHOSEN".equals(status)) {
+            return "Invalid status";
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of the row in the file, counting from 1 after the header
+     */
+    long getNumber() {
+        return number;
+    }
+
+    /**
+     * @return the email of the student
+     */
+    String getStudentEmail() {
+        return fields[0];
+    }
+
+    /**
+     * @return the code of the course
+     */
+    String getCourseCode() {
+        return fields[1];
+    }
+
+    /**
+     * @return the id of the activity, only valid if the row is not rejected
+     */
+    int getActivityId() {
+        return parsedActivityId;
+    }
+
+    /**
+     * @return the kind of the activity, only valid if the row is not rejected
+     */
+    ActivityKind getKind() {
+        return parsedKind;
+    }
+
+    /**
+     * @return {@code true} if the activity is chosen, otherwise {@code false}
+     */
+    boolean isChosen() {
+        return chosen;
+    }
+
+    /**
+     * @return the values of the row as they were read, in the order of {@link #COLUMNS}
+     */
+    String[] getFields() {
+        return fields.clone();
+    }
+
+    /**
+     * Rejects the row, keeping the first reason given.
+     *
+     * @param reason    why the row was rejected
+     */
+    void reject(String reason) {
+        if (rejectReason == null) {
+            rejectReason = reason;
+        }
+    }
+
+    /**
+     * @return {@code true} if the row was rejected, otherwise {@code false}
+     */
+    boolean isRejected() {
+        return rejectReason != null;
+    }
+
+    /**
+     * @return why the row was rejected, or {@code null} if it was not
+     */
+    String getRejectReason() {
+        return rejectReason;
+    }
+}
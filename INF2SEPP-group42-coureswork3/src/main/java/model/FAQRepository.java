@@ -0,0 +1,16 @@
+package model;
+
+/**
+ * Stores the FAQ tree. The whole tree is saved again after every change to it.
+ */
+public interface FAQRepository {
+    /**
+     * @return the stored FAQ, or an empty one if nothing is stored yet
+     */
+    FAQ load();
+
+    /**
+     * @param faq   the FAQ to store
+     */
+    void save(FAQ faq);
+}
@@ -0,0 +1,53 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Keeps the course catalogue in a directory, one file per course. Every course is loaded when the repository is
+ * opened and written back as soon as it is saved.
+ */
+public class FileCourseRepository implements CourseRepository {
+    private final FileStore store;
+    private final InMemoryCourseRepository courses = new InMemoryCourseRepository();
+
+    /**
+     * @param directory the directory the courses are kept in, created if it does not exist
+     * @throws IOException if a stored course could not be read
+     */
+    public FileCourseRepository(Path directory) throws IOException {
+        this.store = new FileStore(directory);
+        for (Course course : store.readAll(FileStore::readCourse)) {
+            courses.save(course);
+        }
+    }
+
+    @Override
+    public Course find(String courseCode) {
+        return courses.find(courseCode);
+    }
+
+    @Override
+    public boolean exists(String courseCode) {
+        return courses.exists(courseCode);
+    }
+
+    @Override
+    public void save(Course course) {
+        courses.save(course);
+        store.write(course.getCourseCode(), out -> FileStore.writeCourse(out, course));
+    }
+
+    @Override
+    public Course delete(String courseCode) {
+        Course course = courses.delete(courseCode);
+        store.delete(courseCode);
+        return course;
+    }
+
+    @Override
+    public Collection<Course> findAll() {
+        return courses.findAll();
+    }
+}
@@ -0,0 +1,50 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Keeps the FAQ in a single file in a directory, rewritten whole every time it is saved.
+ */
+public class FileFAQRepository implements FAQRepository {
+    private static final String KEY = "faq";
+
+    private final FileStore store;
+    private FAQ faq;
+
+    /**
+     * @param directory the directory the FAQ is kept in, created if it does not exist
+     * @throws IOException if the stored FAQ could not be read
+     */
+    public FileFAQRepository(Path directory) throws IOException {
+        this.store = new FileStore(directory);
+        FAQ stored = store.read(KEY, FileFAQRepository::readFAQ);
+        this.faq = stored == null ? new FAQ() : stored;
+    }
+
+    @Override
+    public FAQ load() {
+        return faq;
+    }
+
+    @Override
+    public void save(FAQ faq) {
+        this.faq = faq;
+        store.write(KEY, out -> {
+            out.writeInt(faq.getSections().size());
+            for (FAQSection section : faq.getSections()) {
+                FileStore.writeSection(out, section);
+            }
+        });
+    }
+
+    private static FAQ readFAQ(DataInputStream in) throws IOException {
+        FAQ faq = new FAQ();
+        int sections = in.readInt();
+        for (int i = 0; i < sections; i++) {
+            faq.addSection(FileStore.readSection(in));
+        }
+        return faq;
+    }
+}
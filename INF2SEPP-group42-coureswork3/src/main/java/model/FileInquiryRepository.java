@@ -0,0 +1,73 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps inquiries in a single file in a directory, rewritten whole after every change. Only the inquiries still
+ * waiting for an answer are kept, so the file stays small.
+ */
+public class FileInquiryRepository implements InquiryRepository {
+    private static final String KEY = "inquiries";
+
+    private final FileStore store;
+    private final InMemoryInquiryRepository inquiries = new InMemoryInquiryRepository();
+
+    /**
+     * @param directory the directory the inquiries are kept in, created if it does not exist
+     * @throws IOException if the stored inquiries could not be read
+     */
+    public FileInquiryRepository(Path directory) throws IOException {
+        this.store = new FileStore(directory);
+        List<Inquiry> stored = store.read(KEY, FileInquiryRepository::readInquiries);
+        if (stored != null) {
+            for (Inquiry inquiry : stored) {
+                inquiries.add(inquiry);
+            }
+        }
+    }
+
+    @Override
+    public List<Inquiry> findAll() {
+        return inquiries.findAll();
+    }
+
+    @Override
+    public void add(Inquiry inquiry) {
+        inquiries.add(inquiry);
+        writeAll();
+    }
+
+    @Override
+    public void update(Inquiry inquiry) {
+        writeAll();
+    }
+
+    @Override
+    public void remove(int index) {
+        inquiries.remove(index);
+        writeAll();
+    }
+
+    private void writeAll() {
+        List<Inquiry> all = inquiries.findAll();
+        store.write(KEY, out -> {
+            out.writeInt(all.size());
+            for (Inquiry inquiry : all) {
+                FileStore.writeInquiry(out, inquiry);
+            }
+        });
+    }
+
+    private static List<Inquiry> readInquiries(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<Inquiry> inquiries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inquiries.add(FileStore.readInquiry(in));
+        }
+        return inquiries;
+    }
+}
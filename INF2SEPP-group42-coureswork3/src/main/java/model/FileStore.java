@@ -0,0 +1,323 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A directory of small binary files used by the file-backed repositories, one file per stored key. A file is written
+ * to a temporary file first and moved into place once it is on disk, so a crash leaves either the old or the new
+ * version behind. Dates are stored as epoch days and times as seconds of the day, like in a {@link BinarySnapshot}.
+ */
+class FileStore {
+    private static final String SUFFIX = ".bin";
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final ActivityKind[] KINDS = ActivityKind.values();
+
+    /**
+     * Writes the contents of a file.
+     */
+    interface Encoder {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads back the contents of a file written by an {@link Encoder}.
+     */
+    interface Decoder<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory the files are kept in, created if it does not exist
+     * @throws IOException if the directory could not be created
+     */
+    FileStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Replaces the file of a key.
+     *
+     * @param key       the key, any characters that are not safe in a file name are escaped
+     * @param encoder   writes the new contents
+     * @throws UncheckedIOException if the file could not be written
+     */
+    void write(String key, Encoder encoder) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            encoder.write(out);
+            out.flush();
+
+            Path path = getPath(key);
+            Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param key   the key of the file to delete
+     * @throws UncheckedIOException if the file could not be deleted
+     */
+    void delete(String key) {
+        try {
+            Files.deleteIfExists(getPath(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param key       the key of the file to read
+     * @param decoder   reads the contents
+     * @return the decoded contents, or {@code null} if there is no file for the key
+     * @throws IOException if the file could not be read
+     */
+    <T> T read(String key, Decoder<T> decoder) throws IOException {
+        Path path = getPath(key);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        return decode(path, decoder);
+    }
+
+    /**
+     * @param decoder   reads the contents of each file
+     * @return the decoded contents of every file, in the order of their keys
+     * @throws IOException if a file could not be read
+     */
+    <T> List<T> readAll(Decoder<T> decoder) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        List<T> values = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            values.add(decode(path, decoder));
+        }
+        return values;
+    }
+
+    private Path getPath(String key) {
+        return directory.resolve(URLEncoder.encode(key, StandardCharsets.UTF_8) + SUFFIX);
+    }
+
+    private static <T> T decode(Path path, Decoder<T> decoder) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+            return decoder.read(in);
+        } catch (RuntimeException e) {
+            throw new IOException(path + " is not valid", e);
+        }
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a course with its activities.
+     */
+    static void writeCourse(DataOutputStream out, Course course) throws IOException {
+        writeString(out, course.getCourseCode());
+        writeString(out, course.getName());
+        writeString(out, course.getDescription());
+        out.writeBoolean(course.isRequiresComputers());
+        writeString(out, course.getCourseOrganiserName());
+        writeString(out, course.getCourseOrganiserEmail());
+        writeString(out, course.getCourseSecretaryName());
+        writeString(out, course.getCourseSecretaryEmail());
+        out.writeInt(course.getRequiredTutorials());
+        out.writeInt(course.getRequiredLabs());
+        List<Activity> activities = course.getActivities();
+        out.writeInt(activities.size());
+        for (Activity activity : activities) {
+            out.writeInt(activity.getId());
+            writeString(out, activity.getClass().getSimpleName());
+            out.writeByte(activity.getDay().ordinal());
+            out.writeInt((int) activity.getStartDate().toEpochDay());
+            out.writeInt(activity.getStartTime().toSecondOfDay());
+            out.writeInt((int) activity.getEndDate().toEpochDay());
+            out.writeInt(activity.getEndTime().toSecondOfDay());
+            writeString(out, activity.getLocation());
+            Object info = activity.getAdditionalInfo();
+            out.writeInt(info instanceof Boolean ? ((Boolean) info ? 1 : 0) : (Integer) info);
+        }
+    }
+
+    /**
+     * Reads a course written by {@link #writeCourse}.
+     */
+    static Course readCourse(DataInputStream in) throws IOException {
+        Course course = new Course(readString(in), readString(in), readString(in), in.readBoolean(),
+                readString(in), readString(in), readString(in), readString(in), in.readInt(), in.readInt());
+        int activities = in.readInt();
+        for (int i = 0; i < activities; i++) {
+            int id = in.readInt();
+            String type = readString(in);
+            DayOfWeek day = DAYS[in.readByte()];
+            LocalDate startDate = LocalDate.ofEpochDay(in.readInt());
+            LocalTime startTime = LocalTime.ofSecondOfDay(in.readInt());
+            LocalDate endDate = LocalDate.ofEpochDay(in.readInt());
+            LocalTime endTime = LocalTime.ofSecondOfDay(in.readInt());
+            String location = readString(in);
+            int info = in.readInt();
+            course.addActivity(startDate, startTime, endDate, endTime, location, day, type,
+                    type.equals("Lecture") ? (Object) (info != 0) : (Object) info, id);
+        }
+        return course;
+    }
+
+    /**
+     * Writes a timetable with its slots. The timetable is locked while it is read, so a consistent copy is written
+     * even if the student changes it at the same time.
+     */
+    static void writeTimetable(DataOutputStream out, Timetable timetable) throws IOException {
+        writeString(out, timetable.getStudentEmail());
+        synchronized (timetable) {
+            out.writeInt(timetable.timeSlots.size());
+            for (TimeSlot slot : timetable.timeSlots) {
+                out.writeByte(slot.getDay().ordinal());
+                out.writeInt((int) slot.getStartDate().toEpochDay());
+                out.writeInt(slot.getStartTime().toSecondOfDay());
+                out.writeInt((int) slot.getEndDate().toEpochDay());
+                out.writeInt(slot.getEndTime().toSecondOfDay());
+                writeString(out, slot.courseCode);
+                out.writeInt(slot.activityId);
+                out.writeByte((slot.isChosen() ? 1 : 0) | (slot.isRecordedLecture() ? 2 : 0));
+                out.writeByte(slot.getKind().ordinal());
+            }
+        }
+    }
+
+    /**
+     * Reads a timetable written by {@link #writeTimetable}.
+     */
+    static Timetable readTimetable(DataInputStream in) throws IOException {
+        Timetable timetable = new Timetable(readString(in));
+        int slots = in.readInt();
+        for (int i = 0; i < slots; i++) {
+            DayOfWeek day = DAYS[in.readByte()];
+            LocalDate startDate = LocalDate.ofEpochDay(in.readInt());
+            LocalTime startTime = LocalTime.ofSecondOfDay(in.readInt());
+            LocalDate endDate = LocalDate.ofEpochDay(in.readInt());
+            LocalTime endTime = LocalTime.ofSecondOfDay(in.readInt());
+            String courseCode = readString(in);
+            int activityId = in.readInt();
+            byte flags = in.readByte();
+            ActivityKind kind = KINDS[in.readByte()];
+            timetable.appendTimeSlot(new TimeSlot(day, startDate, startTime, endDate, endTime, courseCode, activityId,
+                    (flags & 1) != 0 ? TimeSlotStatus.CHOSEN : TimeSlotStatus.UNCHOSEN, kind, (flags & 2) != 0));
+        }
+        return timetable;
+    }
+
+    /**
+     * Writes a section of the FAQ with its items and subsections.
+     */
+    static void writeSection(DataOutputStream out, FAQSection section) throws IOException {
+        writeString(out, section.getTopic());
+        out.writeInt(section.getItems().size());
+        for (FAQItem item : section.getItems()) {
+            out.writeInt(item.getId());
+            writeString(out, item.getQuestion());
+            writeString(out, item.getAnswer());
+            writeString(out, item.getCourseTag());
+        }
+        out.writeInt(section.getSubsections().size());
+        for (FAQSection subsection : section.getSubsections()) {
+            writeSection(out, subsection);
+        }
+    }
+
+    /**
+     * Reads a section written by {@link #writeSection}.
+     */
+    static FAQSection readSection(DataInputStream in) throws IOException {
+        FAQSection section = new FAQSection(readString(in));
+        int items = in.readInt();
+        for (int i = 0; i < items; i++) {
+            section.getItems().add(new FAQItem(in.readInt(), readString(in), readString(in), readString(in)));
+        }
+        int subsections = in.readInt();
+        for (int i = 0; i < subsections; i++) {
+            section.addSubsection(readSection(in));
+        }
+        return section;
+    }
+
+    /**
+     * Writes an inquiry with its assignment.
+     */
+    static void writeInquiry(DataOutputStream out, Inquiry inquiry) throws IOException {
+        out.writeLong(inquiry.getCreatedAt().toLocalDate().toEpochDay());
+        out.writeLong(inquiry.getCreatedAt().toLocalTime().toNanoOfDay());
+        writeString(out, inquiry.getInquirerEmail());
+        writeString(out, inquiry.getSubject());
+        writeString(out, inquiry.getContent());
+        writeString(out, inquiry.getCourseCode());
+        writeString(out, inquiry.getAssignedTo());
+    }
+
+    /**
+     * Reads an inquiry written by {@link #writeInquiry}.
+     */
+    static Inquiry readInquiry(DataInputStream in) throws IOException {
+        LocalDateTime createdAt = LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()),
+                LocalTime.ofNanoOfDay(in.readLong()));
+        Inquiry inquiry = new Inquiry(createdAt, readString(in), readString(in), readString(in), readString(in));
+        inquiry.setAssignedTo(readString(in));
+        return inquiry;
+    }
+}
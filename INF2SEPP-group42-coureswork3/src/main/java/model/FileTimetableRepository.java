@@ -0,0 +1,42 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Keeps student timetables in a directory, one file per student. Every timetable is loaded when the repository is
+ * opened and written back as soon as it is saved. Wrap it in a {@link WriteBehindTimetableRepository} to take the
+ * writes off the request path.
+ */
+public class FileTimetableRepository implements TimetableRepository {
+    private final FileStore store;
+    private final InMemoryTimetableRepository timetables = new InMemoryTimetableRepository();
+
+    /**
+     * @param directory the directory the timetables are kept in, created if it does not exist
+     * @throws IOException if a stored timetable could not be read
+     */
+    public FileTimetableRepository(Path directory) throws IOException {
+        this.store = new FileStore(directory);
+        for (Timetable timetable : store.readAll(FileStore::readTimetable)) {
+            timetables.save(timetable);
+        }
+    }
+
+    @Override
+    public Timetable find(String studentEmail) {
+        return timetables.find(studentEmail);
+    }
+
+    @Override
+    public void save(Timetable timetable) {
+        timetables.save(timetable);
+        store.write(timetable.getStudentEmail(), out -> FileStore.writeTimetable(out, timetable));
+    }
+
+    @Override
+    public Collection<Timetable> findAll() {
+        return timetables.findAll();
+    }
+}
@@ -1,7 +1,7 @@
-package model;
-
-/**
- * Represents a guest user in the system
- */
-public class Guest extends User {
-}
+package model;
+
+/**
+ * Represents a guest user in the system
+ */
+public class Guest extends User {
+}
@@ -0,0 +1,227 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Exports the chosen activities of student timetables as iCalendar (.ics) files, with one weekly recurring event per
+ * activity, so they can be imported into campus calendar systems.
+ */
+public class ICalendarExporter {
+    /**
+     * The number of timetables written by a single worker task in a bulk export.
+     */
+    public static final int CHUNK_SIZE = 500;
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int MAX_LINE_LENGTH = 75;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final String timestamp;
+
+    public ICalendarExporter() {
+        this.timestamp = LocalDateTime.now(ZoneOffset.UTC).format(DATE_TIME) + "Z";
+    }
+
+    /**
+     * Renders a single timetable.
+     *
+     * @param timetable the timetable to export
+     * @return the contents of the .ics file
+     */
+    public String export(Timetable timetable) {
+        StringBuilder sb = new StringBuilder();
+        render(timetable, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Writes a single timetable to a file.
+     *
+     * @param timetable the timetable to export
+     * @param file      the file to write
+     * @throws IOException if the file could not be written
+     */
+    public void export(Timetable timetable, Path file) throws IOException {
+        new Encoder().write(timetable, file);
+    }
+
+    /**
+     * Writes every timetable to its own file in a directory. Timetables are split into chunks that are written in
+     * parallel on the worker pool, each worker reusing its text and byte buffers between files.
+     *
+     * @param timetables    the timetables to export
+     * @param directory     the directory to write the files to, created if missing
+     * @return the number of files written
+     * @throws IOException if the directory or any of the files could not be written
+     */
+    public int exportAll(Collection<Timetable> timetables, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<Timetable> remaining = new ArrayList<>(timetables);
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < remaining.size(); from += CHUNK_SIZE) {
+            List<Timetable> chunk = remaining.subList(from, Math.min(from + CHUNK_SIZE, remaining.size()));
+            chunks.add(CompletableFuture.runAsync(() -> {
+                Encoder encoder = new Encoder();
+                for (Timetable timetable : chunk) {
+                    try {
+                        encoder.write(timetable, directory.resolve(getFileName(timetable)));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }, WorkerPool.get()));
+        }
+
+        try {
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+        return remaining.size();
+    }
+
+    /**
+     * @param timetable the timetable
+     * @return the name of the .ics file for the timetable, based on the student's email
+     */
+    public static String getFileName(Timetable timetable) {
+        return timetable.getStudentEmail().replaceAll("[^A-Za-z0-9@._-]", "_") + ".ics";
+    }
+
+    /**
+     * Appends the calendar of a timetable to the builder.
+     *
+     * @param timetable the timetable to render
+     * @param sb        the builder to append to
+     */
+    private void render(Timetable timetable, StringBuilder sb) {
+        appendLine(sb, "BEGIN:VCALENDAR");
+        appendLine(sb, "VERSION:2.0");
+        appendLine(sb, "PRODID:-//University Self Service Portal//Timetable//EN");
+        appendLine(sb, "CALSCALE:GREGORIAN");
+
+        String studentEmail = timetable.getStudentEmail();
+        for (TimeSlot slot : timetable.getChosenTimeSlots()) {
+            LocalDate firstDate = slot.getStartDate().with(TemporalAdjusters.nextOrSame(slot.getDay()));
+            if (firstDate.isAfter(slot.getEndDate())) {
+                continue; // The activity never takes place
+            }
+
+            appendLine(sb, "BEGIN:VEVENT");
+            appendLine(sb, "UID:" + slot.courseCode + "-" + slot.activityId + "-" + studentEmail);
+            appendLine(sb, "DTSTAMP:" + timestamp);
+            appendLine(sb, "DTSTART:" + LocalDateTime.of(firstDate, slot.getStartTime()).format(DATE_TIME));
+            appendLine(sb, "DTEND:" + LocalDateTime.of(firstDate, slot.getEndTime()).format(DATE_TIME));
+            appendLine(sb, "RRULE:FREQ=WEEKLY;BYDAY=" + slot.getDay().name().substring(0, 2) + ";UNTIL=" +
+                    LocalDateTime.of(slot.getEndDate(), LocalTime.MAX).format(DATE_TIME));
+            appendLine(sb, "SUMMARY:" + escape(slot.courseCode + " " + slot.getActivityType()));
+            appendLine(sb, "END:VEVENT");
+        }
+
+        appendLine(sb, "END:VCALENDAR");
+    }
+
+    /**
+     * Appends a content line, folding it over several lines if it is longer than the iCalendar limit.
+     *
+     * @param sb    the builder to append to
+     * @param line  the content line
+     */
+    private static void appendLine(StringBuilder sb, String line) {
+        int start = 0;
+        while (line.length() - start > MAX_LINE_LENGTH) {
+            // Continuation lines start with a space, which counts towards their length
+            int end = start + (start == 0 ? MAX_LINE_LENGTH : MAX_LINE_LENGTH - 1);
+            sb.append(line, start, end).append("\r\n ");
+            start = end;
+        }
+        sb.append(line, start, line.length()).append("\r\n");
+    }
+
+    /**
+     * @param text  the text value
+     * @return the text with the characters iCalendar treats specially escaped
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\n", "\\n");
+    }
+
+    /**
+     * Renders and writes timetables, reusing the same text and byte buffers for every file.
+     */
+    private class Encoder {
+        private final StringBuilder text = new StringBuilder();
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        /**
+         * @param timetable the timetable to write
+         * @param file      the file to write it to
+         * @throws IOException if the file could not be written
+         */
+        private void write(Timetable timetable, Path file) throws IOException {
+            text.setLength(0);
+            render(timetable, text);
+
+            CharBuffer chars = CharBuffer.wrap(text);
+            encoder.reset();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                // Whenever the buffer fills up it is written out and reused for the rest of the text
+                while (true) {
+                    CoderResult result = encoder.encode(chars, buffer, true);
+                    if (result.isError()) {
+                        result.throwException();
+                    }
+                    if (result.isUnderflow()) {
+                        break;
+                    }
+                    drain(channel);
+                }
+                while (encoder.flush(buffer).isOverflow()) {
+                    drain(channel);
+                }
+                drain(channel);
+            }
+        }
+
+        /**
+         * Writes everything in the buffer to the channel and clears it.
+         *
+         * @param channel   the channel to write to
+         * @throws IOException if the channel could not be written
+         */
+        private void drain(FileChannel channel) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the course catalogue in memory only.
+ */
+public class InMemoryCourseRepository implements CourseRepository {
+    private final Map<String, Course> courses = new HashMap<>();
+
+    @Override
+    public Course find(String courseCode) {
+        return courses.get(courseCode);
+    }
+
+    @Override
+    public boolean exists(String courseCode) {
+        return courses.containsKey(courseCode);
+    }
+
+    @Override
+    public void save(Course course) {
+        courses.put(course.getCourseCode(), course);
+    }
+
+    @Override
+    public Course delete(String courseCode) {
+        return courses.remove(courseCode);
+    }
+
+    @Override
+    public Collection<Course> findAll() {
+        return courses.values();
+    }
+}
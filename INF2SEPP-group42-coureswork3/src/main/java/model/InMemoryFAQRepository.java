@@ -0,0 +1,18 @@
+package model;
+
+/**
+ * Keeps the FAQ in memory only.
+ */
+public class InMemoryFAQRepository implements FAQRepository {
+    private FAQ faq = new FAQ();
+
+    @Override
+    public FAQ load() {
+        return faq;
+    }
+
+    @Override
+    public void save(FAQ faq) {
+        this.faq = faq;
+    }
+}
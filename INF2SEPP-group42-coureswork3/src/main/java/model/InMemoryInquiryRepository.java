@@ -0,0 +1,32 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps inquiries in memory only.
+ */
+public class InMemoryInquiryRepository implements InquiryRepository {
+    private final List<Inquiry> inquiries = new ArrayList<>();
+
+    @Override
+    public List<Inquiry> findAll() {
+        return Collections.unmodifiableList(inquiries);
+    }
+
+    @Override
+    public void add(Inquiry inquiry) {
+        inquiries.add(inquiry);
+    }
+
+    @Override
+    public void update(Inquiry inquiry) {
+        // The stored inquiry is the changed object itself
+    }
+
+    @Override
+    public void remove(int index) {
+        inquiries.remove(index);
+    }
+}
@@ -0,0 +1,28 @@
+package model;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps student timetables in memory only.
+ */
+public class InMemoryTimetableRepository implements TimetableRepository {
+    // Timetables are also read by background validation sweeps while they are saved
+    private final Map<String, Timetable> timetables = new ConcurrentHashMap<>();
+
+    @Override
+    public Timetable find(String studentEmail) {
+        return timetables.get(studentEmail);
+    }
+
+    @Override
+    public void save(Timetable timetable) {
+        timetables.put(timetable.getStudentEmail(), timetable);
+    }
+
+    @Override
+    public Collection<Timetable> findAll() {
+        return timetables.values();
+    }
+}
@@ -0,0 +1,30 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Stores the inquiries waiting for an answer, in the order they were made.
+ */
+public interface InquiryRepository {
+    /**
+     * @return a read-only view of the stored inquiries, oldest first, which reflects later changes
+     */
+    List<Inquiry> findAll();
+
+    /**
+     * @param inquiry   the inquiry to store
+     */
+    void add(Inquiry inquiry);
+
+    /**
+     * Stores the changes made to a stored inquiry, such as its assignment.
+     *
+     * @param inquiry   the changed inquiry
+     */
+    void update(Inquiry inquiry);
+
+    /**
+     * @param index the position of the inquiry to remove
+     */
+    void remove(int index);
+}
@@ -0,0 +1,378 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the portal state in a directory so it survives a restart. Every mutation is appended to a
+ * {@link WriteAheadLog} before the call that made it returns. A {@link LogCompactor} writes a compact snapshot of the
+ * state in the background once the log grows too large or too old, so recovery only has to replay the records
+ * written after the last snapshot. On startup the newest readable snapshot is loaded and the records written after it
+ * are replayed.
+ *
+ * <p>Snapshots are kept as numbered generations, each named after the sequence number of the last record it includes.
+ * The log segments written since the oldest kept generation stay on disk as well, so the state can still be
+ * recovered from an older generation if a newer one cannot be read.</p>
+ *
+ * <p>A journal created with {@link #disabled()} keeps nothing and only applies the mutations.</p>
+ */
+public class Journal implements Closeable {
+    /**
+     * The number of bytes logged since the last snapshot that triggers a new one, unless a different size is given.
+     */
+    public static final long DEFAULT_MAX_LOG_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * The time after which records not included in a snapshot trigger a new one, unless a different age is given.
+     */
+    public static final long DEFAULT_MAX_LOG_AGE_MILLIS = 10 * 60 * 1000;
+
+    /**
+     * The number of snapshots kept, unless a different number is given.
+     */
+    public static final int DEFAULT_GENERATIONS = 3;
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final WriteAheadLog log;
+    private final int generations;
+    private final LogCompactor compactor;
+    // Held while a mutation is applied and its record queued, so records are logged in the order they were applied
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // The number of mutations applied, so work done outside the lock can tell whether the state changed meanwhile
+    private final AtomicLong mutations = new AtomicLong();
+    private final long recoveredRecords;
+    private final long recoveryMillis;
+    private volatile long lastSnapshotSequence;
+    private volatile long lastSnapshotTime = System.currentTimeMillis();
+    private volatile long bytesAtLastSnapshot;
+
+    private Journal(Path directory, WriteAheadLog log, int generations, long maxLogBytes, long maxLogAgeMillis,
+                    long recoveredRecords, long recoveryMillis) {
+        this.directory = directory;
+        this.log = log;
+        this.generations = generations;
+        this.compactor = log == null ? null : new LogCompactor(this, maxLogBytes, maxLogAgeMillis);
+        this.recoveredRecords = recoveredRecords;
+        this.recoveryMillis = recoveryMillis;
+    }
+
+    /**
+     * @return a journal that does not keep anything
+     */
+    static Journal disabled() {
+        return new Journal(null, null, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Recovers the state kept in a directory into an empty context, and starts logging the mutations made to it.
+     *
+     * @param directory         the directory the state is kept in, created if it does not exist
+     * @param context           the empty context to recover into
+     * @param maxLogBytes       the number of bytes logged since the last snapshot that triggers a new one
+     * @param maxLogAgeMillis   the time after which records not included in a snapshot trigger a new one
+     * @param generations       the number of snapshots to keep
+     * @return the open journal
+     * @throws IOException if the state could not be read or the log could not be opened
+     */
+    static Journal open(Path directory, SharedContext context, long maxLogBytes, long maxLogAgeMillis,
+                        int generations) throws IOException {
+        long start = System.currentTimeMillis();
+        Files.createDirectories(directory);
+
+        long snapshotSequence = loadNewestSnapshot(directory, context);
+        AtomicLong replayed = new AtomicLong();
+        long lastSequence = WriteAheadLog.replay(directory, snapshotSequence + 1, (sequence, payload) -> {
+            // The segments kept for older generations start before the snapshot
+            if (sequence > snapshotSequence) {
+                context.apply(JournalRecord.decode(payload));
+                replayed.incrementAndGet();
+            }
+        });
+
+        long nextSequence = Math.max(snapshotSequence, lastSequence) + 1;
+        List<Path> segments = WriteAheadLog.listSegments(directory);
+        if (!segments.isEmpty()) {
+            // The last segment may have been rolled to without any record being written to it
+            nextSequence = Math.max(nextSequence, WriteAheadLog.firstSequence(segments.get(segments.size() - 1)));
+        }
+        WriteAheadLog log = new WriteAheadLog(directory, nextSequence);
+        Journal journal = new Journal(directory, log, generations, maxLogBytes, maxLogAgeMillis, replayed.get(),
+                System.currentTimeMillis() - start);
+        journal.lastSnapshotSequence = snapshotSequence;
+        journal.compactor.start();
+        return journal;
+    }
+
+    /**
+     * Applies a mutation and logs its record. Returns once the record is on disk, so an acknowledged mutation is
+     * never lost. Nothing is logged if the mutation reports that it did not change anything.
+     *
+     * @param record    the record describing the mutation
+     * @param apply     makes the change in memory and returns whether anything changed
+     * @return the result of {@code apply}
+     * @throws UncheckedIOException if the record could not be written, or an earlier record could not be, in which
+     *                              case nothing is applied
+     */
+    boolean write(JournalRecord record, BooleanSupplier apply) {
+        return write(() -> apply.getAsBoolean() ? record : null);
+    }
+
+    /**
+     * Applies a mutation whose record depends on the state it is applied to, such as the position of an item in a
+     * list, and logs the record. The record is built under the same lock as the change, so no other mutation can come
+     * in between and make it describe a different change.
+     *
+     * <p>The journal stops at the first record that cannot be written: from then on memory is ahead of the log, so
+     * every later mutation is refused before it is applied.</p>
+     *
+     * @param mutation  makes the change in memory and returns its record, or {@code null} if nothing changed
+     * @return {@code true} if anything changed, otherwise {@code false}
+     * @throws UncheckedIOException if the record could not be written, or an earlier record could not be, in which
+     *                              case nothing is applied
+     */
+    boolean write(Supplier<JournalRecord> mutation) {
+        if (log == null) {
+            if (mutation.get() == null) {
+                return false;
+            }
+            mutations.incrementAndGet();
+            return true;
+        }
+
+        JournalRecord record;
+        CompletableFuture<Long> durable;
+        appendLock.lock();
+        try {
+            try {
+                log.checkWritable();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Changes can no longer be saved after an earlier change could not be ("
+                        + e.getMessage() + ")", e);
+            }
+            record = mutation.get();
+            if (record == null) {
+                return false;
+            }
+            mutations.incrementAndGet();
+            durable = log.append(record.encode());
+        } finally {
+            appendLock.unlock();
+        }
+        // Waiting happens outside the lock, so other writers can join the same fsync
+        try {
+            await(durable);
+        } catch (UncheckedIOException e) {
+            TinyLogLogger.log(System.currentTimeMillis(), "", "journalWrite", record.getType().toString(),
+                    "FAILURE (Error: " + e.getCause().getMessage() + ", no further changes accepted)");
+            throw new UncheckedIOException("The change could not be saved (" + e.getCause().getMessage()
+                    + "), no further changes will be accepted", e.getCause());
+        }
+        compactor.checkSize();
+        return true;
+    }
+
+    /**
+     * @return the number of mutations applied so far; inside a mutation, the number applied before it
+     */
+    long getMutationCount() {
+        return mutations.get();
+    }
+
+    /**
+     * Writes a new snapshot generation. The log is rolled over to a new segment, which only holds writers back for as
+     * long as it takes to queue the roll. The snapshot is then built apart from the live state, by loading the
+     * previous snapshot and replaying the segments written since, so it is a consistent point-in-time view that never
+     * waits for or blocks a writer. Afterwards the generations and log segments that are no longer needed are
+     * deleted.
+     *
+     * @throws IOException if the snapshot could not be written
+     */
+    public synchronized void snapshot() throws IOException {
+        if (log == null) {
+            return;
+        }
+
+        long bytes = log.getBytesWritten();
+        long time = System.currentTimeMillis();
+        long sequence = await(log.roll()) - 1;
+        if (sequence <= lastSnapshotSequence) {
+            bytesAtLastSnapshot = bytes;
+            lastSnapshotTime = time;
+            return;
+        }
+
+        SharedContext shadow = new SharedContext(null);
+        // Closes of terms in the snapshot promote their archives, or a crash would leave them pending and drop them
+        shadow.getCourseManager().setArchiveDirectory(directory.resolve(SharedContext.ARCHIVE_DIRECTORY));
+        long base = loadNewestSnapshot(directory, shadow);
+        WriteAheadLog.read(directory, base + 1, sequence, (recordSequence, payload) -> {
+            if (recordSequence > base) {
+                shadow.apply(JournalRecord.decode(payload));
+            }
+        });
+        BinarySnapshot.capture(shadow).write(getSnapshotPath(directory, sequence), sequence);
+        lastSnapshotSequence = sequence;
+        bytesAtLastSnapshot = bytes;
+        lastSnapshotTime = time;
+
+        List<Path> snapshots = listSnapshots(directory);
+        List<Path> expired = snapshots.subList(0, Math.max(0, snapshots.size() - generations));
+        for (Path old : expired) {
+            Files.deleteIfExists(old);
+        }
+        if (!expired.isEmpty()) {
+            WriteAheadLog.syncDirectory(directory);
+        }
+        long oldestKept = getSnapshotSequence(listSnapshots(directory).get(0));
+        log.deleteSegmentsBefore(oldestKept + 1);
+    }
+
+    /**
+     * @return {@code true} if mutations are kept, otherwise {@code false}
+     */
+    public boolean isEnabled() {
+        return log != null;
+    }
+
+    /**
+     * @return the number of log records replayed on top of the snapshot when the journal was opened
+     */
+    public long getRecoveredRecords() {
+        return recoveredRecords;
+    }
+
+    /**
+     * @return the time it took to load the snapshot and replay the log, in milliseconds
+     */
+    public long getRecoveryMillis() {
+        return recoveryMillis;
+    }
+
+    /**
+     * @return the number of fsyncs done so far, which is lower than the number of records when writes were batched
+     */
+    public long getSyncCount() {
+        return log == null ? 0 : log.getSyncCount();
+    }
+
+    /**
+     * @return the number of snapshots written in the background so far
+     */
+    public long getCompactionCount() {
+        return compactor == null ? 0 : compactor.getCompactions();
+    }
+
+    /**
+     * @return the number of snapshots that failed in the background so far
+     */
+    public long getFailedCompactionCount() {
+        return compactor == null ? 0 : compactor.getFailures();
+    }
+
+    /**
+     * @return the number of bytes logged since the last snapshot
+     */
+    long getBytesSinceSnapshot() {
+        return log.getBytesWritten() - bytesAtLastSnapshot;
+    }
+
+    /**
+     * @return the time since the last snapshot, in milliseconds
+     */
+    long getMillisSinceSnapshot() {
+        return System.currentTimeMillis() - lastSnapshotTime;
+    }
+
+    /**
+     * Stops the compactor, waits for every logged record to be written and closes the log.
+     */
+    @Override
+    public void close() throws IOException {
+        if (log != null) {
+            compactor.close();
+            log.close();
+        }
+    }
+
+    /**
+     * Loads the newest snapshot in a directory that can be read, falling back to older generations if it cannot.
+     * A snapshot is checked before anything is loaded, so a failed attempt leaves the context untouched.
+     *
+     * @param directory the directory the state is kept in
+     * @param context   the empty context to load into
+     * @return the sequence number of the last record included in the loaded snapshot, or {@code 0} if there is none
+     * @throws IOException if there are snapshots but none of them can be read
+     */
+    private static long loadNewestSnapshot(Path directory, SharedContext context) throws IOException {
+        List<Path> snapshots = listSnapshots(directory);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try {
+                return BinarySnapshot.read(snapshots.get(i), context);
+            } catch (IOException e) {
+                if (i == 0) {
+                    throw e;
+                }
+                TinyLogLogger.log(System.currentTimeMillis(), "", "loadSnapshot", snapshots.get(i).toString(),
+                        "FAILURE (Error: " + e.getMessage() + ", trying the previous generation)");
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param directory the directory the state is kept in
+     * @return the snapshots in the directory, oldest first
+     * @throws IOException if the directory could not be listed
+     */
+    static List<Path> listSnapshots(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SNAPSHOT_PREFIX)
+                            && path.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Path getSnapshotPath(Path directory, long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+    }
+
+    private static long getSnapshotSequence(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+    /**
+     * Waits for a log operation, rethrowing its failure.
+     *
+     * @param future    the operation to wait for
+     * @return the result of the operation
+     */
+    private static long await(CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? new UncheckedIOException((IOException) cause)
+                    : new UncheckedIOException(new IOException(cause));
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single mutation of the portal state as it is written to the {@link WriteAheadLog}. A record is its type and a list
+ * of values, each value is encoded with a one byte tag so records can be read back without a schema.
+ */
+class JournalRecord {
+    /**
+     * The mutations that are logged.
+     */
+    enum Type {
+        ADD_COURSE,
+        ADD_ACTIVITY,
+        ADD_COURSE_TO_TIMETABLE,
+        CHOOSE_ACTIVITY,
+        REMOVE_COURSE_FROM_TIMETABLE,
+        REMOVE_COURSE,
+        ADD_FAQ_SECTION,
+        ADD_FAQ_ITEM,
+        REMOVE_FAQ_ITEM,
+        REMOVE_FAQ_SECTION,
+        COLLAPSE_FAQ_SECTION,
+        ADD_INQUIRY,
+        ASSIGN_INQUIRY,
+        REMOVE_INQUIRY,
+        CLOSE_TERM,
+        SOFT_DELETE_COURSE,
+        RESTORE_COURSE,
+        PURGE_COURSE,
+        ENROL_STUDENT
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_BOOLEAN = 4;
+
+    private final Type type;
+    private final List<Object> values = new ArrayList<>();
+
+    /**
+     * @param type  the type of the mutation
+     */
+    JournalRecord(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Adds a value to the record.
+     *
+     * @param value a {@link String}, {@link Integer}, {@link Long}, {@link Boolean} or {@code null}
+     * @return this record
+     */
+    JournalRecord add(Object value) {
+        values.add(value);
+        return this;
+    }
+
+    /**
+     * @param date  the date to add
+     * @return this record
+     */
+    JournalRecord add(LocalDate date) {
+        return add(date.toEpochDay());
+    }
+
+    /**
+     * @param time  the time to add
+     * @return this record
+     */
+    JournalRecord add(LocalTime time) {
+        return add(time.toSecondOfDay());
+    }
+
+    /**
+     * @param dateTime  the date and time to add
+     * @return this record
+     */
+    JournalRecord add(LocalDateTime dateTime) {
+        return add(dateTime.toString());
+    }
+
+    /**
+     * @param day   the day of the week to add
+     * @return this record
+     */
+    JournalRecord add(DayOfWeek day) {
+        return add(day.getValue());
+    }
+
+    /**
+     * @return the type of the mutation
+     */
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, as it was added
+     */
+    Object get(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, read as a string
+     */
+    String getString(int index) {
+        return (String) values.get(index);
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, read as an int
+     */
+    int getInt(int index) {
+        return (Integer) values.get(index);
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, read as a boolean
+     */
+    boolean getBoolean(int index) {
+        return (Boolean) values.get(index);
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, read as a date
+     */
+    LocalDate getDate(int index) {
+        return LocalDate.ofEpochDay((Long) values.get(index));
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, read as a time
+     */
+    LocalTime getTime(int index) {
+        return LocalTime.ofSecondOfDay(getInt(index));
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, read as a date and time
+     */
+    LocalDateTime getDateTime(int index) {
+        return LocalDateTime.parse(getString(index));
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value at the index, read as a day of the week
+     */
+    DayOfWeek getDay(int index) {
+        return DayOfWeek.of(getInt(index));
+    }
+
+    /**
+     * @return the record encoded as bytes
+     */
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type.ordinal());
+            out.writeByte(values.size());
+            for (Object value : values) {
+                if (value == null) {
+                    out.writeByte(TAG_NULL);
+                } else if (value instanceof String) {
+                    byte[] utf8 = ((String) value).getBytes(StandardCharsets.UTF_8);
+                    out.writeByte(TAG_STRING);
+                    out.writeInt(utf8.length);
+                    out.write(utf8);
+                } else if (value instanceof Integer) {
+                    out.writeByte(TAG_INT);
+                    out.writeInt((Integer) value);
+                } else if (value instanceof Long) {
+                    out.writeByte(TAG_LONG);
+                    out.writeLong((Long) value);
+                } else if (value instanceof Boolean) {
+                    out.writeByte(TAG_BOOLEAN);
+                    out.writeBoolean((Boolean) value);
+                } else {
+                    throw new IllegalArgumentException("Unsupported value: " + value.getClass());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param payload   a record encoded with {@link #encode()}
+     * @return the decoded record
+     * @throws IOException if the payload is not a valid record
+     */
+    static JournalRecord decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            JournalRecord record = new JournalRecord(TYPES[in.readUnsignedByte()]);
+            int count = in.readUnsignedByte();
+            for (int i = 0; i < count; i++) {
+                byte tag = in.readByte();
+                switch (tag) {
+                    case TAG_NULL:
+                        record.values.add(null);
+                        break;
+                    case TAG_STRING:
+                        byte[] utf8 = new byte[in.readInt()];
+                        in.readFully(utf8);
+                        record.values.add(new String(utf8, StandardCharsets.UTF_8));
+                        break;
+                    case TAG_INT:
+                        record.values.add(in.readInt());
+                        break;
+                    case TAG_LONG:
+                        record.values.add(in.readLong());
+                        break;
+                    case TAG_BOOLEAN:
+                        record.values.add(in.readBoolean());
+                        break;
+                    default:
+                        throw new IOException("Unknown value tag " + tag + " in " + record.type + " record");
+                }
+            }
+            return record;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Unknown record type", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index of the activities of every course by the location they are held at. Bookings are kept per day of the week,
+ * sorted by start time, so room clashes and free slots can be found without scanning the whole catalogue.
+ *
+ * <p>Thread-safe: the {@link CoursePurger} removes courses while the admin menu looks up rooms, so every method holds
+ * the index lock and lookups return lists of their own.</p>
+ */
+public class LocationIndex {
+    private final Map<String, Map<DayOfWeek, List<Booking>>> bookings = new HashMap<>();
+
+    /**
+     * Adds an activity to the index.
+     *
+     * @param courseCode    the code of the course the activity belongs to
+     * @param activity      the activity to add
+     */
+    public synchronized void add(String courseCode, Activity activity) {
+        if (activity.getLocation() == null) {
+            return;
+        }
+        List<Booking> dayBookings = bookings
+                .computeIfAbsent(key(activity.getLocation()), location -> new EnumMap<>(DayOfWeek.class))
+                .computeIfAbsent(activity.getDay(), day -> new ArrayList<>());
+
+        // Insert after every booking that starts at or before this one to keep the list sorted
+        int position = 0;
+        while (position < dayBookings.size()
+                && !dayBookings.get(position).activity.getStartTime().isAfter(activity.getStartTime())) {
+            position++;
+        }
+        dayBookings.add(position, new Booking(courseCode, activity));
+    }
+
+    /**
+     * Removes every activity of a course from the index.
+     *
+     * @param courseCode    the code of the course
+     */
+    public synchronized void removeCourse(String courseCode) {
+        for (Map<DayOfWeek, List<Booking>> days : bookings.values()) {
+            for (List<Booking> dayBookings : days.values()) {
+                dayBookings.removeIf(booking -> booking.courseCode.equals(courseCode));
+            }
+        }
+    }
+
+    /**
+     * Finds the activities already booked into a location that overlap the given weekly time and date range.
+     *
+     * @param location  the location to check
+     * @param day       the day of the week
+     * @param startDate the first date of the activity
+     * @param endDate   the last date of the activity
+     * @param startTime the start time of the activity
+     * @param endTime   the end time of the activity
+     * @return list of string representations of the clashing activities
+     */
+    public synchronized List<String> findClashes(String location, DayOfWeek day, LocalDate startDate,
+                                                 LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        List<String> clashes = new ArrayList<>();
+        for (Booking booking : getBookings(location, day)) {
+            Activity other = booking.activity;
+            if (!other.getStartTime().isBefore(endTime)) {
+                break; // Sorted by start time, nothing after this can overlap
+            }
+            if (startTime.isBefore(other.getEndTime())
+                    && !startDate.isAfter(other.getEndDate()) && !other.getStartDate().isAfter(endDate)) {
+                clashes.add(booking.courseCode + " - " + other);
+            }
+        }
+        return clashes;
+    }
+
+    /**
+     * Finds the times a location is free on a given date.
+     *
+     * @param location  the location to check
+     * @param date      the date to check
+     * @param dayStart  the earliest time to consider
+     * @param dayEnd    the latest time to consider
+     * @return list of free windows between {@code dayStart} and {@code dayEnd}, in order
+     */
+    public synchronized List<TimeWindow> getFreeSlots(String location, LocalDate date, LocalTime dayStart, LocalTime dayEnd) {
+        List<TimeWindow> free = new ArrayList<>();
+        LocalTime cursor = dayStart;
+        for (Booking booking : getBookings(location, date.getDayOfWeek())) {
+            Activity activity = booking.activity;
+            if (date.isBefore(activity.getStartDate()) || date.isAfter(activity.getEndDate())) {
+                continue; // Not running on this date
+            }
+            if (activity.getStartTime().isAfter(cursor)) {
+                free.add(new TimeWindow(cursor, min(activity.getStartTime(), dayEnd)));
+            }
+            if (activity.getEndTime().isAfter(cursor)) {
+                cursor = activity.getEndTime();
+            }
+            if (!cursor.isBefore(dayEnd)) {
+                return free;
+            }
+        }
+        free.add(new TimeWindow(cursor, dayEnd));
+        return free;
+    }
+
+    /**
+     * @param location  the location
+     * @param day       the day of the week
+     * @return the bookings of a location on a day, sorted by start time
+     */
+    private List<Booking> getBookings(String location, DayOfWeek day) {
+        if (location == null) {
+            return List.of();
+        }
+        return bookings.getOrDefault(key(location), Map.of()).getOrDefault(day, List.of());
+    }
+
+    /**
+     * @param location  the location as entered
+     * @return the location normalised for case and surrounding whitespace
+     */
+    private static String key(String location) {
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static LocalTime min(LocalTime a, LocalTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * An activity booked into a location.
+     */
+    private static class Booking {
+        private final String courseCode;
+        private final Activity activity;
+
+        private Booking(String courseCode, Activity activity) {
+            this.courseCode = courseCode;
+            this.activity = activity;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background job that writes a new snapshot of a {@link Journal} once too much has been logged since the last one, or
+ * once the oldest record not included in a snapshot gets too old. The size is checked after every write and the age
+ * on a timer. Snapshots are written one at a time on the compactor's own thread, so neither check ever waits for one.
+ * After a failed snapshot the next one waits for a delay that grows with every failure in a row.
+ */
+class LogCompactor implements Closeable {
+    // Bounds of the period of the age check, in milliseconds
+    private static final long MIN_CHECK_PERIOD = 1000;
+    private static final long MAX_CHECK_PERIOD = 60 * 1000;
+    // Bounds of the wait before retrying after a failed snapshot, doubled after every failure in a row
+    private static final long MIN_RETRY_DELAY = 1000;
+    private static final long MAX_RETRY_DELAY = 5 * 60 * 1000;
+
+    private final Journal journal;
+    private final long maxLogBytes;
+    private final long maxLogAgeMillis;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private final AtomicLong compactions = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    // Only changed on the compactor's thread
+    private volatile long retryDelay;
+    private volatile long retryAt;
+
+    /**
+     * @param journal           the journal to write snapshots of
+     * @param maxLogBytes       the number of bytes logged since the last snapshot that triggers a new one
+     * @param maxLogAgeMillis   the time after which records not included in a snapshot trigger a new one
+     */
+    LogCompactor(Journal journal, long maxLogBytes, long maxLogAgeMillis) {
+        this.journal = journal;
+        this.maxLogBytes = maxLogBytes;
+        this.maxLogAgeMillis = maxLogAgeMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts checking the age of the log.
+     */
+    void start() {
+        long period = Math.max(MIN_CHECK_PERIOD, Math.min(MAX_CHECK_PERIOD, maxLogAgeMillis / 4));
+        scheduler.scheduleWithFixedDelay(this::checkAge, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a snapshot if too much has been logged since the last one.
+     */
+    void checkSize() {
+        if (journal.getBytesSinceSnapshot() >= maxLogBytes) {
+            trigger();
+        }
+    }
+
+    /**
+     * Queues a snapshot if something has been logged and the last snapshot is too old.
+     */
+    private void checkAge() {
+        if (journal.getBytesSinceSnapshot() > 0 && journal.getMillisSinceSnapshot() >= maxLogAgeMillis) {
+            trigger();
+        }
+    }
+
+    /**
+     * Queues a snapshot unless one is already waiting, or the last one failed and it is too early to try again.
+     * Without the wait, every write after a failure would queue another full load and replay of the log.
+     */
+    private void trigger() {
+        if (System.currentTimeMillis() < retryAt || !queued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                queued.set(false);
+                // A check may have queued this just before the previous snapshot failed
+                if (System.currentTimeMillis() < retryAt) {
+                    return;
+                }
+                try {
+                    journal.snapshot();
+                    compactions.incrementAndGet();
+                    retryDelay = 0;
+                } catch (IOException | RuntimeException e) {
+                    failures.incrementAndGet();
+                    retryDelay = Math.max(MIN_RETRY_DELAY, Math.min(MAX_RETRY_DELAY, retryDelay * 2));
+                    retryAt = System.currentTimeMillis() + retryDelay;
+                    TinyLogLogger.log(System.currentTimeMillis(), "", "compactLog", "",
+                            "FAILURE (Error: " + e.getMessage() + ", retrying in " + retryDelay + " ms)");
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The compactor has been closed
+            queued.set(false);
+        }
+    }
+
+    /**
+     * @return the number of snapshots written so far
+     */
+    long getCompactions() {
+        return compactions.get();
+    }
+
+    /**
+     * @return the number of snapshots that failed so far
+     */
+    long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Stops checking and waits for a snapshot that is being written to finish.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
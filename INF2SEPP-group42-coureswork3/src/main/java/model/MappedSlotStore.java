@@ -0,0 +1,494 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the time slots of every student in two memory-mapped files, outside the Java heap.
+ *
+ * <p>{@code slots.dat} holds fixed-size slot records. The slots of a student form a chain, each record pointing to
+ * the next, and records freed by a rewrite are kept on a free list for reuse. {@code students.idx} is an open
+ * addressing hash table from student email to the first and last record of their chain. Both files are used in place,
+ * so opening a store reads nothing but the headers, and the operating system pages records in as they are read.</p>
+ *
+ * <p>Emails and course codes too long for their fixed-size field are kept in a chain of overflow records in
+ * {@code slots.dat}, which the field points to instead.</p>
+ *
+ * <p>A rewrite links the new chain in before the old one is freed, so a crash of the process never leaves a student
+ * pointing at a half written chain. Mapped changes are only forced to disk by {@link #force()} and {@link #close()}, so
+ * the changes made since then can be lost on power loss.</p>
+ */
+class MappedSlotStore implements Closeable {
+    /**
+     * The longest student email, in UTF-8 bytes, kept in the index entry itself.
+     */
+    static final int MAX_EMAIL_BYTES = 80;
+
+    /**
+     * The longest course code, in UTF-8 bytes, kept in the slot record itself.
+     */
+    static final int MAX_COURSE_CODE_BYTES = 35;
+
+    // Version 2 added overflow records
+    private static final int VERSION = 2;
+    // "TTSL" and "TTIX"
+    private static final int SLOTS_MAGIC = 0x5454534C;
+    private static final int INDEX_MAGIC = 0x54544958;
+    private static final int HEADER_SIZE = 64;
+    private static final int NONE = -1;
+
+    // Slot file header: magic, version, capacity, records in use or freed, first free record
+    private static final int SLOTS_CAPACITY = 8;
+    private static final int SLOTS_USED = 12;
+    private static final int SLOTS_FREE = 16;
+
+    // Slot record layout
+    private static final int RECORD_SIZE = 64;
+    private static final int RECORD_NEXT = 0;
+    private static final int RECORD_ACTIVITY_ID = 4;
+    private static final int RECORD_START_DATE = 8;
+    private static final int RECORD_END_DATE = 12;
+    private static final int RECORD_START_TIME = 16;
+    private static final int RECORD_END_TIME = 20;
+    private static final int RECORD_DAY = 24;
+    private static final int RECORD_KIND = 25;
+    private static final int RECORD_FLAGS = 26;
+    private static final int RECORD_CODE_LENGTH = 27;
+    private static final int RECORD_CODE = 28;
+    private static final int FLAG_CHOSEN = 1;
+    private static final int FLAG_RECORDED = 2;
+    // A code length of OVERFLOW means the code field holds the real length and the first overflow record instead
+    private static final byte OVERFLOW = (byte) 0xFF;
+
+    // Overflow record layout: the next record of the chain, then a part of the value
+    private static final int OVERFLOW_NEXT = 0;
+    private static final int OVERFLOW_DATA = 4;
+    private static final int OVERFLOW_DATA_SIZE = RECORD_SIZE - OVERFLOW_DATA;
+
+    // Index file header: magic, version, capacity, students
+    private static final int INDEX_CAPACITY = 8;
+    private static final int INDEX_SIZE = 12;
+
+    // Index entry layout, an email length of 0 marks an empty entry. An email longer than MAX_EMAIL_BYTES is kept in
+    // overflow records, the email field then holds the first of them
+    private static final int ENTRY_SIZE = 96;
+    private static final int ENTRY_EMAIL_LENGTH = 0;
+    private static final int ENTRY_HEAD = 4;
+    private static final int ENTRY_TAIL = 8;
+    private static final int ENTRY_COUNT = 12;
+    private static final int ENTRY_EMAIL = 16;
+
+    private static final int INITIAL_RECORDS = 1024;
+    private static final int INITIAL_ENTRIES = 256;
+    // The index is rebuilt at twice the size once more than this share of its entries is used
+    private static final double MAX_LOAD = 0.7;
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final ActivityKind[] KINDS = ActivityKind.values();
+
+    private final Path indexPath;
+    private final FileChannel slotsChannel;
+    private MappedByteBuffer slots;
+    private MappedByteBuffer index;
+
+    /**
+     * Opens the store in a directory, creating empty files if there are none.
+     *
+     * @param directory the directory the files are kept in, created if it does not exist
+     * @throws IOException if the files could not be opened or were not written by this class
+     */
+    MappedSlotStore(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path slotsPath = directory.resolve("slots.dat");
+        indexPath = directory.resolve("students.idx");
+        boolean created = !Files.exists(slotsPath);
+        slotsChannel = FileChannel.open(slotsPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (created) {
+            slots = slotsChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) INITIAL_RECORDS
+                    * RECORD_SIZE);
+            slots.putInt(0, SLOTS_MAGIC);
+            slots.putInt(4, VERSION);
+            slots.putInt(SLOTS_CAPACITY, INITIAL_RECORDS);
+            slots.putInt(SLOTS_USED, 0);
+            slots.putInt(SLOTS_FREE, NONE);
+        } else {
+            slots = slotsChannel.map(FileChannel.MapMode.READ_WRITE, 0, slotsChannel.size());
+            checkHeader(slots, SLOTS_MAGIC, slotsPath);
+            // Older readers do not know overflow records
+            slots.putInt(4, VERSION);
+        }
+
+        if (created) {
+            index = createIndex(indexPath, INITIAL_ENTRIES);
+        } else {
+            try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                index = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            }
+            checkHeader(index, INDEX_MAGIC, indexPath);
+            index.putInt(4, VERSION);
+        }
+    }
+
+    /**
+     * @param studentEmail  the email of the student
+     * @return the slots of the student in the order they were written, or {@code null} if the student has none stored
+     */
+    synchronized List<TimeSlot> read(String studentEmail) {
+        int entry = findEntry(encodeEmail(studentEmail));
+        if (index.getInt(entry + ENTRY_EMAIL_LENGTH) == 0) {
+            return null;
+        }
+        int count = index.getInt(entry + ENTRY_COUNT);
+        List<TimeSlot> result = new ArrayList<>(count);
+        for (int record = index.getInt(entry + ENTRY_HEAD); record != NONE; record = slots.getInt(offset(record)
+                + RECORD_NEXT)) {
+            result.add(readSlot(offset(record)));
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the slots of a student, adding the student if they have none stored yet.
+     *
+     * @param studentEmail  the email of the student
+     * @param timeSlots     the slots to store, in order
+     * @throws IllegalArgumentException if the email is empty
+     */
+    synchronized void write(String studentEmail, List<TimeSlot> timeSlots) {
+        byte[] email = encodeEmail(studentEmail);
+        byte[][] codes = new byte[timeSlots.size()][];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = timeSlots.get(i).courseCode.getBytes(StandardCharsets.UTF_8);
+        }
+
+        // The new chain is complete before the student points to it
+        int head = NONE;
+        int tail = NONE;
+        for (int i = 0; i < codes.length; i++) {
+            // Written first, as allocating may move the mapping
+            int overflow = codes[i].length > MAX_COURSE_CODE_BYTES ? writeOverflow(codes[i]) : NONE;
+            int record = allocate();
+            writeSlot(offset(record), timeSlots.get(i), codes[i], overflow);
+            if (tail == NONE) {
+                head = record;
+            } else {
+                slots.putInt(offset(tail) + RECORD_NEXT, record);
+            }
+            tail = record;
+        }
+
+        int entry = findEntry(email);
+        int oldHead = NONE;
+        if (index.getInt(entry + ENTRY_EMAIL_LENGTH) == 0) {
+            if (index.getInt(INDEX_SIZE) + 1 > index.getInt(INDEX_CAPACITY) * MAX_LOAD) {
+                rebuildIndex(index.getInt(INDEX_CAPACITY) * 2);
+                entry = findEntry(email);
+            }
+            if (email.length > MAX_EMAIL_BYTES) {
+                index.putInt(entry + ENTRY_EMAIL, writeOverflow(email));
+            } else {
+                index.position(entry + ENTRY_EMAIL);
+                index.put(email);
+            }
+            index.putInt(entry + ENTRY_EMAIL_LENGTH, email.length);
+            index.putInt(INDEX_SIZE, index.getInt(INDEX_SIZE) + 1);
+        } else {
+            oldHead = index.getInt(entry + ENTRY_HEAD);
+        }
+        index.putInt(entry + ENTRY_HEAD, head);
+        index.putInt(entry + ENTRY_TAIL, tail);
+        index.putInt(entry + ENTRY_COUNT, codes.length);
+
+        while (oldHead != NONE) {
+            int next = slots.getInt(offset(oldHead) + RECORD_NEXT);
+            if (slots.get(offset(oldHead) + RECORD_CODE_LENGTH) == OVERFLOW) {
+                freeChain(slots.getInt(offset(oldHead) + RECORD_CODE + 4));
+            }
+            free(oldHead);
+            oldHead = next;
+        }
+    }
+
+    /**
+     * @return the emails of every student with slots stored, in no particular order
+     */
+    synchronized List<String> getStudentEmails() {
+        int capacity = index.getInt(INDEX_CAPACITY);
+        List<String> emails = new ArrayList<>(index.getInt(INDEX_SIZE));
+        for (int i = 0; i < capacity; i++) {
+            int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            if (index.getInt(entry + ENTRY_EMAIL_LENGTH) > 0) {
+                emails.add(new String(readEmail(index, entry), StandardCharsets.UTF_8));
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * @return the number of students with slots stored
+     */
+    synchronized int getStudentCount() {
+        return index.getInt(INDEX_SIZE);
+    }
+
+    /**
+     * @return the number of slot records in use or waiting on the free list for reuse
+     */
+    synchronized int getRecordCount() {
+        return slots.getInt(SLOTS_USED);
+    }
+
+    /**
+     * Writes every mapped change to disk.
+     */
+    synchronized void force() {
+        slots.force();
+        index.force();
+    }
+
+    /**
+     * Writes every mapped change to disk and closes the files.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        force();
+        slotsChannel.close();
+    }
+
+    private static int offset(int record) {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+
+    /**
+     * Takes a record from the free list, or from the end of the file, growing the file if it is full.
+     */
+    private int allocate() {
+        int free = slots.getInt(SLOTS_FREE);
+        if (free != NONE) {
+            slots.putInt(SLOTS_FREE, slots.getInt(offset(free) + RECORD_NEXT));
+            slots.putInt(offset(free) + RECORD_NEXT, NONE);
+            return free;
+        }
+        int used = slots.getInt(SLOTS_USED);
+        int capacity = slots.getInt(SLOTS_CAPACITY);
+        if (used == capacity) {
+            // A mapped buffer is indexed by int, which limits the file to 2 GB
+            long size = HEADER_SIZE + 2L * capacity * RECORD_SIZE;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("The slot file is full");
+            }
+            try {
+                // Mapping past the end of the file grows it
+                slots = slotsChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not grow the slot file", e);
+            }
+            slots.putInt(SLOTS_CAPACITY, capacity * 2);
+        }
+        slots.putInt(SLOTS_USED, used + 1);
+        slots.putInt(offset(used) + RECORD_NEXT, NONE);
+        return used;
+    }
+
+    private void free(int record) {
+        slots.putInt(offset(record) + RECORD_NEXT, slots.getInt(SLOTS_FREE));
+        slots.putInt(SLOTS_FREE, record);
+    }
+
+    /**
+     * Writes a value too long for its field into a new chain of overflow records.
+     *
+     * @return the first record of the chain
+     */
+    private int writeOverflow(byte[] value) {
+        int head = NONE;
+        int tail = NONE;
+        for (int from = 0; from < value.length; from += OVERFLOW_DATA_SIZE) {
+            int record = allocate();
+            slots.position(offset(record) + OVERFLOW_DATA);
+            slots.put(value, from, Math.min(OVERFLOW_DATA_SIZE, value.length - from));
+            if (tail == NONE) {
+                head = record;
+            } else {
+                slots.putInt(offset(tail) + OVERFLOW_NEXT, record);
+            }
+            tail = record;
+        }
+        return head;
+    }
+
+    private byte[] readOverflow(int record, int length) {
+        byte[] value = new byte[length];
+        for (int from = 0; from < length; from += OVERFLOW_DATA_SIZE) {
+            slots.get(offset(record) + OVERFLOW_DATA, value, from, Math.min(OVERFLOW_DATA_SIZE, length - from));
+            record = slots.getInt(offset(record) + OVERFLOW_NEXT);
+        }
+        return value;
+    }
+
+    private void freeChain(int record) {
+        while (record != NONE) {
+            int next = slots.getInt(offset(record) + OVERFLOW_NEXT);
+            free(record);
+            record = next;
+        }
+    }
+
+    private void writeSlot(int position, TimeSlot slot, byte[] code, int overflow) {
+        slots.putInt(position + RECORD_ACTIVITY_ID, slot.activityId);
+        slots.putInt(position + RECORD_START_DATE, (int) slot.getStartDate().toEpochDay());
+        slots.putInt(position + RECORD_END_DATE, (int) slot.getEndDate().toEpochDay());
+        slots.putInt(position + RECORD_START_TIME, slot.getStartTime().toSecondOfDay());
+        slots.putInt(position + RECORD_END_TIME, slot.getEndTime().toSecondOfDay());
+        slots.put(position + RECORD_DAY, (byte) slot.getDay().ordinal());
+        slots.put(position + RECORD_KIND, (byte) slot.getKind().ordinal());
+        slots.put(position + RECORD_FLAGS, (byte) ((slot.isChosen() ? FLAG_CHOSEN : 0)
+                | (slot.isRecordedLecture() ? FLAG_RECORDED : 0)));
+        if (overflow != NONE) {
+            slots.put(position + RECORD_CODE_LENGTH, OVERFLOW);
+            slots.putInt(position + RECORD_CODE, code.length);
+            slots.putInt(position + RECORD_CODE + 4, overflow);
+        } else {
+            slots.put(position + RECORD_CODE_LENGTH, (byte) code.length);
+            slots.position(position + RECORD_CODE);
+            slots.put(code);
+        }
+    }
+
+    private TimeSlot readSlot(int position) {
+        byte flags = slots.get(position + RECORD_FLAGS);
+        byte codeLength = slots.get(position + RECORD_CODE_LENGTH);
+        byte[] code = codeLength == OVERFLOW
+                ? readOverflow(slots.getInt(position + RECORD_CODE + 4), slots.getInt(position + RECORD_CODE))
+                : readBytes(slots, position + RECORD_CODE, codeLength);
+        String courseCode = new String(code, StandardCharsets.UTF_8);
+        return new TimeSlot(DAYS[slots.get(position + RECORD_DAY)],
+                LocalDate.ofEpochDay(slots.getInt(position + RECORD_START_DATE)),
+                LocalTime.ofSecondOfDay(slots.getInt(position + RECORD_START_TIME)),
+                LocalDate.ofEpochDay(slots.getInt(position + RECORD_END_DATE)),
+                LocalTime.ofSecondOfDay(slots.getInt(position + RECORD_END_TIME)),
+                courseCode, slots.getInt(position + RECORD_ACTIVITY_ID),
+                (flags & FLAG_CHOSEN) != 0 ? TimeSlotStatus.CHOSEN : TimeSlotStatus.UNCHOSEN,
+                KINDS[slots.get(position + RECORD_KIND)], (flags & FLAG_RECORDED) != 0);
+    }
+
+    /**
+     * Finds the entry of an email by linear probing.
+     *
+     * @return the position of the entry holding the email, or of the empty entry where it would go
+     */
+    private int findEntry(byte[] email) {
+        return findEntry(index, email);
+    }
+
+    private int findEntry(MappedByteBuffer index, byte[] email) {
+        int capacity = index.getInt(INDEX_CAPACITY);
+        int hash = Arrays.hashCode(email);
+        int bucket = (hash ^ (hash >>> 16)) & (capacity - 1);
+        while (true) {
+            int entry = HEADER_SIZE + bucket * ENTRY_SIZE;
+            int length = index.getInt(entry + ENTRY_EMAIL_LENGTH);
+            if (length == 0 || (length == email.length && Arrays.equals(readEmail(index, entry), email))) {
+                return entry;
+            }
+            bucket = (bucket + 1) & (capacity - 1);
+        }
+    }
+
+    /**
+     * Moves every entry into a larger index, written next to the current one and moved over it once complete.
+     */
+    private void rebuildIndex(int capacity) {
+        try {
+            Path temporary = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            MappedByteBuffer rebuilt = createIndex(temporary, capacity);
+            int oldCapacity = index.getInt(INDEX_CAPACITY);
+            for (int i = 0; i < oldCapacity; i++) {
+                int entry = HEADER_SIZE + i * ENTRY_SIZE;
+                int length = index.getInt(entry + ENTRY_EMAIL_LENGTH);
+                if (length == 0) {
+                    continue;
+                }
+                int target = findEntry(rebuilt, readEmail(index, entry));
+                // Copied as it is, a long email keeps pointing to its overflow records
+                rebuilt.position(target + ENTRY_EMAIL);
+                rebuilt.put(readBytes(index, entry + ENTRY_EMAIL, ENTRY_SIZE - ENTRY_EMAIL));
+                rebuilt.putInt(target + ENTRY_EMAIL_LENGTH, length);
+                rebuilt.putInt(target + ENTRY_HEAD, index.getInt(entry + ENTRY_HEAD));
+                rebuilt.putInt(target + ENTRY_TAIL, index.getInt(entry + ENTRY_TAIL));
+                rebuilt.putInt(target + ENTRY_COUNT, index.getInt(entry + ENTRY_COUNT));
+            }
+            rebuilt.putInt(INDEX_SIZE, index.getInt(INDEX_SIZE));
+            rebuilt.force();
+
+            Files.move(temporary, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            index = rebuilt;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not grow the student index", e);
+        }
+    }
+
+    private static MappedByteBuffer createIndex(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // The mapping stays valid after the channel is closed, and after the file is moved
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) capacity * ENTRY_SIZE);
+            index.putInt(0, INDEX_MAGIC);
+            index.putInt(4, VERSION);
+            index.putInt(INDEX_CAPACITY, capacity);
+            index.putInt(INDEX_SIZE, 0);
+            return index;
+        }
+    }
+
+    private static void checkHeader(MappedByteBuffer buffer, int magic, Path path) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != magic) {
+            throw new IOException(path + " is not a timetable store");
+        }
+        if (buffer.getInt(4) > VERSION) {
+            throw new IOException(path + " has version " + buffer.getInt(4) + ", only up to " + VERSION
+                    + " can be read");
+        }
+    }
+
+    private static byte[] encodeEmail(String studentEmail) {
+        byte[] email = studentEmail.getBytes(StandardCharsets.UTF_8);
+        if (email.length == 0) {
+            throw new IllegalArgumentException("Email cannot be stored: " + studentEmail);
+        }
+        return email;
+    }
+
+    /**
+     * @param index the index the entry is in
+     * @param entry the position of an entry in use
+     * @return the email of the entry, read from its overflow records if it is too long for the entry
+     */
+    private byte[] readEmail(MappedByteBuffer index, int entry) {
+        int length = index.getInt(entry + ENTRY_EMAIL_LENGTH);
+        return length > MAX_EMAIL_BYTES ? readOverflow(index.getInt(entry + ENTRY_EMAIL), length)
+                : readBytes(index, entry + ENTRY_EMAIL, length);
+    }
+
+    private static byte[] readBytes(MappedByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return bytes;
+    }
+}
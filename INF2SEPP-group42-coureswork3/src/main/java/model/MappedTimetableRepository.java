@@ -0,0 +1,62 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Keeps student timetables off the Java heap, in a {@link MappedSlotStore}. A {@link Timetable} is only built when it
+ * is looked up, and is left to the garbage collector once nothing refers to it any more, so the heap holds the
+ * timetables in use rather than every timetable of the term. Opening the repository reads nothing, a timetable is
+ * paged in from the mapped file the first time it is needed.
+ *
+ * <p>Saving a timetable writes its slots straight into the mapped file, which is a copy in memory rather than a disk
+ * write. The operating system writes the file back in its own time, {@link #close()} forces it to disk.</p>
+ */
+public class MappedTimetableRepository extends PagedTimetableRepository implements Closeable {
+    private final MappedSlotStore store;
+
+    /**
+     * @param directory the directory the timetables are kept in, created if it does not exist
+     * @throws IOException if the files in the directory could not be opened
+     */
+    public MappedTimetableRepository(Path directory) throws IOException {
+        this.store = new MappedSlotStore(directory);
+    }
+
+    @Override
+    List<TimeSlot> read(String studentEmail) {
+        return store.read(studentEmail);
+    }
+
+    /**
+     * Writes the slots of a timetable into the mapped file.
+     *
+     * @param timetable the timetable to store
+     */
+    @Override
+    void write(Timetable timetable) {
+        store.write(timetable.getStudentEmail(), timetable.timeSlots);
+    }
+
+    @Override
+    List<String> getStudentEmails() {
+        return store.getStudentEmails();
+    }
+
+    /**
+     * @return the number of stored timetables
+     */
+    public int getStoredCount() {
+        return store.getStudentCount();
+    }
+
+    /**
+     * Forces the mapped file to disk and closes it.
+     */
+    @Override
+    public void close() throws IOException {
+        store.close();
+    }
+}
@@ -0,0 +1,106 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A single dated occurrence of a weekly time slot in a student's timetable.
+ */
+public class Occurrence {
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final String courseCode;
+    private final int activityId;
+    private final ActivityKind kind;
+    private final String activityType;
+    private final boolean chosen;
+
+    /**
+     * @param slot  the weekly time slot
+     * @param date  the date of this occurrence of the slot
+     */
+    Occurrence(TimeSlot slot, LocalDate date) {
+        this.date = date;
+        this.startTime = slot.getStartTime();
+        this.endTime = slot.getEndTime();
+        this.courseCode = slot.courseCode;
+        this.activityId = slot.activityId;
+        this.kind = slot.getKind();
+        this.activityType = slot.getActivityType();
+        this.chosen = slot.isChosen();
+    }
+
+    /**
+     * @return the date of the occurrence
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @return the day of the week of the occurrence
+     */
+    public DayOfWeek getDay() {
+        return date.getDayOfWeek();
+    }
+
+    /**
+     * @return the start time of the occurrence
+     */
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return the end time of the occurrence
+     */
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * @return the code of the course the activity is for
+     */
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    /**
+     * @return the activity id
+     */
+    public int getActivityId() {
+        return activityId;
+    }
+
+    /**
+     * @return the kind of the activity
+     */
+    public ActivityKind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the activity type label of the activity
+     */
+    public String getActivityType() {
+        return activityType;
+    }
+
+    /**
+     * @return whether the activity was chosen when the occurrence was read
+     */
+    public boolean isChosen() {
+        return chosen;
+    }
+
+    /**
+     * @return a string representation of the occurrence
+     */
+    @Override
+    public String toString() {
+        return date + " " + courseCode + " - " + activityType + " - " + startTime + "-" + endTime +
+                " (Activity ID: " + activityId + ")";
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Expands the weekly recurrence of time slots into dated occurrences within a date range, in order of date and
+ * start time. Only one pending occurrence per slot is held at a time, so iterating a whole year costs no more memory
+ * than iterating a single week.
+ */
+class OccurrenceIterator implements Iterator<Occurrence> {
+    private final PriorityQueue<Cursor> cursors = new PriorityQueue<>(
+            Comparator.comparing((Cursor cursor) -> cursor.next)
+                    .thenComparing(cursor -> cursor.slot.getStartTime()));
+
+    /**
+     * @param slots the weekly time slots to expand
+     * @param from  the first date to include
+     * @param to    the last date to include
+     */
+    OccurrenceIterator(List<TimeSlot> slots, LocalDate from, LocalDate to) {
+        for (TimeSlot slot : slots) {
+            LocalDate first = (from.isAfter(slot.getStartDate()) ? from : slot.getStartDate())
+                    .with(TemporalAdjusters.nextOrSame(slot.getDay()));
+            LocalDate last = to.isBefore(slot.getEndDate()) ? to : slot.getEndDate();
+            if (!first.isAfter(last)) {
+                cursors.add(new Cursor(slot, first, last));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !cursors.isEmpty();
+    }
+
+    @Override
+    public Occurrence next() {
+        Cursor cursor = cursors.poll();
+        if (cursor == null) {
+            throw new NoSuchElementException();
+        }
+        Occurrence occurrence = new Occurrence(cursor.slot, cursor.next);
+
+        // The slot recurs on the same weekday every week until its end date
+        cursor.next = cursor.next.plusWeeks(1);
+        if (!cursor.next.isAfter(cursor.last)) {
+            cursors.add(cursor);
+        }
+        return occurrence;
+    }
+
+    /**
+     * The next pending occurrence of a single slot.
+     */
+    private static class Cursor {
+        private final TimeSlot slot;
+        private final LocalDate last;
+        private LocalDate next;
+
+        private Cursor(TimeSlot slot, LocalDate next, LocalDate last) {
+            this.slot = slot;
+            this.next = next;
+            this.last = last;
+        }
+    }
+}
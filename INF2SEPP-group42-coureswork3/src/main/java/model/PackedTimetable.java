@@ -0,0 +1,304 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact form of a {@link Timetable} for large student populations. Instead of one object per time slot, every
+ * field is kept in its own primitive array and course codes are stored as indexes into a shared {@link StringTable}.
+ * {@link TimeSlot} objects are only created when a slot is read.
+ *
+ * <p>Times are stored to the minute, which is the precision activities are entered with.</p>
+ */
+public class PackedTimetable {
+    // Layout of the flags byte, the low bits hold the ordinal of the ActivityKind
+    private static final int KIND_MASK = 0b0011;
+    private static final int FLAG_RECORDED = 0b0100;
+    private static final int FLAG_CHOSEN = 0b1000;
+
+    private static final ActivityKind[] KINDS = ActivityKind.values();
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String studentEmail;
+    private final StringTable courseCodes;
+    private int size;
+    private byte[] days;
+    private short[] startMinutes;
+    private short[] endMinutes;
+    private int[] startEpochDays;
+    private int[] endEpochDays;
+    private int[] courseIndexes;
+    private int[] activityIds;
+    private byte[] flags;
+
+    /**
+     * @param studentEmail  the email of the student
+     * @param courseCodes   the table course codes are interned into, shared between timetables
+     */
+    public PackedTimetable(String studentEmail, StringTable courseCodes) {
+        this.studentEmail = studentEmail;
+        this.courseCodes = courseCodes;
+        this.days = new byte[INITIAL_CAPACITY];
+        this.startMinutes = new short[INITIAL_CAPACITY];
+        this.endMinutes = new short[INITIAL_CAPACITY];
+        this.startEpochDays = new int[INITIAL_CAPACITY];
+        this.endEpochDays = new int[INITIAL_CAPACITY];
+        this.courseIndexes = new int[INITIAL_CAPACITY];
+        this.activityIds = new int[INITIAL_CAPACITY];
+        this.flags = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Packs every slot of a timetable.
+     *
+     * @param timetable     the timetable to pack
+     * @param courseCodes   the table course codes are interned into
+     * @return the packed timetable
+     */
+    public static PackedTimetable from(Timetable timetable, StringTable courseCodes) {
+        PackedTimetable packed = new PackedTimetable(timetable.getStudentEmail(), courseCodes);
+        synchronized (timetable) {
+            for (TimeSlot slot : timetable.timeSlots) {
+                packed.add(slot);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * @return a regular timetable with the same slots
+     */
+    public synchronized Timetable toTimetable() {
+        Timetable timetable = new Timetable(studentEmail);
+        for (int i = 0; i < size; i++) {
+            timetable.appendTimeSlot(getTimeSlot(i));
+        }
+        return timetable;
+    }
+
+    /**
+     * Appends a slot, without checking for conflicts.
+     *
+     * @param slot  the slot to add
+     */
+    synchronized void add(TimeSlot slot) {
+        if (size == days.length) {
+            grow();
+        }
+        days[size] = (byte) slot.getDay().getValue();
+        startMinutes[size] = toMinutes(slot.getStartTime());
+        endMinutes[size] = toMinutes(slot.getEndTime());
+        startEpochDays[size] = (int) slot.getStartDate().toEpochDay();
+        endEpochDays[size] = (int) slot.getEndDate().toEpochDay();
+        courseIndexes[size] = courseCodes.intern(slot.courseCode);
+        activityIds[size] = slot.activityId;
+        flags[size] = (byte) (slot.getKind().ordinal()
+                | (slot.isRecordedLecture() ? FLAG_RECORDED : 0)
+                | (slot.isChosen() ? FLAG_CHOSEN : 0));
+        size++;
+    }
+
+    /**
+     * Creates a view of a single slot. Changing the view does not change the packed timetable.
+     *
+     * @param index the index of the slot
+     * @return the slot at the index
+     */
+    synchronized TimeSlot getTimeSlot(int index) {
+        return new TimeSlot(
+                DayOfWeek.of(days[index]),
+                LocalDate.ofEpochDay(startEpochDays[index]),
+                toTime(startMinutes[index]),
+                LocalDate.ofEpochDay(endEpochDays[index]),
+                toTime(endMinutes[index]),
+                courseCodes.get(courseIndexes[index]),
+                activityIds[index],
+                (flags[index] & FLAG_CHOSEN) != 0 ? TimeSlotStatus.CHOSEN : TimeSlotStatus.UNCHOSEN,
+                KINDS[flags[index] & KIND_MASK],
+                (flags[index] & FLAG_RECORDED) != 0
+        );
+    }
+
+    /**
+     * @return views of every slot, in the order they were added
+     */
+    synchronized List<TimeSlot> getTimeSlots() {
+        List<TimeSlot> slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(getTimeSlot(i));
+        }
+        return slots;
+    }
+
+    /**
+     * @return the number of slots in the timetable
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the email of the student
+     */
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    /**
+     * Checks if timetable has any timeslots for a given course
+     *
+     * @param courseCode    the course code
+     * @return {@code true} if there is any slot associated with the course, otherwise {@code false}
+     */
+    public synchronized boolean hasSlotsForCourse(String courseCode) {
+        int course = courseCodes.indexOf(courseCode);
+        for (int i = 0; i < size; i++) {
+            if (courseIndexes[i] == course) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the number of chosen activities for a specific course.
+     *
+     * @param courseCode    the course code
+     * @return the number of chosen activities for the course
+     */
+    public synchronized int numChosenActivities(String courseCode) {
+        int course = courseCodes.indexOf(courseCode);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (courseIndexes[i] == course && (flags[i] & FLAG_CHOSEN) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the chosen slots that overlap the given time on at least one common date, in the same way as
+     * {@link Timetable#checkConflicts}.
+     *
+     * @param startDate the start date
+     * @param startTime the start time
+     * @param endDate   the end date
+     * @param endTime   the end time
+     * @param day       the day of the week
+     * @return an array of the string representations of each conflicting activity
+     */
+    public synchronized String[] checkConflicts(LocalDate startDate, LocalTime startTime, LocalDate endDate,
+                                                LocalTime endTime, DayOfWeek day) {
+        int start = toMinutes(startTime);
+        int end = toMinutes(endTime);
+        List<String> conflicts = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if ((flags[i] & FLAG_CHOSEN) != 0 && days[i] == day.getValue()
+                    && start < endMinutes[i] && startMinutes[i] < end
+                    && sharesDate(i, day, startDate, endDate)) {
+                conflicts.add(getTimeSlot(i).toString());
+            }
+        }
+        return conflicts.toArray(new String[0]);
+    }
+
+    /**
+     * Chooses an activity, unless it clashes with a chosen slot that is not a recorded lecture.
+     *
+     * @param courseCode    the code of the course the activity is from
+     * @param activityId    the activity id
+     * @return {@code true} if the activity was chosen, otherwise {@code false}
+     */
+    public synchronized boolean chooseActivity(String courseCode, int activityId) {
+        int course = courseCodes.indexOf(courseCode);
+        int target = -1;
+        for (int i = 0; i < size; i++) {
+            if (courseIndexes[i] == course && activityIds[i] == activityId) {
+                target = i;
+                break;
+            }
+        }
+        if (target == -1) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if ((flags[i] & FLAG_CHOSEN) != 0 && days[i] == days[target] && (flags[i] & FLAG_RECORDED) == 0
+                    && startMinutes[target] < endMinutes[i] && startMinutes[i] < endMinutes[target]
+                    && sharesDate(i, DayOfWeek.of(days[target]), LocalDate.ofEpochDay(startEpochDays[target]),
+                    LocalDate.ofEpochDay(endEpochDays[target]))) {
+                return false;
+            }
+        }
+        flags[target] |= FLAG_CHOSEN;
+        return true;
+    }
+
+    /**
+     * Removes all time slots for a given course, keeping the order of the remaining slots.
+     *
+     * @param courseCode    the course to remove slots from
+     */
+    public synchronized void removeSlotsForCourse(String courseCode) {
+        int course = courseCodes.indexOf(courseCode);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (courseIndexes[i] == course) {
+                continue;
+            }
+            if (kept != i) {
+                days[kept] = days[i];
+                startMinutes[kept] = startMinutes[i];
+                endMinutes[kept] = endMinutes[i];
+                startEpochDays[kept] = startEpochDays[i];
+                endEpochDays[kept] = endEpochDays[i];
+                courseIndexes[kept] = courseIndexes[i];
+                activityIds[kept] = activityIds[i];
+                flags[kept] = flags[i];
+            }
+            kept++;
+        }
+        size = kept;
+    }
+
+    /**
+     * Doubles the capacity of every array.
+     */
+    private void grow() {
+        int capacity = days.length * 2;
+        days = Arrays.copyOf(days, capacity);
+        startMinutes = Arrays.copyOf(startMinutes, capacity);
+        endMinutes = Arrays.copyOf(endMinutes, capacity);
+        startEpochDays = Arrays.copyOf(startEpochDays, capacity);
+        endEpochDays = Arrays.copyOf(endEpochDays, capacity);
+        courseIndexes = Arrays.copyOf(courseIndexes, capacity);
+        activityIds = Arrays.copyOf(activityIds, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    /**
+     * @param index     the index of a slot
+     * @param day       the day of the week of the other activity
+     * @param startDate the first date of the other activity
+     * @param endDate   the last date of the other activity
+     * @return {@code true} if the slot and the other activity run on at least one common date
+     */
+    private boolean sharesDate(int index, DayOfWeek day, LocalDate startDate, LocalDate endDate) {
+        return TimeSlot.sharesDate(day, startDate, endDate,
+                LocalDate.ofEpochDay(startEpochDays[index]), LocalDate.ofEpochDay(endEpochDays[index]));
+    }
+
+    private static short toMinutes(LocalTime time) {
+        return (short) (time.getHour() * 60 + time.getMinute());
+    }
+
+    private static LocalTime toTime(short minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+}
@@ -0,0 +1,41 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps student timetables in memory in their compact {@link PackedTimetable} form, with the course codes of every
+ * timetable interned in one {@link StringTable}. A {@link Timetable} is only built when it is looked up, and is left to
+ * the garbage collector once nothing refers to it any more, so for a large term the heap holds one packed timetable
+ * per student and regular timetables only for those in use.
+ */
+public class PackedTimetableRepository extends PagedTimetableRepository {
+    private final StringTable courseCodes = new StringTable();
+    // In the order the timetables were first saved, as the in-memory repository returns them
+    private final Map<String, PackedTimetable> packed = new LinkedHashMap<>();
+
+    @Override
+    synchronized List<TimeSlot> read(String studentEmail) {
+        PackedTimetable timetable = packed.get(studentEmail);
+        return timetable == null ? null : timetable.getTimeSlots();
+    }
+
+    @Override
+    synchronized void write(Timetable timetable) {
+        packed.put(timetable.getStudentEmail(), PackedTimetable.from(timetable, courseCodes));
+    }
+
+    @Override
+    synchronized List<String> getStudentEmails() {
+        return new ArrayList<>(packed.keySet());
+    }
+
+    /**
+     * @return the number of stored timetables
+     */
+    public synchronized int getStoredCount() {
+        return packed.size();
+    }
+}
@@ -0,0 +1,156 @@
+package model;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A timetable repository that keeps its timetables in a compact form and only builds a {@link Timetable} when it is
+ * looked up. A built timetable is left to the garbage collector once nothing refers to it any more, so the heap holds
+ * the timetables in use rather than every timetable of the term. Until then, looking it up again returns the same
+ * object, so changes made through one reference are seen through every other.
+ */
+abstract class PagedTimetableRepository implements TimetableRepository {
+    // The timetables built so far that are still in use, looked up again instead of being paged in twice
+    private final Map<String, TimetableReference> loaded = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Timetable> collected = new ReferenceQueue<>();
+
+    /**
+     * @param studentEmail  the email of the student
+     * @return the stored slots of the student's timetable, in the order they were added, or {@code null} if there is
+     * no stored timetable
+     */
+    abstract List<TimeSlot> read(String studentEmail);
+
+    /**
+     * Stores the slots of a timetable, replacing any stored before. Called with the timetable locked.
+     *
+     * @param timetable the timetable to store
+     */
+    abstract void write(Timetable timetable);
+
+    /**
+     * @return the emails of every student with a stored timetable
+     */
+    abstract List<String> getStudentEmails();
+
+    @Override
+    public Timetable find(String studentEmail) {
+        Timetable timetable = getLoaded(studentEmail);
+        if (timetable != null) {
+            return timetable;
+        }
+        synchronized (this) {
+            // Another thread may have paged it in while this one was waiting
+            timetable = getLoaded(studentEmail);
+            if (timetable != null) {
+                return timetable;
+            }
+            List<TimeSlot> timeSlots = read(studentEmail);
+            if (timeSlots == null) {
+                return null;
+            }
+            timetable = new Timetable(studentEmail);
+            for (TimeSlot slot : timeSlots) {
+                timetable.appendTimeSlot(slot);
+            }
+            loaded.put(studentEmail, new TimetableReference(timetable, collected));
+            return timetable;
+        }
+    }
+
+    /**
+     * Stores the slots of a timetable. The timetable is locked while it is read, so a consistent copy is stored even
+     * if the student changes it at the same time.
+     *
+     * @param timetable the timetable to store
+     */
+    @Override
+    public synchronized void save(Timetable timetable) {
+        // Held together with the lock find pages in under, so a new timetable is never paged in a second time
+        synchronized (timetable) {
+            write(timetable);
+        }
+        if (getLoaded(timetable.getStudentEmail()) != timetable) {
+            loaded.put(timetable.getStudentEmail(), new TimetableReference(timetable, collected));
+        }
+    }
+
+    /**
+     * @return every stored timetable, each one paged in as the collection is iterated
+     */
+    @Override
+    public Collection<Timetable> findAll() {
+        List<String> studentEmails = getStudentEmails();
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Timetable> iterator() {
+                Iterator<String> emails = studentEmails.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return emails.hasNext();
+                    }
+
+                    @Override
+                    public Timetable next() {
+                        return find(emails.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return studentEmails.size();
+            }
+        };
+    }
+
+    /**
+     * @return the number of timetables currently built on the heap, at most the number of stored timetables
+     */
+    public int getLoadedCount() {
+        removeCollected();
+        int count = 0;
+        for (TimetableReference reference : new ArrayList<>(loaded.values())) {
+            if (reference.get() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Timetable getLoaded(String studentEmail) {
+        removeCollected();
+        TimetableReference reference = loaded.get(studentEmail);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Drops the entries of timetables the garbage collector has reclaimed.
+     */
+    private void removeCollected() {
+        TimetableReference reference;
+        while ((reference = (TimetableReference) collected.poll()) != null) {
+            loaded.remove(reference.studentEmail, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a timetable that remembers whose timetable it was after it has been cleared.
+     */
+    private static class TimetableReference extends WeakReference<Timetable> {
+        private final String studentEmail;
+
+        private TimetableReference(Timetable timetable, ReferenceQueue<Timetable> queue) {
+            super(timetable, queue);
+            this.studentEmail = timetable.getStudentEmail();
+        }
+    }
+}
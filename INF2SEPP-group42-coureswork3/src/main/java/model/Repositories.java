@@ -0,0 +1,122 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The storage backend of a {@link SharedContext}: one repository each for courses, timetables, the FAQ and
+ * inquiries.
+ */
+public class Repositories implements Closeable {
+    private final CourseRepository courses;
+    private final TimetableRepository timetables;
+    private final FAQRepository faq;
+    private final InquiryRepository inquiries;
+
+    /**
+     * @param courses       the repository for the course catalogue
+     * @param timetables    the repository for student timetables
+     * @param faq           the repository for the FAQ
+     * @param inquiries     the repository for inquiries
+     */
+    public Repositories(CourseRepository courses, TimetableRepository timetables, FAQRepository faq,
+                        InquiryRepository inquiries) {
+        this.courses = courses;
+        this.timetables = timetables;
+        this.faq = faq;
+        this.inquiries = inquiries;
+    }
+
+    /**
+     * @return repositories that keep everything in memory only
+     */
+    public static Repositories inMemory() {
+        return new Repositories(new InMemoryCourseRepository(), new InMemoryTimetableRepository(),
+                new InMemoryFAQRepository(), new InMemoryInquiryRepository());
+    }
+
+    /**
+     * Creates repositories that keep everything in memory only like {@link #inMemory}, with timetables in the compact
+     * form of a {@link PackedTimetableRepository}. Meant for terms with so many students that a regular timetable for
+     * each of them would take too much of the heap.
+     *
+     * @return repositories that keep everything in memory only, with packed timetables
+     */
+    public static Repositories packed() {
+        return new Repositories(new InMemoryCourseRepository(), new PackedTimetableRepository(),
+                new InMemoryFAQRepository(), new InMemoryInquiryRepository());
+    }
+
+    /**
+     * Opens repositories that keep everything in files under a directory, loading what a previous run left there.
+     * Timetables change far more often than anything else, so their writes are coalesced and done in the background.
+     *
+     * @param directory             the directory to keep the files in, created if it does not exist
+     * @param flushIntervalMillis   the time between two background flushes of changed timetables, in milliseconds
+     * @return the opened repositories
+     * @throws IOException if a stored file could not be read
+     */
+    public static Repositories inDirectory(Path directory, long flushIntervalMillis) throws IOException {
+        return new Repositories(new FileCourseRepository(directory.resolve("courses")),
+                new WriteBehindTimetableRepository(new FileTimetableRepository(directory.resolve("timetables")),
+                        flushIntervalMillis),
+                new FileFAQRepository(directory), new FileInquiryRepository(directory));
+    }
+
+    /**
+     * Opens repositories that keep courses, the FAQ and inquiries in files under a directory like
+     * {@link #inDirectory}, and timetables off the Java heap in a memory-mapped {@link MappedTimetableRepository}.
+     * Meant for terms with so many students that holding every timetable on the heap would make garbage collection
+     * pauses too long. Timetables are not loaded up front, only when they are looked up.
+     *
+     * @param directory the directory to keep the files in, created if it does not exist
+     * @return the opened repositories
+     * @throws IOException if a stored file could not be read
+     */
+    public static Repositories mapped(Path directory) throws IOException {
+        return new Repositories(new FileCourseRepository(directory.resolve("courses")),
+                new MappedTimetableRepository(directory.resolve("timetables")),
+                new FileFAQRepository(directory), new FileInquiryRepository(directory));
+    }
+
+    /**
+     * @return the repository for the course catalogue
+     */
+    public CourseRepository getCourses() {
+        return courses;
+    }
+
+    /**
+     * @return the repository for student timetables
+     */
+    public TimetableRepository getTimetables() {
+        return timetables;
+    }
+
+    /**
+     * @return the repository for the FAQ
+     */
+    public FAQRepository getFAQ() {
+        return faq;
+    }
+
+    /**
+     * @return the repository for inquiries
+     */
+    public InquiryRepository getInquiries() {
+        return inquiries;
+    }
+
+    /**
+     * Writes any change still held back by a repository.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Object repository : new Object[]{courses, timetables, faq, inquiries}) {
+            if (repository instanceof Closeable) {
+                ((Closeable) repository).close();
+            }
+        }
+    }
+}
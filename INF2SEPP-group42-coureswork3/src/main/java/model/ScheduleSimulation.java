@@ -0,0 +1,156 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of a what-if check for moving a course activity to a different day or time. Nothing is changed by
+ * running the simulation.
+ */
+public class ScheduleSimulation {
+    /**
+     * The maximum number of affected student emails kept as a sample.
+     */
+    public static final int SAMPLE_SIZE = 10;
+
+    private final String courseCode;
+    private final int activityId;
+    private final int affectedStudents;
+    private final int newClashes;
+    private final int newUnrecordedLectureClashes;
+    private final List<String> sampleStudents;
+
+    private ScheduleSimulation(String courseCode, int activityId, int affectedStudents, int newClashes,
+                               int newUnrecordedLectureClashes, List<String> sampleStudents) {
+        this.courseCode = courseCode;
+        this.activityId = activityId;
+        this.affectedStudents = affectedStudents;
+        this.newClashes = newClashes;
+        this.newUnrecordedLectureClashes = newUnrecordedLectureClashes;
+        this.sampleStudents = sampleStudents;
+    }
+
+    /**
+     * Evaluates the move of an activity against the timetables of every student that has it chosen. Timetables are
+     * checked in parallel and only read. As when choosing activities, overlapping a recorded lecture is not a clash.
+     *
+     * @param courseCode    the code of the course the activity belongs to
+     * @param activity      the activity that would be moved
+     * @param timetables    the timetables of the students enrolled on the course
+     * @param newDay        the proposed day of the week
+     * @param newStartTime  the proposed start time
+     * @param newEndTime    the proposed end time
+     * @return the simulation result
+     */
+    static ScheduleSimulation run(String courseCode, Activity activity, List<Timetable> timetables,
+                                  DayOfWeek newDay, LocalTime newStartTime, LocalTime newEndTime) {
+        boolean movedIsLecture = activity instanceof Lecture;
+        boolean movedIsUnrecordedLecture = movedIsLecture && !((Lecture) activity).isRecorded();
+        // A recorded lecture can be watched later, so it does not clash with anything
+        boolean movedIsRecordedLecture = movedIsLecture && !movedIsUnrecordedLecture;
+        int activityId = activity.getId();
+
+        List<StudentOutcome> outcomes = timetables.parallelStream()
+                .filter(timetable -> timetable.isActivityChosen(courseCode, activityId))
+                .map(timetable -> {
+                    if (movedIsRecordedLecture) {
+                        return new StudentOutcome(timetable.getStudentEmail(), false, false);
+                    }
+                    List<TimeSlot> before = timetable.findChosenOverlaps(activity.getDay(),
+                            activity.getStartDate(), activity.getStartTime(), activity.getEndDate(),
+                            activity.getEndTime(), courseCode, activityId);
+                    // The activity keeps running between the same dates, only its weekly time changes
+                    List<TimeSlot> after = timetable.findChosenOverlaps(newDay, activity.getStartDate(), newStartTime,
+                            activity.getEndDate(), newEndTime, courseCode, activityId);
+                    before.removeIf(TimeSlot::isRecordedLecture);
+                    after.removeIf(TimeSlot::isRecordedLecture);
+                    after.removeAll(before);
+
+                    boolean unrecorded = !after.isEmpty() && (movedIsUnrecordedLecture || after.stream()
+                            .anyMatch(TimeSlot::isUnrecordedLecture));
+                    return new StudentOutcome(timetable.getStudentEmail(), !after.isEmpty(), unrecorded);
+                })
+                .collect(Collectors.toList());
+
+        List<String> clashing = outcomes.stream()
+                .filter(outcome -> outcome.newClash)
+                .map(outcome -> outcome.studentEmail)
+                .collect(Collectors.toList());
+        int unrecordedClashes = (int) outcomes.stream().filter(outcome -> outcome.unrecordedClash).count();
+        List<String> sample = new ArrayList<>(clashing.subList(0, Math.min(SAMPLE_SIZE, clashing.size())));
+
+        return new ScheduleSimulation(courseCode, activityId, outcomes.size(), clashing.size(),
+                unrecordedClashes, Collections.unmodifiableList(sample));
+    }
+
+    /**
+     * @return the code of the course the simulated activity belongs to
+     */
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    /**
+     * @return the id of the simulated activity
+     */
+    public int getActivityId() {
+        return activityId;
+    }
+
+    /**
+     * @return the number of students that have the activity chosen
+     */
+    public int getAffectedStudents() {
+        return affectedStudents;
+    }
+
+    /**
+     * @return the number of students that would get a clash they do not have today
+     */
+    public int getNewClashes() {
+        return newClashes;
+    }
+
+    /**
+     * @return the number of students whose new clash involves an unrecorded lecture
+     */
+    public int getNewUnrecordedLectureClashes() {
+        return newUnrecordedLectureClashes;
+    }
+
+    /**
+     * @return up to {@link #SAMPLE_SIZE} emails of students that would get a new clash
+     */
+    public List<String> getSampleStudents() {
+        return sampleStudents;
+    }
+
+    /**
+     * @return a string representation of the simulation result
+     */
+    @Override
+    public String toString() {
+        return "Activity " + activityId + " of " + courseCode + ": " + affectedStudents + " students affected, " +
+                newClashes + " would get a new clash (" + newUnrecordedLectureClashes +
+                " with an unrecorded lecture)";
+    }
+
+    /**
+     * The result of the simulation for a single student.
+     */
+    private static class StudentOutcome {
+        private final String studentEmail;
+        private final boolean newClash;
+        private final boolean unrecordedClash;
+
+        private StudentOutcome(String studentEmail, boolean newClash, boolean unrecordedClash) {
+            this.studentEmail = studentEmail;
+            this.newClash = newClash;
+            this.unrecordedClash = unrecordedClash;
+        }
+    }
+}
@@ -1,89 +1,402 @@
-package model;
-
-import java.util.*;
-import view.View;
-
-/**
- * A shared context that hold global states. Includes references to current user, FAQs, inquiries and course
- * management.
- */
-public class SharedContext {
-    public static final String ADMIN_STAFF_EMAIL = "inquiries@hindeburg.ac.nz";
-    public User currentUser;
-
-    public final List<Inquiry> inquiries;
-    public final FAQ faq;
-
-    private final CourseManager courseManager;
-
-    /**
-     * @param view  the user interface view
-     */
-    public SharedContext(View view) {
-        this.currentUser = new Guest();
-        this.inquiries = new ArrayList<>();
-        faq = new FAQ();
-        courseManager = new CourseManager(view);
-    }
-
-    /**
-     * @return the FAQ
-     */
-    public FAQ getFAQ() {
-        return faq;
-    }
-
-    /**
-     * Gets the email of the teaching staff responsible for a specific course.
-     *
-     * @param courseCode The course code to look up
-     * @return The email of the responsible teaching staff, or admin email if not found
-     */
-    public String getTeachingStaffEmailForCourse(String courseCode) {
-        if (courseCode == null || courseCode.trim().isEmpty()) {
-            return ADMIN_STAFF_EMAIL;
-        }
-
-        Course course = courseManager.getCourseByCode(courseCode);
-        if (course != null) {
-            // First try the course organiser
-            if (course.getCourseOrganiserEmail() != null && !course.getCourseOrganiserEmail().isEmpty()) {
-                return course.getCourseOrganiserEmail();
-            }
-            // Then try the course secretary
-            if (course.getCourseSecretaryEmail() != null && !course.getCourseSecretaryEmail().isEmpty()) {
-                return course.getCourseSecretaryEmail();
-            }
-        }
-
-        // Default to admin staff if course not found or no staff email available
-        return ADMIN_STAFF_EMAIL;
-    }
-
-    /**
-     * @return  if authenticated the role of the current user, otherwise {@code "Guest"}
-     */
-    public String getCurrentUserRole() {
-        if (currentUser instanceof AuthenticatedUser) {
-            return ((AuthenticatedUser) currentUser).getRole();
-        }
-        return "Guest";
-    }
-
-    /**
-     * @return  the email of the currently logged in user
-     */
-    public String getCurrentUserEmail() {
-        if (currentUser instanceof AuthenticatedUser) {
-            return ((AuthenticatedUser) currentUser).getEmail();
-        }
-        return null;
-    }
-
-    /**
-     * @return the CourseManager
-     */
-    public CourseManager getCourseManager() {
-        return courseManager;
-    }
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import view.View;
+
+/**
+ * A shared context that hold global states. Includes references to current user, FAQs, inquiries and course
+ * management.
+ */
+public class SharedContext implements Closeable {
+    public static final String ADMIN_STAFF_EMAIL = "inquiries@hindeburg.ac.nz";
+    // The directory under the data directory the archives of closed terms are kept in
+    static final String ARCHIVE_DIRECTORY = "archive";
+    public User currentUser;
+
+    // Read-only, inquiries are changed through addInquiry, assignInquiry and removeInquiry
+    public final List<Inquiry> inquiries;
+    public final FAQ faq;
+
+    private final Repositories repositories;
+    private final CourseManager courseManager;
+    private final Journal journal;
+    private final CoursePurger coursePurger;
+
+    /**
+     * @param view  the user interface view
+     */
+    public SharedContext(View view) {
+        this(view, Repositories.inMemory());
+    }
+
+    /**
+     * Creates a context whose state is kept in the given repositories, starting from what they already hold.
+     *
+     * @param view          the user interface view
+     * @param repositories  the repositories to keep the state in
+     */
+    public SharedContext(View view, Repositories repositories) {
+        this.currentUser = new Guest();
+        this.repositories = repositories;
+        this.inquiries = repositories.getInquiries().findAll();
+        faq = repositories.getFAQ().load();
+        courseManager = new CourseManager(view, repositories.getCourses(), repositories.getTimetables());
+        journal = Journal.disabled();
+        coursePurger = null;
+    }
+
+    /**
+     * Creates a context whose state is kept in a directory. The state left there by a previous run is recovered first.
+     * The state is held in memory and every change logged by a {@link Journal}, which is compacted with the default
+     * thresholds. Closed terms are archived in the {@code archive} subdirectory, and removed courses are purged once
+     * their grace period is over.
+     *
+     * @param view          the user interface view
+     * @param dataDirectory the directory the state is kept in
+     * @throws IOException if the state could not be recovered
+     */
+    public SharedContext(View view, Path dataDirectory) throws IOException {
+        this(view, dataDirectory, Journal.DEFAULT_MAX_LOG_BYTES, Journal.DEFAULT_MAX_LOG_AGE_MILLIS,
+                Journal.DEFAULT_GENERATIONS);
+    }
+
+    /**
+     * Creates a context whose state is kept in a directory, with the thresholds that trigger a compaction of the log.
+     *
+     * @param view              the user interface view
+     * @param dataDirectory     the directory the state is kept in
+     * @param maxLogBytes       the number of bytes logged since the last snapshot that triggers a new one
+     * @param maxLogAgeMillis   the time after which records not included in a snapshot trigger a new one
+     * @param generations       the number of snapshots to keep
+     * @throws IOException if the state could not be recovered
+     */
+    public SharedContext(View view, Path dataDirectory, long maxLogBytes, long maxLogAgeMillis, int generations)
+            throws IOException {
+        this.currentUser = new Guest();
+        this.repositories = Repositories.inMemory();
+        this.inquiries = repositories.getInquiries().findAll();
+        faq = repositories.getFAQ().load();
+        courseManager = new CourseManager(view, repositories.getCourses(), repositories.getTimetables());
+        courseManager.setArchiveDirectory(dataDirectory.resolve(ARCHIVE_DIRECTORY));
+        journal = Journal.open(dataDirectory, this, maxLogBytes, maxLogAgeMillis, generations);
+        courseManager.setJournal(journal);
+        courseManager.deletePendingArchives();
+        coursePurger = courseManager.startCoursePurger(CoursePurger.DEFAULT_GRACE_PERIOD_MILLIS,
+                CoursePurger.DEFAULT_PERIOD_MILLIS);
+    }
+
+    /**
+     * @return the FAQ
+     */
+    public FAQ getFAQ() {
+        return faq;
+    }
+
+    /**
+     * Adds a new section to the FAQ.
+     *
+     * @param parent    the section to add the new section under, or {@code null} to add it at the top level
+     * @param topic     the topic of the new section
+     * @return the new section
+     */
+    public FAQSection addFAQSection(FAQSection parent, String topic) {
+        FAQSection section = new FAQSection(topic);
+        journal.write(new JournalRecord(JournalRecord.Type.ADD_FAQ_SECTION).add(getSectionPath(parent)).add(topic),
+                () -> {
+                    applyAddFAQSection(parent, section);
+                    repositories.getFAQ().save(faq);
+                    return true;
+                });
+        return section;
+    }
+
+    /**
+     * Adds a new item to a section of the FAQ.
+     *
+     * @param section   the section to add the item to
+     * @param question  the question of the item
+     * @param answer    the answer of the item
+     * @param courseTag the course tag of the item, may be {@code null}
+     */
+    public void addFAQItem(FAQSection section, String question, String answer, String courseTag) {
+        journal.write(new JournalRecord(JournalRecord.Type.ADD_FAQ_ITEM).add(getSectionPath(section)).add(question)
+                .add(answer).add(courseTag), () -> {
+            section.addItem(question, answer, courseTag);
+            repositories.getFAQ().save(faq);
+            return true;
+        });
+    }
+
+    /**
+     * Removes an item from a section of the FAQ.
+     *
+     * @param section   the section to remove the item from
+     * @param index     the position of the item in the section
+     */
+    public void removeFAQItem(FAQSection section, int index) {
+        journal.write(new JournalRecord(JournalRecord.Type.REMOVE_FAQ_ITEM).add(getSectionPath(section)).add(index),
+                () -> {
+                    section.getItems().remove(index);
+                    repositories.getFAQ().save(faq);
+                    return true;
+                });
+    }
+
+    /**
+     * Removes a section of the FAQ with all its items and subsections.
+     *
+     * @param section   the section to remove
+     */
+    public void removeFAQSection(FAQSection section) {
+        journal.write(new JournalRecord(JournalRecord.Type.REMOVE_FAQ_SECTION).add(getSectionPath(section)), () -> {
+            applyRemoveFAQSection(section);
+            repositories.getFAQ().save(faq);
+            return true;
+        });
+    }
+
+    /**
+     * Removes a section of the FAQ and moves its subsections up to its parent.
+     *
+     * @param section   the section to collapse, must have a parent
+     */
+    public void collapseFAQSection(FAQSection section) {
+        journal.write(new JournalRecord(JournalRecord.Type.COLLAPSE_FAQ_SECTION).add(getSectionPath(section)), () -> {
+            applyCollapseFAQSection(section);
+            repositories.getFAQ().save(faq);
+            return true;
+        });
+    }
+
+    /**
+     * Records a new inquiry.
+     *
+     * @param inquiry   the inquiry to record
+     */
+    public void addInquiry(Inquiry inquiry) {
+        journal.write(new JournalRecord(JournalRecord.Type.ADD_INQUIRY).add(inquiry.getCreatedAt())
+                .add(inquiry.getInquirerEmail()).add(inquiry.getSubject()).add(inquiry.getContent())
+                .add(inquiry.getCourseCode()), () -> {
+            repositories.getInquiries().add(inquiry);
+            return true;
+        });
+    }
+
+    /**
+     * Assigns an inquiry to a staff member.
+     *
+     * @param inquiry       the inquiry to assign
+     * @param assigneeEmail the email of the staff member
+     */
+    public void assignInquiry(Inquiry inquiry, String assigneeEmail) {
+        // The inquiry is logged by its position, which is only stable while the journal holds back other changes
+        journal.write(() -> {
+            int index = inquiries.indexOf(inquiry);
+            if (index < 0) {
+                return null;
+            }
+            inquiry.setAssignedTo(assigneeEmail);
+            repositories.getInquiries().update(inquiry);
+            return new JournalRecord(JournalRecord.Type.ASSIGN_INQUIRY).add(index).add(assigneeEmail);
+        });
+    }
+
+    /**
+     * Removes an inquiry once it has been answered.
+     *
+     * @param inquiry   the inquiry to remove
+     */
+    public void removeInquiry(Inquiry inquiry) {
+        journal.write(() -> {
+            int index = inquiries.indexOf(inquiry);
+            if (index < 0) {
+                return null;
+            }
+            repositories.getInquiries().remove(index);
+            return new JournalRecord(JournalRecord.Type.REMOVE_INQUIRY).add(index);
+        });
+    }
+
+    /**
+     * @return the repositories the state is kept in
+     */
+    public Repositories getRepositories() {
+        return repositories;
+    }
+
+    /**
+     * @return the journal the state is kept with, which keeps nothing unless a data directory was given
+     */
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * @return the purger of removed courses, or {@code null} unless a data directory was given
+     */
+    public CoursePurger getCoursePurger() {
+        return coursePurger;
+    }
+
+    /**
+     * Stops the purger of removed courses, then closes the journal.
+     *
+     * @throws IOException if the journal could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (coursePurger != null) {
+            coursePurger.close();
+        }
+        journal.close();
+    }
+
+    /**
+     * Applies a mutation read back from the log, without any checks or user feedback.
+     *
+     * @param record    the logged mutation
+     */
+    void apply(JournalRecord record) {
+        switch (record.getType()) {
+            case ADD_FAQ_SECTION:
+                applyAddFAQSection(getSection(record.getString(0)), new FAQSection(record.getString(1)));
+                break;
+            case ADD_FAQ_ITEM:
+                getSection(record.getString(0)).addItem(record.getString(1), record.getString(2),
+                        record.getString(3));
+                break;
+            case REMOVE_FAQ_ITEM:
+                getSection(record.getString(0)).getItems().remove(record.getInt(1));
+                break;
+            case REMOVE_FAQ_SECTION:
+                applyRemoveFAQSection(getSection(record.getString(0)));
+                break;
+            case COLLAPSE_FAQ_SECTION:
+                applyCollapseFAQSection(getSection(record.getString(0)));
+                break;
+            case ADD_INQUIRY:
+                repositories.getInquiries().add(new Inquiry(record.getDateTime(0), record.getString(1),
+                        record.getString(2), record.getString(3), record.getString(4)));
+                break;
+            case ASSIGN_INQUIRY:
+                Inquiry inquiry = inquiries.get(record.getInt(0));
+                inquiry.setAssignedTo(record.getString(1));
+                repositories.getInquiries().update(inquiry);
+                break;
+            case REMOVE_INQUIRY:
+                repositories.getInquiries().remove(record.getInt(0));
+                break;
+            default:
+                courseManager.apply(record);
+        }
+    }
+
+    private void applyAddFAQSection(FAQSection parent, FAQSection section) {
+        if (parent == null) {
+            faq.addSection(section);
+        } else {
+            parent.addSubsection(section);
+        }
+    }
+
+    private void applyRemoveFAQSection(FAQSection section) {
+        if (section.getParent() == null) {
+            faq.getSections().remove(section);
+        } else {
+            section.getParent().getSubsections().remove(section);
+        }
+    }
+
+    private void applyCollapseFAQSection(FAQSection section) {
+        FAQSection parent = section.getParent();
+        for (FAQSection subsection : new ArrayList<>(section.getSubsections())) {
+            parent.addSubsection(subsection);
+        }
+        parent.getSubsections().remove(section);
+    }
+
+    /**
+     * Identifies a section by the position of it and each of its parents, e.g. {@code "0/2"} for the third
+     * subsection of the first section.
+     *
+     * @param section   the section, or {@code null} for the top level of the FAQ
+     * @return the path of the section, empty for the top level
+     */
+    private String getSectionPath(FAQSection section) {
+        if (section == null) {
+            return "";
+        }
+        FAQSection parent = section.getParent();
+        List<FAQSection> siblings = parent == null ? faq.getSections() : parent.getSubsections();
+        String parentPath = getSectionPath(parent);
+        int index = siblings.indexOf(section);
+        return parentPath.isEmpty() ? String.valueOf(index) : parentPath + "/" + index;
+    }
+
+    /**
+     * @param path  a path built by {@link #getSectionPath}
+     * @return the section at the path, or {@code null} for the top level
+     */
+    private FAQSection getSection(String path) {
+        FAQSection section = null;
+        if (path.isEmpty()) {
+            return null;
+        }
+        for (String index : path.split("/")) {
+            List<FAQSection> children = section == null ? faq.getSections() : section.getSubsections();
+            section = children.get(Integer.parseInt(index));
+        }
+        return section;
+    }
+
+    /**
+     * Gets the email of the teaching staff responsible for a specific course.
+     *
+     * @param courseCode The course code to look up
+     * @return The email of the responsible teaching staff, or admin email if not found
+     */
+    public String getTeachingStaffEmailForCourse(String courseCode) {
+        if (courseCode == null || courseCode.trim().isEmpty()) {
+            return ADMIN_STAFF_EMAIL;
+        }
+
+        // The index lists the course organiser first, then the course secretary
+        List<String> staffEmails = courseManager.getStaffEmailsForCourse(courseCode);
+        if (!staffEmails.isEmpty()) {
+            return staffEmails.get(0);
+        }
+
+        // Default to admin staff if course not found or no staff email available
+        return ADMIN_STAFF_EMAIL;
+    }
+
+    /**
+     * @return  if authenticated the role of the current user, otherwise {@code "Guest"}
+     */
+    public String getCurrentUserRole() {
+        if (currentUser instanceof AuthenticatedUser) {
+            return ((AuthenticatedUser) currentUser).getRole();
+        }
+        return "Guest";
+    }
+
+    /**
+     * @return  the email of the currently logged in user
+     */
+    public String getCurrentUserEmail() {
+        if (currentUser instanceof AuthenticatedUser) {
+            return ((AuthenticatedUser) currentUser).getEmail();
+        }
+        return null;
+    }
+
+    /**
+     * @return the CourseManager
+     */
+    public CourseManager getCourseManager() {
+        return courseManager;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns strings to small integer indexes, so compact representations can store an {@code int} instead of a
+ * reference for values that repeat a lot, such as course codes.
+ */
+public class StringTable {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Returns the index of a string, adding it to the table if it is not already there.
+     *
+     * @param value the string to intern
+     * @return the index of the string
+     */
+    public synchronized int intern(String value) {
+        Integer index = indexes.get(value);
+        if (index == null) {
+            index = values.size();
+            values.add(value);
+            indexes.put(value, index);
+        }
+        return index;
+    }
+
+    /**
+     * @param value the string to look up
+     * @return the index of the string, or {@code -1} if it has never been interned
+     */
+    public synchronized int indexOf(String value) {
+        return indexes.getOrDefault(value, -1);
+    }
+
+    /**
+     * @param index the index of the string
+     * @return the string stored at the index
+     */
+    public synchronized String get(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * @return the number of strings in the table
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,399 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The read-only archive of a closed term: its courses and the student timetables that had them. Courses and
+ * timetables are packed one after another into blocks of about {@value #BLOCK_SIZE} bytes, each compressed on its own,
+ * and an index at the end of the file says which block and position each one is at.
+ *
+ * <p>Nothing is read when an archive is created. The index is read on the first lookup, and a lookup only inflates
+ * the block it needs. The last few blocks inflated are cached, so looking up several courses or students kept close
+ * together reads the file once.</p>
+ */
+public class TermArchive {
+    private static final int MAGIC = 0x5445524D; // "TERM"
+    private static final int VERSION = 1;
+    // Magic, version, offset and compressed and raw length of the index
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4;
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int CACHED_BLOCKS = 8;
+
+    private final Path file;
+    // Read on the first lookup, guarded by this
+    private Map<String, Entry> courses;
+    private Map<String, Entry> timetables;
+    private Block[] blocks;
+    private int blockReads;
+    private final Map<Integer, byte[]> cache = new LinkedHashMap<>(CACHED_BLOCKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+            return size() > CACHED_BLOCKS;
+        }
+    };
+
+    /**
+     * @param file  the archive file, only read once something is looked up
+     */
+    TermArchive(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Writes an archive. It is written to a temporary file first and moved into place once it is on disk, so a crash
+     * never leaves half an archive behind.
+     *
+     * @param file          the archive file
+     * @param courses       the courses of the term, sorted by code
+     * @param timetables    the timetables of the students on those courses, sorted by email
+     * @throws UncheckedIOException if the archive could not be written
+     */
+    static void write(Path file, Collection<Course> courses, Collection<Timetable> timetables) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            BlockWriter writer = new BlockWriter(channel);
+            Map<String, Entry> courseEntries = new LinkedHashMap<>();
+            for (Course course : courses) {
+                courseEntries.put(course.getCourseCode(), writer.position());
+                FileStore.writeCourse(writer.out, course);
+                writer.endEntry();
+            }
+            Map<String, Entry> timetableEntries = new LinkedHashMap<>();
+            for (Timetable timetable : timetables) {
+                timetableEntries.put(timetable.getStudentEmail(), writer.position());
+                FileStore.writeTimetable(writer.out, timetable);
+                writer.endEntry();
+            }
+            writer.flushBlock();
+
+            ByteArrayOutputStream index = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(index);
+            writeEntries(out, courseEntries);
+            writeEntries(out, timetableEntries);
+            out.writeInt(writer.blocks.size());
+            for (Block block : writer.blocks) {
+                out.writeLong(block.offset);
+                out.writeInt(block.length);
+                out.writeInt(block.rawLength);
+                out.writeInt(block.checksum);
+            }
+            out.flush();
+            byte[] raw = index.toByteArray();
+            byte[] compressed = deflate(raw, raw.length);
+            long indexOffset = channel.position();
+            writeFully(channel, ByteBuffer.wrap(compressed));
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(indexOffset).putInt(compressed.length).putInt(raw.length);
+            header.flip();
+            channel.position(0);
+            writeFully(channel, header);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            WriteAheadLog.syncDirectory(file.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param courseCode    the code of the course
+     * @return a copy of the archived course, or {@code null} if the term had no such course
+     * @throws UncheckedIOException if the archive could not be read
+     */
+    public Course findCourse(String courseCode) {
+        return read(getCourseEntries().get(courseCode), FileStore::readCourse);
+    }
+
+    /**
+     * @param studentEmail  the email of the student
+     * @return a copy of the archived timetable of the student, or {@code null} if the student had no course in the
+     * term
+     * @throws UncheckedIOException if the archive could not be read
+     */
+    public Timetable findTimetable(String studentEmail) {
+        return read(getTimetableEntries().get(studentEmail), FileStore::readTimetable);
+    }
+
+    /**
+     * @return the codes of the archived courses, in order
+     * @throws UncheckedIOException if the archive could not be read
+     */
+    public List<String> getCourseCodes() {
+        return new ArrayList<>(getCourseEntries().keySet());
+    }
+
+    /**
+     * @return the emails of the students with an archived timetable, in order
+     * @throws UncheckedIOException if the archive could not be read
+     */
+    public List<String> getStudentEmails() {
+        return new ArrayList<>(getTimetableEntries().keySet());
+    }
+
+    /**
+     * @return {@code true} if the index has been read, which only happens on the first lookup
+     */
+    public synchronized boolean isOpen() {
+        return blocks != null;
+    }
+
+    /**
+     * @return the number of blocks read from the file and inflated so far, lookups served from the cache not counted
+     */
+    public synchronized int getBlockReads() {
+        return blockReads;
+    }
+
+    private synchronized Map<String, Entry> getCourseEntries() {
+        open();
+        return courses;
+    }
+
+    private synchronized Map<String, Entry> getTimetableEntries() {
+        open();
+        return timetables;
+    }
+
+    /**
+     * Reads the index, unless it was read before.
+     */
+    private void open() {
+        if (blocks != null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException(file + " is not a term archive");
+            }
+            long indexOffset = header.getLong();
+            int length = header.getInt();
+            int rawLength = header.getInt();
+            byte[] raw = inflate(readFully(channel, indexOffset, length).array(), rawLength);
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+            Map<String, Entry> courseEntries = readEntries(in);
+            Map<String, Entry> timetableEntries = readEntries(in);
+            Block[] blockTable = new Block[in.readInt()];
+            for (int i = 0; i < blockTable.length; i++) {
+                blockTable[i] = new Block(in.readLong(), in.readInt(), in.readInt(), in.readInt());
+            }
+            courses = courseEntries;
+            timetables = timetableEntries;
+            blocks = blockTable;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T read(Entry entry, FileStore.Decoder<T> decoder) {
+        if (entry == null) {
+            return null;
+        }
+        byte[] block = getBlock(entry.block);
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(block, entry.position,
+                    block.length - entry.position));
+            return decoder.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param index the number of the block
+     * @return the inflated block, from the cache if it was read recently
+     */
+    private synchronized byte[] getBlock(int index) {
+        byte[] raw = cache.get(index);
+        if (raw != null) {
+            return raw;
+        }
+        Block block = blocks[index];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            raw = inflate(readFully(channel, block.offset, block.length).array(), block.rawLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        if ((int) crc.getValue() != block.checksum) {
+            throw new UncheckedIOException(new IOException(file + " has a corrupted block at " + block.offset));
+        }
+        blockReads++;
+        cache.put(index, raw);
+        return raw;
+    }
+
+    private static void writeEntries(DataOutputStream out, Map<String, Entry> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            FileStore.writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().block);
+            out.writeInt(entry.getValue().position);
+        }
+    }
+
+    private static Map<String, Entry> readEntries(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put(FileStore.readString(in), new Entry(in.readInt(), in.readInt()));
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private static byte[] deflate(byte[] raw, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        deflater.setInput(raw, 0, length);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4 + 64);
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return compressed.toByteArray();
+    }
+
+    private byte[] inflate(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+        byte[] raw = new byte[rawLength];
+        try {
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength) {
+                throw new IOException(file + " has a truncated block");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(file + " has a corrupted block", e);
+        } finally {
+            inflater.end();
+        }
+        return raw;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Where an archived course or timetable starts: the number of its block and its position in the inflated block.
+     */
+    private static class Entry {
+        private final int block;
+        private final int position;
+
+        private Entry(int block, int position) {
+            this.block = block;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Where a compressed block is in the file, its lengths and a CRC32 of its inflated contents.
+     */
+    private static class Block {
+        private final long offset;
+        private final int length;
+        private final int rawLength;
+        private final int checksum;
+
+        private Block(long offset, int length, int rawLength, int checksum) {
+            this.offset = offset;
+            this.length = length;
+            this.rawLength = rawLength;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * Packs entries into blocks and writes each block out compressed once it is full.
+     */
+    private static class BlockWriter {
+        private final FileChannel channel;
+        private final ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE + 1024);
+        private final DataOutputStream out = new DataOutputStream(block);
+        private final List<Block> blocks = new ArrayList<>();
+
+        private BlockWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            // The header is written last, once the offset of the index is known
+            channel.position(HEADER_SIZE);
+        }
+
+        /**
+         * @return where the next entry starts
+         */
+        private Entry position() {
+            return new Entry(blocks.size(), block.size());
+        }
+
+        private void endEntry() throws IOException {
+            if (block.size() >= BLOCK_SIZE) {
+                flushBlock();
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            out.flush();
+            if (block.size() == 0) {
+                return;
+            }
+            byte[] raw = block.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(raw);
+            byte[] compressed = deflate(raw, raw.length);
+            blocks.add(new Block(channel.position(), compressed.length, raw.length, (int) crc.getValue()));
+            writeFully(channel, ByteBuffer.wrap(compressed));
+            block.reset();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A directory of {@link TermArchive} files, one per closed term. An archive is only opened the first time its term is
+ * looked up, and kept open with its cached blocks afterwards.
+ *
+ * <p>An archive is written under a pending name and only promoted to its term once the close of the term is logged,
+ * so a crash in between never leaves the archive of a term that is still open.</p>
+ */
+class TermArchives {
+    private static final String SUFFIX = ".term";
+    private static final String PENDING_SUFFIX = ".pending";
+
+    private final Path directory;
+    private final Map<String, TermArchive> opened = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory the directory the archives are kept in, created when the first term is closed
+     */
+    TermArchives(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Archives a term under a pending name, not visible as a closed term until it is {@linkplain #promote promoted}.
+     *
+     * @param term          the name of the term
+     * @param courses       the courses of the term, sorted by code
+     * @param timetables    the timetables of the students on those courses, sorted by email
+     * @throws UncheckedIOException if the archive could not be written
+     */
+    void write(String term, Collection<Course> courses, Collection<Timetable> timetables) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TermArchive.write(getPendingPath(term), courses, timetables);
+    }
+
+    /**
+     * Makes the pending archive of a term its archive, once the close of the term is logged. Does nothing if there is
+     * no pending archive, as when a close replayed from the log was already promoted.
+     *
+     * @param term  the name of the term
+     * @throws UncheckedIOException if the archive could not be moved into place
+     */
+    void promote(String term) {
+        Path pending = getPendingPath(term);
+        if (!Files.exists(pending)) {
+            return;
+        }
+        try {
+            Files.move(pending, getPath(term), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            WriteAheadLog.syncDirectory(directory);
+        } catch (NoSuchFileException e) {
+            // Promoted in the meantime by a snapshot replaying the close
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        opened.remove(term);
+    }
+
+    /**
+     * Deletes the pending archive of a term, for a term that was archived but could not be closed.
+     *
+     * @param term  the name of the term
+     * @throws UncheckedIOException if the archive could not be deleted
+     */
+    void delete(String term) {
+        try {
+            Files.deleteIfExists(getPendingPath(term));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes every pending archive, left by closes that were never logged once the log has been replayed.
+     *
+     * @throws UncheckedIOException if the directory could not be listed or an archive could not be deleted
+     */
+    void deletePending() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (path.getFileName().toString().endsWith(PENDING_SUFFIX)) {
+                    Files.delete(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param term  the name of the term
+     * @return the archive of the term, not read until something is looked up, or {@code null} if the term was not
+     * closed
+     */
+    TermArchive get(String term) {
+        TermArchive archive = opened.get(term);
+        if (archive != null) {
+            return archive;
+        }
+        Path path = getPath(term);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        return opened.computeIfAbsent(term, key -> new TermArchive(path));
+    }
+
+    /**
+     * @return the names of the closed terms, in order
+     * @throws UncheckedIOException if the directory could not be listed
+     */
+    List<String> getTerms() {
+        List<String> terms = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return terms;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .forEach(name -> terms.add(URLDecoder.decode(name.substring(0, name.length() - SUFFIX.length()),
+                            StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Collections.sort(terms);
+        return terms;
+    }
+
+    private Path getPath(String term) {
+        return directory.resolve(URLEncoder.encode(term, StandardCharsets.UTF_8) + SUFFIX);
+    }
+
+    private Path getPendingPath(String term) {
+        return getPath(term).resolveSibling(getPath(term).getFileName() + PENDING_SUFFIX);
+    }
+}
@@ -0,0 +1,42 @@
+package model;
+
+import java.time.LocalTime;
+
+/**
+ * Represents a window of time within a single day.
+ */
+public class TimeWindow {
+    private final LocalTime start;
+    private final LocalTime end;
+
+    /**
+     * @param start the time the window starts
+     * @param end   the time the window ends
+     */
+    public TimeWindow(LocalTime start, LocalTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return the time the window starts
+     */
+    public LocalTime getStart() {
+        return start;
+    }
+
+    /**
+     * @return the time the window ends
+     */
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    /**
+     * @return a string representation of the window
+     */
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+}
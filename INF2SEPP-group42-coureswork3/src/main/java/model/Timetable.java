@@ -1,543 +1,938 @@
-package model;
-
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-/**
- * Represents students personal timetable. Handles adding of activities.
- */
-public class Timetable {
-    private final String studentEmail;
-    final List<TimeSlot> timeSlots;
-
-    /**
-     * @param studentEmail  the email of the student
-     */
-    public Timetable(String studentEmail) {
-        this.studentEmail = studentEmail;
-        this.timeSlots = new ArrayList<>();
-    }
-
-    /**
-     * Checks if timetable contains any chosen slots.
-     *
-     * @return {@code true} if there are chosen slots, otherwise {@code false}
-     */
-    public boolean hasChosenTimeSlots() {
-        return timeSlots.stream()
-                .anyMatch(TimeSlot::isChosen);
-    }
-
-    /**
-     * Adds a new timeslot to the timetable, checks for conflicts.
-     *
-     * @param day           the day of the week of the activity
-     * @param startDate     the start date of the activty
-     * @param startTime     the start time of the activity
-     * @param endDate       the end date of the activity
-     * @param endTime       the end time of the activity
-     * @param courseCode    the code of the course that activity is for
-     * @param activityId    the activity id
-     * @param status        the initial status of the slot, either CHOSEN or UNCHOSEN
-     * @param activityType  the type of the activity
-     */
-    public void addTimeSlot(DayOfWeek day, LocalDate startDate, LocalTime startTime,
-                            LocalDate endDate, LocalTime endTime,
-                            String courseCode, int activityId, TimeSlotStatus status, String activityType) {
-        // Only check for conflicts if the slot will be CHOSEN and it's not a recorded lecture
-        boolean isRecordedLecture = activityType.equals("Recorded Lecture");
-
-        if (status == TimeSlotStatus.CHOSEN && !isRecordedLecture) {
-            // Check for conflicts with existing CHOSEN slots, considering the day
-            String[] conflicts = checkConflicts(startDate, startTime, endDate, endTime, day);
-            if (conflicts.length > 0) {
-                throw new IllegalStateException("Time slot conflicts with existing slots: " + String.join(", ", conflicts));
-            }
-        }
-
-        TimeSlot newSlot = new TimeSlot(day, startDate, startTime, endDate, endTime, courseCode, activityId, status, activityType);
-        timeSlots.add(newSlot);
-    }
-
-    /**
-     * Counts the number of activities for a specific course in the student's timetable.
-     *
-     * @param courseCode    the course code
-     * @return the number of activities for the chosen course
-     */
-    public int numChosenActivities(String courseCode) {
-        return (int) timeSlots.stream()
-                .filter(slot -> slot.hasCourseCode(courseCode) && slot.isChosen())
-                .count();
-    }
-
-    /**
-     * Counts the number of activities of a specific activity type for a course.
-     *
-     * @param courseCode    the code of the course to look at
-     * @param activityType  the activity type to count
-     * @param courseManager the course manager
-     * @return the number of activities that are the specific type and course.
-     */
-    public int countChosenActivitiesOfType(String courseCode, String activityType, CourseManager courseManager) {
-        if (courseManager == null || !courseManager.hasCourse(courseCode)) {
-            return 0; // No course manager or course doesn't exist
-        }
-
-        Course course = courseManager.getCourseByCode(courseCode);
-        return (int) timeSlots.stream()
-                .filter(slot -> slot.hasCourseCode(courseCode) && slot.isChosen()) // Filter chosen slots for this course
-                .filter(slot -> {
-                    Activity activity = course.getActivityById(slot.activityId); // Look up activity by ID
-                    if (activity == null) return false;
-                    // Match the activity type
-                    return (activity instanceof Lecture && "Lecture".equals(activityType)) ||
-                            (activity instanceof Tutorial && "Tutorial".equals(activityType)) ||
-                            (activity instanceof Lab && "Lab".equals(activityType));
-                })
-                .count();
-    }
-
-    /**
-     * Finds any conflicting TimeSlots with the given date range
-     *
-     * @param startDate The start date
-     * @param startTime The start time
-     * @param endDate   the end date
-     * @param endTime   the end time
-     * @return an array of the string representations of each conflicting activity
-     */
-    public String[] checkConflicts(LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime, DayOfWeek day) {
-        // For same-day time comparisons, we can simply use the time component
-        return timeSlots.stream()
-                .filter(TimeSlot::isChosen)
-                .filter(slot -> slot.getDay() == day) // Only check slots on the same day
-                .filter(slot -> {
-                    // Check if times overlap (start before other ends AND end after other starts)
-                    return startTime.isBefore(slot.getEndTime()) && slot.getStartTime().isBefore(endTime);
-                })
-                .map(TimeSlot::toString)
-                .toArray(String[]::new);
-    }
-
-    /**
-     * Checks if timetable belongs to the student with the give email
-     *
-     * @param email the student's email.
-     * @return {@code true} if the email matches, otherwise {@code false}
-     */
-    public boolean hasStudentEmail(String email) {
-        return studentEmail.equals(email);
-    }
-
-    /**
-     * Chooses an activity for a specific timeslot, will cancel if the activity conflicts with other activities already
-     * in the timetable
-     *
-     * @param courseCode    the code of the course the activity is from
-     * @param activityId    the activity id
-     * @return {@code true} if the activity was succesfully added, otherwise {@false}
-     */
-    public boolean chooseActivity(String courseCode, int activityId) {
-        TimeSlot targetSlot = null;
-        // Find the slot to be chosen
-        for (TimeSlot slot : timeSlots) {
-            if (slot.hasCourseCode(courseCode) && slot.hasActivityId(activityId)) {
-                targetSlot = slot;
-                break;
-            }
-        }
-
-        if (targetSlot == null) {
-            return false;
-        }
-
-        // Check for conflicts with ALL chosen slots, not just unrecorded lectures
-        for (TimeSlot slot : timeSlots) {
-            // Skip if it's not a chosen slot or not on the same day
-            if (!slot.isChosen() || slot.getDay() != targetSlot.getDay()) {
-                continue;
-            }
-
-            // Check time overlap
-            if (targetSlot.getStartTime().isBefore(slot.getEndTime()) &&
-                    slot.getStartTime().isBefore(targetSlot.getEndTime())) {
-                // Allow overlap only if the existing slot is a recorded lecture
-                if (!slot.getActivityType().equals("Recorded Lecture")) {
-                    return false;  // Conflict found with a non-recorded lecture activity
-                }
-            }
-        }
-
-        // Set this slot as chosen
-        targetSlot.setStatus(TimeSlotStatus.CHOSEN);
-        return true;
-    }
-
-    /**
-     * Checks if timetable has any timeslots for a given course
-     *
-     * @param courseCode    the course code
-     * @return {@code true} if there is any slot associated with the course, otherwise {@false}
-     */
-    public boolean hasSlotsForCourse(String courseCode) {
-        return timeSlots.stream().anyMatch(slot -> slot.hasCourseCode(courseCode));
-    }
-
-    /**
-     * Removes all time slots for a given course
-     *
-     * @param courseCode    the course to remove slots from
-     */
-    public void removeSlotsForCourse(String courseCode) {
-        timeSlots.removeIf(slot -> slot.hasCourseCode(courseCode));
-    }
-
-    /**
-     * @return  the email of the student
-     */
-    public String getStudentEmail() {
-        return studentEmail;
-    }
-
-    /**
-     * Returns a detailed string representation of the timetable including both chosen and unchosen activities.
-     *
-     * @return A formatted string representing the timetable
-     */
-    public String toStringWithAllActivities() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Timetable for ").append(studentEmail).append("\n");
-
-        // Get current date
-        LocalDate today = LocalDate.now();
-
-        // Find the next Monday if today is not already Monday
-        LocalDate startOfWeek = today;
-        if (today.getDayOfWeek() != DayOfWeek.MONDAY) {
-            // Calculate days until next Monday
-            int daysUntilMonday = DayOfWeek.MONDAY.getValue() - today.getDayOfWeek().getValue();
-            if (daysUntilMonday <= 0) {
-                daysUntilMonday += 7; // Wrap to next week if today is Monday or later in the week
-            }
-            startOfWeek = today.plusDays(daysUntilMonday);
-        }
-
-        // End of week is Friday
-        LocalDate endOfWeek = startOfWeek.plusDays(4); // Monday + 4 days = Friday
-
-        sb.append("Week from ").append(startOfWeek).append(" to ").append(endOfWeek).append("\n");
-
-        // Group by day of week, but only include Monday through Friday
-        for (DayOfWeek day : new DayOfWeek[]{
-                DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
-                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY}) {
-
-            LocalDate currentDayDate = startOfWeek.plusDays(day.getValue() - DayOfWeek.MONDAY.getValue());
-
-            // Filter slots for this day, including both chosen and unchosen
-            List<TimeSlot> slotsForDay = timeSlots.stream()
-                    .filter(slot -> slot.getDay() == day)
-                    .filter(slot -> {
-                        // Only include activities that still take place (end date >= current day's date)
-                        return !slot.getEndDate().isBefore(currentDayDate);
-                    })
-                    .collect(Collectors.toList());
-
-            if (!slotsForDay.isEmpty()) {
-                sb.append(day).append(" (").append(currentDayDate).append("):\n");
-
-                // Sort by start time
-                slotsForDay.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
-
-                // Group by course code for better readability
-                Map<String, List<TimeSlot>> courseSlots = slotsForDay.stream()
-                        .collect(Collectors.groupingBy(slot -> slot.courseCode));
-
-                for (String courseCode : courseSlots.keySet()) {
-                    sb.append("  Course: ").append(courseCode).append("\n");
-
-                    for (TimeSlot slot : courseSlots.get(courseCode)) {
-                        sb.append("    ")
-                                .append(slot.getActivityType())
-                                .append(" (ID: ").append(slot.activityId).append(") - ")
-                                .append(slot.getStartTime()).append("-").append(slot.getEndTime())
-                                .append(" [").append(slot.status).append("]")
-                                .append("\n");
-                    }
-                }
-            } else {
-                sb.append(day).append(" (").append(currentDayDate).append("): No scheduled activities\n");
-            }
-        }
-
-        return sb.toString();
-    }
-
-    /**
-     * Returns a string representation of the timetable showing only the working week ahead
-     * (Monday to Friday) with activities that still take place.
-     *
-     * @return A formatted string representing the timetable for the week ahead
-     */
-    @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Timetable for ").append(studentEmail).append("\n");
-
-        // Get current date
-        LocalDate today = LocalDate.now();
-
-        // Find the next Monday if today is not already Monday
-        LocalDate startOfWeek = today;
-        if (today.getDayOfWeek() != DayOfWeek.MONDAY) {
-            // Calculate days until next Monday
-            int daysUntilMonday = DayOfWeek.MONDAY.getValue() - today.getDayOfWeek().getValue();
-            if (daysUntilMonday <= 0) {
-                daysUntilMonday += 7; // Wrap to next week if today is Monday or later in the week
-            }
-            startOfWeek = today.plusDays(daysUntilMonday);
-        }
-
-        // End of week is Friday
-        LocalDate endOfWeek = startOfWeek.plusDays(4); // Monday + 4 days = Friday
-
-        sb.append("Week from ").append(startOfWeek).append(" to ").append(endOfWeek).append("\n");
-
-        // Group by day of week, but only include Monday through Friday
-        for (DayOfWeek day : new DayOfWeek[]{
-                DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
-                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY}) {
-
-            LocalDate currentDayDate = startOfWeek.plusDays(day.getValue() - DayOfWeek.MONDAY.getValue());
-
-            // Filter slots for this day that are chosen and take place during the week ahead
-            List<TimeSlot> slotsForDay = timeSlots.stream()
-                    .filter(slot -> slot.getDay() == day && slot.isChosen())
-                    .filter(slot -> {
-                        // Only include activities that still take place (end date >= current day's date)
-                        return !slot.getEndDate().isBefore(currentDayDate);
-                    })
-                    .collect(Collectors.toList());
-
-            if (!slotsForDay.isEmpty()) {
-                sb.append(day).append(" (").append(currentDayDate).append("):\n");
-
-                // Sort by start time
-                slotsForDay.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
-
-                for (TimeSlot slot : slotsForDay) {
-                    sb.append("  ").append(slot.toString()).append("\n");
-                }
-            } else {
-                sb.append(day).append(" (").append(currentDayDate).append("): No scheduled activities\n");
-            }
-        }
-
-        return sb.toString();
-    }
-
-    /**
-     * Check if the timetable has errors or warnings based on requirements.
-     *
-     * @param courseManager The course manager to get course information
-     * @return A list of error and warning messages
-     */
-    public List<String> checkTimetableIssues(CourseManager courseManager) {
-        List<String> issues = new ArrayList<>();
-
-        // Group slots by course code
-        Map<String, List<TimeSlot>> courseSlots = timeSlots.stream()
-                .filter(TimeSlot::isChosen)
-                .collect(Collectors.groupingBy(slot -> slot.courseCode));
-
-        for (Map.Entry<String, List<TimeSlot>> entry : courseSlots.entrySet()) {
-            String courseCode = entry.getKey();
-            Course course = courseManager.getCourseByCode(courseCode);
-
-            if (course == null) continue;
-
-            // Check required tutorials
-            int requiredTutorials = course.getRequiredTutorials();
-            int chosenTutorials = countChosenActivitiesOfType(courseCode, "Tutorial", courseManager);
-            if (chosenTutorials < requiredTutorials) {
-                issues.add("WARNING: Course " + courseCode + " requires " + requiredTutorials +
-                        " tutorials, but only " + chosenTutorials + " chosen.");
-            }
-
-            // Check required labs
-            int requiredLabs = course.getRequiredLabs();
-            int chosenLabs = countChosenActivitiesOfType(courseCode, "Lab", courseManager);
-            if (chosenLabs < requiredLabs) {
-                issues.add("WARNING: Course " + courseCode + " requires " + requiredLabs +
-                        " labs, but only " + chosenLabs + " chosen.");
-            }
-        }
-
-        return issues;
-    }
-
-    /**
-     * Get all time slots for unrecorded lectures in the timetable
-     * @param courseManager The course manager to lookup activity details
-     * @return List of time slots for unrecorded lectures
-     */
-    public List<TimeSlot> getUnrecordedLectureSlots(CourseManager courseManager) {
-        List<TimeSlot> unrecordedLectures = new ArrayList<>();
-
-        for (TimeSlot slot : timeSlots) {
-            if (slot.isChosen() &&
-                    (slot.getActivityType().equals("Lecture") || slot.getActivityType().equals("Unrecorded Lecture"))) {
-
-                // Get the course and activity to check if it's an unrecorded lecture
-                Course course = courseManager.getCourseByCode(slot.courseCode);
-                if (course != null) {
-                    Activity activity = course.getActivityById(slot.activityId);
-                    if (activity instanceof Lecture && !((Lecture) activity).isRecorded()) {
-                        unrecordedLectures.add(slot);
-                    }
-                }
-            }
-        }
-
-        return unrecordedLectures;
-    }
-}
-
-/**
- * Enum representing the possible statuses of a time slot.
- */
-enum TimeSlotStatus {
-    UNCHOSEN,
-    CHOSEN
-}
-
-/**
- * Represents the time slot of a single activity within the timetable.
- */
-class TimeSlot {
-    private final DayOfWeek day;
-    private final LocalDate startDate;
-    private final LocalTime startTime;
-    private final LocalDate endDate;
-    private final LocalTime endTime;
-    public final String courseCode;
-    public final int activityId;
-    public TimeSlotStatus status;
-    private final String activityType;
-
-    /**
-     * @param day           the day of the week of the activity
-     * @param startDate     the start date of the activty
-     * @param startTime     the start time of the activity
-     * @param endDate       the end date of the activity
-     * @param endTime       the end time of the activity
-     * @param courseCode    the code of the course that activity is for
-     * @param activityId    the activity id
-     * @param status        the initial status of the slot, either CHOSEN or UNCHOSEN
-     * @param activityType  the type of the activity
-     */
-    public TimeSlot(DayOfWeek day, LocalDate startDate, LocalTime startTime,
-                    LocalDate endDate, LocalTime endTime,
-                    String courseCode, int activityId, TimeSlotStatus status, String activityType) {
-        this.day = day;
-        this.startDate = startDate;
-        this.startTime = startTime;
-        this.endDate = endDate;
-        this.endTime = endTime;
-        this.courseCode = courseCode;
-        this.activityId = activityId;
-        this.status = status;
-        this.activityType = activityType;
-    }
-
-    /**
-     * Checks whether the course code of the activity matches given course code
-     *
-     * @param courseCode    the course code to check against
-     * @return {@code true} if the course codes match, otherwise {@code false}
-     */
-    public boolean hasCourseCode(String courseCode) {
-        return this.courseCode.equals(courseCode);
-    }
-
-    /**
-     * Checks if the timeslot is for the activity with given id
-     *
-     * @param id    the id to check against
-     * @return {@code true} if the id matches, otherwise {@code false}
-     */
-    public boolean hasActivityId(int id) {
-        return this.activityId == id;
-    }
-
-    /**
-     * @return whether the timeslot is currently CHOSEN
-     */
-    public boolean isChosen() {
-        return status == TimeSlotStatus.CHOSEN;
-    }
-
-    /**
-     * Sets the status of the time slot to a given status
-     * @param status    the status to set the time slot to
-     */
-    public void setStatus(TimeSlotStatus status) {
-        this.status = status;
-    }
-
-    /**
-     * @return the day of the week the time slot is for
-     */
-    public DayOfWeek getDay() {
-        return day;
-    }
-
-    /**
-     * @return the start date of the time slot
-     */
-    public LocalDate getStartDate() {
-        return startDate;
-    }
-
-    /**
-     * @return the start time of the time slot
-     */
-    public LocalTime getStartTime() {
-        return startTime;
-    }
-
-    /**
-     * @return the end date of the time slot
-     */
-    public LocalDate getEndDate() {
-        return endDate;
-    }
-
-    /**
-     * @return the end time of the time slot
-     */
-    public LocalTime getEndTime() {
-        return endTime;
-    }
-
-    /**
-     * @return the activity type of the time slot
-     */
-    public String getActivityType() {
-        return activityType;
-    }
-
-    /**
-     * @return a string representation of the timeslot
-     */
-    @Override
-    public String toString() {
-        return courseCode + " - " + activityType + " - " + startTime + "-" + endTime + " (Activity ID: " + activityId + ")";
-    }
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Represents students personal timetable. Handles adding of activities. Access to the time slots is synchronized on
+ * the timetable, as background jobs may update it while the student is using it.
+ */
+public class Timetable {
+    private final String studentEmail;
+    final List<TimeSlot> timeSlots;
+    // The same slots grouped by course code, with the number of chosen slots of each kind kept up to date
+    private final Map<String, CourseSlots> slotsByCourse;
+    // The chosen slots by day and start time, used to find conflicts
+    private final WeeklySlotIndex chosenSlots;
+    // Increased on every change to the slots, so rendered weeks know when they are out of date
+    private int version;
+    private final RenderCache allActivitiesCache = new RenderCache();
+    private final RenderCache chosenActivitiesCache = new RenderCache();
+    // Told about every slot that is chosen or removed once the timetable is tracked
+    private AttendanceStats attendance;
+
+    /**
+     * @param studentEmail  the email of the student
+     */
+    public Timetable(String studentEmail) {
+        this.studentEmail = studentEmail;
+        this.timeSlots = new ArrayList<>();
+        this.slotsByCourse = new HashMap<>();
+        this.chosenSlots = new WeeklySlotIndex();
+    }
+
+    /**
+     * Starts reporting chosen and removed slots to the given statistics.
+     *
+     * @param stats the statistics to report to
+     * @return the slots that were already chosen, which the statistics still need to count, or an empty list if the
+     *         timetable was already reporting to them
+     */
+    synchronized List<TimeSlot> attachAttendance(AttendanceStats stats) {
+        if (attendance == stats) {
+            return List.of();
+        }
+        attendance = stats;
+        return getChosenTimeSlots();
+    }
+
+    /**
+     * Checks if timetable contains any chosen slots.
+     *
+     * @return {@code true} if there are chosen slots, otherwise {@code false}
+     */
+    public synchronized boolean hasChosenTimeSlots() {
+        return timeSlots.stream()
+                .anyMatch(TimeSlot::isChosen);
+    }
+
+    /**
+     * @return a copy of the chosen slots, in the order they were added
+     */
+    synchronized List<TimeSlot> getChosenTimeSlots() {
+        List<TimeSlot> chosen = new ArrayList<>();
+        for (TimeSlot slot : timeSlots) {
+            if (slot.isChosen()) {
+                chosen.add(slot);
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Adds a new timeslot to the timetable, checks for conflicts.
+     *
+     * @param day           the day of the week of the activity
+     * @param startDate     the start date of the activty
+     * @param startTime     the start time of the activity
+     * @param endDate       the end date of the activity
+     * @param endTime       the end time of the activity
+     * @param courseCode    the code of the course that activity is for
+     * @param activityId    the activity id
+     * @param status        the initial status of the slot, either CHOSEN or UNCHOSEN
+     * @param activityType  the type of the activity
+     */
+    public synchronized void addTimeSlot(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                                         LocalDate endDate, LocalTime endTime,
+                                         String courseCode, int activityId, TimeSlotStatus status, String activityType) {
+        addTimeSlot(new TimeSlot(day, startDate, startTime, endDate, endTime, courseCode, activityId, status, activityType));
+    }
+
+    /**
+     * Adds a new timeslot for an activity of a known kind to the timetable, checks for conflicts.
+     *
+     * @param day           the day of the week of the activity
+     * @param startDate     the start date of the activty
+     * @param startTime     the start time of the activity
+     * @param endDate       the end date of the activity
+     * @param endTime       the end time of the activity
+     * @param courseCode    the code of the course that activity is for
+     * @param activityId    the activity id
+     * @param status        the initial status of the slot, either CHOSEN or UNCHOSEN
+     * @param kind          the kind of the activity
+     * @param recorded      whether the activity is a recorded lecture
+     */
+    public synchronized void addTimeSlot(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                                         LocalDate endDate, LocalTime endTime, String courseCode, int activityId,
+                                         TimeSlotStatus status, ActivityKind kind, boolean recorded) {
+        addTimeSlot(new TimeSlot(day, startDate, startTime, endDate, endTime, courseCode, activityId, status,
+                kind, recorded));
+    }
+
+    /**
+     * Adds a timeslot to the timetable, checks for conflicts.
+     *
+     * @param newSlot   the slot to add
+     */
+    private void addTimeSlot(TimeSlot newSlot) {
+        // Only check for conflicts if the slot will be CHOSEN and it's not a recorded lecture
+        if (newSlot.isChosen() && !newSlot.isRecordedLecture()) {
+            // Check for conflicts with existing CHOSEN slots, considering the day
+            String[] conflicts = checkConflicts(newSlot.getStartDate(), newSlot.getStartTime(),
+                    newSlot.getEndDate(), newSlot.getEndTime(), newSlot.getDay());
+            if (conflicts.length > 0) {
+                throw new IllegalStateException("Time slot conflicts with existing slots: " + String.join(", ", conflicts));
+            }
+        }
+
+        appendTimeSlot(newSlot);
+    }
+
+    /**
+     * Adds a timeslot to the timetable without checking for conflicts.
+     *
+     * @param slot  the slot to add
+     */
+    synchronized void appendTimeSlot(TimeSlot slot) {
+        version++;
+        timeSlots.add(slot);
+        CourseSlots group = slotsByCourse.computeIfAbsent(slot.courseCode, code -> new CourseSlots());
+        group.slots.add(slot);
+        if (slot.isChosen()) {
+            group.chosen[slot.getKind().ordinal()]++;
+            group.chosenTotal++;
+            chosenSlots.add(slot);
+            if (attendance != null) {
+                attendance.slotChosen(slot);
+            }
+        }
+    }
+
+    /**
+     * Counts the number of activities for a specific course in the student's timetable.
+     *
+     * @param courseCode    the course code
+     * @return the number of activities for the chosen course
+     */
+    public synchronized int numChosenActivities(String courseCode) {
+        CourseSlots group = slotsByCourse.get(courseCode);
+        return group == null ? 0 : group.chosenTotal;
+    }
+
+    /**
+     * Counts the number of activities of a specific activity type for a course.
+     *
+     * @param courseCode    the code of the course to look at
+     * @param activityType  the activity type to count
+     * @param courseManager the course manager
+     * @return the number of activities that are the specific type and course.
+     */
+    public synchronized int countChosenActivitiesOfType(String courseCode, String activityType, CourseManager courseManager) {
+        if (courseManager == null || !courseManager.hasCourse(courseCode)) {
+            return 0; // No course manager or course doesn't exist
+        }
+
+        ActivityKind kind = ActivityKind.fromLabel(activityType);
+        return kind == ActivityKind.OTHER ? 0 : countChosenActivitiesOfKind(courseCode, kind);
+    }
+
+    /**
+     * Counts the number of chosen activities of a specific kind for a course.
+     *
+     * @param courseCode    the code of the course to look at
+     * @param kind          the kind of activity to count
+     * @return the number of chosen activities of the kind for the course
+     */
+    public synchronized int countChosenActivitiesOfKind(String courseCode, ActivityKind kind) {
+        CourseSlots group = slotsByCourse.get(courseCode);
+        return group == null ? 0 : group.chosen[kind.ordinal()];
+    }
+
+    /**
+     * Finds any conflicting TimeSlots with the given date range. Two weekly activities only conflict if their times
+     * overlap and both run on at least one common date.
+     *
+     * @param startDate The start date
+     * @param startTime The start time
+     * @param endDate   the end date
+     * @param endTime   the end time
+     * @param day       the day of the week
+     * @return an array of the string representations of each conflicting activity
+     */
+    public synchronized String[] checkConflicts(LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime, DayOfWeek day) {
+        return chosenSlots.findOverlapping(day, startDate, startTime, endDate, endTime).stream()
+                .map(TimeSlot::toString)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Checks if timetable belongs to the student with the give email
+     *
+     * @param email the student's email.
+     * @return {@code true} if the email matches, otherwise {@code false}
+     */
+    public boolean hasStudentEmail(String email) {
+        return studentEmail.equals(email);
+    }
+
+    /**
+     * Chooses an activity for a specific timeslot, will cancel if the activity conflicts with other activities already
+     * in the timetable
+     *
+     * @param courseCode    the code of the course the activity is from
+     * @param activityId    the activity id
+     * @return {@code true} if the activity was succesfully added, otherwise {@false}
+     */
+    public synchronized boolean chooseActivity(String courseCode, int activityId) {
+        // Find the slot to be chosen
+        TimeSlot targetSlot = findSlot(courseCode, activityId);
+
+        if (targetSlot == null) {
+            return false;
+        }
+
+        // Check for conflicts with ALL chosen slots, not just unrecorded lectures
+        if (!canChoose(targetSlot.getDay(), targetSlot.getStartDate(), targetSlot.getStartTime(),
+                targetSlot.getEndDate(), targetSlot.getEndTime())) {
+            return false;  // Conflict found with a non-recorded lecture activity
+        }
+
+        // Set this slot as chosen
+        if (!targetSlot.isChosen()) {
+            CourseSlots group = slotsByCourse.get(courseCode);
+            group.chosen[targetSlot.getKind().ordinal()]++;
+            group.chosenTotal++;
+            chosenSlots.add(targetSlot);
+            version++;
+            targetSlot.setStatus(TimeSlotStatus.CHOSEN);
+            if (attendance != null) {
+                attendance.slotChosen(targetSlot);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param courseCode    the code of the course the activity is from
+     * @param activityId    the activity id
+     * @return the slot of the activity, or {@code null} if the activity is not in the timetable
+     */
+    private TimeSlot findSlot(String courseCode, int activityId) {
+        CourseSlots group = slotsByCourse.get(courseCode);
+        if (group == null) {
+            return null;
+        }
+        for (TimeSlot slot : group.slots) {
+            if (slot.hasActivityId(activityId)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether an activity at the given time could be chosen without clashing with any chosen slot. Overlaps
+     * with recorded lectures are allowed.
+     *
+     * @param day       the day of the week of the activity
+     * @param startDate the first date of the activity
+     * @param startTime the start time of the activity
+     * @param endDate   the last date of the activity
+     * @param endTime   the end time of the activity
+     * @return {@code true} if nothing but recorded lectures overlaps the given time, otherwise {@code false}
+     */
+    synchronized boolean canChoose(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                                   LocalDate endDate, LocalTime endTime) {
+        for (TimeSlot slot : chosenSlots.findOverlapping(day, startDate, startTime, endDate, endTime)) {
+            // Overlaps are allowed only if the existing slot is a recorded lecture
+            if (!slot.isRecordedLecture()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the chosen slots that overlap the given weekly time, leaving out the slot of one activity.
+     *
+     * @param day               the day of the week to check
+     * @param startDate         the first date to check
+     * @param startTime         the start time to check
+     * @param endDate           the last date to check
+     * @param endTime           the end time to check
+     * @param courseCode        the course of the activity to leave out
+     * @param activityId        the id of the activity to leave out
+     * @return list of the overlapping chosen slots
+     */
+    synchronized List<TimeSlot> findChosenOverlaps(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                                                   LocalDate endDate, LocalTime endTime,
+                                                   String courseCode, int activityId) {
+        List<TimeSlot> overlaps = chosenSlots.findOverlapping(day, startDate, startTime, endDate, endTime);
+        overlaps.removeIf(slot -> slot.hasCourseCode(courseCode) && slot.hasActivityId(activityId));
+        return overlaps;
+    }
+
+    /**
+     * Checks whether the given activity of a course is currently chosen in the timetable.
+     *
+     * @param courseCode    the code of the course the activity is from
+     * @param activityId    the activity id
+     * @return {@code true} if a chosen slot exists for the activity, otherwise {@code false}
+     */
+    synchronized boolean isActivityChosen(String courseCode, int activityId) {
+        TimeSlot slot = findSlot(courseCode, activityId);
+        return slot != null && slot.isChosen();
+    }
+
+    /**
+     * @param courseCode    the course code
+     * @return a copy of the slots of the course, in the order they were added
+     */
+    synchronized List<TimeSlot> getTimeSlotsForCourse(String courseCode) {
+        CourseSlots group = slotsByCourse.get(courseCode);
+        return group == null ? new ArrayList<>() : new ArrayList<>(group.slots);
+    }
+
+    /**
+     * Finds the clashes between the chosen slots of the given courses and any other chosen slot. Recorded lectures
+     * never clash. A clash between two of the given courses is only reported once.
+     *
+     * @param courseCodes   the codes of the courses to check
+     * @return a description of every clash
+     */
+    synchronized List<String> findClashes(Set<String> courseCodes) {
+        List<String> clashes = new ArrayList<>();
+        for (String courseCode : courseCodes) {
+            CourseSlots group = slotsByCourse.get(courseCode);
+            if (group == null) {
+                continue;
+            }
+            for (TimeSlot slot : group.slots) {
+                if (!slot.isChosen() || slot.isRecordedLecture()) {
+                    continue;
+                }
+                for (TimeSlot other : findChosenOverlaps(slot.getDay(), slot.getStartDate(), slot.getStartTime(),
+                        slot.getEndDate(), slot.getEndTime(), slot.courseCode, slot.activityId)) {
+                    if (other.isRecordedLecture() || (courseCodes.contains(other.courseCode)
+                            && compare(other, slot) < 0)) {
+                        continue; // Never a clash, or already reported from the other slot
+                    }
+                    clashes.add("CLASH: " + slot + " overlaps " + other + " on " + slot.getDay());
+                }
+            }
+        }
+        return clashes;
+    }
+
+    /**
+     * Orders slots by course code and then activity id.
+     */
+    private static int compare(TimeSlot a, TimeSlot b) {
+        int byCourse = a.courseCode.compareTo(b.courseCode);
+        return byCourse != 0 ? byCourse : Integer.compare(a.activityId, b.activityId);
+    }
+
+    /**
+     * Checks if timetable has any timeslots for a given course
+     *
+     * @param courseCode    the course code
+     * @return {@code true} if there is any slot associated with the course, otherwise {@false}
+     */
+    public synchronized boolean hasSlotsForCourse(String courseCode) {
+        return slotsByCourse.containsKey(courseCode);
+    }
+
+    /**
+     * Removes all time slots for a given course
+     *
+     * @param courseCode    the course to remove slots from
+     */
+    public synchronized void removeSlotsForCourse(String courseCode) {
+        CourseSlots removed = slotsByCourse.remove(courseCode);
+        if (removed != null) {
+            version++;
+            if (attendance != null) {
+                for (TimeSlot slot : removed.slots) {
+                    if (slot.isChosen()) {
+                        attendance.slotRemoved(slot);
+                    }
+                }
+            }
+            timeSlots.removeIf(slot -> slot.hasCourseCode(courseCode));
+            chosenSlots.removeCourse(courseCode);
+        }
+    }
+
+    /**
+     * @return  the email of the student
+     */
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    /**
+     * Returns a detailed string representation of the timetable including both chosen and unchosen activities.
+     *
+     * @return A formatted string representing the timetable
+     */
+    public synchronized String toStringWithAllActivities() {
+        LocalDate startOfWeek = getWeekStart(LocalDate.now());
+        if (!allActivitiesCache.isValid(version, startOfWeek)) {
+            allActivitiesCache.store(version, startOfWeek, renderAllActivities(startOfWeek));
+        }
+        return allActivitiesCache.text;
+    }
+
+    /**
+     * Builds the text of {@link #toStringWithAllActivities()} for the given week.
+     *
+     * @param startOfWeek   the Monday of the week to render
+     * @return A formatted string representing the timetable
+     */
+    private String renderAllActivities(LocalDate startOfWeek) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Timetable for ").append(studentEmail).append("\n");
+
+        // End of week is Friday
+        LocalDate endOfWeek = startOfWeek.plusDays(4); // Monday + 4 days = Friday
+
+        sb.append("Week from ").append(startOfWeek).append(" to ").append(endOfWeek).append("\n");
+
+        // Group by day of week, but only include Monday through Friday
+        for (DayOfWeek day : new DayOfWeek[]{
+                DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY}) {
+
+            LocalDate currentDayDate = startOfWeek.plusDays(day.getValue() - DayOfWeek.MONDAY.getValue());
+
+            // Filter slots for this day, including both chosen and unchosen
+            List<TimeSlot> slotsForDay = timeSlots.stream()
+                    .filter(slot -> slot.getDay() == day)
+                    .filter(slot -> {
+                        // Only include activities that still take place (end date >= current day's date)
+                        return !slot.getEndDate().isBefore(currentDayDate);
+                    })
+                    .collect(Collectors.toList());
+
+            if (!slotsForDay.isEmpty()) {
+                sb.append(day).append(" (").append(currentDayDate).append("):\n");
+
+                // Sort by start time
+                slotsForDay.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+
+                // Group by course code for better readability
+                Map<String, List<TimeSlot>> courseSlots = slotsForDay.stream()
+                        .collect(Collectors.groupingBy(slot -> slot.courseCode));
+
+                for (String courseCode : courseSlots.keySet()) {
+                    sb.append("  Course: ").append(courseCode).append("\n");
+
+                    for (TimeSlot slot : courseSlots.get(courseCode)) {
+                        sb.append("    ")
+                                .append(slot.getActivityType())
+                                .append(" (ID: ").append(slot.activityId).append(") - ")
+                                .append(slot.getStartTime()).append("-").append(slot.getEndTime())
+                                .append(" [").append(slot.status).append("]")
+                                .append("\n");
+                    }
+                }
+            } else {
+                sb.append(day).append(" (").append(currentDayDate).append("): No scheduled activities\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns a string representation of the timetable showing only the working week ahead
+     * (Monday to Friday) with activities that still take place.
+     *
+     * @return A formatted string representing the timetable for the week ahead
+     */
+    @Override
+    public synchronized String toString() {
+        LocalDate startOfWeek = getWeekStart(LocalDate.now());
+        if (!chosenActivitiesCache.isValid(version, startOfWeek)) {
+            chosenActivitiesCache.store(version, startOfWeek, renderChosenActivities(startOfWeek));
+        }
+        return chosenActivitiesCache.text;
+    }
+
+    /**
+     * Finds the Monday of the week shown by the timetable views, which is the next Monday unless today is a Monday.
+     *
+     * @param today the current date
+     * @return the first day of the week to show
+     */
+    static LocalDate getWeekStart(LocalDate today) {
+        // Find the next Monday if today is not already Monday
+        LocalDate startOfWeek = today;
+        if (today.getDayOfWeek() != DayOfWeek.MONDAY) {
+            // Calculate days until next Monday
+            int daysUntilMonday = DayOfWeek.MONDAY.getValue() - today.getDayOfWeek().getValue();
+            if (daysUntilMonday <= 0) {
+                daysUntilMonday += 7; // Wrap to next week if today is Monday or later in the week
+            }
+            startOfWeek = today.plusDays(daysUntilMonday);
+        }
+        return startOfWeek;
+    }
+
+    /**
+     * Builds the text of {@link #toString()} for the given week.
+     *
+     * @param startOfWeek   the Monday of the week to render
+     * @return A formatted string representing the timetable for the week
+     */
+    private String renderChosenActivities(LocalDate startOfWeek) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Timetable for ").append(studentEmail).append("\n");
+
+        // End of week is Friday
+        LocalDate endOfWeek = startOfWeek.plusDays(4); // Monday + 4 days = Friday
+
+        sb.append("Week from ").append(startOfWeek).append(" to ").append(endOfWeek).append("\n");
+
+        // Group by day of week, but only include Monday through Friday
+        for (DayOfWeek day : new DayOfWeek[]{
+                DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY}) {
+
+            LocalDate currentDayDate = startOfWeek.plusDays(day.getValue() - DayOfWeek.MONDAY.getValue());
+
+            // Filter slots for this day that are chosen and take place during the week ahead
+            List<TimeSlot> slotsForDay = timeSlots.stream()
+                    .filter(slot -> slot.getDay() == day && slot.isChosen())
+                    .filter(slot -> {
+                        // Only include activities that still take place (end date >= current day's date)
+                        return !slot.getEndDate().isBefore(currentDayDate);
+                    })
+                    .collect(Collectors.toList());
+
+            if (!slotsForDay.isEmpty()) {
+                sb.append(day).append(" (").append(currentDayDate).append("):\n");
+
+                // Sort by start time
+                slotsForDay.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+
+                for (TimeSlot slot : slotsForDay) {
+                    sb.append("  ").append(slot.toString()).append("\n");
+                }
+            } else {
+                sb.append(day).append(" (").append(currentDayDate).append("): No scheduled activities\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Lists every occurrence of the activities in the timetable between two dates, in order of date and start time.
+     * Occurrences are worked out as the stream is consumed, so only what is read gets created.
+     *
+     * @param from  the first date to include
+     * @param to    the last date to include
+     * @return the occurrences within the range, both chosen and unchosen
+     */
+    public Stream<Occurrence> getOccurrences(LocalDate from, LocalDate to) {
+        List<TimeSlot> slots;
+        synchronized (this) {
+            slots = new ArrayList<>(timeSlots);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new OccurrenceIterator(slots, from, to),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @param date  any date in the week
+     * @return the occurrences of the activities in the timetable from Monday to Sunday of the week
+     */
+    public Stream<Occurrence> getOccurrencesInWeek(LocalDate date) {
+        LocalDate monday = date.minusDays(date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+        return getOccurrences(monday, monday.plusDays(6));
+    }
+
+    /**
+     * @return the occurrences of the activities in the timetable from the first to the last date any of them runs
+     */
+    public Stream<Occurrence> getAllOccurrences() {
+        return getOccurrences(LocalDate.MIN, LocalDate.MAX);
+    }
+
+    /**
+     * Check if the timetable has errors or warnings based on requirements.
+     *
+     * @param courseManager The course manager to get course information
+     * @return A list of error and warning messages
+     */
+    public synchronized List<String> checkTimetableIssues(CourseManager courseManager) {
+        List<String> issues = new ArrayList<>();
+
+        // Only courses with at least one chosen slot are checked
+        for (Map.Entry<String, CourseSlots> entry : slotsByCourse.entrySet()) {
+            Course course = courseManager.getCourseByCode(entry.getKey());
+            if (course != null) {
+                checkRequirements(entry.getKey(), entry.getValue(), course.getRequiredTutorials(),
+                        course.getRequiredLabs(), issues);
+            }
+        }
+
+        return issues;
+    }
+
+    /**
+     * Check if the timetable meets the requirements of some courses, as copied by {@link CourseSnapshot}.
+     *
+     * @param courses   the courses to check, by course code
+     * @return A list of warning messages
+     */
+    synchronized List<String> checkTimetableIssues(Map<String, CourseSnapshot> courses) {
+        List<String> issues = new ArrayList<>();
+        for (Map.Entry<String, CourseSlots> entry : slotsByCourse.entrySet()) {
+            CourseSnapshot course = courses.get(entry.getKey());
+            if (course != null) {
+                checkRequirements(entry.getKey(), entry.getValue(), course.getRequiredTutorials(),
+                        course.getRequiredLabs(), issues);
+            }
+        }
+        return issues;
+    }
+
+    /**
+     * Adds a warning for each kind of activity the student has chosen too few of, if they chose anything at all.
+     */
+    private static void checkRequirements(String courseCode, CourseSlots group, int requiredTutorials,
+                                          int requiredLabs, List<String> issues) {
+        if (group.chosenTotal == 0) {
+            return;
+        }
+
+        // Check required tutorials
+        int chosenTutorials = group.chosen[ActivityKind.TUTORIAL.ordinal()];
+        if (chosenTutorials < requiredTutorials) {
+            issues.add("WARNING: Course " + courseCode + " requires " + requiredTutorials +
+                    " tutorials, but only " + chosenTutorials + " chosen.");
+        }
+
+        // Check required labs
+        int chosenLabs = group.chosen[ActivityKind.LAB.ordinal()];
+        if (chosenLabs < requiredLabs) {
+            issues.add("WARNING: Course " + courseCode + " requires " + requiredLabs +
+                    " labs, but only " + chosenLabs + " chosen.");
+        }
+    }
+
+    /**
+     * Get all time slots for unrecorded lectures in the timetable
+     * @return List of time slots for unrecorded lectures
+     */
+    public synchronized List<TimeSlot> getUnrecordedLectureSlots() {
+        List<TimeSlot> unrecordedLectures = new ArrayList<>();
+
+        for (TimeSlot slot : timeSlots) {
+            if (slot.isChosen() && slot.isUnrecordedLecture()) {
+                unrecordedLectures.add(slot);
+            }
+        }
+
+        return unrecordedLectures;
+    }
+
+    /**
+     * A rendered week of the timetable, valid while the timetable has not changed and the week is the same.
+     */
+    private static class RenderCache {
+        private int version = -1;
+        private LocalDate weekStart;
+        private String text;
+
+        private boolean isValid(int version, LocalDate weekStart) {
+            return this.version == version && weekStart.equals(this.weekStart);
+        }
+
+        private void store(int version, LocalDate weekStart, String text) {
+            this.version = version;
+            this.weekStart = weekStart;
+            this.text = text;
+        }
+    }
+
+    /**
+     * The slots of a single course, with the number of chosen slots of each kind.
+     */
+    private static class CourseSlots {
+        private final List<TimeSlot> slots = new ArrayList<>();
+        private final int[] chosen = new int[ActivityKind.values().length];
+        private int chosenTotal;
+    }
+}
+
+/**
+ * Enum representing the possible statuses of a time slot.
+ */
+enum TimeSlotStatus {
+    UNCHOSEN,
+    CHOSEN
+}
+
+/**
+ * Represents the time slot of a single activity within the timetable.
+ */
+class TimeSlot {
+    private final DayOfWeek day;
+    private final LocalDate startDate;
+    private final LocalTime startTime;
+    private final LocalDate endDate;
+    private final LocalTime endTime;
+    public final String courseCode;
+    public final int activityId;
+    public TimeSlotStatus status;
+    private final String activityType;
+    private final ActivityKind kind;
+    private final boolean recorded;
+
+    /**
+     * @param day           the day of the week of the activity
+     * @param startDate     the start date of the activty
+     * @param startTime     the start time of the activity
+     * @param endDate       the end date of the activity
+     * @param endTime       the end time of the activity
+     * @param courseCode    the code of the course that activity is for
+     * @param activityId    the activity id
+     * @param status        the initial status of the slot, either CHOSEN or UNCHOSEN
+     * @param activityType  the type of the activity
+     */
+    public TimeSlot(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                    LocalDate endDate, LocalTime endTime,
+                    String courseCode, int activityId, TimeSlotStatus status, String activityType) {
+        this(day, startDate, startTime, endDate, endTime, courseCode, activityId, status, activityType,
+                ActivityKind.fromLabel(activityType), activityType.equals("Recorded Lecture"));
+    }
+
+    /**
+     * @param day           the day of the week of the activity
+     * @param startDate     the start date of the activty
+     * @param startTime     the start time of the activity
+     * @param endDate       the end date of the activity
+     * @param endTime       the end time of the activity
+     * @param courseCode    the code of the course that activity is for
+     * @param activityId    the activity id
+     * @param status        the initial status of the slot, either CHOSEN or UNCHOSEN
+     * @param kind          the kind of the activity
+     * @param recorded      whether the activity is a recorded lecture
+     */
+    public TimeSlot(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                    LocalDate endDate, LocalTime endTime,
+                    String courseCode, int activityId, TimeSlotStatus status, ActivityKind kind, boolean recorded) {
+        this(day, startDate, startTime, endDate, endTime, courseCode, activityId, status, kind.getLabel(recorded),
+                kind, recorded);
+    }
+
+    private TimeSlot(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                     LocalDate endDate, LocalTime endTime, String courseCode, int activityId,
+                     TimeSlotStatus status, String activityType, ActivityKind kind, boolean recorded) {
+        this.day = day;
+        this.startDate = startDate;
+        this.startTime = startTime;
+        this.endDate = endDate;
+        this.endTime = endTime;
+        this.courseCode = courseCode;
+        this.activityId = activityId;
+        this.status = status;
+        this.activityType = activityType;
+        this.kind = kind;
+        this.recorded = kind == ActivityKind.LECTURE && recorded;
+    }
+
+    /**
+     * Checks whether the course code of the activity matches given course code
+     *
+     * @param courseCode    the course code to check against
+     * @return {@code true} if the course codes match, otherwise {@code false}
+     */
+    public boolean hasCourseCode(String courseCode) {
+        return this.courseCode.equals(courseCode);
+    }
+
+    /**
+     * Checks if the timeslot is for the activity with given id
+     *
+     * @param id    the id to check against
+     * @return {@code true} if the id matches, otherwise {@code false}
+     */
+    public boolean hasActivityId(int id) {
+        return this.activityId == id;
+    }
+
+    /**
+     * @return whether the timeslot is currently CHOSEN
+     */
+    public boolean isChosen() {
+        return status == TimeSlotStatus.CHOSEN;
+    }
+
+    /**
+     * Sets the status of the time slot to a given status
+     * @param status    the status to set the time slot to
+     */
+    public void setStatus(TimeSlotStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * @return the day of the week the time slot is for
+     */
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    /**
+     * @return the start date of the time slot
+     */
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * @return the start time of the time slot
+     */
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return the end date of the time slot
+     */
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * @return the end time of the time slot
+     */
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * @return the activity type of the time slot
+     */
+    public String getActivityType() {
+        return activityType;
+    }
+
+    /**
+     * @return the kind of the activity of the time slot
+     */
+    public ActivityKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Checks whether the slot runs at the same time as a weekly activity on at least one date.
+     *
+     * @param day       the day of the week of the activity
+     * @param startDate the first date of the activity
+     * @param startTime the start time of the activity
+     * @param endDate   the last date of the activity
+     * @param endTime   the end time of the activity
+     * @return {@code true} if the times overlap on a date both run, otherwise {@code false}
+     */
+    public boolean overlaps(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                            LocalDate endDate, LocalTime endTime) {
+        return this.day == day
+                && startTime.isBefore(this.endTime) && this.startTime.isBefore(endTime)
+                && sharesDate(day, startDate, endDate, this.startDate, this.endDate);
+    }
+
+    /**
+     * Checks whether two weekly activities on the same day of the week have at least one date in common.
+     *
+     * @param day       the day of the week both activities are held
+     * @param startA    the first date of one activity
+     * @param endA      the last date of one activity
+     * @param startB    the first date of the other activity
+     * @param endB      the last date of the other activity
+     * @return {@code true} if a date on the given day lies within both ranges, otherwise {@code false}
+     */
+    static boolean sharesDate(DayOfWeek day, LocalDate startA, LocalDate endA, LocalDate startB, LocalDate endB) {
+        LocalDate from = startA.isAfter(startB) ? startA : startB;
+        LocalDate to = endA.isBefore(endB) ? endA : endB;
+        return !from.with(TemporalAdjusters.nextOrSame(day)).isAfter(to);
+    }
+
+    /**
+     * @return whether the time slot is for a recorded lecture
+     */
+    public boolean isRecordedLecture() {
+        return recorded;
+    }
+
+    /**
+     * @return whether the time slot is for a lecture that is not recorded and has to be attended
+     */
+    public boolean isUnrecordedLecture() {
+        return kind == ActivityKind.LECTURE && !recorded;
+    }
+
+    /**
+     * @return a string representation of the timeslot
+     */
+    @Override
+    public String toString() {
+        return courseCode + " - " + activityType + " - " + startTime + "-" + endTime + " (Activity ID: " + activityId + ")";
+    }
 }
\ No newline at end of file
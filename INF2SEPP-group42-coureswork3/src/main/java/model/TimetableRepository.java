@@ -0,0 +1,26 @@
+package model;
+
+import java.util.Collection;
+
+/**
+ * Stores student timetables. A timetable is saved again after every change to its slots.
+ */
+public interface TimetableRepository {
+    /**
+     * @param studentEmail  the email of the student
+     * @return the timetable of the student, or {@code null} if there is none
+     */
+    Timetable find(String studentEmail);
+
+    /**
+     * Stores a new timetable, or the changes made to a stored one.
+     *
+     * @param timetable the timetable to store
+     */
+    void save(Timetable timetable);
+
+    /**
+     * @return every stored timetable
+     */
+    Collection<Timetable> findAll();
+}
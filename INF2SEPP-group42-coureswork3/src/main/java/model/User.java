@@ -1,8 +1,8 @@
-package model;
-
-/**
- * Abstract class representing user of the system.
- */
-public abstract class User {
-
-}
+package model;
+
+/**
+ * Abstract class representing user of the system.
+ */
+public abstract class User {
+
+}
@@ -0,0 +1,169 @@
+package model;
+
+import external.EmailService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background job that re-checks student timetables after the schedule of some courses has changed. Only timetables
+ * with one of the changed courses are looked at, in chunks on the worker pool. Each is checked for unmet tutorial and
+ * lab requirements, clashes with the changed courses, and slots that no longer match the course they came from. The
+ * changed courses are checked as they were when the sweep was started, so the admin can keep changing them meanwhile.
+ * Students with problems can optionally be emailed once the report is complete.
+ */
+public class ValidationSweep extends BackgroundJob {
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+
+    private final String userEmail;
+    private final Set<String> courseCodes;
+    private final Map<String, CourseSnapshot> courses;
+    private final List<Timetable> timetables;
+    private final EmailService email;
+    private final Map<String, List<String>> issuesByStudent = new ConcurrentHashMap<>();
+    private final AtomicInteger timetablesChecked = new AtomicInteger();
+    private final AtomicInteger timetablesAffected = new AtomicInteger();
+
+    /**
+     * @param userEmail     the email of the admin that started the sweep
+     * @param courseCodes   the codes of the courses that changed
+     * @param courses       copies of the changed courses that are still in the catalogue, by course code
+     * @param timetables    every student timetable, the ones without a changed course are skipped
+     * @param email         the email service used to notify students, or {@code null} to only produce the report
+     */
+    ValidationSweep(String userEmail, Set<String> courseCodes, Map<String, CourseSnapshot> courses,
+                    List<Timetable> timetables, EmailService email) {
+        super(nextId.getAndIncrement());
+        this.userEmail = userEmail;
+        this.courseCodes = courseCodes;
+        this.courses = courses;
+        this.timetables = timetables;
+        this.email = email;
+    }
+
+    /**
+     * Submits the validation chunks, and the notification chunks once every timetable is checked, to the given
+     * workers.
+     *
+     * @param workers   the executor to run the chunks on
+     */
+    void start(ExecutorService workers) {
+        track(allOf(runInChunks(timetables, this::checkTimetables, workers)).thenCompose(ignored -> {
+            if (email == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return sendNotifications(email, new ArrayList<>(issuesByStudent.keySet()),
+                    "Timetable issues after schedule changes",
+                    studentEmail -> "Your timetable was checked after changes to " + String.join(", ", courseCodes) +
+                            " and needs your attention:\n" + String.join("\n", issuesByStudent.get(studentEmail)),
+                    workers);
+        }), error -> TinyLogLogger.log(System.currentTimeMillis(), userEmail, "validationSweep",
+                String.join(",", courseCodes),
+                error == null ? "SUCCESS (" + issuesByStudent.size() + " of " + timetablesAffected +
+                        " timetables with issues)"
+                        : "FAILURE (Error: " + error.getMessage() + ")"));
+    }
+
+    /**
+     * Checks every timetable in the chunk that has one of the changed courses.
+     *
+     * @param chunk the timetables to check
+     * @return nothing, the issues found are collected by student
+     */
+    private Void checkTimetables(List<Timetable> chunk) {
+        for (Timetable timetable : chunk) {
+            timetablesChecked.incrementAndGet();
+            List<String> stale = new ArrayList<>();
+            boolean affected = false;
+            for (String courseCode : courseCodes) {
+                if (timetable.hasSlotsForCourse(courseCode)) {
+                    affected = true;
+                    stale.addAll(findStaleSlots(courseCode, timetable.getTimeSlotsForCourse(courseCode)));
+                }
+            }
+            if (!affected) {
+                continue;
+            }
+            timetablesAffected.incrementAndGet();
+
+            List<String> issues = new ArrayList<>(stale);
+            issues.addAll(timetable.findClashes(courseCodes));
+            issues.addAll(timetable.checkTimetableIssues(courses));
+            if (!issues.isEmpty()) {
+                issuesByStudent.put(timetable.getStudentEmail(), issues);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compares the slots of a course in a timetable with the activities the course had when the sweep started.
+     *
+     * @param courseCode    the code of the course
+     * @param slots         the slots of the course in the timetable
+     * @return a description of every slot that no longer matches the course
+     */
+    private List<String> findStaleSlots(String courseCode, List<TimeSlot> slots) {
+        List<String> stale = new ArrayList<>();
+        CourseSnapshot course = courses.get(courseCode);
+        if (course == null) {
+            stale.add("STALE: Course " + courseCode + " is no longer offered but is still in the timetable.");
+            return stale;
+        }
+        for (TimeSlot slot : slots) {
+            CourseSnapshot.Schedule schedule = course.getSchedule(slot.activityId);
+            if (schedule == null) {
+                stale.add("STALE: " + slot + " no longer exists.");
+            } else if (!schedule.matches(slot)) {
+                stale.add("STALE: " + slot + " has moved to " + schedule + ".");
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * @return the codes of the changed courses the sweep checks
+     */
+    public Set<String> getCourseCodes() {
+        return Collections.unmodifiableSet(courseCodes);
+    }
+
+    /**
+     * @return the number of timetables with a changed course checked so far
+     */
+    public int getTimetablesAffected() {
+        return timetablesAffected.get();
+    }
+
+    /**
+     * @return the issues found so far, by student email in alphabetical order
+     */
+    public Map<String, List<String>> getIssues() {
+        return new TreeMap<>(issuesByStudent);
+    }
+
+    /**
+     * @return a string representation of the progress of the sweep
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Sweep #").append(getId()).append(" - checking ").append(String.join(", ", courseCodes))
+                .append(" [").append(getStatus()).append("]: ");
+        sb.append(timetablesChecked.get()).append("/").append(timetables.size()).append(" timetables scanned, ");
+        sb.append(timetablesAffected.get()).append(" affected, ");
+        sb.append(issuesByStudent.size()).append(" with issues");
+        if (email != null) {
+            sb.append(", ").append(describeNotifications());
+        }
+        return sb.toString();
+    }
+}
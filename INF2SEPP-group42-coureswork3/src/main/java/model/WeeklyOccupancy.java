@@ -0,0 +1,86 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Bitmap of the minutes of one week that are taken up by chosen activities, with one bit per minute of every day.
+ * The occupancy of several students is combined by OR-ing their bitmaps, which makes finding a time when a whole
+ * group is free a scan over a few hundred words.
+ */
+class WeeklyOccupancy {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final LocalDate weekStart;
+    private final BitSet busy = new BitSet(7 * MINUTES_PER_DAY);
+
+    /**
+     * @param weekStart the Monday of the week
+     */
+    WeeklyOccupancy(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    /**
+     * Marks the chosen activities of a timetable that take place in the week as busy. Recorded lectures are left out,
+     * as they do not need to be attended live and are never treated as a clash.
+     *
+     * @param timetable the timetable to add
+     */
+    void add(Timetable timetable) {
+        for (TimeSlot slot : timetable.getChosenTimeSlots()) {
+            if (slot.isRecordedLecture()) {
+                continue;
+            }
+            LocalDate date = weekStart.plusDays(slot.getDay().getValue() - 1);
+            if (date.isBefore(slot.getStartDate()) || date.isAfter(slot.getEndDate())) {
+                continue; // Not running this week
+            }
+            int dayOffset = (slot.getDay().getValue() - 1) * MINUTES_PER_DAY;
+            busy.set(dayOffset + toMinutes(slot.getStartTime()), dayOffset + toMinutes(slot.getEndTime()));
+        }
+    }
+
+    /**
+     * Combines the occupancy of another group of students into this one.
+     *
+     * @param other the occupancy of the same week to combine
+     */
+    void or(WeeklyOccupancy other) {
+        busy.or(other.busy);
+    }
+
+    /**
+     * Finds the windows on a day when nobody is busy.
+     *
+     * @param day       the day of the week
+     * @param dayStart  the earliest time to consider
+     * @param dayEnd    the latest time to consider
+     * @return list of free windows between {@code dayStart} and {@code dayEnd}, in order
+     */
+    List<TimeWindow> getFreeWindows(DayOfWeek day, LocalTime dayStart, LocalTime dayEnd) {
+        int dayOffset = (day.getValue() - 1) * MINUTES_PER_DAY;
+        int end = dayOffset + toMinutes(dayEnd);
+        List<TimeWindow> free = new ArrayList<>();
+        int from = busy.nextClearBit(dayOffset + toMinutes(dayStart));
+        while (from < end) {
+            int nextBusy = busy.nextSetBit(from);
+            int to = nextBusy == -1 || nextBusy > end ? end : nextBusy;
+            free.add(new TimeWindow(toTime(from - dayOffset), toTime(to - dayOffset)));
+            from = busy.nextClearBit(to);
+        }
+        return free;
+    }
+
+    private static int toMinutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toTime(int minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+}
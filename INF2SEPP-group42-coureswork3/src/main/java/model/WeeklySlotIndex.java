@@ -0,0 +1,121 @@
+package model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of weekly time slots by day of the week, sorted by start time. Together with the longest slot of each day
+ * this bounds the part of the list that can overlap a given time, so a lookup only visits the slots around it
+ * instead of the whole timetable.
+ */
+class WeeklySlotIndex {
+    private final Map<DayOfWeek, DaySlots> days = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Adds a slot to the index.
+     *
+     * @param slot  the slot to add
+     */
+    void add(TimeSlot slot) {
+        DaySlots daySlots = days.computeIfAbsent(slot.getDay(), day -> new DaySlots());
+        int position = daySlots.upperBound(slot.getStartTime());
+        daySlots.slots.add(position, slot);
+        daySlots.longestMinutes = Math.max(daySlots.longestMinutes,
+                ChronoUnit.MINUTES.between(slot.getStartTime(), slot.getEndTime()));
+    }
+
+    /**
+     * Removes every slot of a course from the index.
+     *
+     * @param courseCode    the code of the course
+     */
+    void removeCourse(String courseCode) {
+        for (DaySlots daySlots : days.values()) {
+            daySlots.slots.removeIf(slot -> slot.hasCourseCode(courseCode));
+        }
+    }
+
+    /**
+     * Finds the slots that run at the same time on at least one common date as the given weekly activity.
+     *
+     * @param day       the day of the week of the activity
+     * @param startDate the first date of the activity
+     * @param startTime the start time of the activity
+     * @param endDate   the last date of the activity
+     * @param endTime   the end time of the activity
+     * @return list of the overlapping slots, in order of start time
+     */
+    List<TimeSlot> findOverlapping(DayOfWeek day, LocalDate startDate, LocalTime startTime,
+                                   LocalDate endDate, LocalTime endTime) {
+        List<TimeSlot> overlapping = new ArrayList<>();
+        DaySlots daySlots = days.get(day);
+        if (daySlots == null) {
+            return overlapping;
+        }
+
+        // No slot starting earlier than the longest slot of the day before the start time can still be running
+        LocalTime earliestStart = startTime.minusMinutes(Math.min(daySlots.longestMinutes,
+                ChronoUnit.MINUTES.between(LocalTime.MIN, startTime)));
+        for (int i = daySlots.lowerBound(earliestStart); i < daySlots.slots.size(); i++) {
+            TimeSlot slot = daySlots.slots.get(i);
+            if (!slot.getStartTime().isBefore(endTime)) {
+                break; // Sorted by start time, nothing after this can overlap
+            }
+            if (slot.overlaps(day, startDate, startTime, endDate, endTime)) {
+                overlapping.add(slot);
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * The slots of a single day of the week.
+     */
+    private static class DaySlots {
+        private final List<TimeSlot> slots = new ArrayList<>();
+        // Only ever grows, it is an upper bound on the length of any slot in the list
+        private long longestMinutes;
+
+        /**
+         * @param time  the time to search for
+         * @return the index of the first slot starting at or after the time
+         */
+        private int lowerBound(LocalTime time) {
+            int low = 0;
+            int high = slots.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (slots.get(middle).getStartTime().isBefore(time)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @param time  the time to search for
+         * @return the index of the first slot starting after the time
+         */
+        private int upperBound(LocalTime time) {
+            int low = 0;
+            int high = slots.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (slots.get(middle).getStartTime().isAfter(time)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
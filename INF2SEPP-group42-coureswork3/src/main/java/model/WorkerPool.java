@@ -0,0 +1,33 @@
+package model;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared pool of background worker threads for long running jobs, so they do not block the user interface.
+ */
+public class WorkerPool {
+    // Singleton instance
+    private static ExecutorService instance;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    // Private constructor to prevent direct instantiation
+    private WorkerPool() {
+    }
+
+    /**
+     * @return the shared executor, worker threads are daemons so they never keep the application running
+     */
+    public static synchronized ExecutorService get() {
+        if (instance == null) {
+            instance = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "portal-worker-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return instance;
+    }
+}
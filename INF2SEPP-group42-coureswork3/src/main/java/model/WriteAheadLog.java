@@ -0,0 +1,483 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of encoded mutations, split into segment files named after the sequence number of their first
+ * record. Appends can come from any thread and are queued for a single flusher thread. The flusher writes everything
+ * that queued up while the previous fsync was running and syncs it with one fsync, so many appends share the cost of
+ * a sync (group commit). An append only completes once its record is on disk.
+ *
+ * <p>Each record is framed by its length, a CRC32 of the payload and its sequence number. A record that was cut short
+ * or corrupted by a crash, or whose sequence number does not follow the one before it, ends the log, the records
+ * before it are kept.</p>
+ */
+class WriteAheadLog implements Closeable {
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    // Length, CRC32 and sequence number of a record
+    private static final int HEADER_SIZE = 4 + 4 + 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // A directory cannot be opened for syncing on Windows, where creating a file is made durable with the file itself
+    private static final boolean WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    private final Path directory;
+    private final Thread flusher;
+    // Guarded by this
+    private final List<Pending> queue = new ArrayList<>();
+    private long nextSequence;
+    private boolean closed;
+    private IOException failure;
+    // Only used by the flusher thread
+    private FileChannel segment;
+    private volatile long segmentBytes;
+    private volatile long bytesWritten;
+    private volatile long syncs;
+
+    /**
+     * Opens a new segment for records from the given sequence number onwards.
+     *
+     * @param directory     the directory the segments are kept in
+     * @param nextSequence  the sequence number of the next record
+     * @throws IOException if the segment could not be created
+     */
+    WriteAheadLog(Path directory, long nextSequence) throws IOException {
+        this.directory = directory;
+        this.nextSequence = nextSequence;
+        this.segment = openSegment(nextSequence);
+        this.flusher = new Thread(this::flushLoop, "wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Queues a record to be written.
+     *
+     * @param payload   the encoded record
+     * @return a future completed with the sequence number of the record once it is on disk
+     */
+    synchronized CompletableFuture<Long> append(byte[] payload) {
+        if (closed || failure != null) {
+            return CompletableFuture.failedFuture(failure != null ? failure : new IOException("Log is closed"));
+        }
+        Pending pending = new Pending(nextSequence++, payload);
+        queue.add(pending);
+        notifyAll();
+        return pending.done;
+    }
+
+    /**
+     * Starts a new segment once every record queued so far is written, so those records can later be read or deleted
+     * as a whole.
+     *
+     * @return a future completed with the first sequence number of the new segment once every earlier record is on
+     *         disk and the new segment is open
+     */
+    synchronized CompletableFuture<Long> roll() {
+        if (closed || failure != null) {
+            return CompletableFuture.failedFuture(failure != null ? failure : new IOException("Log is closed"));
+        }
+        Pending marker = new Pending(nextSequence, null);
+        queue.add(marker);
+        notifyAll();
+        return marker.done;
+    }
+
+    /**
+     * Checks that records are still accepted. Once a write failed nothing is accepted any more, as the records queued
+     * after it can no longer be written in order.
+     *
+     * @throws IOException the failure of the write, or an exception saying the log is closed
+     */
+    synchronized void checkWritable() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (closed) {
+            throw new IOException("Log is closed");
+        }
+    }
+
+    /**
+     * @return the sequence number of the last record queued, or one less than the first sequence number if nothing
+     *         has been appended yet
+     */
+    synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * @return the number of bytes written to the current segment
+     */
+    long getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    /**
+     * @return the number of bytes written to every segment since the log was opened
+     */
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * @return the number of fsyncs done so far
+     */
+    long getSyncCount() {
+        return syncs;
+    }
+
+    /**
+     * Deletes every segment that only holds records before the given sequence number.
+     *
+     * @param sequence  the first sequence number that must be kept
+     * @throws IOException if a segment could not be deleted
+     */
+    void deleteSegmentsBefore(long sequence) throws IOException {
+        List<Path> segments = listSegments(directory);
+        boolean deleted = false;
+        for (int i = 0; i < segments.size(); i++) {
+            // A segment ends where the next one starts
+            long nextStart = i + 1 < segments.size() ? firstSequence(segments.get(i + 1)) : Long.MAX_VALUE;
+            if (nextStart <= sequence) {
+                deleted |= Files.deleteIfExists(segments.get(i));
+            }
+        }
+        if (deleted) {
+            syncDirectory(directory);
+        }
+    }
+
+    /**
+     * Waits for the queued records to be written and closes the current segment.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.close();
+    }
+
+    /**
+     * Reads every valid record in the segments of a directory, in order. A cut short or corrupted record is taken as
+     * the end of the log: the segment is truncated just before it and any later segments are deleted.
+     *
+     * @param directory the directory the segments are kept in
+     * @param from      segments that only hold records before this sequence number are not read
+     * @param handler   called with each record
+     * @return the sequence number of the last valid record, or {@code -1} if there are none
+     * @throws IOException if the segments could not be read
+     */
+    static long replay(Path directory, long from, RecordHandler handler) throws IOException {
+        return read(directory, from, Long.MAX_VALUE, true, handler);
+    }
+
+    /**
+     * Reads the records in a range of sequence numbers without changing any segment. Only meant for records in
+     * segments that are no longer written to, i.e. before the start of the last {@link #roll()}.
+     *
+     * @param directory the directory the segments are kept in
+     * @param from      segments that only hold records before this sequence number are not read
+     * @param upTo      the sequence number of the last record to read
+     * @param handler   called with each record
+     * @return the sequence number of the last record read, or {@code -1} if there are none
+     * @throws IOException if the segments could not be read
+     */
+    static long read(Path directory, long from, long upTo, RecordHandler handler) throws IOException {
+        return read(directory, from, upTo, false, handler);
+    }
+
+    private static long read(Path directory, long from, long upTo, boolean repair, RecordHandler handler)
+            throws IOException {
+        long last = -1;
+        List<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            Path path = segments.get(i);
+            if (i + 1 < segments.size() && firstSequence(segments.get(i + 1)) <= from) {
+                continue;
+            }
+            if (firstSequence(path) > upTo) {
+                break;
+            }
+            try (FileChannel channel = repair
+                    ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Keep reading until the whole segment is in memory
+                }
+                buffer.flip();
+
+                CRC32 crc = new CRC32();
+                // The checksum only covers the payload, the records of a segment are numbered one after another
+                long expected = firstSequence(path);
+                int position = 0;
+                boolean torn = false;
+                while (buffer.remaining() > 0) {
+                    if (buffer.remaining() < HEADER_SIZE) {
+                        torn = true;
+                        break;
+                    }
+                    int length = buffer.getInt();
+                    int checksum = buffer.getInt();
+                    long sequence = buffer.getLong();
+                    if (sequence != expected) {
+                        torn = true;
+                        break;
+                    }
+                    if (sequence > upTo) {
+                        return last;
+                    }
+                    if (length < 0 || length > buffer.remaining()) {
+                        torn = true;
+                        break;
+                    }
+                    byte[] payload = new byte[length];
+                    buffer.get(payload);
+                    crc.reset();
+                    crc.update(payload);
+                    if ((int) crc.getValue() != checksum) {
+                        torn = true;
+                        break;
+                    }
+                    handler.accept(sequence, payload);
+                    last = sequence;
+                    expected++;
+                    position = buffer.position();
+                }
+
+                if (torn && repair) {
+                    // Nothing after a damaged record was ever acknowledged
+                    channel.truncate(position);
+                    channel.force(true);
+                    for (Path later : segments.subList(i + 1, segments.size())) {
+                        Files.deleteIfExists(later);
+                    }
+                    syncDirectory(directory);
+                    break;
+                }
+                if (torn) {
+                    break;
+                }
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Writes queued records in batches until the log is closed.
+     */
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        while (true) {
+            synchronized (this) {
+                while (queue.isEmpty() && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (queue.isEmpty()) {
+                    return;
+                }
+                batch.addAll(queue);
+                queue.clear();
+            }
+
+            try {
+                writeBatch(batch, buffer);
+            } catch (IOException | RuntimeException e) {
+                IOException error = e instanceof IOException ? (IOException) e : new IOException(e);
+                synchronized (this) {
+                    failure = error;
+                    for (Pending pending : queue) {
+                        pending.done.completeExceptionally(error);
+                    }
+                    queue.clear();
+                }
+                for (Pending pending : batch) {
+                    pending.done.completeExceptionally(error);
+                }
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch of records with a single fsync, starting new segments where the batch asks for it.
+     *
+     * @param batch     the records and roll markers to write, in order
+     * @param buffer    the buffer to collect records in before writing
+     * @throws IOException if the records could not be written
+     */
+    private void writeBatch(List<Pending> batch, ByteBuffer buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        List<Pending> written = new ArrayList<>();
+        for (Pending pending : batch) {
+            if (pending.payload == null) {
+                drain(buffer);
+                sync(written);
+                segment.close();
+                segment = openSegment(pending.sequence);
+                segmentBytes = 0;
+                pending.done.complete(pending.sequence);
+                continue;
+            }
+
+            int frameSize = HEADER_SIZE + pending.payload.length;
+            if (buffer.remaining() < frameSize) {
+                drain(buffer);
+            }
+            crc.reset();
+            crc.update(pending.payload);
+            ByteBuffer target = frameSize <= buffer.capacity() ? buffer : ByteBuffer.allocate(frameSize);
+            target.putInt(pending.payload.length);
+            target.putInt((int) crc.getValue());
+            target.putLong(pending.sequence);
+            target.put(pending.payload);
+            if (target != buffer) {
+                drain(target);
+            }
+            written.add(pending);
+        }
+        drain(buffer);
+        sync(written);
+    }
+
+    /**
+     * Writes everything in a buffer to the current segment and clears it.
+     */
+    private void drain(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            int written = segment.write(buffer);
+            segmentBytes += written;
+            bytesWritten += written;
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Syncs the current segment to disk and completes the records written to it.
+     */
+    private void sync(List<Pending> written) throws IOException {
+        if (written.isEmpty()) {
+            return;
+        }
+        segment.force(false);
+        syncs++;
+        for (Pending pending : written) {
+            pending.done.complete(pending.sequence);
+        }
+        written.clear();
+    }
+
+    /**
+     * Creates a segment and syncs the directory, so the segment is still there after a crash once its records are.
+     */
+    private FileChannel openSegment(long firstSequence) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            syncDirectory(directory);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * Syncs a directory, so the files created, renamed or deleted in it stay that way after a crash. Fsyncing a file
+     * only makes its contents durable, not its entry in the directory.
+     *
+     * @param directory the directory to sync
+     * @throws IOException if the directory could not be synced
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * @param directory the directory the segments are kept in
+     * @return the segments in the directory, ordered by their first sequence number
+     * @throws IOException if the directory could not be listed
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @param segment   the path of a segment
+     * @return the sequence number of the first record in the segment
+     */
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Receives the records read back from the log.
+     */
+    interface RecordHandler {
+        /**
+         * @param sequence  the sequence number of the record
+         * @param payload   the encoded record
+         * @throws IOException if the record could not be applied
+         */
+        void accept(long sequence, byte[] payload) throws IOException;
+    }
+
+    /**
+     * A record waiting to be written, or a request to start a new segment if it has no payload.
+     */
+    private static class Pending {
+        private final long sequence;
+        private final byte[] payload;
+        private final CompletableFuture<Long> done = new CompletableFuture<>();
+
+        private Pending(long sequence, byte[] payload) {
+            this.sequence = sequence;
+            this.payload = payload;
+        }
+    }
+}
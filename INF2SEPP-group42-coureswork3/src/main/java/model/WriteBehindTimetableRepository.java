@@ -0,0 +1,130 @@
+package model;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Takes timetable writes off the request path. A saved timetable is only marked as changed, and a background thread
+ * hands the changed timetables to the underlying repository at a fixed interval. A timetable saved several times
+ * between two flushes is written once, with the changes of every save.
+ *
+ * <p>Every timetable is kept in memory, so reads never wait for the underlying repository. Changes made since the
+ * last flush are lost if the process dies, so {@link #close()} must be called to write them on shutdown.</p>
+ */
+public class WriteBehindTimetableRepository implements TimetableRepository, Closeable {
+    /**
+     * The time between two flushes, unless a different interval is given.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+
+    private final TimetableRepository repository;
+    private final Map<String, Timetable> timetables = new ConcurrentHashMap<>();
+    // The emails of the timetables changed since the last flush, a timetable saved again is only listed once
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flusher;
+    private final AtomicLong saves = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+
+    /**
+     * @param repository            the repository to write the changed timetables to
+     * @param flushIntervalMillis   the time between two flushes, in milliseconds
+     */
+    public WriteBehindTimetableRepository(TimetableRepository repository, long flushIntervalMillis) {
+        this.repository = repository;
+        for (Timetable timetable : repository.findAll()) {
+            timetables.put(timetable.getStudentEmail(), timetable);
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timetable-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Timetable find(String studentEmail) {
+        return timetables.get(studentEmail);
+    }
+
+    /**
+     * Marks a timetable as changed. Returns straight away, the timetable is written by the next flush.
+     *
+     * @param timetable the timetable to store
+     */
+    @Override
+    public void save(Timetable timetable) {
+        saves.incrementAndGet();
+        timetables.put(timetable.getStudentEmail(), timetable);
+        pending.add(timetable.getStudentEmail());
+    }
+
+    @Override
+    public Collection<Timetable> findAll() {
+        return timetables.values();
+    }
+
+    /**
+     * Writes every timetable changed since the last flush. A timetable that fails to write is kept for the next
+     * flush.
+     */
+    public synchronized void flush() {
+        for (String studentEmail : pending) {
+            // Removed before writing, so a save made during the write is picked up by the next flush
+            if (!pending.remove(studentEmail)) {
+                continue;
+            }
+            try {
+                repository.save(timetables.get(studentEmail));
+                writes.incrementAndGet();
+            } catch (RuntimeException e) {
+                pending.add(studentEmail);
+                TinyLogLogger.log(System.currentTimeMillis(), studentEmail, "flushTimetable", "",
+                        "FAILURE (Error: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    /**
+     * @return the number of timetables changed but not written yet
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of saves so far
+     */
+    public long getSaveCount() {
+        return saves.get();
+    }
+
+    /**
+     * @return the number of timetables written to the underlying repository so far, lower than the number of saves
+     *         when saves were coalesced
+     */
+    public long getWriteCount() {
+        return writes.get();
+    }
+
+    /**
+     * Stops the background flushes and writes every timetable still waiting.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
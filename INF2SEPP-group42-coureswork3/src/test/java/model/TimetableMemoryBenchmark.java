@@ -0,0 +1,83 @@
+package model;
+
+import view.TextUserInterface;
+import view.View;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Compares the heap used by a term kept in regular and in packed timetables for a large student population. Run with
+ * {@code java model.TimetableMemoryBenchmark [students] [coursesPerStudent]}, using the test classpath.
+ */
+public class TimetableMemoryBenchmark {
+    private static final int COURSES = 200;
+
+    public static void main(String[] args) throws InterruptedException {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 40_000;
+        int coursesPerStudent = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+
+        long baseline = usedMemory();
+        CourseManager regular = createTerm(Repositories.inMemory(), students, coursesPerStudent);
+        long regularBytes = usedMemory() - baseline;
+        int regularSlots = countSlots(regular);
+        regular = null;
+
+        baseline = usedMemory();
+        CourseManager packed = createTerm(Repositories.packed(), students, coursesPerStudent);
+        long packedBytes = usedMemory() - baseline;
+        int packedSlots = countSlots(packed);
+
+        System.out.printf("%d students x %d courses, %d slots%n", students, coursesPerStudent, regularSlots);
+        System.out.printf("Timetable:       %,d bytes (%d bytes/slot)%n", regularBytes, regularBytes / regularSlots);
+        System.out.printf("PackedTimetable: %,d bytes (%d bytes/slot)%n", packedBytes, packedBytes / packedSlots);
+    }
+
+    /**
+     * Creates a term of courses with a lecture, a tutorial and a lab each, and enrols every student on some of them,
+     * as students would through the menus.
+     */
+    private static CourseManager createTerm(Repositories repositories, int students, int coursesPerStudent) {
+        View view = new TextUserInterface();
+        CourseManager courseManager = new CourseManager(view, repositories.getCourses(),
+                repositories.getTimetables());
+        for (int course = 0; course < COURSES; course++) {
+            String courseCode = "INF" + (1000 + course);
+            courseManager.addCourse("admin1@university.edu", courseCode, "Course " + courseCode, "About",
+                    true, "Organiser", "organiser@university.edu", "Secretary", "secretary@university.edu", 1, 1);
+            DayOfWeek day = DayOfWeek.of(1 + course % 5);
+            LocalTime start = LocalTime.of(9 + course % 8, 0);
+            courseManager.addActivityToCourse(courseCode, LocalDate.of(2025, 9, 15), start,
+                    LocalDate.of(2025, 12, 5), start.plusHours(1), "Hall " + course, day, "Lecture", course % 2 == 0);
+            courseManager.addActivityToCourse(courseCode, LocalDate.of(2025, 9, 15), start.plusHours(1),
+                    LocalDate.of(2025, 12, 5), start.plusHours(2), "Room " + course, day, "Tutorial", students);
+            courseManager.addActivityToCourse(courseCode, LocalDate.of(2025, 9, 15), start.plusHours(2),
+                    LocalDate.of(2025, 12, 5), start.plusHours(3), "Lab " + course, day, "Lab", students);
+        }
+        for (int student = 0; student < students; student++) {
+            for (int i = 0; i < coursesPerStudent; i++) {
+                courseManager.addCourseToStudentTimetable("student" + student + "@university.edu",
+                        "INF" + (1000 + (student + i * 7) % COURSES));
+            }
+        }
+        return courseManager;
+    }
+
+    private static int countSlots(CourseManager courseManager) {
+        int slots = 0;
+        for (Timetable timetable : courseManager.getTimetables()) {
+            slots += timetable.timeSlots.size();
+        }
+        return slots;
+    }
+
+    private static long usedMemory() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
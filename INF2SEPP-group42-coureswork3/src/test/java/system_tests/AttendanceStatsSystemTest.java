@@ -0,0 +1,99 @@
+package system_tests;
+
+import model.AttendanceStats;
+import model.CourseManager;
+import model.SharedContext;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.time.DayOfWeek;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AttendanceStatsSystemTest extends TUITest {
+
+    /**
+     * CS101 has a recorded Monday lecture (activity 1) and a morning (activity 2) and an afternoon (activity 3)
+     * tutorial on Tuesday.
+     */
+    private CourseFixture setUpCourse(SharedContext context) {
+        return new CourseFixture(context)
+                .course("CS101", 0, 0)
+                .lecture("CS101", DayOfWeek.MONDAY, "09:00", "10:30", "Room 101", true)
+                .tutorial("CS101", DayOfWeek.TUESDAY, "10:00", "11:00", "Room 102", 10)
+                .tutorial("CS101", DayOfWeek.TUESDAY, "14:00", "15:00", "Room 102", 10);
+    }
+
+    @Test
+    @DisplayName("Test counting chosen activities across every timetable")
+    public void testAttendanceStats() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourse(context)
+                .enrol("student1@university.edu", "CS101")
+                .enrol("student2@university.edu", "CS101", 2)
+                .getCourseManager();
+
+        AttendanceStats stats = courseManager.getAttendanceStats();
+
+        assertEquals(2, stats.getChosenCount(1));
+        assertEquals(1, stats.getChosenCount(2));
+        assertEquals(0, stats.getChosenCount(3));
+        assertEquals(2, stats.getHourCount(DayOfWeek.MONDAY, 9));
+        assertEquals(2, stats.getHourCount(DayOfWeek.MONDAY, 10));
+        assertEquals(0, stats.getHourCount(DayOfWeek.MONDAY, 11));
+        // The tutorial ends on the hour, so it does not count towards 11:00
+        assertEquals(1, stats.getHourCount(DayOfWeek.TUESDAY, 10));
+        assertEquals(0, stats.getHourCount(DayOfWeek.TUESDAY, 11));
+    }
+
+    @Test
+    @DisplayName("Test attendance statistics follow later changes to timetables")
+    public void testAttendanceStatsUpdatedIncrementally() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseFixture fixture = setUpCourse(context).enrol("student1@university.edu", "CS101");
+        CourseManager courseManager = fixture.getCourseManager();
+        AttendanceStats stats = courseManager.getAttendanceStats();
+
+        fixture.enrol("student2@university.edu", "CS101", 3);
+        assertEquals(2, stats.getChosenCount(1));
+        assertEquals(1, stats.getChosenCount(3));
+        assertEquals(1, stats.getHourCount(DayOfWeek.TUESDAY, 14));
+
+        courseManager.removeCourseFromStudentTimetable("student2@university.edu", "CS101");
+        assertEquals(1, stats.getChosenCount(1));
+        assertEquals(0, stats.getChosenCount(3));
+        assertEquals(0, stats.getHourCount(DayOfWeek.TUESDAY, 14));
+        assertSame(stats, courseManager.getAttendanceStats());
+    }
+
+    @Test
+    @DisplayName("Test viewing attendance statistics from the admin menu")
+    public void testAttendanceStatsFromMenu() throws URISyntaxException, IOException, ParseException {
+        SharedContext context = new SharedContext(new TextUserInterface());
+        setUpCourse(context)
+                .enrol("student1@university.edu", "CS101", 2)
+                .enrol("student2@university.edu", "CS101", 2);
+
+        runAdminCourseMenu(context,
+                "8",            // View attendance statistics
+                "CS101",        // Enter course code
+                "8",            // View attendance statistics
+                "CS999",        // Enter course code
+                "-1"            // Exit course management menu
+        );
+
+        assertOutputContains("Students per activity of CS101:");
+        assertOutputContains(": 2 students");
+        assertOutputContains(": 0 students");
+        assertOutputContains("MONDAY: 09:00 2, 10:00 2");
+        assertOutputContains("TUESDAY: 10:00 2");
+        assertOutputContains("Course does not exist: CS999");
+    }
+}
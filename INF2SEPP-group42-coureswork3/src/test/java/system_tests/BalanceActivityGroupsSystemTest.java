@@ -0,0 +1,128 @@
+package system_tests;
+
+import model.ActivityGroupBalancer;
+import model.CourseManager;
+import model.SharedContext;
+import model.Timetable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BalanceActivityGroupsSystemTest extends TUITest {
+
+    private CourseManager setUpCourse(SharedContext context, int tutorialCapacity) {
+        CourseManager courseManager = context.getCourseManager();
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:00"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", false
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("11:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("12:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", tutorialCapacity
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("14:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("15:00"), "Room 103",
+                DayOfWeek.THURSDAY, "Tutorial", tutorialCapacity
+        );
+        return courseManager;
+    }
+
+    @Test
+    @DisplayName("Test balancing spreads students evenly across tutorials")
+    public void testBalanceSpreadsStudentsEvenly() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourse(context, 10);
+
+        startOutputCapture();
+        for (int i = 0; i < 6; i++) {
+            assertTrue(courseManager.addCourseToStudentTimetable("student" + i + "@hindeburg.ac.uk", "CS101"));
+        }
+
+        List<ActivityGroupBalancer.Summary> summaries =
+                courseManager.balanceActivityGroups("admin1@university.edu", List.of("CS101"));
+
+        assertEquals(1, summaries.size());
+        ActivityGroupBalancer.Summary summary = summaries.get(0);
+        assertEquals(6, summary.getAssigned());
+        assertEquals(0, summary.getUnplaced());
+        assertEquals(3, summary.getGroupSizes().get(2));
+        assertEquals(3, summary.getGroupSizes().get(3));
+
+        for (int i = 0; i < 6; i++) {
+            Timetable timetable = courseManager.getTimetable("student" + i + "@hindeburg.ac.uk");
+            assertEquals(1, timetable.countChosenActivitiesOfType("CS101", "Tutorial", courseManager));
+        }
+    }
+
+    @Test
+    @DisplayName("Test balancing avoids tutorials that clash with other chosen activities")
+    public void testBalanceAvoidsClashes() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourse(context, 10);
+        courseManager.addCourse(
+                "admin1@university.edu", "CS102", "Data Structures", "Second CS course",
+                true, "Prof C", "profc@university.edu", "Sec D", "secd@university.edu",
+                0, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS102", LocalDate.parse("2025-09-01"), LocalTime.parse("11:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("12:00"), "Room 201",
+                DayOfWeek.TUESDAY, "Lecture", false
+        );
+
+        startOutputCapture();
+        for (int i = 0; i < 4; i++) {
+            courseManager.addCourseToStudentTimetable("student" + i + "@hindeburg.ac.uk", "CS101");
+        }
+        courseManager.addCourseToStudentTimetable("student0@hindeburg.ac.uk", "CS102");
+
+        ActivityGroupBalancer.Summary summary =
+                courseManager.balanceActivityGroups("admin1@university.edu", List.of("CS101")).get(0);
+
+        assertEquals(4, summary.getAssigned());
+        assertEquals(2, summary.getGroupSizes().get(2));
+        assertEquals(2, summary.getGroupSizes().get(3));
+        Timetable clashing = courseManager.getTimetable("student0@hindeburg.ac.uk");
+        assertEquals(1, clashing.countChosenActivitiesOfType("CS101", "Tutorial", courseManager));
+        assertTrue(clashing.checkTimetableIssues(courseManager).isEmpty());
+        assertEquals(1, clashing.checkConflicts(LocalDate.parse("2025-09-01"), LocalTime.parse("11:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("12:00"), DayOfWeek.TUESDAY).length);
+    }
+
+    @Test
+    @DisplayName("Test balancing reports students that cannot be placed once groups are full")
+    public void testBalanceReportsUnplacedStudents() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourse(context, 1);
+
+        startOutputCapture();
+        for (int i = 0; i < 3; i++) {
+            courseManager.addCourseToStudentTimetable("student" + i + "@hindeburg.ac.uk", "CS101");
+        }
+
+        ActivityGroupBalancer.Summary summary =
+                courseManager.balanceActivityGroups("admin1@university.edu", List.of("CS101")).get(0);
+
+        assertEquals(2, summary.getAssigned());
+        assertEquals(1, summary.getUnplaced());
+    }
+}
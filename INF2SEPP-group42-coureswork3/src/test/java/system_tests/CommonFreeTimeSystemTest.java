@@ -0,0 +1,103 @@
+package system_tests;
+
+import model.CourseManager;
+import model.SharedContext;
+import model.TimeWindow;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommonFreeTimeSystemTest extends TUITest {
+
+    /**
+     * CS101 has an unrecorded Monday lecture in weeks 1-5 and two Tuesday tutorials; student1 chose the morning
+     * tutorial (activity 2) and student2 the afternoon one (activity 3).
+     */
+    private CourseManager setUpGroup(SharedContext context) {
+        return new CourseFixture(context)
+                .course("CS101", 0, 0)
+                .lecture("CS101", 5, DayOfWeek.MONDAY, "10:00", "11:00", "Room 101", false)
+                .tutorial("CS101", DayOfWeek.TUESDAY, "10:00", "11:00", "Room 102", 10)
+                .tutorial("CS101", DayOfWeek.TUESDAY, "14:00", "15:00", "Room 102", 10)
+                .enrol("student1@university.edu", "CS101", 2)
+                .enrol("student2@university.edu", "CS101", 3)
+                .getCourseManager();
+    }
+
+    @Test
+    @DisplayName("Test finding the times a group of students is free")
+    public void testCommonFreeTime() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpGroup(context);
+
+        // student3 has no timetable and is free all week
+        Map<DayOfWeek, List<TimeWindow>> free = courseManager.findCommonFreeTime(
+                List.of("student1@university.edu", "student2@university.edu", "student3@university.edu"),
+                CourseFixture.week(2, DayOfWeek.WEDNESDAY), LocalTime.parse("09:00"), LocalTime.parse("17:00"));
+
+        assertEquals("[09:00-10:00, 11:00-17:00]", free.get(DayOfWeek.MONDAY).toString());
+        assertEquals("[09:00-10:00, 11:00-14:00, 15:00-17:00]", free.get(DayOfWeek.TUESDAY).toString());
+        assertEquals("[09:00-17:00]", free.get(DayOfWeek.WEDNESDAY).toString());
+    }
+
+    @Test
+    @DisplayName("Test common free time only counts activities running that week")
+    public void testCommonFreeTimeAfterActivityEnds() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpGroup(context);
+
+        Map<DayOfWeek, List<TimeWindow>> free = courseManager.findCommonFreeTime(
+                List.of("student1@university.edu", "student2@university.edu"),
+                CourseFixture.week(6, DayOfWeek.WEDNESDAY), LocalTime.parse("09:00"), LocalTime.parse("17:00"));
+
+        // The lecture finished in the previous week
+        assertEquals("[09:00-17:00]", free.get(DayOfWeek.MONDAY).toString());
+        assertEquals("[09:00-10:00, 11:00-14:00, 15:00-17:00]", free.get(DayOfWeek.TUESDAY).toString());
+
+        Map<DayOfWeek, List<TimeWindow>> busyTuesday = courseManager.findCommonFreeTime(
+                List.of("student1@university.edu"), CourseFixture.week(6, DayOfWeek.WEDNESDAY),
+                LocalTime.parse("10:00"), LocalTime.parse("11:00"));
+        assertTrue(busyTuesday.get(DayOfWeek.TUESDAY).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test finding common free time from the admin menu")
+    public void testCommonFreeTimeFromMenu() throws URISyntaxException, IOException, ParseException {
+        SharedContext context = new SharedContext(new TextUserInterface());
+        setUpGroup(context);
+        String wednesday = CourseFixture.week(2, DayOfWeek.WEDNESDAY).toString();
+
+        runAdminCourseMenu(context,
+                "7",                                                // Find common free time for students
+                "student1@university.edu, student2@university.edu", // Enter student emails
+                wednesday,                                          // Enter a date in the week
+                "10:00",                                            // Enter earliest time
+                "11:00",                                            // Enter latest time
+                "7",                                                // Find common free time for students
+                "student1@university.edu",                          // Enter student emails
+                wednesday,                                          // Enter a date in the week
+                "11:00",                                            // Enter earliest time
+                "09:00",                                            // Enter latest time
+                "-1"                                                // Exit course management menu
+        );
+
+        assertOutputContains("Common free time for 2 students:");
+        assertOutputContains("MONDAY: no common free time");
+        assertOutputContains("TUESDAY: no common free time");
+        assertOutputContains("WEDNESDAY: 10:00-11:00");
+        assertOutputContains("Earliest time must be before latest time");
+    }
+}
@@ -0,0 +1,173 @@
+package system_tests;
+
+import model.CourseManager;
+import model.SharedContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactionSystemTest extends TUITest {
+
+    private List<Path> listFiles(Path directory, String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void addCourse(CourseManager courseManager, String code) {
+        courseManager.addCourse(
+                "admin1@university.edu", code, "Course " + code, "A course",
+                false, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                0, 0
+        );
+        courseManager.addActivityToCourse(
+                code, LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:00"), "Room " + code,
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+    }
+
+    /**
+     * Waits for a count kept by a background thread to reach a value.
+     *
+     * @return {@code true} if the count reached the value in time, otherwise {@code false}
+     */
+    private boolean awaitCount(LongSupplier count, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (count.getAsLong() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(20);
+        }
+        return true;
+    }
+
+    /**
+     * Writes four generations with a course added before each, then corrupts the newest one.
+     */
+    private void writeGenerations(Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        String[] codes = {"CS101", "CS102", "CS103", "CS104"};
+        for (String code : codes) {
+            addCourse(context.getCourseManager(), code);
+            context.getCourseManager().addCourseToStudentTimetable("student1@university.edu", code);
+            context.getJournal().snapshot();
+        }
+        addCourse(context.getCourseManager(), "CS105");
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Test compaction keeps the configured number of generations and deletes superseded segments")
+    public void testCompactionKeepsGenerations(@TempDir Path directory) throws IOException {
+        writeGenerations(directory);
+
+        List<Path> snapshots = listFiles(directory, "snapshot-");
+        assertEquals(3, snapshots.size());
+        // Only the segments written since the oldest kept snapshot are left
+        assertTrue(listFiles(directory, "wal-").size() <= 4);
+
+        SharedContext recovered = new SharedContext(new TextUserInterface(), directory);
+        CourseManager courseManager = recovered.getCourseManager();
+        assertEquals(5, courseManager.getCourseCodes().size());
+        assertTrue(courseManager.getTimetable("student1@university.edu").hasSlotsForCourse("CS104"));
+        // Only the course added after the last snapshot has to be replayed
+        assertEquals(2, recovered.getJournal().getRecoveredRecords());
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("Test recovery falls back to the previous generation when the newest snapshot is damaged")
+    public void testRecoverFromPreviousGeneration(@TempDir Path directory) throws IOException {
+        writeGenerations(directory);
+
+        List<Path> snapshots = listFiles(directory, "snapshot-");
+        Path newest = snapshots.get(snapshots.size() - 1);
+        byte[] bytes = Files.readAllBytes(newest);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(newest, bytes);
+
+        SharedContext recovered = new SharedContext(new TextUserInterface(), directory);
+        CourseManager courseManager = recovered.getCourseManager();
+        assertEquals(5, courseManager.getCourseCodes().size());
+        assertTrue(courseManager.getTimetable("student1@university.edu").hasSlotsForCourse("CS104"));
+        assertEquals(5, recovered.getJournal().getRecoveredRecords());
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("Test a snapshot is written in the background once enough has been logged")
+    public void testBackgroundCompactionBySize(@TempDir Path directory) throws IOException, InterruptedException {
+        SharedContext context = new SharedContext(new TextUserInterface(), directory, 1024, 60 * 60 * 1000, 3);
+        for (int i = 0; i < 20; i++) {
+            addCourse(context.getCourseManager(), "CS" + (101 + i));
+        }
+
+        assertTrue(awaitCount(() -> context.getJournal().getCompactionCount(), 1));
+        assertFalse(listFiles(directory, "snapshot-").isEmpty());
+        context.close();
+
+        SharedContext recovered = new SharedContext(new TextUserInterface(), directory);
+        assertEquals(20, recovered.getCourseManager().getCourseCodes().size());
+        // Two records per course were logged, the snapshot saves replaying at least some of them
+        assertTrue(recovered.getJournal().getRecoveredRecords() < 40);
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("Test a snapshot is written in the background once the log gets too old")
+    public void testBackgroundCompactionByAge(@TempDir Path directory) throws IOException, InterruptedException {
+        SharedContext context = new SharedContext(new TextUserInterface(), directory, Long.MAX_VALUE, 100, 3);
+        addCourse(context.getCourseManager(), "CS101");
+
+        assertTrue(awaitCount(() -> context.getJournal().getCompactionCount(), 1));
+        assertEquals(1, listFiles(directory, "snapshot-").size());
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Test background compaction backs off after a failed snapshot")
+    public void testCompactionBacksOffAfterFailure(@TempDir Path directory) throws IOException, InterruptedException {
+        SharedContext context = new SharedContext(new TextUserInterface(), directory, 1, 60 * 60 * 1000, 3);
+        // An unreadable snapshot makes every compaction fail, as it has to load the newest one first
+        Path damaged = directory.resolve(String.format("snapshot-%020d.bin", 0));
+        Files.write(damaged, new byte[]{1, 2, 3});
+        addCourse(context.getCourseManager(), "CS101");
+        assertTrue(awaitCount(() -> context.getJournal().getFailedCompactionCount(), 1));
+
+        // Writes during the back-off do not try again
+        for (int i = 0; i < 10; i++) {
+            addCourse(context.getCourseManager(), "CS" + (102 + i));
+        }
+        Thread.sleep(200);
+        assertEquals(1, context.getJournal().getFailedCompactionCount());
+        assertEquals(0, context.getJournal().getCompactionCount());
+
+        // Once the back-off is over the next write tries again
+        Files.delete(damaged);
+        Thread.sleep(1000);
+        addCourse(context.getCourseManager(), "CS120");
+        assertTrue(awaitCount(() -> context.getJournal().getCompactionCount(), 1));
+        assertEquals(1, context.getJournal().getFailedCompactionCount());
+        context.close();
+    }
+}
@@ -0,0 +1,155 @@
+package system_tests;
+
+import model.CourseManager;
+import model.SharedContext;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Sets up courses, activities and enrolments for system tests. Activities run for a term that starts on the Monday
+ * of the current week, so the fixture never goes out of date, and dates within the term are given by week number.
+ */
+public class CourseFixture {
+    /**
+     * The first day of the term: the Monday of the current week.
+     */
+    public static final LocalDate TERM_START = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    /**
+     * The number of weeks in the term.
+     */
+    public static final int TERM_WEEKS = 15;
+    /**
+     * The last day of the term.
+     */
+    public static final LocalDate TERM_END = week(TERM_WEEKS, DayOfWeek.SUNDAY);
+
+    private final CourseManager courseManager;
+
+    /**
+     * @param context   the context whose course manager to set up
+     */
+    public CourseFixture(SharedContext context) {
+        this.courseManager = context.getCourseManager();
+    }
+
+    /**
+     * @param week  the week of the term, counting from 1
+     * @param day   the day of the week
+     * @return the date of the day in that week of the term
+     */
+    public static LocalDate week(int week, DayOfWeek day) {
+        return TERM_START.plusWeeks(week - 1).with(day);
+    }
+
+    /**
+     * Adds a course organised by Prof A, with Sec B as secretary.
+     *
+     * @param courseCode            the code of the course
+     * @param requiredTutorials     the number of tutorials a student has to choose
+     * @param requiredLabs          the number of labs a student has to choose
+     * @return this fixture
+     */
+    public CourseFixture course(String courseCode, int requiredTutorials, int requiredLabs) {
+        return course(courseCode, "prof@university.edu", "sec@university.edu", requiredTutorials, requiredLabs);
+    }
+
+    /**
+     * Adds a course with the given organiser and secretary.
+     *
+     * @param courseCode            the code of the course
+     * @param organiserEmail        the email of the course organiser
+     * @param secretaryEmail        the email of the course secretary
+     * @param requiredTutorials     the number of tutorials a student has to choose
+     * @param requiredLabs          the number of labs a student has to choose
+     * @return this fixture
+     */
+    public CourseFixture course(String courseCode, String organiserEmail, String secretaryEmail,
+                                int requiredTutorials, int requiredLabs) {
+        courseManager.addCourse(
+                "admin1@university.edu", courseCode, "Course " + courseCode, "About " + courseCode,
+                true, "Organiser", organiserEmail, "Secretary", secretaryEmail,
+                requiredTutorials, requiredLabs
+        );
+        return this;
+    }
+
+    /**
+     * Adds a lecture that runs every week of the term.
+     *
+     * @return this fixture
+     */
+    public CourseFixture lecture(String courseCode, DayOfWeek day, String startTime, String endTime,
+                                 String location, boolean recorded) {
+        return lecture(courseCode, TERM_WEEKS, day, startTime, endTime, location, recorded);
+    }
+
+    /**
+     * Adds a lecture that runs for the first weeks of the term only.
+     *
+     * @param weeks the number of weeks the lecture runs for
+     * @return this fixture
+     */
+    public CourseFixture lecture(String courseCode, int weeks, DayOfWeek day, String startTime, String endTime,
+                                 String location, boolean recorded) {
+        courseManager.addActivityToCourse(
+                courseCode, TERM_START, LocalTime.parse(startTime), week(weeks, DayOfWeek.SUNDAY),
+                LocalTime.parse(endTime), location, day, "Lecture", recorded
+        );
+        return this;
+    }
+
+    /**
+     * Adds a tutorial that runs every week of the term.
+     *
+     * @return this fixture
+     */
+    public CourseFixture tutorial(String courseCode, DayOfWeek day, String startTime, String endTime,
+                                  String location, int capacity) {
+        return activity(courseCode, day, startTime, endTime, location, "Tutorial", capacity);
+    }
+
+    /**
+     * Adds a lab that runs every week of the term.
+     *
+     * @return this fixture
+     */
+    public CourseFixture lab(String courseCode, DayOfWeek day, String startTime, String endTime,
+                             String location, int capacity) {
+        return activity(courseCode, day, startTime, endTime, location, "Lab", capacity);
+    }
+
+    private CourseFixture activity(String courseCode, DayOfWeek day, String startTime, String endTime,
+                                   String location, String type, int capacity) {
+        courseManager.addActivityToCourse(
+                courseCode, TERM_START, LocalTime.parse(startTime), TERM_END, LocalTime.parse(endTime),
+                location, day, type, capacity
+        );
+        return this;
+    }
+
+    /**
+     * Adds a course to a student's timetable and chooses the given tutorials and labs.
+     *
+     * @param studentEmail  the email of the student
+     * @param courseCode    the code of the course
+     * @param activityIds   the ids of the tutorials and labs to choose
+     * @return this fixture
+     */
+    public CourseFixture enrol(String studentEmail, String courseCode, int... activityIds) {
+        courseManager.addCourseToStudentTimetable(studentEmail, courseCode);
+        for (int activityId : activityIds) {
+            courseManager.chooseActivityForCourse(studentEmail, courseCode, activityId);
+        }
+        return this;
+    }
+
+    /**
+     * @return the course manager being set up
+     */
+    public CourseManager getCourseManager() {
+        return courseManager;
+    }
+}
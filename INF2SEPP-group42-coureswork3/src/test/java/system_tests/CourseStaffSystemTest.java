@@ -0,0 +1,93 @@
+package system_tests;
+
+import controller.InquirerController;
+import controller.TeachingStaffController;
+import external.MockAuthenticationService;
+import external.MockEmailService;
+import model.CourseManager;
+import model.SharedContext;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CourseStaffSystemTest extends TUITest {
+    private static final String TEACHER = "teacher1@hindeburg.ac.uk";
+
+    @Test
+    @DisplayName("Test the staff index follows added and removed courses and routes course inquiries")
+    public void testStaffIndexAndInquiryRouting() throws URISyntaxException, IOException, ParseException {
+        setMockInput(
+                "user@example.com",         // Inquirer email
+                "Assignment Question",      // Subject
+                "When is it due?",          // Inquiry content
+                "y",                        // Yes, specify course code
+                "CS102"                     // Course code
+        );
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = new CourseFixture(context)
+                .course("CS102", TEACHER, "sec@university.edu", 0, 0)
+                .course("CS101", "prof@university.edu", TEACHER, 0, 0)
+                .course("CS103", "prof@university.edu", "sec@university.edu", 0, 0)
+                .getCourseManager();
+
+        assertEquals(List.of(TEACHER, "sec@university.edu"), courseManager.getStaffEmailsForCourse("CS102"));
+        assertEquals(List.of("CS101", "CS102"), List.copyOf(courseManager.getCoursesForStaff(TEACHER)));
+        assertEquals(Set.of("CS101", "CS103"), courseManager.getCoursesForStaff("prof@university.edu"));
+        // Inquiries go to the organiser, or to admin staff without a known course
+        assertEquals(TEACHER, context.getTeachingStaffEmailForCourse("CS102"));
+        assertEquals("prof@university.edu", context.getTeachingStaffEmailForCourse("CS101"));
+        assertEquals(SharedContext.ADMIN_STAFF_EMAIL, context.getTeachingStaffEmailForCourse("CS999"));
+        assertEquals(SharedContext.ADMIN_STAFF_EMAIL, context.getTeachingStaffEmailForCourse(" "));
+
+        startOutputCapture();
+        new InquirerController(context, view, new MockAuthenticationService(), new MockEmailService())
+                .contactStaff();
+        assertOutputContains("Email from " + TEACHER + " to " + SharedContext.ADMIN_STAFF_EMAIL);
+
+        // Lookups are copies, unaffected by later changes
+        Set<String> teacherCourses = courseManager.getCoursesForStaff(TEACHER);
+        courseManager.removeCourse("CS102");
+        assertEquals(Set.of("CS101", "CS102"), teacherCourses);
+        assertTrue(courseManager.getStaffEmailsForCourse("CS102").isEmpty());
+        assertEquals(Set.of("CS101"), courseManager.getCoursesForStaff(TEACHER));
+        assertEquals(SharedContext.ADMIN_STAFF_EMAIL, context.getTeachingStaffEmailForCourse("CS102"));
+        courseManager.removeCourse("CS101");
+        assertTrue(courseManager.getCoursesForStaff(TEACHER).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test teaching staff see the courses they organise or are secretary for")
+    public void testViewMyCourses() throws URISyntaxException, IOException, ParseException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        new CourseFixture(context)
+                .course("CS102", TEACHER, "sec@university.edu", 0, 0)
+                .course("CS101", "prof@university.edu", TEACHER, 0, 0)
+                .course("CS103", "prof@university.edu", "sec@university.edu", 0, 0);
+        loginAsTeachingStaff(context);
+        TeachingStaffController teachingStaffController = new TeachingStaffController(
+                context, view, new MockAuthenticationService(), new MockEmailService()
+        );
+
+        startOutputCapture();
+        teachingStaffController.viewMyCourses();
+        assertOutputContains("CS101 - Course CS101 (Course Secretary)");
+        assertOutputContains("CS102 - Course CS102 (Course Organiser)");
+
+        context.getCourseManager().removeCourse("CS101");
+        context.getCourseManager().removeCourse("CS102");
+        startOutputCapture();
+        teachingStaffController.viewMyCourses();
+        assertOutputContains("You are not organiser or secretary of any course.");
+    }
+}
@@ -0,0 +1,365 @@
+package system_tests;
+
+import model.Activity;
+import model.ActivityKind;
+import model.Course;
+import model.CourseManager;
+import model.FAQItem;
+import model.FAQSection;
+import model.Inquiry;
+import model.SharedContext;
+import model.Timetable;
+import model.TinyLogLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs random sequences of operations against a context kept in a directory and against an in-memory oracle, then
+ * simulates crashes by cutting short or damaging the log at arbitrary byte offsets. The state recovered from every
+ * damaged log must match the oracle state after the last operation whose record is still intact.
+ */
+public class CrashRecoverySystemTest extends TUITest {
+    private static final String[] COURSE_CODES = {"CS101", "CS202", "MA301"};
+    private static final String[] STUDENTS = {
+            "student1@university.edu", "student2@university.edu", "student3@university.edu",
+            "student4@university.edu"
+    };
+    private static final String[] STAFF = {"prof@university.edu", "sec@university.edu"};
+    private static final String[] ACTIVITY_TYPES = {"Lecture", "Tutorial", "Lab"};
+    private static final String[] LOCATIONS = {"Room 101", "Room 102", "Lab A", "Lab B"};
+    private static final long MAX_RECOVERY_MILLIS = 10_000;
+
+    /**
+     * The oracle state after each operation and the length of the log once the operation was acknowledged.
+     */
+    private static class History {
+        private final List<Long> logLengths = new ArrayList<>();
+        private final List<String> states = new ArrayList<>();
+
+        private void add(long logLength, String state) {
+            logLengths.add(logLength);
+            states.add(state);
+        }
+
+        /**
+         * @param offset    the byte offset the log was cut short or damaged at
+         * @return the state after the last operation whose record ends at or before the offset
+         */
+        private String stateAt(long offset) {
+            String state = states.get(0);
+            for (int i = 0; i < logLengths.size() && logLengths.get(i) <= offset; i++) {
+                state = states.get(i);
+            }
+            return state;
+        }
+    }
+
+    /**
+     * Builds a random operation. Choices that depend on the current state, such as which FAQ section or inquiry to
+     * change, are made when the operation is applied, so it does the same to any two contexts in the same state.
+     */
+    private Consumer<SharedContext> randomOperation(Random random) {
+        String courseCode = COURSE_CODES[random.nextInt(COURSE_CODES.length)];
+        String student = STUDENTS[random.nextInt(STUDENTS.length)];
+        int pick = random.nextInt(1000);
+        int kind = random.nextInt(100);
+        if (kind < 12) {
+            int tutorials = random.nextInt(2);
+            int labs = random.nextInt(2);
+            return context -> context.getCourseManager().addCourse("admin1@university.edu", courseCode,
+                    "Course " + courseCode, "About " + courseCode, true, "Prof A", STAFF[0], "Sec B", STAFF[1],
+                    tutorials, labs);
+        }
+        if (kind < 30) {
+            String type = ACTIVITY_TYPES[random.nextInt(ACTIVITY_TYPES.length)];
+            DayOfWeek day = DayOfWeek.of(1 + random.nextInt(5));
+            LocalTime start = LocalTime.of(9 + random.nextInt(8), 0);
+            String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            boolean recorded = random.nextBoolean();
+            int capacity = 5 + random.nextInt(20);
+            return context -> context.getCourseManager().addActivityToCourse(courseCode,
+                    LocalDate.parse("2025-09-01"), start, LocalDate.parse("2025-12-15"), start.plusHours(1),
+                    location, day, type, type.equals("Lecture") ? (Object) recorded : (Object) capacity);
+        }
+        if (kind < 45) {
+            return context -> context.getCourseManager().addCourseToStudentTimetable(student, courseCode);
+        }
+        if (kind < 60) {
+            return context -> {
+                CourseManager courseManager = context.getCourseManager();
+                Course course = courseManager.getCourseByCode(courseCode);
+                if (course != null && !course.getActivities().isEmpty()) {
+                    List<Activity> activities = course.getActivities();
+                    courseManager.chooseActivityForCourse(student, courseCode,
+                            activities.get(pick % activities.size()).getId());
+                }
+            };
+        }
+        if (kind < 65) {
+            return context -> context.getCourseManager().removeCourseFromStudentTimetable(student, courseCode);
+        }
+        if (kind < 68) {
+            return context -> context.getCourseManager().removeCourse(courseCode);
+        }
+        if (kind < 74) {
+            String topic = "Topic " + pick;
+            return context -> {
+                List<FAQSection> sections = listSections(context);
+                int index = pick % (sections.size() + 1);
+                context.addFAQSection(index == sections.size() ? null : sections.get(index), topic);
+            };
+        }
+        if (kind < 82) {
+            return context -> {
+                List<FAQSection> sections = listSections(context);
+                if (!sections.isEmpty()) {
+                    context.addFAQItem(sections.get(pick % sections.size()), "Question " + pick,
+                            "Answer " + pick, pick % 2 == 0 ? courseCode : null);
+                }
+            };
+        }
+        if (kind < 85) {
+            return context -> {
+                List<FAQSection> sections = listSections(context);
+                if (!sections.isEmpty()) {
+                    FAQSection section = sections.get(pick % sections.size());
+                    if (!section.getItems().isEmpty()) {
+                        context.removeFAQItem(section, pick % section.getItems().size());
+                    }
+                }
+            };
+        }
+        if (kind < 87) {
+            return context -> {
+                List<FAQSection> sections = listSections(context);
+                if (!sections.isEmpty()) {
+                    FAQSection section = sections.get(pick % sections.size());
+                    if (section.getParent() != null && pick % 2 == 0) {
+                        context.collapseFAQSection(section);
+                    } else {
+                        context.removeFAQSection(section);
+                    }
+                }
+            };
+        }
+        if (kind < 94) {
+            String subject = "Subject " + pick;
+            return context -> context.addInquiry(new Inquiry(student, subject, "Content " + pick,
+                    pick % 2 == 0 ? courseCode : null));
+        }
+        if (kind < 97) {
+            return context -> {
+                if (!context.inquiries.isEmpty()) {
+                    context.assignInquiry(context.inquiries.get(pick % context.inquiries.size()),
+                            STAFF[pick % STAFF.length]);
+                }
+            };
+        }
+        return context -> {
+            if (!context.inquiries.isEmpty()) {
+                context.removeInquiry(context.inquiries.get(pick % context.inquiries.size()));
+            }
+        };
+    }
+
+    /**
+     * @return every section of the FAQ, parents before their subsections
+     */
+    private static List<FAQSection> listSections(SharedContext context) {
+        List<FAQSection> sections = new ArrayList<>();
+        for (FAQSection section : context.getFAQ().getSections()) {
+            addSections(section, sections);
+        }
+        return sections;
+    }
+
+    private static void addSections(FAQSection section, List<FAQSection> sections) {
+        sections.add(section);
+        for (FAQSection subsection : section.getSubsections()) {
+            addSections(subsection, sections);
+        }
+    }
+
+    /**
+     * @return a description of everything the log keeps, equal for two contexts in the same state
+     */
+    private static String describe(SharedContext context) {
+        StringBuilder state = new StringBuilder();
+        CourseManager courseManager = context.getCourseManager();
+        List<String> courseCodes = courseManager.getCourseCodes();
+        Collections.sort(courseCodes);
+        for (String courseCode : courseCodes) {
+            state.append(courseManager.getCourseByCode(courseCode)).append('\n');
+        }
+        for (String student : STUDENTS) {
+            Timetable timetable = courseManager.getTimetable(student);
+            for (String courseCode : COURSE_CODES) {
+                if (timetable.hasSlotsForCourse(courseCode)) {
+                    state.append(student).append(' ').append(courseCode);
+                    for (ActivityKind kind : ActivityKind.values()) {
+                        state.append(' ').append(timetable.countChosenActivitiesOfKind(courseCode, kind));
+                    }
+                    state.append('\n');
+                }
+            }
+        }
+        for (FAQSection section : context.getFAQ().getSections()) {
+            describeSection(section, "", state);
+        }
+        for (Inquiry inquiry : context.inquiries) {
+            state.append(inquiry.getInquirerEmail()).append('|').append(inquiry.getSubject()).append('|')
+                    .append(inquiry.getContent()).append('|').append(inquiry.getCourseCode()).append('|')
+                    .append(inquiry.getAssignedTo()).append('\n');
+        }
+        return state.toString();
+    }
+
+    private static void describeSection(FAQSection section, String indent, StringBuilder state) {
+        state.append(indent).append(section.getTopic()).append('\n');
+        for (FAQItem item : section.getItems()) {
+            state.append(indent).append("- ").append(item.getId()).append(' ').append(item.getQuestion())
+                    .append(' ').append(item.getAnswer()).append(' ').append(item.getCourseTag()).append('\n');
+        }
+        for (FAQSection subsection : section.getSubsections()) {
+            describeSection(subsection, indent + "  ", state);
+        }
+    }
+
+    private static Path getSegment(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.filter(path -> path.getFileName().toString().startsWith("wal-"))
+                    .collect(Collectors.toList());
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+
+    /**
+     * Applies the same random operations to a context kept in a directory and to the oracle, checking after each one
+     * that both agree.
+     */
+    private History runOperations(Path directory, long seed, int count) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext oracle = new SharedContext(view);
+        History history = new History();
+        history.add(0, describe(oracle));
+
+        try (SharedContext context = new SharedContext(view, directory)) {
+            Random random = new Random(seed);
+            for (int i = 0; i < count; i++) {
+                Consumer<SharedContext> operation = randomOperation(random);
+                operation.accept(context);
+                operation.accept(oracle);
+                String state = describe(oracle);
+                assertEquals(state, describe(context), "Diverged from the oracle after operation " + i);
+                history.add(Files.size(getSegment(directory)), state);
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Recovers a context from a copy of the log damaged by the given function and compares it to the oracle.
+     */
+    private void checkRecovery(Path directory, Path segment, byte[] damaged, String expected, String description)
+            throws IOException {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(segment.getFileName()), damaged);
+        try (SharedContext recovered = new SharedContext(new TextUserInterface(), directory)) {
+            assertEquals(expected, describe(recovered), description);
+        }
+    }
+
+    @Test
+    @DisplayName("Test state recovered from a log cut short at any offset matches the oracle")
+    public void testRecoverFromTruncatedLog(@TempDir Path directory) throws IOException {
+        startOutputCapture();
+        for (long seed = 1; seed <= 3; seed++) {
+            Path run = directory.resolve("run-" + seed);
+            History history = runOperations(run, seed, 250);
+            Path segment = getSegment(run);
+            byte[] log = Files.readAllBytes(segment);
+
+            Random random = new Random(seed);
+            List<Integer> offsets = new ArrayList<>(List.of(0, log.length));
+            for (int i = 0; i < 30; i++) {
+                offsets.add(random.nextInt(log.length));
+            }
+            for (int offset : offsets) {
+                byte[] truncated = new byte[offset];
+                System.arraycopy(log, 0, truncated, 0, offset);
+                checkRecovery(directory.resolve("truncated-" + seed + "-" + offset), segment, truncated,
+                        history.stateAt(offset), "Seed " + seed + ", log cut short at byte " + offset);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test state recovered from a log with a damaged record matches the oracle")
+    public void testRecoverFromCorruptedLog(@TempDir Path directory) throws IOException {
+        startOutputCapture();
+        for (long seed = 4; seed <= 6; seed++) {
+            Path run = directory.resolve("run-" + seed);
+            History history = runOperations(run, seed, 250);
+            Path segment = getSegment(run);
+            byte[] log = Files.readAllBytes(segment);
+
+            Random random = new Random(seed);
+            for (int i = 0; i < 30; i++) {
+                // Everything from the damaged record on is dropped, as if the crash happened while writing it
+                int offset = random.nextInt(log.length);
+                byte[] corrupted = log.clone();
+                corrupted[offset] ^= (byte) (1 + random.nextInt(255));
+                checkRecovery(directory.resolve("corrupted-" + seed + "-" + offset), segment, corrupted,
+                        history.stateAt(offset), "Seed " + seed + ", byte " + offset + " damaged");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test recovery time is measured for logs of increasing length")
+    public void testRecoveryTimeByLogLength(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        startOutputCapture();
+        for (int records = 500; records <= 4000; records *= 2) {
+            Path run = directory.resolve("records-" + records);
+            try (SharedContext context = new SharedContext(view, run)) {
+                FAQSection section = context.addFAQSection(null, "Timetables");
+                for (int i = 1; i < records; i++) {
+                    context.addFAQItem(section, "Question " + i, "Answer " + i, i % 2 == 0 ? "CS101" : null);
+                }
+            }
+            long bytes = Files.size(getSegment(run));
+
+            try (SharedContext recovered = new SharedContext(view, run)) {
+                assertEquals(records, recovered.getJournal().getRecoveredRecords());
+                assertEquals(records - 1, recovered.getFAQ().getSections().get(0).getItems().size());
+                long millis = recovered.getJournal().getRecoveryMillis();
+                TinyLogLogger.log(System.currentTimeMillis(), "", "recoveryTime", records + " records, " + bytes
+                        + " bytes", "SUCCESS (" + millis + " ms)");
+                // A generous bound, replaying a few thousand small records takes well under a second
+                assertTrue(millis >= 0 && millis < MAX_RECOVERY_MILLIS, "Recovery of " + records + " records took "
+                        + millis + " ms");
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package system_tests;
+
+import model.CourseManager;
+import model.SharedContext;
+import model.Timetable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateRangeConflictSystemTest extends TUITest {
+
+    private CourseManager setUpCourses(SharedContext context, String secondStart, String secondEnd) {
+        CourseManager courseManager = context.getCourseManager();
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                0, 0
+        );
+        courseManager.addCourse(
+                "admin1@university.edu", "CS102", "Data Structures", "Second CS course",
+                true, "Prof C", "profc@university.edu", "Sec D", "secd@university.edu",
+                0, 0
+        );
+        // Unrecorded lecture in weeks 1-5 of the semester
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-10-03"), LocalTime.parse("11:00"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", false
+        );
+        courseManager.addActivityToCourse(
+                "CS102", LocalDate.parse(secondStart), LocalTime.parse("10:30"),
+                LocalDate.parse(secondEnd), LocalTime.parse("11:30"), "Room 102",
+                DayOfWeek.MONDAY, "Lecture", false
+        );
+        return courseManager;
+    }
+
+    @Test
+    @DisplayName("Test unrecorded lectures at the same time in different weeks do not clash")
+    public void testNoConflictInSeparateWeeks() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        // Weeks 6-10
+        CourseManager courseManager = setUpCourses(context, "2025-10-06", "2025-11-07");
+
+        assertTrue(courseManager.addCourseToStudentTimetable("student@university.edu", "CS101"));
+        startOutputCapture();
+        assertTrue(courseManager.addCourseToStudentTimetable("student@university.edu", "CS102"));
+
+        assertOutputContains("The course was successfully added to your timetable.");
+        assertEquals(1, courseManager.getTimetable("student@university.edu").numChosenActivities("CS102"));
+    }
+
+    @Test
+    @DisplayName("Test unrecorded lectures in partially overlapping semesters clash")
+    public void testConflictInOverlappingWeeks() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        // Weeks 5-10, sharing the Monday of week 5
+        CourseManager courseManager = setUpCourses(context, "2025-09-29", "2025-11-07");
+
+        assertTrue(courseManager.addCourseToStudentTimetable("student@university.edu", "CS101"));
+        startOutputCapture();
+        assertFalse(courseManager.addCourseToStudentTimetable("student@university.edu", "CS102"));
+
+        assertOutputContains("You have at least one clash with an unrecorded lecture.");
+        assertFalse(courseManager.getTimetable("student@university.edu").hasSlotsForCourse("CS102"));
+    }
+
+    @Test
+    @DisplayName("Test overlapping date ranges without a common weekday do not clash")
+    public void testNoConflictWithoutCommonWeekday() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourses(context, "2025-10-06", "2025-11-07");
+        courseManager.addCourseToStudentTimetable("student@university.edu", "CS101");
+        Timetable timetable = courseManager.getTimetable("student@university.edu");
+
+        // The ranges share 30 September to 3 October, but no Monday
+        assertEquals(0, timetable.checkConflicts(LocalDate.parse("2025-09-30"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-10-31"), LocalTime.parse("11:00"), DayOfWeek.MONDAY).length);
+        assertEquals(1, timetable.checkConflicts(LocalDate.parse("2025-09-29"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-10-31"), LocalTime.parse("11:00"), DayOfWeek.MONDAY).length);
+    }
+}
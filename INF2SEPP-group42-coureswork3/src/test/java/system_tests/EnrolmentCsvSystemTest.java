@@ -0,0 +1,134 @@
+package system_tests;
+
+import controller.AdminStaffController;
+import external.MockAuthenticationService;
+import external.MockEmailService;
+import model.CourseManager;
+import model.EnrolmentCsvExporter;
+import model.SharedContext;
+import model.Timetable;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnrolmentCsvSystemTest extends TUITest {
+    private static final String HEADER = "student_email,course_code,activity_id,kind,status";
+
+    private CourseManager setUpCourse(SharedContext context) {
+        CourseManager courseManager = context.getCourseManager();
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 1
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("14:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("16:00"), "Lab A",
+                DayOfWeek.THURSDAY, "Lab", 10
+        );
+        return courseManager;
+    }
+
+    /**
+     * @return the rows of every part file in the directory, checking each part starts with the header
+     */
+    private List<String> readRows(Path directory) throws IOException {
+        List<String> rows = new ArrayList<>();
+        for (int part = 0; Files.exists(directory.resolve(EnrolmentCsvExporter.getFileName(part))); part++) {
+            List<String> lines = Files.readAllLines(directory.resolve(EnrolmentCsvExporter.getFileName(part)));
+            assertEquals(HEADER, lines.get(0));
+            rows.addAll(lines.subList(1, lines.size()));
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Test exporting enrolments to CSV from the admin menu")
+    public void testExportEnrolmentsFromMenu(@TempDir Path directory)
+            throws URISyntaxException, IOException, ParseException {
+        setMockInput(
+                "11",                   // Export enrolments to CSV
+                directory.toString(),   // Enter directory
+                "-1"                    // Exit course management menu
+        );
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourse(context);
+        courseManager.addCourseToStudentTimetable("student1@university.edu", "CS101");
+        courseManager.chooseActivityForCourse("student1@university.edu", "CS101", 2);
+        courseManager.addCourseToStudentTimetable("o\"brien,k@university.edu", "CS101");
+
+        loginAsAdminStaff(context);
+        AdminStaffController adminController = new AdminStaffController(
+                context, view, new MockAuthenticationService(), new MockEmailService()
+        );
+        startOutputCapture();
+        adminController.manageCourse();
+
+        assertOutputContains("6 enrolment rows exported to " + directory);
+        Set<String> rows = new HashSet<>(readRows(directory));
+        assertEquals(6, rows.size());
+        assertTrue(rows.contains("student1@university.edu,CS101,1,LECTURE,CHOSEN"));
+        assertTrue(rows.contains("student1@university.edu,CS101,2,TUTORIAL,CHOSEN"));
+        assertTrue(rows.contains("student1@university.edu,CS101,3,LAB,UNCHOSEN"));
+        // Fields with a comma or quote are quoted
+        assertTrue(rows.contains("\"o\"\"brien,k@university.edu\",CS101,2,TUTORIAL,UNCHOSEN"));
+    }
+
+    @Test
+    @DisplayName("Test a partitioned export writes every row exactly once")
+    public void testPartitionedExport(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourse(context);
+        int students = 5000;
+        List<Timetable> timetables = new ArrayList<>();
+        for (int i = 0; i < students; i++) {
+            courseManager.addCourseToStudentTimetable("student" + i + "@university.edu", "CS101");
+            if (i % 2 == 0) {
+                courseManager.chooseActivityForCourse("student" + i + "@university.edu", "CS101", 3);
+            }
+            timetables.add(courseManager.getTimetable("student" + i + "@university.edu"));
+        }
+
+        assertEquals(3L * students, new EnrolmentCsvExporter().exportAll(timetables, directory, 4));
+        for (int part = 0; part < 4; part++) {
+            assertTrue(Files.exists(directory.resolve(EnrolmentCsvExporter.getFileName(part))));
+        }
+        List<String> rows = readRows(directory);
+        assertEquals(3 * students, rows.size());
+        Set<String> unique = new HashSet<>(rows);
+        assertEquals(rows.size(), unique.size());
+        for (int i = 0; i < students; i++) {
+            String status = i % 2 == 0 ? "CHOSEN" : "UNCHOSEN";
+            assertTrue(unique.contains("student" + i + "@university.edu,CS101,3,LAB," + status));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package system_tests;
+
+import controller.AdminStaffController;
+import external.MockAuthenticationService;
+import external.MockEmailService;
+import model.ActivityKind;
+import model.CourseManager;
+import model.EnrolmentImporter;
+import model.SharedContext;
+import model.Timetable;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnrolmentImportSystemTest extends TUITest {
+
+    private void setUpCourses(CourseManager courseManager) {
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 1
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("14:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("16:00"), "Lab A",
+                DayOfWeek.THURSDAY, "Lab", 10
+        );
+        // The unrecorded lecture of CS202 clashes with the tutorial of CS101
+        courseManager.addCourse(
+                "admin1@university.edu", "CS202", "Algorithms", "Algorithms course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                0, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS202", LocalDate.parse("2025-09-01"), LocalTime.parse("10:30"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:30"), "Room 201",
+                DayOfWeek.TUESDAY, "Lecture", false
+        );
+    }
+
+    @Test
+    @DisplayName("Test importing enrolments from a CSV file in the admin menu, with rejects written to a side file")
+    public void testImportCsvFromMenu(@TempDir Path directory)
+            throws URISyntaxException, IOException, ParseException {
+        Path file = directory.resolve("enrolments.csv");
+        Files.writeString(file, String.join("\n",
+                "student_email,course_code,activity_id,kind,status",
+                "student1@university.edu,CS101,1,LECTURE,CHOSEN",
+                "student1@university.edu,CS101,2,TUTORIAL,CHOSEN",
+                "student1@university.edu,CS101,3,LAB,UNCHOSEN",
+                "student1@university.edu,CS202,4,LECTURE,CHOSEN",
+                "student2@university.edu,CS101,3,LAB,CHOSEN",
+                "student2@university.edu,CS101,2,TUTORIAL,UNCHOSEN",
+                "student2@university.edu,CS999,1,LECTURE,CHOSEN",
+                "student2@university.edu,CS101,2,LAB,CHOSEN",
+                "student2@university.edu,CS101,1,LECTURE,MAYBE",
+                "\"o\"\"brien,k@university.edu\",CS101,1,LECTURE,CHOSEN",
+                ""));
+        setMockInput(
+                "12",               // Import enrolments
+                file.toString(),    // Enter file
+                "-1"                // Exit course management menu
+        );
+        View view = new TextUserInterface();
+        Path data = directory.resolve("data");
+        SharedContext context = new SharedContext(view, data);
+        setUpCourses(context.getCourseManager());
+
+        loginAsAdminStaff(context);
+        AdminStaffController adminController = new AdminStaffController(
+                context, view, new MockAuthenticationService(), new MockEmailService()
+        );
+        startOutputCapture();
+        adminController.manageCourse();
+
+        assertOutputContains("6 enrolment rows imported from " + file);
+        assertOutputContains("4 rows rejected, see " + EnrolmentImporter.getRejectsFile(file));
+        List<String> rejects = Files.readAllLines(EnrolmentImporter.getRejectsFile(file));
+        assertEquals(5, rejects.size());
+        assertEquals("row,student_email,course_code,activity_id,kind,status,reason", rejects.get(0));
+        // The lecture clashes with the tutorial chosen a few rows before
+        assertTrue(rejects.get(1).startsWith(
+                "4,student1@university.edu,CS202,4,LECTURE,CHOSEN,Unrecorded lecture clashes with "));
+        assertEquals("7,student2@university.edu,CS999,1,LECTURE,CHOSEN,Incorrect course code", rejects.get(2));
+        assertEquals("8,student2@university.edu,CS101,2,LAB,CHOSEN,Activity kind does not match the course",
+                rejects.get(3));
+        assertEquals("9,student2@university.edu,CS101,1,LECTURE,MAYBE,Invalid status", rejects.get(4));
+        context.close();
+
+        // The batch enrolments are logged and come back after a restart
+        SharedContext reopened = new SharedContext(view, data);
+        CourseManager courseManager = reopened.getCourseManager();
+        Timetable student1 = courseManager.getTimetable("student1@university.edu");
+        assertEquals(1, student1.countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        assertEquals(0, student1.countChosenActivitiesOfKind("CS101", ActivityKind.LAB));
+        assertFalse(student1.hasSlotsForCourse("CS202"));
+        Timetable student2 = courseManager.getTimetable("student2@university.edu");
+        assertEquals(1, student2.countChosenActivitiesOfKind("CS101", ActivityKind.LAB));
+        assertEquals(0, student2.countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        assertTrue(courseManager.getTimetable("o\"brien,k@university.edu").hasSlotsForCourse("CS101"));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Test an interrupted JSON import resumes without applying or rejecting rows twice")
+    public void testResumeInterruptedJsonImport(@TempDir Path directory) throws IOException {
+        int students = 1500;
+        int broken = 1200;
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < students; i++) {
+            String email = "student" + i + "@university.edu";
+            json.append("{\"student_email\": \"").append(email)
+                    .append("\", \"course_code\": \"CS101\", \"activity_id\": 1, \"kind\": \"LECTURE\", ")
+                    .append("\"status\": \"CHOSEN\"},\n");
+            // Every hundredth student has a course that does not exist instead of a tutorial
+            json.append("{\"student_email\": \"").append(email).append("\", \"course_code\": \"")
+                    .append(i % 100 == 0 ? "CS999" : "CS101")
+                    .append("\", \"activity_id\": 2, \"kind\": \"TUTORIAL\", \"status\": \"CHOSEN\"}")
+                    .append(i == broken ? "#" : " ")
+                    .append(i == students - 1 ? "\n" : ",\n");
+        }
+        json.append("]\n");
+        Path file = directory.resolve("enrolments.json");
+        Files.writeString(file, json);
+
+        View view = new TextUserInterface();
+        CourseManager courseManager = new SharedContext(view).getCourseManager();
+        setUpCourses(courseManager);
+        EnrolmentImporter importer = new EnrolmentImporter(courseManager);
+        assertThrows(IOException.class, () -> importer.importFile(file));
+        assertTrue(Files.exists(EnrolmentImporter.getProgressFile(file)));
+        assertFalse(courseManager.getTimetable("student" + (broken + 1) + "@university.edu")
+                .hasSlotsForCourse("CS101"));
+
+        // Fixed in place, the import carries on from the last saved row
+        Files.writeString(file, json.toString().replace("#", " "));
+        long imported = importer.importFile(file);
+        assertTrue(importer.getSkippedCount() >= EnrolmentImporter.CHECKPOINT_INTERVAL);
+        assertEquals(2L * students, importer.getSkippedCount() + imported + importer.getRejectedCount());
+        for (int i = 0; i < students; i++) {
+            Timetable timetable = courseManager.getTimetable("student" + i + "@university.edu");
+            assertEquals(i % 100 == 0 ? 0 : 1, timetable.countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+            assertEquals(1, timetable.countChosenActivitiesOfKind("CS101", ActivityKind.LECTURE));
+        }
+        List<String> rejects = Files.readAllLines(EnrolmentImporter.getRejectsFile(file));
+        assertEquals(students / 100 + 1, rejects.size());
+        Set<String> rows = new HashSet<>();
+        for (String reject : rejects.subList(1, rejects.size())) {
+            assertTrue(reject.endsWith(",CS999,2,TUTORIAL,CHOSEN,Incorrect course code"));
+            assertTrue(rows.add(reject.substring(0, reject.indexOf(','))));
+        }
+
+        // Once complete, importing the file again does nothing
+        assertEquals(0, importer.importFile(file));
+        assertEquals(2L * students, importer.getSkippedCount());
+        assertEquals(students / 100 + 1, Files.readAllLines(EnrolmentImporter.getRejectsFile(file)).size());
+    }
+}
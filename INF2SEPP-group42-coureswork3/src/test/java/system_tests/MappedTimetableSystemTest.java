@@ -0,0 +1,159 @@
+package system_tests;
+
+import model.ActivityKind;
+import model.CourseManager;
+import model.InMemoryCourseRepository;
+import model.MappedTimetableRepository;
+import model.Timetable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedTimetableSystemTest extends TUITest {
+
+    @Test
+    @DisplayName("Test mapped timetables are paged in on lookup after a restart")
+    public void testTimetablesSurviveRestart(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        InMemoryCourseRepository courses = new InMemoryCourseRepository();
+        MappedTimetableRepository timetables = new MappedTimetableRepository(directory);
+        CourseManager courseManager = new CourseManager(view, courses, timetables);
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+        courseManager.addCourseToStudentTimetable("student1@university.edu", "CS101");
+        courseManager.chooseActivityForCourse("student1@university.edu", "CS101", 2);
+        timetables.close();
+
+        MappedTimetableRepository reopened = new MappedTimetableRepository(directory);
+        CourseManager reopenedManager = new CourseManager(view, courses, reopened);
+        // Nothing is read until a timetable is looked up
+        assertEquals(1, reopened.getStoredCount());
+        assertEquals(0, reopened.getLoadedCount());
+
+        Timetable timetable = reopenedManager.getTimetable("student1@university.edu");
+        assertEquals(1, reopened.getLoadedCount());
+        assertTrue(timetable.hasSlotsForCourse("CS101"));
+        assertEquals(1, timetable.countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        assertEquals(1, timetable.countChosenActivitiesOfKind("CS101", ActivityKind.LECTURE));
+        assertSame(timetable, reopenedManager.getTimetable("student1@university.edu"));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Test the mapped files grow and reuse freed slots as timetables are rewritten")
+    public void testStoreGrowsAndRewrites(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        InMemoryCourseRepository courses = new InMemoryCourseRepository();
+        MappedTimetableRepository timetables = new MappedTimetableRepository(directory);
+        CourseManager courseManager = new CourseManager(view, courses, timetables);
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                0, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addCourse(
+                "admin1@university.edu", "CS202", "Algorithms", "Algorithms course",
+                true, "Prof B", "profb@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS202", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+        // Enough students and slots to grow both files past their initial size
+        int students = 600;
+        for (int i = 0; i < students; i++) {
+            courseManager.addCourseToStudentTimetable("student" + i + "@university.edu", "CS101");
+            courseManager.addCourseToStudentTimetable("student" + i + "@university.edu", "CS202");
+        }
+        for (int i = 0; i < students; i += 2) {
+            courseManager.removeCourseFromStudentTimetable("student" + i + "@university.edu", "CS101");
+            courseManager.chooseActivityForCourse("student" + i + "@university.edu", "CS202", 2);
+        }
+        timetables.close();
+
+        MappedTimetableRepository reopened = new MappedTimetableRepository(directory);
+        assertEquals(students, reopened.getStoredCount());
+        int withLecture = 0;
+        for (Timetable timetable : reopened.findAll()) {
+            assertTrue(timetable.hasSlotsForCourse("CS202"));
+            withLecture += timetable.hasSlotsForCourse("CS101") ? 1 : 0;
+        }
+        assertEquals(students / 2, withLecture);
+        Timetable rewritten = reopened.find("student10@university.edu");
+        assertFalse(rewritten.hasSlotsForCourse("CS101"));
+        assertEquals(1, rewritten.countChosenActivitiesOfKind("CS202", ActivityKind.TUTORIAL));
+        assertNull(reopened.find("student" + students + "@university.edu"));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Test emails and course codes too long for their fixed-size fields are stored and read back")
+    public void testLongEmailsAndCourseCodes(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        InMemoryCourseRepository courses = new InMemoryCourseRepository();
+        MappedTimetableRepository timetables = new MappedTimetableRepository(directory);
+        CourseManager courseManager = new CourseManager(view, courses, timetables);
+        // Longer than MappedSlotStore.MAX_COURSE_CODE_BYTES, but a valid code
+        String courseCode = "INF".repeat(12) + "101";
+        courseManager.addCourse(
+                "admin1@university.edu", courseCode, "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                courseCode, LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 1000
+        );
+        // Enough students for the index to be rebuilt with long emails in it
+        int students = 300;
+        for (int i = 0; i < students; i++) {
+            String studentEmail = "student" + i + "." + "\u00FC".repeat(50) + "@university.edu";
+            courseManager.addCourseToStudentTimetable(studentEmail, courseCode);
+            // Rewritten, freeing the records of the first write
+            courseManager.chooseActivityForCourse(studentEmail, courseCode, 1);
+        }
+        timetables.close();
+
+        MappedTimetableRepository reopened = new MappedTimetableRepository(directory);
+        CourseManager reopenedManager = new CourseManager(view, courses, reopened);
+        assertEquals(students, reopened.getStoredCount());
+        for (int i = 0; i < students; i++) {
+            Timetable timetable = reopenedManager.getTimetable("student" + i + "." + "\u00FC".repeat(50)
+                    + "@university.edu");
+            assertTrue(timetable.hasSlotsForCourse(courseCode));
+            assertEquals(1, timetable.countChosenActivitiesOfKind(courseCode, ActivityKind.TUTORIAL));
+        }
+        reopened.close();
+    }
+}
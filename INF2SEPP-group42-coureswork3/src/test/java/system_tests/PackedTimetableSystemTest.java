@@ -0,0 +1,109 @@
+package system_tests;
+
+import model.ActivityKind;
+import model.CourseManager;
+import model.PackedTimetable;
+import model.PackedTimetableRepository;
+import model.Repositories;
+import model.SharedContext;
+import model.StringTable;
+import model.Timetable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedTimetableSystemTest extends TUITest {
+
+    private Timetable setUpTimetable(SharedContext context) {
+        CourseManager courseManager = context.getCourseManager();
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 1
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("14:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("15:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 20
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:30"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("12:00"), "Lab 1",
+                DayOfWeek.MONDAY, "Lab", 20
+        );
+        courseManager.addCourseToStudentTimetable("student@university.edu", "CS101");
+        return courseManager.getTimetable("student@university.edu");
+    }
+
+    @Test
+    @DisplayName("Test packing a timetable keeps every slot")
+    public void testPackRoundTrip() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        Timetable timetable = setUpTimetable(context);
+
+        PackedTimetable packed = PackedTimetable.from(timetable, new StringTable());
+
+        assertEquals(3, packed.size());
+        assertTrue(packed.hasSlotsForCourse("CS101"));
+        assertEquals(1, packed.numChosenActivities("CS101"));
+        assertEquals(timetable.toStringWithAllActivities(), packed.toTimetable().toStringWithAllActivities());
+    }
+
+    @Test
+    @DisplayName("Test choosing and removing activities in a packed timetable")
+    public void testPackedChooseAndRemove() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        PackedTimetable packed = PackedTimetable.from(setUpTimetable(context), new StringTable());
+
+        // The lab overlaps the recorded lecture, which is allowed
+        assertTrue(packed.chooseActivity("CS101", 3));
+        assertTrue(packed.chooseActivity("CS101", 2));
+        assertEquals(3, packed.numChosenActivities("CS101"));
+        assertEquals(2, packed.checkConflicts(LocalDate.parse("2025-09-01"), LocalTime.parse("10:45"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:15"), DayOfWeek.MONDAY).length);
+
+        packed.removeSlotsForCourse("CS101");
+        assertEquals(0, packed.size());
+        assertFalse(packed.hasSlotsForCourse("CS101"));
+    }
+
+    @Test
+    @DisplayName("Test a context can keep its timetables packed, building them only while they are in use")
+    public void testPackedRepository() throws InterruptedException {
+        Repositories repositories = Repositories.packed();
+        SharedContext context = new SharedContext(new TextUserInterface(), repositories);
+        PackedTimetableRepository timetables = (PackedTimetableRepository) repositories.getTimetables();
+        CourseManager courseManager = context.getCourseManager();
+        Timetable timetable = setUpTimetable(context);
+        courseManager.chooseActivityForCourse("student@university.edu", "CS101", 2);
+        // Looked up again while in use, the same timetable is returned
+        assertSame(timetable, courseManager.getTimetable("student@university.edu"));
+        String expected = timetable.toStringWithAllActivities();
+        assertEquals(1, timetables.getStoredCount());
+
+        timetable = null;
+        for (int i = 0; i < 50 && timetables.getLoadedCount() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        // Built again from its packed form, with every change saved
+        assertEquals(expected, courseManager.getTimetable("student@university.edu").toStringWithAllActivities());
+        assertEquals(1, courseManager.getTimetable("student@university.edu")
+                .countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        assertTrue(timetables.getLoadedCount() <= 1);
+    }
+}
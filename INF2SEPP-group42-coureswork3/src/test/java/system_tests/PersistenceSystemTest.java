@@ -0,0 +1,215 @@
+package system_tests;
+
+import controller.MenuController;
+import external.MockAuthenticationService;
+import external.MockEmailService;
+import model.ActivityKind;
+import model.CourseManager;
+import model.FAQSection;
+import model.Inquiry;
+import model.SharedContext;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistenceSystemTest extends TUITest {
+
+    private void makeChanges(SharedContext context) {
+        CourseManager courseManager = context.getCourseManager();
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+        courseManager.addCourseToStudentTimetable("student1@university.edu", "CS101");
+        courseManager.chooseActivityForCourse("student1@university.edu", "CS101", 2);
+
+        FAQSection section = context.addFAQSection(null, "Timetables");
+        FAQSection subsection = context.addFAQSection(section, "Tutorials");
+        context.addFAQItem(subsection, "How do I choose a tutorial?", "From your timetable", "CS101");
+
+        Inquiry first = new Inquiry("student1@university.edu", "Labs", "When are the labs?");
+        context.addInquiry(first);
+        context.addInquiry(new Inquiry("student2@university.edu", "Rooms", "Where is Room 101?", "CS101"));
+        context.assignInquiry(first, "prof@university.edu");
+    }
+
+    private List<Path> listFiles(Path directory, String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void assertRecovered(SharedContext context) {
+        CourseManager courseManager = context.getCourseManager();
+        assertTrue(courseManager.hasCourse("CS101"));
+        assertEquals(1, courseManager.getCourseByCode("CS101").getRequiredTutorials());
+        assertEquals(2, courseManager.getCourseByCode("CS101").getActivities().size());
+        assertEquals(1, courseManager.getTimetable("student1@university.edu")
+                .countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        // Ids handed out before the restart are not handed out again
+        assertEquals(3, courseManager.getNextActivityId());
+
+        FAQSection subsection = context.getFAQ().getSections().get(0).getSubsections().get(0);
+        assertEquals("Tutorials", subsection.getTopic());
+        assertEquals("CS101", subsection.getItems().get(0).getCourseTag());
+
+        assertEquals(2, context.inquiries.size());
+        assertEquals("prof@university.edu", context.inquiries.get(0).getAssignedTo());
+        assertEquals("CS101", context.inquiries.get(1).getCourseCode());
+    }
+
+    @Test
+    @DisplayName("Test state is recovered from the log after a restart")
+    public void testRecoverFromLog(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        makeChanges(context);
+        context.close();
+
+        // A record cut short by a crash is dropped, everything before it is kept
+        Path segment = listFiles(directory, "wal-").get(0);
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        SharedContext recovered = new SharedContext(view, directory);
+        assertRecovered(recovered);
+        assertTrue(recovered.getJournal().getRecoveredRecords() > 0);
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("Test state is recovered from a snapshot and the records logged after it")
+    public void testRecoverFromSnapshot(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        makeChanges(context);
+        context.getJournal().snapshot();
+        context.getCourseManager().removeCourseFromStudentTimetable("student2@university.edu", "CS101");
+        context.getCourseManager().addCourseToStudentTimetable("student2@university.edu", "CS101");
+        context.removeInquiry(context.inquiries.get(1));
+        context.close();
+
+        SharedContext recovered = new SharedContext(view, directory);
+        assertEquals(1, listFiles(directory, "snapshot-").size());
+        assertEquals(2, recovered.getJournal().getRecoveredRecords());
+        assertTrue(recovered.getCourseManager().getTimetable("student2@university.edu").hasSlotsForCourse("CS101"));
+        assertEquals(1, recovered.inquiries.size());
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("Test a snapshot written by a newer version is refused")
+    public void testRefuseNewerSnapshotVersion(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        makeChanges(context);
+        context.getJournal().snapshot();
+        context.close();
+
+        // The format version follows the four byte magic number
+        Path snapshot = listFiles(directory, "snapshot-").get(0);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[7] = 99;
+        Files.write(snapshot, bytes);
+
+        assertThrows(IOException.class, () -> new SharedContext(view, directory));
+    }
+
+    @Test
+    @DisplayName("Test every change is refused before it is applied once a write failed")
+    public void testFailStopAfterFailedWrite(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        makeChanges(context);
+        failJournal(context, directory);
+
+        UncheckedIOException refused = assertThrows(UncheckedIOException.class, () -> context.getCourseManager()
+                .addCourse("admin1@university.edu", "CS102", "Data Structures", "Second CS course",
+                        true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu", 0, 0));
+        assertTrue(refused.getMessage().startsWith("Changes can no longer be saved"));
+        assertFalse(context.getCourseManager().hasCourse("CS102"));
+        assertThrows(UncheckedIOException.class, () -> context.removeInquiry(context.inquiries.get(0)));
+        assertEquals(2, context.inquiries.size());
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Test a refused change is reported to the user, who can keep using the portal")
+    public void testFailStopReportedInMenu(@TempDir Path directory)
+            throws IOException, URISyntaxException, ParseException {
+        setMockInput(
+                "2",                        // Contact staff
+                "user@example.com",         // Inquirer email
+                "Assignment Question",      // Subject
+                "When is it due?",          // Inquiry content
+                "n",                        // No course code
+                "3",                        // View courses
+                "-1"                        // Exit
+        );
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        makeChanges(context);
+        failJournal(context, directory);
+
+        startOutputCapture();
+        new MenuController(context, view, new MockAuthenticationService(), new MockEmailService()).mainMenu();
+
+        assertOutputContains("Changes can no longer be saved");
+        assertOutputContains("CS101");
+        assertOutputContains("Bye bye!");
+        assertEquals(2, context.inquiries.size());
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Test inquiries are logged by their position when the change is made")
+    public void testInquiryChangesFollowRemovals(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        makeChanges(context);
+        Inquiry first = context.inquiries.get(0);
+        Inquiry second = context.inquiries.get(1);
+        context.removeInquiry(first);
+        // Neither is logged for an inquiry that is gone
+        context.assignInquiry(first, "sec@university.edu");
+        context.removeInquiry(first);
+        context.assignInquiry(second, "sec@university.edu");
+        context.close();
+
+        SharedContext recovered = new SharedContext(view, directory);
+        assertEquals(1, recovered.inquiries.size());
+        assertEquals("Rooms", recovered.inquiries.get(0).getSubject());
+        assertEquals("sec@university.edu", recovered.inquiries.get(0).getAssignedTo());
+        recovered.close();
+    }
+}
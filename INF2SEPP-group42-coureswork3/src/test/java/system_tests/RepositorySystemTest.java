@@ -0,0 +1,109 @@
+package system_tests;
+
+import model.ActivityKind;
+import model.CourseManager;
+import model.FAQSection;
+import model.InMemoryTimetableRepository;
+import model.Inquiry;
+import model.Repositories;
+import model.SharedContext;
+import model.Timetable;
+import model.WriteBehindTimetableRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RepositorySystemTest extends TUITest {
+
+    @Test
+    @DisplayName("Test state kept in file-backed repositories is loaded again after a restart")
+    public void testFileRepositoriesSurviveRestart(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        Repositories repositories = Repositories.inDirectory(directory, 60 * 1000);
+        SharedContext context = new SharedContext(view, repositories);
+        CourseManager courseManager = context.getCourseManager();
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+        courseManager.addCourseToStudentTimetable("student1@university.edu", "CS101");
+        courseManager.chooseActivityForCourse("student1@university.edu", "CS101", 2);
+        FAQSection section = context.addFAQSection(null, "Timetables");
+        context.addFAQItem(section, "How do I choose a tutorial?", "From your timetable", "CS101");
+        Inquiry inquiry = new Inquiry("student1@university.edu", "Labs", "When are the labs?");
+        context.addInquiry(inquiry);
+        context.assignInquiry(inquiry, "prof@university.edu");
+        // Writes the timetable changes still held back
+        repositories.close();
+
+        SharedContext reopened = new SharedContext(view, Repositories.inDirectory(directory, 60 * 1000));
+        CourseManager reopenedManager = reopened.getCourseManager();
+        assertTrue(reopenedManager.hasCourse("CS101"));
+        assertEquals(2, reopenedManager.getCourseByCode("CS101").getActivities().size());
+        assertEquals(3, reopenedManager.getNextActivityId());
+        assertEquals(1, reopenedManager.getTimetable("student1@university.edu")
+                .countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        assertEquals("CS101", reopened.getFAQ().getSections().get(0).getItems().get(0).getCourseTag());
+        assertEquals(1, reopened.inquiries.size());
+        assertEquals("prof@university.edu", reopened.inquiries.get(0).getAssignedTo());
+        reopened.getRepositories().close();
+    }
+
+    @Test
+    @DisplayName("Test repeated saves of a timetable are written once by the next flush")
+    public void testWriteBehindCoalescesSaves() {
+        AtomicInteger writes = new AtomicInteger();
+        InMemoryTimetableRepository backing = new InMemoryTimetableRepository() {
+            @Override
+            public void save(Timetable timetable) {
+                writes.incrementAndGet();
+                super.save(timetable);
+            }
+        };
+        WriteBehindTimetableRepository repository = new WriteBehindTimetableRepository(backing, 60 * 1000);
+        Timetable first = new Timetable("student1@university.edu");
+        Timetable second = new Timetable("student2@university.edu");
+        for (int i = 0; i < 50; i++) {
+            repository.save(first);
+        }
+        repository.save(second);
+
+        // Nothing is written on the request path, but the timetables can be read straight away
+        assertEquals(0, writes.get());
+        assertSame(first, repository.find("student1@university.edu"));
+        assertEquals(2, repository.getPendingCount());
+
+        repository.flush();
+        assertEquals(2, writes.get());
+        assertEquals(51, repository.getSaveCount());
+        assertEquals(2, repository.getWriteCount());
+        assertSame(second, backing.find("student2@university.edu"));
+
+        repository.save(first);
+        repository.close();
+        assertEquals(3, writes.get());
+        assertEquals(0, repository.getPendingCount());
+    }
+}
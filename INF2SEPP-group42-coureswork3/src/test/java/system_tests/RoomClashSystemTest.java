@@ -0,0 +1,96 @@
+package system_tests;
+
+import model.CourseManager;
+import model.SharedContext;
+import model.TimeWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoomClashSystemTest extends TUITest {
+
+    private CourseManager setUpCourses(SharedContext context) {
+        CourseManager courseManager = context.getCourseManager();
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                0, 0
+        );
+        courseManager.addCourse(
+                "admin1@university.edu", "CS102", "Data Structures", "Second CS course",
+                true, "Prof C", "profc@university.edu", "Sec D", "secd@university.edu",
+                0, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        return courseManager;
+    }
+
+    @Test
+    @DisplayName("Test adding an activity into an already booked room warns about the clash")
+    public void testRoomClashWarning() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourses(context);
+
+        startOutputCapture();
+        courseManager.addActivityToCourse(
+                "CS102", LocalDate.parse("2025-10-01"), LocalTime.parse("10:30"),
+                LocalDate.parse("2025-11-30"), LocalTime.parse("11:30"), "room 101 ",
+                DayOfWeek.MONDAY, "Tutorial", 20
+        );
+
+        assertOutputContains("Room clash: room 101  is already booked for CS101");
+        assertTrue(courseManager.getCourseByCode("CS102").hasActivityWithId(2));
+    }
+
+    @Test
+    @DisplayName("Test activities in the same room in different weeks do not clash")
+    public void testNoRoomClashOutsideDateRange() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourses(context);
+
+        List<String> clashes = courseManager.findRoomClashes("Room 101", DayOfWeek.MONDAY,
+                LocalDate.parse("2026-01-05"), LocalTime.parse("10:00"),
+                LocalDate.parse("2026-03-30"), LocalTime.parse("11:00"));
+
+        assertTrue(clashes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test querying the free slots of a room on a given day")
+    public void testFreeRoomSlots() {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourses(context);
+        courseManager.addActivityToCourse(
+                "CS102", LocalDate.parse("2025-09-01"), LocalTime.parse("13:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("14:00"), "Room 101",
+                DayOfWeek.MONDAY, "Lab", 20
+        );
+
+        List<TimeWindow> free = courseManager.getFreeRoomSlots("Room 101", LocalDate.parse("2025-09-08"),
+                LocalTime.parse("09:00"), LocalTime.parse("18:00"));
+
+        assertEquals(3, free.size());
+        assertEquals("09:00-10:00", free.get(0).toString());
+        assertEquals("11:00-13:00", free.get(1).toString());
+        assertEquals("14:00-18:00", free.get(2).toString());
+
+        List<TimeWindow> freeTuesday = courseManager.getFreeRoomSlots("Room 101", LocalDate.parse("2025-09-09"),
+                LocalTime.parse("09:00"), LocalTime.parse("18:00"));
+        assertEquals(1, freeTuesday.size());
+    }
+}
@@ -0,0 +1,112 @@
+package system_tests;
+
+import model.CourseManager;
+import model.ScheduleSimulation;
+import model.SharedContext;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleSimulationSystemTest extends TUITest {
+    private static final int STUDENTS = 15;
+
+    /**
+     * Every student takes CS101 with its Tuesday tutorial (activity 2) and CS102, whose unrecorded lecture is on
+     * Tuesday afternoon (activity 4) and recorded lecture on Thursday afternoon (activity 5). One more student takes
+     * the Wednesday tutorial (activity 3) instead.
+     */
+    private CourseFixture setUpCourses(SharedContext context) {
+        CourseFixture fixture = new CourseFixture(context)
+                .course("CS101", 1, 0)
+                .lecture("CS101", DayOfWeek.MONDAY, "09:00", "10:00", "Room 101", false)
+                .tutorial("CS101", DayOfWeek.TUESDAY, "10:00", "11:00", "Room 102", 50)
+                .tutorial("CS101", DayOfWeek.WEDNESDAY, "10:00", "11:00", "Room 102", 50)
+                .course("CS102", 0, 0)
+                .lecture("CS102", DayOfWeek.TUESDAY, "14:00", "15:00", "Room 201", false)
+                .lecture("CS102", DayOfWeek.THURSDAY, "14:00", "15:00", "Room 201", true);
+        for (int i = 0; i < STUDENTS; i++) {
+            fixture.enrol("student" + i + "@university.edu", "CS101", 2)
+                    .enrol("student" + i + "@university.edu", "CS102");
+        }
+        return fixture.enrol("other@university.edu", "CS101", 3)
+                .enrol("other@university.edu", "CS102");
+    }
+
+    @Test
+    @DisplayName("Test simulating moves of an activity counts new clashes and unrecorded lecture clashes")
+    public void testSimulateActivityChange() {
+        SharedContext context = new SharedContext(new TextUserInterface());
+        CourseManager courseManager = setUpCourses(context).getCourseManager();
+
+        // Onto the unrecorded lecture of CS102
+        ScheduleSimulation unrecorded = courseManager.simulateActivityChange("CS101", 2, DayOfWeek.TUESDAY,
+                LocalTime.parse("14:30"), LocalTime.parse("15:30"));
+        assertEquals(STUDENTS, unrecorded.getAffectedStudents());
+        assertEquals(STUDENTS, unrecorded.getNewClashes());
+        assertEquals(STUDENTS, unrecorded.getNewUnrecordedLectureClashes());
+        assertFalse(unrecorded.getSampleStudents().contains("other@university.edu"));
+
+        // Onto the recorded lecture of CS102: not a clash, as when choosing activities
+        ScheduleSimulation recorded = courseManager.simulateActivityChange("CS101", 2, DayOfWeek.THURSDAY,
+                LocalTime.parse("14:00"), LocalTime.parse("15:00"));
+        assertEquals(STUDENTS, recorded.getAffectedStudents());
+        assertEquals(0, recorded.getNewClashes());
+        assertEquals(0, recorded.getNewUnrecordedLectureClashes());
+
+        // Moving the recorded lecture itself onto the tutorial clashes with nothing either
+        ScheduleSimulation movedRecorded = courseManager.simulateActivityChange("CS102", 5, DayOfWeek.TUESDAY,
+                LocalTime.parse("10:00"), LocalTime.parse("11:00"));
+        assertEquals(STUDENTS + 1, movedRecorded.getAffectedStudents());
+        assertEquals(0, movedRecorded.getNewClashes());
+
+        // Moving the unrecorded lecture itself onto the tutorial only hits the students of that tutorial
+        ScheduleSimulation lecture = courseManager.simulateActivityChange("CS101", 1, DayOfWeek.WEDNESDAY,
+                LocalTime.parse("10:30"), LocalTime.parse("11:30"));
+        assertEquals(STUDENTS + 1, lecture.getAffectedStudents());
+        assertEquals(1, lecture.getNewClashes());
+        assertEquals(1, lecture.getNewUnrecordedLectureClashes());
+        assertEquals("other@university.edu", lecture.getSampleStudents().get(0));
+
+        // A free slot and an unknown activity
+        ScheduleSimulation free = courseManager.simulateActivityChange("CS101", 2, DayOfWeek.FRIDAY,
+                LocalTime.parse("10:00"), LocalTime.parse("11:00"));
+        assertEquals(0, free.getNewClashes());
+        assertTrue(free.getSampleStudents().isEmpty());
+        assertNull(courseManager.simulateActivityChange("CS101", 99, DayOfWeek.FRIDAY,
+                LocalTime.parse("10:00"), LocalTime.parse("11:00")));
+    }
+
+    @Test
+    @DisplayName("Test simulating a move from the admin menu lists a capped sample of students")
+    public void testSimulateActivityChangeFromMenu() throws URISyntaxException, IOException, ParseException {
+        SharedContext context = new SharedContext(new TextUserInterface());
+        setUpCourses(context);
+
+        runAdminCourseMenu(context,
+                "3",            // Simulate moving an activity
+                "CS101",        // Enter course code
+                "2",            // Enter activity ID
+                "TUESDAY",      // Enter new day
+                "14:30",        // Enter new start time
+                "15:30",        // Enter new end time
+                "-1"            // Exit course management menu
+        );
+
+        assertOutputContains("Activity 2 of CS101: " + STUDENTS + " students affected, " + STUDENTS
+                + " would get a new clash (" + STUDENTS + " with an unrecorded lecture)");
+        ScheduleSimulation simulation = context.getCourseManager().simulateActivityChange("CS101", 2,
+                DayOfWeek.TUESDAY, LocalTime.parse("14:30"), LocalTime.parse("15:30"));
+        assertEquals(ScheduleSimulation.SAMPLE_SIZE, simulation.getSampleStudents().size());
+        for (String studentEmail : simulation.getSampleStudents()) {
+            assertOutputContains("- " + studentEmail);
+        }
+    }
+}
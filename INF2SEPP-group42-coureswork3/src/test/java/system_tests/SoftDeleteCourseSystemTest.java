@@ -0,0 +1,184 @@
+package system_tests;
+
+import model.ActivityKind;
+import model.CourseManager;
+import model.CoursePurger;
+import model.SharedContext;
+import model.Timetable;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoftDeleteCourseSystemTest extends TUITest {
+
+    private void addCourse(CourseManager courseManager, String courseCode, String location) {
+        courseManager.addCourse(
+                "admin1@university.edu", courseCode, "Course " + courseCode, "About " + courseCode,
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                courseCode, LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), location,
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                courseCode, LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), location,
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+    }
+
+    @Test
+    @DisplayName("Test a soft-deleted course is hidden and restored with every enrolment, also after a restart")
+    public void testSoftDeleteAndRestore(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        CourseManager courseManager = context.getCourseManager();
+        addCourse(courseManager, "CS101", "Room 101");
+        for (int i = 0; i < 5; i++) {
+            courseManager.addCourseToStudentTimetable("student" + i + "@university.edu", "CS101");
+        }
+        courseManager.chooseActivityForCourse("student0@university.edu", "CS101", 2);
+
+        startOutputCapture();
+        assertTrue(courseManager.softDeleteCourse("admin1@university.edu", "CS101"));
+        assertFalse(courseManager.hasCourse("CS101"));
+        assertFalse(courseManager.viewCourses().contains("CS101"));
+        assertFalse(courseManager.getTimetable("student0@university.edu").hasSlotsForCourse("CS101"));
+        assertEquals(List.of("CS101"), courseManager.getDeletedCourseCodes());
+        assertFalse(courseManager.softDeleteCourse("admin1@university.edu", "CS101"));
+        // The code stays taken until the course is purged
+        assertFalse(courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Other", "Other course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                0, 0
+        ));
+        assertOutputContains("Course with that code was deleted and can still be restored");
+
+        // The tombstone survives a snapshot and a restart
+        context.getJournal().snapshot();
+        context.close();
+        SharedContext reopened = new SharedContext(view, directory);
+        CourseManager reopenedManager = reopened.getCourseManager();
+        assertFalse(reopenedManager.hasCourse("CS101"));
+        assertEquals(List.of("CS101"), reopenedManager.getDeletedCourseCodes());
+
+        assertTrue(reopenedManager.restoreCourse("admin1@university.edu", "CS101"));
+        assertTrue(reopenedManager.hasCourse("CS101"));
+        assertTrue(reopenedManager.getDeletedCourseCodes().isEmpty());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(reopenedManager.getTimetable("student" + i + "@university.edu").hasSlotsForCourse("CS101"));
+        }
+        Timetable timetable = reopenedManager.getTimetable("student0@university.edu");
+        assertEquals(1, timetable.countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        assertEquals(1, timetable.countChosenActivitiesOfKind("CS101", ActivityKind.LECTURE));
+        assertFalse(reopenedManager.restoreCourse("admin1@university.edu", "CS101"));
+        reopened.close();
+
+        // Restoring is logged as well
+        SharedContext restarted = new SharedContext(view, directory);
+        assertTrue(restarted.getCourseManager().hasCourse("CS101"));
+        assertEquals(1, restarted.getCourseManager().getTimetable("student0@university.edu")
+                .countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("Test the purger finalises deleted courses after the grace period")
+    public void testPurgerFinalisesDeletion() throws InterruptedException {
+        View view = new TextUserInterface();
+        CourseManager courseManager = new CourseManager(view);
+        addCourse(courseManager, "CS101", "Room 101");
+        addCourse(courseManager, "CS202", "Room 102");
+        for (int i = 0; i < 20; i++) {
+            courseManager.addCourseToStudentTimetable("student" + i + "@university.edu", "CS101");
+        }
+        assertTrue(courseManager.softDeleteCourse("admin1@university.edu", "CS101"));
+        assertTrue(courseManager.softDeleteCourse("admin1@university.edu", "CS202"));
+        // Rooms stay booked while the courses can still be restored
+        assertEquals(1, courseManager.findRoomClashes("Room 101", DayOfWeek.MONDAY, LocalDate.parse("2025-09-01"),
+                LocalTime.parse("09:00"), LocalDate.parse("2025-12-15"), LocalTime.parse("10:30")).size());
+
+        CoursePurger purger = courseManager.startCoursePurger(100, 20);
+        for (int i = 0; i < 250 && purger.getPurgedCount() < 2; i++) {
+            Thread.sleep(20);
+        }
+        purger.close();
+        assertEquals(2, purger.getPurgedCount());
+        assertTrue(purger.getRunCount() > 0);
+        assertTrue(courseManager.getDeletedCourseCodes().isEmpty());
+        assertFalse(courseManager.restoreCourse("admin1@university.edu", "CS101"));
+        assertTrue(courseManager.findRoomClashes("Room 101", DayOfWeek.MONDAY, LocalDate.parse("2025-09-01"),
+                LocalTime.parse("09:00"), LocalDate.parse("2025-12-15"), LocalTime.parse("10:30")).isEmpty());
+
+        // Once purged, the code can be used for a new course
+        addCourse(courseManager, "CS101", "Room 101");
+        assertTrue(courseManager.hasCourse("CS101"));
+        assertFalse(courseManager.getTimetable("student0@university.edu").hasSlotsForCourse("CS101"));
+    }
+
+    @Test
+    @DisplayName("Test removing a course from the admin menu soft-deletes it so it can be restored from the menu")
+    public void testRemoveAndRestoreFromMenu() throws URISyntaxException, IOException, ParseException {
+        SharedContext context = new SharedContext(new TextUserInterface());
+        CourseManager courseManager = context.getCourseManager();
+        addCourse(courseManager, "CS101", "Room 101");
+        courseManager.addCourseToStudentTimetable("student0@university.edu", "CS101");
+        courseManager.chooseActivityForCourse("student0@university.edu", "CS101", 2);
+
+        runAdminCourseMenu(context,
+                "15",           // Restore a deleted course
+                "1",            // Remove a course
+                "0",            // Select CS101
+                "Y",            // Confirm removal
+                "-1"            // Exit course management menu
+        );
+        assertOutputContains("No deleted courses can be restored.");
+        assertOutputContains("Course CS101 has been successfully removed.");
+        assertOutputContains("It can be restored with its enrolments from 'Restore a deleted course'");
+        assertFalse(courseManager.hasCourse("CS101"));
+        assertEquals(List.of("CS101"), courseManager.getDeletedCourseCodes());
+
+        runAdminCourseMenu(context,
+                "15",           // Restore a deleted course
+                "0",            // Select CS101
+                "-1"            // Exit course management menu
+        );
+        assertOutputContains("Course CS101 has been restored.");
+        assertTrue(courseManager.hasCourse("CS101"));
+        assertEquals(1, courseManager.getTimetable("student0@university.edu")
+                .countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+    }
+
+    @Test
+    @DisplayName("Test a context kept in a data directory runs the purger until it is closed")
+    public void testContextRunsPurger(@TempDir Path directory) throws IOException {
+        assertNull(new SharedContext(new TextUserInterface()).getCoursePurger());
+
+        SharedContext context = new SharedContext(new TextUserInterface(), directory);
+        addCourse(context.getCourseManager(), "CS101", "Room 101");
+        assertTrue(context.getCourseManager().softDeleteCourse("admin1@university.edu", "CS101"));
+        assertNotNull(context.getCoursePurger());
+        context.close();
+
+        // The deleted course was logged before the journal was closed, and is only purged after its grace period
+        SharedContext reopened = new SharedContext(new TextUserInterface(), directory);
+        assertEquals(List.of("CS101"), reopened.getCourseManager().getDeletedCourseCodes());
+        assertEquals(0, reopened.getCoursePurger().getPurgedCount());
+        reopened.close();
+    }
+}
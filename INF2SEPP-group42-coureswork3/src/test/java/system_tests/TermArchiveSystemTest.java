@@ -0,0 +1,224 @@
+package system_tests;
+
+import model.ActivityKind;
+import model.Course;
+import model.CourseManager;
+import model.SharedContext;
+import model.TermArchive;
+import model.Timetable;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TermArchiveSystemTest extends TUITest {
+
+    private void addCourses(CourseManager courseManager) {
+        courseManager.addCourse(
+                "admin1@university.edu", "CS101", "Intro to CS", "Basic CS course",
+                true, "Prof A", "prof@university.edu", "Sec B", "sec@university.edu",
+                1, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("09:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("10:30"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", true
+        );
+        courseManager.addActivityToCourse(
+                "CS101", LocalDate.parse("2025-09-01"), LocalTime.parse("10:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("11:00"), "Room 102",
+                DayOfWeek.TUESDAY, "Tutorial", 10
+        );
+        courseManager.addCourse(
+                "admin1@university.edu", "CS202", "Algorithms", "Algorithms course",
+                true, "Prof B", "profb@university.edu", "Sec B", "sec@university.edu",
+                0, 0
+        );
+        courseManager.addActivityToCourse(
+                "CS202", LocalDate.parse("2025-09-01"), LocalTime.parse("14:00"),
+                LocalDate.parse("2025-12-15"), LocalTime.parse("15:00"), "Room 101",
+                DayOfWeek.MONDAY, "Lecture", false
+        );
+    }
+
+    @Test
+    @DisplayName("Test closing a term archives its courses and timetables and empties the catalogue")
+    public void testCloseTerm(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view, directory);
+        CourseManager courseManager = context.getCourseManager();
+        addCourses(courseManager);
+        courseManager.addCourseToStudentTimetable("student1@university.edu", "CS101");
+        courseManager.chooseActivityForCourse("student1@university.edu", "CS101", 2);
+        courseManager.addCourseToStudentTimetable("student2@university.edu", "CS202");
+
+        startOutputCapture();
+        assertTrue(courseManager.closeTerm("admin1@university.edu", "2025 Autumn"));
+        assertOutputContains("Term 2025 Autumn has been closed and archived.");
+        assertTrue(courseManager.getCourseCodes().isEmpty());
+        assertFalse(courseManager.getTimetable("student1@university.edu").hasSlotsForCourse("CS101"));
+        assertEquals(List.of("2025 Autumn"), courseManager.getArchivedTerms());
+        // The rooms are free again for the next term
+        assertTrue(courseManager.findRoomClashes("Room 101", DayOfWeek.MONDAY, LocalDate.parse("2025-09-01"),
+                LocalTime.parse("09:00"), LocalDate.parse("2025-12-15"), LocalTime.parse("10:30")).isEmpty());
+        assertFalse(courseManager.closeTerm("admin1@university.edu", "2026 Spring"));
+        assertOutputContains("There are no courses in the current term");
+        context.close();
+
+        SharedContext reopened = new SharedContext(view, directory);
+        CourseManager reopenedManager = reopened.getCourseManager();
+        assertTrue(reopenedManager.getCourseCodes().isEmpty());
+        TermArchive archive = reopenedManager.getTermArchive("2025 Autumn");
+        assertFalse(archive.isOpen());
+
+        Course course = archive.findCourse("CS101");
+        assertTrue(archive.isOpen());
+        assertEquals("Intro to CS", course.getName());
+        assertEquals(2, course.getActivities().size());
+        assertEquals(List.of("CS101", "CS202"), archive.getCourseCodes());
+        Timetable timetable = archive.findTimetable("student1@university.edu");
+        assertEquals(1, timetable.countChosenActivitiesOfKind("CS101", ActivityKind.TUTORIAL));
+        assertTrue(archive.findTimetable("student2@university.edu").hasSlotsForCourse("CS202"));
+        assertNull(archive.findTimetable("student3@university.edu"));
+        assertNull(reopenedManager.getTermArchive("2026 Spring"));
+
+        // A term name can only be used once
+        addCourses(reopenedManager);
+        assertFalse(reopenedManager.closeTerm("admin1@university.edu", "2025 Autumn"));
+        assertOutputContains("Term 2025 Autumn is already archived");
+        assertEquals(2, reopenedManager.getCourseCodes().size());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Test archive lookups only inflate the block they need and are cached")
+    public void testArchiveLookupsArePagedIn(@TempDir Path directory) {
+        View view = new TextUserInterface();
+        CourseManager courseManager = new CourseManager(view);
+        startOutputCapture();
+        assertFalse(courseManager.closeTerm("admin1@university.edu", "2025 Autumn"));
+        assertOutputContains("No directory set for term archives");
+
+        courseManager.setArchiveDirectory(directory);
+        addCourses(courseManager);
+        int students = 3000;
+        for (int i = 0; i < students; i++) {
+            courseManager.addCourseToStudentTimetable("student" + i + "@university.edu", "CS101");
+            if (i % 3 == 0) {
+                courseManager.addCourseToStudentTimetable("student" + i + "@university.edu", "CS202");
+            }
+        }
+        assertTrue(courseManager.closeTerm("admin1@university.edu", "2025 Autumn"));
+
+        TermArchive archive = courseManager.getTermArchive("2025 Autumn");
+        assertEquals(students, archive.getStudentEmails().size());
+        assertEquals(0, archive.getBlockReads());
+        Timetable last = archive.findTimetable("student" + (students - 1) + "@university.edu");
+        assertTrue(last.hasSlotsForCourse("CS101"));
+        assertEquals(1, archive.getBlockReads());
+        // Students archived next to each other share a block
+        archive.findTimetable("student" + (students - 2) + "@university.edu");
+        assertTrue(archive.findTimetable("student" + (students - 3) + "@university.edu")
+                .hasSlotsForCourse("CS202"));
+        assertEquals(1, archive.getBlockReads());
+        assertEquals("Algorithms", archive.findCourse("CS202").getName());
+        assertEquals(2, archive.getBlockReads());
+    }
+
+    @Test
+    @DisplayName("Test closing a term and viewing its archive from the admin menu")
+    public void testCloseTermFromMenu(@TempDir Path directory) throws IOException, URISyntaxException, ParseException {
+        SharedContext context = new SharedContext(new TextUserInterface(), directory);
+        CourseManager courseManager = context.getCourseManager();
+        addCourses(courseManager);
+        courseManager.addCourseToStudentTimetable("student1@university.edu", "CS101");
+        courseManager.addCourseToStudentTimetable("student2@university.edu", "CS202");
+
+        runAdminCourseMenu(context,
+                "14",                       // View archived terms
+                "13",                       // Close the current term
+                "2025 Autumn",              // Enter the name of the term
+                "N",                        // Cancel
+                "13",                       // Close the current term
+                "2025 Autumn",              // Enter the name of the term
+                "Y",                        // Confirm
+                "14",                       // View archived terms
+                "2025 Autumn",              // Enter the term to view
+                "student1@university.edu",  // Enter a student email
+                "-1"                        // Exit course management menu
+        );
+
+        assertOutputContains("No terms have been closed.");
+        assertOutputContains("Closing the term cancelled.");
+        assertOutputContains("Term 2025 Autumn has been closed and archived.");
+        assertOutputContains("- 2025 Autumn");
+        assertOutputContains("- CS101 - Intro to CS");
+        assertOutputContains("- CS202 - Algorithms");
+        assertOutputContains("2 student timetables archived");
+        assertOutputContains("CS101");
+        assertTrue(courseManager.getCourseCodes().isEmpty());
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Test a term is neither closed nor archived when the change cannot be logged")
+    public void testCloseTermRefusedAfterFailedWrite(@TempDir Path directory) throws IOException {
+        SharedContext context = new SharedContext(new TextUserInterface(), directory);
+        CourseManager courseManager = context.getCourseManager();
+        addCourses(courseManager);
+        failJournal(context, directory);
+
+        startOutputCapture();
+        assertFalse(courseManager.closeTerm("admin1@university.edu", "2025 Autumn"));
+        assertOutputContains("Changes can no longer be saved");
+        assertEquals(2, courseManager.getCourseCodes().size());
+        assertTrue(courseManager.getArchivedTerms().isEmpty());
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Test an archive written by a close that was never logged is dropped on recovery")
+    public void testPendingArchiveRecovery(@TempDir Path directory) throws IOException {
+        View view = new TextUserInterface();
+        Path archive = directory.resolve("archive").resolve("2025+Autumn.term");
+        Path pending = directory.resolve("archive").resolve("2025+Autumn.term.pending");
+        SharedContext context = new SharedContext(view, directory);
+        addCourses(context.getCourseManager());
+        // As left by a crash after the archive was written but before the close was logged
+        Files.createDirectories(pending.getParent());
+        Files.write(pending, new byte[]{1, 2, 3});
+        assertTrue(context.getCourseManager().getArchivedTerms().isEmpty());
+        context.close();
+
+        SharedContext reopened = new SharedContext(view, directory);
+        CourseManager courseManager = reopened.getCourseManager();
+        assertFalse(Files.exists(pending));
+        assertEquals(2, courseManager.getCourseCodes().size());
+        startOutputCapture();
+        assertTrue(courseManager.closeTerm("admin1@university.edu", "2025 Autumn"));
+        assertFalse(Files.exists(pending));
+        reopened.close();
+
+        // As left by a crash after the close was logged but before the archive was promoted
+        Files.move(archive, pending);
+        SharedContext recovered = new SharedContext(view, directory);
+        assertTrue(Files.exists(archive));
+        assertEquals(List.of("2025 Autumn"), recovered.getCourseManager().getArchivedTerms());
+        assertEquals("Intro to CS", recovered.getCourseManager().getTermArchive("2025 Autumn").findCourse("CS101")
+                .getName());
+        recovered.close();
+    }
+}
@@ -0,0 +1,116 @@
+package system_tests;
+
+import external.MockEmailService;
+import model.CourseManager;
+import model.SharedContext;
+import model.ValidationSweep;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import view.TextUserInterface;
+import view.View;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationSweepSystemTest extends TUITest {
+
+    /**
+     * CS101 requires a tutorial, student1 has not chosen one and student2 has chosen activity 2. student3 only takes
+     * CS102.
+     */
+    private CourseFixture setUpCourses(SharedContext context) {
+        return new CourseFixture(context)
+                .course("CS101", 1, 0)
+                .lecture("CS101", DayOfWeek.MONDAY, "10:00", "11:00", "Room 101", false)
+                .tutorial("CS101", DayOfWeek.TUESDAY, "10:00", "11:00", "Room 102", 10)
+                .course("CS102", 0, 0)
+                .lecture("CS102", DayOfWeek.MONDAY, "12:00", "13:00", "Room 103", false)
+                .enrol("student1@university.edu", "CS101")
+                .enrol("student2@university.edu", "CS101", 2)
+                .enrol("student3@university.edu", "CS102");
+    }
+
+    @Test
+    @DisplayName("Test validation sweep only checks timetables with changed courses")
+    public void testValidationSweep() throws InterruptedException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseFixture fixture = setUpCourses(context);
+        CourseManager courseManager = fixture.getCourseManager();
+
+        // The first sweep picks up the courses set up above
+        assertEquals(List.of("CS101", "CS102"), courseManager.getChangedCourses());
+        ValidationSweep first = courseManager.startValidationSweep("admin1@university.edu", null);
+        assertTrue(first.awaitCompletion(10, TimeUnit.SECONDS));
+        assertEquals(3, first.getTimetablesAffected());
+        assertTrue(courseManager.getChangedCourses().isEmpty());
+        assertNull(courseManager.startValidationSweep("admin1@university.edu", null));
+
+        fixture.lab("CS101", DayOfWeek.WEDNESDAY, "14:00", "15:00", "Room 104", 10);
+        ValidationSweep sweep = courseManager.startValidationSweep("admin1@university.edu", new MockEmailService());
+        assertTrue(sweep.awaitCompletion(10, TimeUnit.SECONDS));
+
+        assertEquals(ValidationSweep.Status.COMPLETED, sweep.getStatus());
+        assertEquals(2, sweep.getTimetablesAffected());
+        Map<String, List<String>> issues = sweep.getIssues();
+        assertEquals(1, issues.size());
+        assertEquals(List.of("WARNING: Course CS101 requires 1 tutorials, but only 0 chosen."),
+                issues.get("student1@university.edu"));
+        assertEquals(1, sweep.getNotificationsSent());
+        assertEquals(2, courseManager.getValidationSweeps().size());
+    }
+
+    @Test
+    @DisplayName("Test validation sweep after a course is removed")
+    public void testValidationSweepAfterCourseRemoval() throws InterruptedException {
+        View view = new TextUserInterface();
+        SharedContext context = new SharedContext(view);
+        CourseManager courseManager = setUpCourses(context).getCourseManager();
+        courseManager.startValidationSweep("admin1@university.edu", null).awaitCompletion(10, TimeUnit.SECONDS);
+
+        courseManager.removeCourse("CS102");
+        assertEquals(List.of("CS102"), courseManager.getChangedCourses());
+
+        ValidationSweep sweep = courseManager.startValidationSweep("admin1@university.edu", null);
+        assertTrue(sweep.awaitCompletion(10, TimeUnit.SECONDS));
+        // The course was already removed from every timetable, so nothing is left to report
+        assertEquals(0, sweep.getTimetablesAffected());
+        assertTrue(sweep.getIssues().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test starting a validation sweep and viewing its report from the admin menu")
+    public void testValidationSweepFromMenu()
+            throws URISyntaxException, IOException, ParseException, InterruptedException {
+        SharedContext context = new SharedContext(new TextUserInterface());
+        CourseManager courseManager = setUpCourses(context).getCourseManager();
+
+        runAdminCourseMenu(context,
+                "10",           // View validation sweep reports
+                "9",            // Validate timetables after course changes
+                "n",            // Don't email students with issues
+                "-1"            // Exit course management menu
+        );
+        assertOutputContains("No validation sweeps have been run.");
+        assertOutputContains("Courses changed since the last sweep: CS101, CS102");
+        assertOutputContains("Validation sweep #");
+        assertTrue(courseManager.getValidationSweeps().get(0).awaitCompletion(10, TimeUnit.SECONDS));
+
+        runAdminCourseMenu(context,
+                "10",           // View validation sweep reports
+                "9",            // Validate timetables after course changes
+                "-1"            // Exit course management menu
+        );
+        assertOutputContains("[COMPLETED]: 3/3 timetables scanned, 3 affected, 1 with issues");
+        assertOutputContains("student1@university.edu:");
+        assertOutputContains("  WARNING: Course CS101 requires 1 tutorials, but only 0 chosen.");
+        assertOutputContains("No courses have changed since the last validation sweep.");
+    }
+}